@@ -0,0 +1,225 @@
+package net.tokensmith.otter.benchmark.dispatch;
+
+
+import net.tokensmith.otter.config.OtterAppFactory;
+import net.tokensmith.otter.controller.RestResource;
+import net.tokensmith.otter.controller.builder.MimeTypeBuilder;
+import net.tokensmith.otter.controller.entity.DefaultSession;
+import net.tokensmith.otter.controller.entity.DefaultUser;
+import net.tokensmith.otter.controller.entity.StatusCode;
+import net.tokensmith.otter.controller.entity.mime.MimeType;
+import net.tokensmith.otter.controller.entity.request.RestRequest;
+import net.tokensmith.otter.controller.entity.response.RestResponse;
+import net.tokensmith.otter.dispatch.entity.RestBtwnRequest;
+import net.tokensmith.otter.dispatch.entity.RestBtwnResponse;
+import net.tokensmith.otter.dispatch.json.JsonRouteRun;
+import net.tokensmith.otter.dispatch.translator.rest.RestBtwnResponseTranslator;
+import net.tokensmith.otter.dispatch.translator.rest.RestErrorRequestTranslator;
+import net.tokensmith.otter.dispatch.translator.rest.RestErrorResponseTranslator;
+import net.tokensmith.otter.dispatch.translator.rest.RestResponseTranslator;
+import net.tokensmith.otter.router.builder.AnswerBuilder;
+import net.tokensmith.otter.router.builder.AskBuilder;
+import net.tokensmith.otter.router.entity.Method;
+import net.tokensmith.otter.router.entity.RestRoute;
+import net.tokensmith.otter.router.entity.between.RestBetween;
+import net.tokensmith.otter.router.entity.io.Answer;
+import net.tokensmith.otter.router.entity.io.Ask;
+import net.tokensmith.otter.router.exception.HaltException;
+import net.tokensmith.otter.translator.JsonTranslator;
+import net.tokensmith.otter.translator.config.TranslatorAppFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures JsonRouteRun.run for a resource that responds with a typed payload and a after between
+ * that does not look at the payload. The payload should be serialized once per request.
+ *
+ * The raw payload benchmark responds with bytes the resource already has, so nothing should be serialized.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonRouteRunBenchmark {
+
+    @Param({"10", "1000"})
+    public int items;
+
+    private JsonRouteRun<DefaultSession, DefaultUser, Items> typedRouteRun;
+    private JsonRouteRun<DefaultSession, DefaultUser, Items> rawRouteRun;
+    private Ask ask;
+
+    @Setup
+    public void setUp() throws Exception {
+        TranslatorAppFactory translatorAppFactory = new TranslatorAppFactory();
+        JsonTranslator<Items> jsonTranslator = translatorAppFactory.jsonTranslator(Items.class);
+
+        Items payload = new Items();
+        for (int i = 0; i < items; i++) {
+            payload.getItems().add(new Item("item-" + i, "the name of item " + i, i));
+        }
+
+        List<RestBetween<DefaultSession, DefaultUser>> after = new ArrayList<>();
+        after.add(new HeaderBetween());
+
+        typedRouteRun = routeRun(new RestRoute<>(new TypedResource(payload), new ArrayList<>(), after), jsonTranslator);
+        byte[] raw = jsonTranslator.to(payload);
+        rawRouteRun = routeRun(new RestRoute<>(new RawResource(raw), new ArrayList<>(), after), jsonTranslator);
+
+        MimeType json = new MimeTypeBuilder().json().build();
+        List<MimeType> mimeTypes = new ArrayList<>();
+        mimeTypes.add(json);
+        ask = new AskBuilder()
+                .matcher(Optional.empty())
+                .possibleContentTypes(mimeTypes)
+                .possibleAccepts(mimeTypes)
+                .method(Method.GET)
+                .scheme("https")
+                .authority("tokensmith.net")
+                .port(443)
+                .pathWithParams("/api/v1/items")
+                .normalizedPath("/api/v1/items")
+                .contentType(json)
+                .accept(json)
+                .headers(new HashMap<>())
+                .cookies(new HashMap<>())
+                .queryParams(new HashMap<>())
+                .formData(new HashMap<>())
+                .body(Optional.empty())
+                .csrfChallenge(Optional.empty())
+                .ipAddress("127.0.0.1")
+                .build();
+    }
+
+    protected JsonRouteRun<DefaultSession, DefaultUser, Items> routeRun(RestRoute<DefaultSession, DefaultUser, Items> route, JsonTranslator<Items> jsonTranslator) {
+        return new JsonRouteRun<>(
+                route,
+                new RestResponseTranslator<>(),
+                new RestBtwnResponseTranslator<>(),
+                jsonTranslator,
+                new OtterAppFactory().restValidate(),
+                new HashMap<>(),
+                new RestErrorRequestTranslator<>(),
+                new RestErrorResponseTranslator()
+        );
+    }
+
+    protected Answer answer() {
+        return new AnswerBuilder()
+                .headers(new HashMap<>())
+                .cookies(new HashMap<>())
+                .payload(Optional.empty())
+                .presenter(Optional.empty())
+                .ok()
+                .build();
+    }
+
+    @Benchmark
+    public Answer typedPayload() throws HaltException {
+        return typedRouteRun.run(ask, answer());
+    }
+
+    @Benchmark
+    public Answer rawPayload() throws HaltException {
+        return rawRouteRun.run(ask, answer());
+    }
+
+    public static class TypedResource extends RestResource<DefaultUser, Items> {
+        private Items payload;
+
+        public TypedResource(Items payload) {
+            this.payload = payload;
+        }
+
+        @Override
+        public RestResponse<Items> get(RestRequest<DefaultUser, Items> request, RestResponse<Items> response) {
+            response.setStatusCode(StatusCode.OK);
+            response.setPayload(Optional.of(payload));
+            return response;
+        }
+    }
+
+    public static class RawResource extends RestResource<DefaultUser, Items> {
+        private byte[] payload;
+
+        public RawResource(byte[] payload) {
+            this.payload = payload;
+        }
+
+        @Override
+        public RestResponse<Items> get(RestRequest<DefaultUser, Items> request, RestResponse<Items> response) {
+            response.setStatusCode(StatusCode.OK);
+            response.setRawPayload(Optional.of(payload));
+            return response;
+        }
+    }
+
+    public static class HeaderBetween implements RestBetween<DefaultSession, DefaultUser> {
+        @Override
+        public void process(Method method, RestBtwnRequest<DefaultSession, DefaultUser> request, RestBtwnResponse response) throws HaltException {
+            response.getHeaders().put("Cache-Control", "no-store");
+        }
+    }
+
+    public static class Items {
+        private List<Item> items = new ArrayList<>();
+
+        public List<Item> getItems() {
+            return items;
+        }
+
+        public void setItems(List<Item> items) {
+            this.items = items;
+        }
+    }
+
+    public static class Item {
+        private String id;
+        private String name;
+        private Integer count;
+
+        public Item() {
+        }
+
+        public Item(String id, String name, Integer count) {
+            this.id = id;
+            this.name = name;
+            this.count = count;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Integer getCount() {
+            return count;
+        }
+
+        public void setCount(Integer count) {
+            this.count = count;
+        }
+    }
+}
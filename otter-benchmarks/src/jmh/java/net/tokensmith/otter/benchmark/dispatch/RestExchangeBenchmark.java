@@ -0,0 +1,137 @@
+package net.tokensmith.otter.benchmark.dispatch;
+
+
+import net.tokensmith.otter.config.OtterAppFactory;
+import net.tokensmith.otter.controller.RestResource;
+import net.tokensmith.otter.controller.builder.MimeTypeBuilder;
+import net.tokensmith.otter.controller.entity.DefaultSession;
+import net.tokensmith.otter.controller.entity.DefaultUser;
+import net.tokensmith.otter.controller.entity.StatusCode;
+import net.tokensmith.otter.controller.entity.mime.MimeType;
+import net.tokensmith.otter.controller.entity.request.RestRequest;
+import net.tokensmith.otter.controller.entity.response.RestResponse;
+import net.tokensmith.otter.dispatch.entity.RestBtwnRequest;
+import net.tokensmith.otter.dispatch.entity.RestBtwnResponse;
+import net.tokensmith.otter.dispatch.json.JsonRouteRun;
+import net.tokensmith.otter.dispatch.translator.rest.RestBtwnResponseTranslator;
+import net.tokensmith.otter.dispatch.translator.rest.RestErrorRequestTranslator;
+import net.tokensmith.otter.dispatch.translator.rest.RestErrorResponseTranslator;
+import net.tokensmith.otter.dispatch.translator.rest.RestResponseTranslator;
+import net.tokensmith.otter.router.builder.AnswerBuilder;
+import net.tokensmith.otter.router.builder.AskBuilder;
+import net.tokensmith.otter.router.entity.Method;
+import net.tokensmith.otter.router.entity.RestRoute;
+import net.tokensmith.otter.router.entity.between.RestBetween;
+import net.tokensmith.otter.router.entity.io.Answer;
+import net.tokensmith.otter.router.entity.io.Ask;
+import net.tokensmith.otter.router.exception.HaltException;
+import net.tokensmith.otter.translator.config.TranslatorAppFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures what JsonRouteRun.run allocates to move a request through a before between, the resource
+ * and a after between. There is no payload so the json translator does not allocate.
+ *
+ * Look at gc.alloc.rate.norm, the bytes allocated per request, which the gc profiler reports.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RestExchangeBenchmark {
+    private JsonRouteRun<DefaultSession, DefaultUser, Empty> routeRun;
+    private Ask ask;
+
+    @Setup
+    public void setUp() {
+        List<RestBetween<DefaultSession, DefaultUser>> before = new ArrayList<>();
+        before.add(new UserBetween());
+        List<RestBetween<DefaultSession, DefaultUser>> after = new ArrayList<>();
+        after.add(new HeaderBetween());
+
+        routeRun = new JsonRouteRun<>(
+                new RestRoute<>(new NoContentResource(), before, after),
+                new RestResponseTranslator<>(),
+                new RestBtwnResponseTranslator<>(),
+                new TranslatorAppFactory().jsonTranslator(Empty.class),
+                new OtterAppFactory().restValidate(),
+                new HashMap<>(),
+                new RestErrorRequestTranslator<>(),
+                new RestErrorResponseTranslator()
+        );
+
+        MimeType json = new MimeTypeBuilder().json().build();
+        List<MimeType> mimeTypes = new ArrayList<>();
+        mimeTypes.add(json);
+        ask = new AskBuilder()
+                .matcher(Optional.empty())
+                .possibleContentTypes(mimeTypes)
+                .possibleAccepts(mimeTypes)
+                .method(Method.GET)
+                .scheme("https")
+                .authority("tokensmith.net")
+                .port(443)
+                .pathWithParams("/api/v1/empty")
+                .normalizedPath("/api/v1/empty")
+                .contentType(json)
+                .accept(json)
+                .headers(new HashMap<>())
+                .cookies(new HashMap<>())
+                .queryParams(new HashMap<>())
+                .formData(new HashMap<>())
+                .body(Optional.empty())
+                .csrfChallenge(Optional.empty())
+                .ipAddress("127.0.0.1")
+                .build();
+    }
+
+    @Benchmark
+    public Answer run() throws HaltException {
+        Answer answer = new AnswerBuilder()
+                .headers(new HashMap<>())
+                .cookies(ask.getCookies())
+                .payload(Optional.empty())
+                .presenter(Optional.empty())
+                .template(Optional.empty())
+                .build();
+        return routeRun.run(ask, answer);
+    }
+
+    public static class NoContentResource extends RestResource<DefaultUser, Empty> {
+        @Override
+        public RestResponse<Empty> get(RestRequest<DefaultUser, Empty> request, RestResponse<Empty> response) {
+            response.setStatusCode(StatusCode.NO_CONTENT);
+            return response;
+        }
+    }
+
+    public static class UserBetween implements RestBetween<DefaultSession, DefaultUser> {
+        private Optional<DefaultUser> user = Optional.of(new DefaultUser());
+
+        @Override
+        public void process(Method method, RestBtwnRequest<DefaultSession, DefaultUser> request, RestBtwnResponse response) throws HaltException {
+            request.setUser(user);
+        }
+    }
+
+    public static class HeaderBetween implements RestBetween<DefaultSession, DefaultUser> {
+        @Override
+        public void process(Method method, RestBtwnRequest<DefaultSession, DefaultUser> request, RestBtwnResponse response) throws HaltException {
+            response.getHeaders().put("Cache-Control", "no-store");
+        }
+    }
+
+    public static class Empty {
+    }
+}
@@ -0,0 +1,370 @@
+package net.tokensmith.otter.benchmark.gateway;
+
+
+import net.tokensmith.hello.model.Hello;
+import net.tokensmith.jwt.builder.compact.EncryptedCompactBuilder;
+import net.tokensmith.jwt.entity.jwe.EncryptionAlgorithm;
+import net.tokensmith.jwt.entity.jwk.SymmetricKey;
+import net.tokensmith.jwt.entity.jwk.Use;
+import net.tokensmith.jwt.entity.jwt.header.Algorithm;
+import net.tokensmith.otter.benchmark.fake.FakeHttpServletRequest;
+import net.tokensmith.otter.benchmark.fake.FakeHttpServletResponse;
+import net.tokensmith.otter.config.ExecutionConfig;
+import net.tokensmith.otter.config.ExecutionMode;
+import net.tokensmith.otter.config.OtterAppFactory;
+import net.tokensmith.otter.config.SessionCacheConfig;
+import net.tokensmith.otter.controller.Resource;
+import net.tokensmith.otter.controller.RestResource;
+import net.tokensmith.otter.controller.builder.MimeTypeBuilder;
+import net.tokensmith.otter.controller.entity.DefaultSession;
+import net.tokensmith.otter.controller.entity.DefaultUser;
+import net.tokensmith.otter.controller.entity.StatusCode;
+import net.tokensmith.otter.controller.entity.mime.MimeType;
+import net.tokensmith.otter.controller.entity.request.Request;
+import net.tokensmith.otter.controller.entity.request.RestRequest;
+import net.tokensmith.otter.controller.entity.response.Response;
+import net.tokensmith.otter.controller.entity.response.RestResponse;
+import net.tokensmith.otter.gateway.builder.GroupBuilder;
+import net.tokensmith.otter.gateway.builder.RestGroupBuilder;
+import net.tokensmith.otter.gateway.builder.RestTargetBuilder;
+import net.tokensmith.otter.gateway.builder.ShapeBuilder;
+import net.tokensmith.otter.gateway.builder.TargetBuilder;
+import net.tokensmith.otter.gateway.entity.Group;
+import net.tokensmith.otter.gateway.entity.Shape;
+import net.tokensmith.otter.gateway.entity.rest.RestGroup;
+import net.tokensmith.otter.gateway.servlet.GatewayResponse;
+import net.tokensmith.otter.gateway.servlet.ServletGateway;
+import net.tokensmith.otter.router.entity.Lookup;
+import net.tokensmith.otter.router.entity.Method;
+import net.tokensmith.otter.security.config.SecurityAppFactory;
+import net.tokensmith.otter.security.csrf.DoubleSubmitCSRF;
+import net.tokensmith.otter.security.entity.ChallengeToken;
+import net.tokensmith.otter.translator.config.TranslatorAppFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a request through ServletGateway.processRequest, Engine.route, the route run,
+ * the betweens and the translators in process. The container is faked, the body is given as if
+ * it was already read.
+ *
+ * - restGet: routing and serializing a json payload.
+ * - restPost: routing, deserializing and validating a json body and serializing the response.
+ * - sessionRead: decrypting the session cookie, the session is not changed so it is not encrypted.
+ * - sessionWrite: decrypting the session cookie and encrypting the changed session.
+ * - csrfPrepare: making a csrf cookie and form token, then merging the new cookie into the response.
+ * - csrfCheck: verifying the csrf cookie and form token.
+ *
+ * sessionCache is true to cache decrypted sessions, then sessionRead and sessionWrite do not decrypt.
+ *
+ * execution is CONTAINER to process each request on the benchmark thread, which keeps its Macs, Ciphers and
+ * Deflaters. VIRTUAL processes each request on a new virtual thread, as ExecutionMode.VIRTUAL does, so they come
+ * from the pools virtual threads share. On a JDK before 21 VIRTUAL falls back to a pool of platform threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ServletGatewayBenchmark {
+    private static final String WEB_GROUP = "web";
+    private static final String API_GROUP = "api";
+    private static final String HELLO_URL = "/api/v1/hello";
+    private static final String SESSION_URL = "/session";
+    private static final String FORM_URL = "/form";
+    private static final String JSON = "application/json; charset=utf-8;";
+    private static final String FORM = "application/x-www-form-urlencoded; charset=utf-8;";
+    private static final String CSRF_FORM_FIELD = "csrfToken";
+    private static final byte[] EMPTY = new byte[0];
+
+    @Param({"false", "true"})
+    public boolean sessionCache;
+
+    @Param({"CONTAINER", "VIRTUAL"})
+    public ExecutionMode execution;
+
+    private Executor executor;
+
+    private ServletGateway servletGateway;
+
+    private FakeHttpServletRequest restGetRequest;
+    private FakeHttpServletRequest restPostRequest;
+    private byte[] restPostBody;
+    private FakeHttpServletRequest sessionReadRequest;
+    private FakeHttpServletRequest sessionWriteRequest;
+    private FakeHttpServletRequest csrfPrepareRequest;
+    private FakeHttpServletRequest csrfCheckRequest;
+    private byte[] csrfCheckBody;
+
+    private FakeHttpServletResponse response = new FakeHttpServletResponse();
+
+    @Setup
+    public void setUp() throws Exception {
+        SymmetricKey encKey = new SymmetricKey(
+                Optional.of("enc-key"),
+                "MMNj8rE5m7NIDhwKYDmHSnlU1wfKuVvW6G--GKPYkRA",
+                Use.ENCRYPTION
+        );
+        SymmetricKey signKey = new SymmetricKey(
+                Optional.of("sign-key"),
+                "AyM1SysPpbyDfgZld3umj1qzKObwVMkoqQ-EstJQLr_T-1qS0gZH75aKtMN3Yj0iPS4hcgUuTwjAzZr1Z9CAow",
+                Use.SIGNATURE
+        );
+        ShapeBuilder shapeBuilder = new ShapeBuilder()
+                .encKey(encKey)
+                .signkey(signKey);
+        if (sessionCache) {
+            shapeBuilder.sessionCache(new SessionCacheConfig(10000, 16L * 1024 * 1024, 300L, 16));
+        }
+        Shape shape = shapeBuilder.build();
+
+        Group<BenchSession, DefaultUser> webGroup = new GroupBuilder<BenchSession, DefaultUser>()
+                .name(WEB_GROUP)
+                .sessionClazz(BenchSession.class)
+                .build();
+        List<Group<? extends DefaultSession, ? extends DefaultUser>> groups = new ArrayList<>();
+        groups.add(webGroup);
+
+        RestGroup<DefaultSession, DefaultUser> apiGroup = new RestGroupBuilder<DefaultSession, DefaultUser>()
+                .name(API_GROUP)
+                .sessionClazz(DefaultSession.class)
+                .build();
+        List<RestGroup<? extends DefaultSession, ? extends DefaultUser>> restGroups = new ArrayList<>();
+        restGroups.add(apiGroup);
+
+        OtterAppFactory otterAppFactory = new OtterAppFactory();
+        servletGateway = otterAppFactory.servletGateway(shape, groups, restGroups);
+        executor = otterAppFactory.executor(new ExecutionConfig(execution)).orElse(null);
+
+        MimeType json = new MimeTypeBuilder().json().build();
+        servletGateway.add(new RestTargetBuilder<DefaultSession, DefaultUser, Hello>()
+                .groupName(API_GROUP)
+                .method(Method.GET)
+                .method(Method.POST)
+                .restResource(new HelloRestResource())
+                .regex(HELLO_URL)
+                .contentType(json)
+                .accept(json)
+                .payload(Hello.class)
+                .build());
+
+        servletGateway.add(new TargetBuilder<BenchSession, DefaultUser>()
+                .groupName(WEB_GROUP)
+                .method(Method.GET)
+                .method(Method.POST)
+                .resource(new SessionResource())
+                .regex(SESSION_URL)
+                .authenticate()
+                .build());
+
+        servletGateway.add(new TargetBuilder<BenchSession, DefaultUser>()
+                .groupName(WEB_GROUP)
+                .form()
+                .resource(new FormResource())
+                .regex(FORM_URL)
+                .build());
+
+        restGetRequest = new FakeHttpServletRequest(Method.GET.name(), HELLO_URL, JSON)
+                .header("Accept", JSON);
+        restPostRequest = new FakeHttpServletRequest(Method.POST.name(), HELLO_URL, JSON)
+                .header("Accept", JSON);
+        restPostBody = "{\"message\": \"Hello, Otter\"}".getBytes(StandardCharsets.UTF_8);
+
+        Cookie sessionCookie = new Cookie(
+                shape.getSessionCookie().getName(),
+                encryptSession(new BenchSession("user-1", 1), encKey)
+        );
+        sessionReadRequest = new FakeHttpServletRequest(Method.GET.name(), SESSION_URL, null)
+                .cookies(sessionCookie);
+        sessionWriteRequest = new FakeHttpServletRequest(Method.POST.name(), SESSION_URL, FORM)
+                .cookies(sessionCookie);
+
+        csrfPrepareRequest = new FakeHttpServletRequest(Method.GET.name(), FORM_URL, null);
+
+        DoubleSubmitCSRF doubleSubmitCSRF = new SecurityAppFactory().doubleSubmitCSRF(signKey, new HashMap<>());
+        String challengeToken = doubleSubmitCSRF.makeChallengeToken();
+        String csrfCookieValue = doubleSubmitCSRF.toJwt(new ChallengeToken(challengeToken, doubleSubmitCSRF.makeChallengeToken())).toString();
+        String csrfFormValue = doubleSubmitCSRF.toJwt(new ChallengeToken(challengeToken, doubleSubmitCSRF.makeChallengeToken())).toString();
+        csrfCheckRequest = new FakeHttpServletRequest(Method.POST.name(), FORM_URL, FORM)
+                .cookies(new Cookie(shape.getCsrfCookie().getName(), csrfCookieValue));
+        csrfCheckBody = (CSRF_FORM_FIELD + "=" + csrfFormValue).getBytes(StandardCharsets.UTF_8);
+
+        // a misconfigured request would only measure the error handling.
+        expectOk(restGet());
+        expectOk(restPost());
+        expectOk(sessionRead());
+        expectOk(sessionWrite());
+        expectOk(csrfPrepare());
+        expectOk(csrfCheck());
+    }
+
+    protected String encryptSession(BenchSession session, SymmetricKey encKey) throws Exception {
+        byte[] payload = new TranslatorAppFactory().objectWriter().writeValueAsBytes(session);
+        return new EncryptedCompactBuilder()
+                .encAlg(EncryptionAlgorithm.AES_GCM_256)
+                .alg(Algorithm.DIRECT)
+                .payload(payload)
+                .cek(encKey)
+                .build()
+                .toString();
+    }
+
+    protected void expectOk(GatewayResponse gatewayResponse) {
+        if (response.getStatus() != HttpServletResponse.SC_OK) {
+            throw new IllegalStateException("expected 200 but was " + response.getStatus());
+        }
+    }
+
+    protected GatewayResponse process(FakeHttpServletRequest request, byte[] body) {
+        if (Objects.isNull(executor)) {
+            return processOnThread(request, body);
+        }
+        return CompletableFuture.supplyAsync(() -> processOnThread(request, body), executor).join();
+    }
+
+    protected GatewayResponse processOnThread(FakeHttpServletRequest request, byte[] body) {
+        response.reset();
+        // matched once before the body is read, as OtterEntryServlet does.
+        Lookup lookup = servletGateway.lookup(request);
+        return servletGateway.processRequest(request, response, body, Optional.empty(), Optional.of(lookup));
+    }
+
+    @Benchmark
+    public GatewayResponse restGet() {
+        return process(restGetRequest, EMPTY);
+    }
+
+    @Benchmark
+    public GatewayResponse restPost() {
+        return process(restPostRequest, restPostBody);
+    }
+
+    @Benchmark
+    public GatewayResponse sessionRead() {
+        return process(sessionReadRequest, EMPTY);
+    }
+
+    @Benchmark
+    public GatewayResponse sessionWrite() {
+        return process(sessionWriteRequest, EMPTY);
+    }
+
+    @Benchmark
+    public GatewayResponse csrfPrepare() {
+        return process(csrfPrepareRequest, EMPTY);
+    }
+
+    @Benchmark
+    public GatewayResponse csrfCheck() {
+        return process(csrfCheckRequest, csrfCheckBody);
+    }
+
+    public static class HelloRestResource extends RestResource<DefaultUser, Hello> {
+        @Override
+        public RestResponse<Hello> get(RestRequest<DefaultUser, Hello> request, RestResponse<Hello> response) {
+            response.setStatusCode(StatusCode.OK);
+            response.setPayload(Optional.of(new Hello("Hello, Otter")));
+            return response;
+        }
+
+        @Override
+        public RestResponse<Hello> post(RestRequest<DefaultUser, Hello> request, RestResponse<Hello> response) {
+            response.setStatusCode(StatusCode.OK);
+            response.setPayload(request.getPayload());
+            return response;
+        }
+    }
+
+    public static class SessionResource extends Resource<BenchSession, DefaultUser> {
+        @Override
+        public Response<BenchSession> get(Request<BenchSession, DefaultUser> request, Response<BenchSession> response) {
+            response.setStatusCode(StatusCode.OK);
+            return response;
+        }
+
+        @Override
+        public Response<BenchSession> post(Request<BenchSession, DefaultUser> request, Response<BenchSession> response) {
+            BenchSession session = response.getSession().get();
+            session.setVisits(session.getVisits() + 1);
+            response.setStatusCode(StatusCode.OK);
+            return response;
+        }
+    }
+
+    public static class FormResource extends Resource<BenchSession, DefaultUser> {
+        @Override
+        public Response<BenchSession> get(Request<BenchSession, DefaultUser> request, Response<BenchSession> response) {
+            response.setStatusCode(StatusCode.OK);
+            return response;
+        }
+
+        @Override
+        public Response<BenchSession> post(Request<BenchSession, DefaultUser> request, Response<BenchSession> response) {
+            response.setStatusCode(StatusCode.OK);
+            return response;
+        }
+    }
+
+    public static class BenchSession extends DefaultSession {
+        private String userId;
+        private Integer visits;
+
+        public BenchSession() {
+        }
+
+        public BenchSession(String userId, Integer visits) {
+            this.userId = userId;
+            this.visits = visits;
+        }
+
+        public BenchSession(BenchSession from) {
+            this.userId = from.userId;
+            this.visits = from.visits;
+        }
+
+        public String getUserId() {
+            return userId;
+        }
+
+        public void setUserId(String userId) {
+            this.userId = userId;
+        }
+
+        public Integer getVisits() {
+            return visits;
+        }
+
+        public void setVisits(Integer visits) {
+            this.visits = visits;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            BenchSession that = (BenchSession) o;
+            return Objects.equals(userId, that.userId) && Objects.equals(visits, that.visits);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, visits);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package net.tokensmith.otter.benchmark.router;
+
+
+import net.tokensmith.otter.controller.Resource;
+import net.tokensmith.otter.controller.entity.DefaultSession;
+import net.tokensmith.otter.controller.entity.DefaultUser;
+import net.tokensmith.otter.router.Dispatcher;
+import net.tokensmith.otter.router.builder.LocationBuilder;
+import net.tokensmith.otter.router.entity.Location;
+import net.tokensmith.otter.router.entity.MatchedLocation;
+import net.tokensmith.otter.router.entity.Method;
+import net.tokensmith.otter.router.entity.Regex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+
+/**
+ * Compares Dispatcher.find, which uses a segment trie, to a linear scan of every Location's regex.
+ *
+ * The path that is looked up matches the last route that was added, which is the worst case
+ * for the linear scan.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DispatcherBenchmark {
+    private static String OTTER_PREFIX = "/app";
+    private static String EMPTY = "";
+
+    @Param({"10", "100", "1000"})
+    public int routes;
+
+    private Dispatcher dispatcher;
+    private String lastPath;
+    private String notFoundPath;
+
+    @Setup
+    public void setUp() {
+        dispatcher = new Dispatcher();
+        for (int i = 0; i < routes; i++) {
+            // half of the routes have a capture to mirror a typical api.
+            String regex = (i % 2 == 0)
+                    ? "/api/v1/resource" + i
+                    : "/api/v1/resource" + i + "/" + Regex.UUID.getRegex() + "/items";
+            dispatcher.add(Method.GET, location(regex));
+        }
+
+        int last = routes - 1;
+        lastPath = (last % 2 == 0)
+                ? "/api/v1/resource" + last
+                : "/api/v1/resource" + last + "/" + UUID.randomUUID().toString() + "/items";
+        notFoundPath = "/api/v1/missing/" + UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public Optional<MatchedLocation> trieFindLast() {
+        return dispatcher.find(Method.GET, lastPath);
+    }
+
+    @Benchmark
+    public Optional<MatchedLocation> linearScanFindLast() {
+        return linearScan(Method.GET, lastPath);
+    }
+
+    @Benchmark
+    public Optional<MatchedLocation> trieNotFound() {
+        return dispatcher.find(Method.GET, notFoundPath);
+    }
+
+    @Benchmark
+    public Optional<MatchedLocation> linearScanNotFound() {
+        return linearScan(Method.GET, notFoundPath);
+    }
+
+    /**
+     * The implementation of Dispatcher.find before the segment trie.
+     *
+     * @param method the http method
+     * @param url the url to match
+     * @return the first location whose regex matches.
+     */
+    protected Optional<MatchedLocation> linearScan(Method method, String url) {
+        String scrubbedUrl = url.replaceAll(OTTER_PREFIX, EMPTY);
+
+        Optional<MatchedLocation> m = Optional.empty();
+        for(Location location: dispatcher.locations(method)) {
+            Matcher matcher = location.getPattern().matcher(scrubbedUrl);
+            if (matcher.matches()) {
+                m = Optional.of(new MatchedLocation(matcher, location));
+                break;
+            }
+        }
+        return m;
+    }
+
+    protected Location location(String regex) {
+        return new LocationBuilder<DefaultSession, DefaultUser>()
+                .path(regex)
+                .resource(new Resource<>())
+                .before(new ArrayList<>())
+                .after(new ArrayList<>())
+                .build();
+    }
+}
@@ -0,0 +1,111 @@
+package net.tokensmith.otter.benchmark.security;
+
+
+import net.tokensmith.jwt.builder.compact.EncryptedCompactBuilder;
+import net.tokensmith.jwt.builder.compact.SecureCompactBuilder;
+import net.tokensmith.jwt.config.JwtAppFactory;
+import net.tokensmith.jwt.entity.jwe.EncryptionAlgorithm;
+import net.tokensmith.jwt.entity.jwk.SymmetricKey;
+import net.tokensmith.jwt.entity.jwk.Use;
+import net.tokensmith.jwt.entity.jwt.JsonWebToken;
+import net.tokensmith.jwt.entity.jwt.header.Algorithm;
+import net.tokensmith.otter.security.config.SecurityAppFactory;
+import net.tokensmith.otter.security.crypto.CompactJwe;
+import net.tokensmith.otter.security.crypto.CompactJws;
+import net.tokensmith.otter.security.csrf.CsrfClaims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares signing and verifying a csrf cookie and encrypting and decrypting a session cookie with the
+ * jwt builders, which get a new Mac or Cipher every time, to CompactJws and CompactJwe which use the Macs
+ * and Ciphers of the CryptoPool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CryptoPoolBenchmark {
+    private JwtAppFactory jwtAppFactory;
+    private CompactJws compactJws;
+    private CompactJwe compactJwe;
+    private SymmetricKey signKey;
+    private SymmetricKey encKey;
+    private CsrfClaims claims;
+    private byte[] session;
+
+    @Setup
+    public void setUp() {
+        jwtAppFactory = new JwtAppFactory();
+        SecurityAppFactory securityAppFactory = new SecurityAppFactory();
+        compactJws = securityAppFactory.compactJws();
+        compactJwe = securityAppFactory.compactJwe();
+
+        signKey = new SymmetricKey(
+                Optional.of("5678"),
+                "AyM1SysPpbyDfgZld3umj1qzKObwVMkoqQ-EstJQLr_T-1qS0gZH75aKtMN3Yj0iPS4hcgUuTwjAzZr1Z9CAow",
+                Use.SIGNATURE
+        );
+        encKey = new SymmetricKey(
+                Optional.of("1234"),
+                "MMNj8rE5m7NIDhwKYDmHSnlU1wfKuVvW6G--GKPYkRA",
+                Use.ENCRYPTION
+        );
+
+        claims = new CsrfClaims();
+        claims.setChallengeToken("kWnvqcQYmGCuVj0r8ZDj4XDc6Tq1HGu8TimiA0lzAzU");
+        claims.setNoise("Dn5kEFN8rwcZ2ShrtKIB1JwmGRXkFnOAA8cYnUqEHGA");
+        claims.setIssuedAt(Optional.of(1577836800L));
+
+        session = "{\"access_token\":\"123456789\",\"refresh_token\":\"101112131415\"}".getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Boolean signVerifyJwt() throws Exception {
+        String compactJwt = new SecureCompactBuilder()
+                .alg(Algorithm.HS256)
+                .key(signKey)
+                .claims(claims)
+                .build()
+                .toString();
+
+        JsonWebToken<CsrfClaims> jwt = jwtAppFactory.jwtSerde().stringToJwt(compactJwt, CsrfClaims.class);
+        return jwtAppFactory.verifySignature(jwt.getHeader().getAlgorithm(), signKey).run(jwt);
+    }
+
+    @Benchmark
+    public Boolean signVerifyPooled() throws Exception {
+        String compactJwt = compactJws.sign(signKey, claims).toString();
+
+        JsonWebToken<CsrfClaims> jwt = jwtAppFactory.jwtSerde().stringToJwt(compactJwt, CsrfClaims.class);
+        return compactJws.verify(signKey, jwt);
+    }
+
+    @Benchmark
+    public byte[] encryptDecryptJwt() throws Exception {
+        String encrypted = new EncryptedCompactBuilder()
+                .encAlg(EncryptionAlgorithm.AES_GCM_256)
+                .alg(Algorithm.DIRECT)
+                .payload(session)
+                .cek(encKey)
+                .build()
+                .toString();
+
+        return jwtAppFactory.jweDirectDesializer().stringToJWE(encrypted, encKey).getPayload();
+    }
+
+    @Benchmark
+    public byte[] encryptDecryptPooled() throws Exception {
+        String encrypted = compactJwe.encrypt(encKey, session).toString();
+
+        return compactJwe.decrypt(encKey, encrypted);
+    }
+}
@@ -0,0 +1,95 @@
+package net.tokensmith.otter.benchmark.security;
+
+
+import net.tokensmith.jwt.entity.jwk.SymmetricKey;
+import net.tokensmith.jwt.entity.jwk.Use;
+import net.tokensmith.otter.config.CookieConfig;
+import net.tokensmith.otter.controller.entity.Cookie;
+import net.tokensmith.otter.controller.entity.DefaultSession;
+import net.tokensmith.otter.controller.entity.DefaultUser;
+import net.tokensmith.otter.controller.entity.request.Request;
+import net.tokensmith.otter.controller.entity.response.Response;
+import net.tokensmith.otter.router.entity.Method;
+import net.tokensmith.otter.router.exception.HaltException;
+import net.tokensmith.otter.security.config.SecurityAppFactory;
+import net.tokensmith.otter.security.csrf.CsrfFormat;
+import net.tokensmith.otter.security.csrf.DoubleSubmitCSRF;
+import net.tokensmith.otter.security.csrf.between.html.CheckCSRF;
+import net.tokensmith.otter.security.csrf.between.html.PrepareCSRF;
+import net.tokensmith.otter.security.entity.ChallengeToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs PrepareCSRF, when the csrf cookie is already set, and CheckCSRF with the JWT and COMPACT csrf formats.
+ * The cookie and form values are 229 chars as JWT and 107 chars as COMPACT.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CsrfBenchmark {
+    private static final String COOKIE_NAME = "csrfToken";
+
+    @Param({"JWT", "COMPACT"})
+    public CsrfFormat csrfFormat;
+
+    private PrepareCSRF<DefaultSession, DefaultUser> prepareCSRF;
+    private CheckCSRF<DefaultSession, DefaultUser> checkCSRF;
+    private Map<String, Cookie> cookies;
+    private Map<String, List<String>> formData;
+
+    @Setup
+    public void setUp() throws Exception {
+        SecurityAppFactory securityAppFactory = new SecurityAppFactory();
+        SymmetricKey signKey = new SymmetricKey(Optional.of("5678"), "AyM1SysPpbyDfgZld3umj1qzKObwVMkoqQ-EstJQLr_T-1qS0gZH75aKtMN3Yj0iPS4hcgUuTwjAzZr1Z9CAow", Use.SIGNATURE);
+        CookieConfig cookieConfig = new CookieConfig(COOKIE_NAME, true, -1, true);
+
+        prepareCSRF = new PrepareCSRF<>(cookieConfig, securityAppFactory.doubleSubmitCSRF(csrfFormat, signKey, new HashMap<>()));
+        checkCSRF = new CheckCSRF<>(COOKIE_NAME, "csrfToken", securityAppFactory.doubleSubmitCSRF(csrfFormat, signKey, new HashMap<>()), (response, e) -> response);
+
+        DoubleSubmitCSRF csrf = securityAppFactory.doubleSubmitCSRF(csrfFormat, signKey, new HashMap<>());
+        String challengeToken = csrf.makeChallengeToken();
+        Cookie cookie = csrf.makeCsrfCookie(COOKIE_NAME, new ChallengeToken(challengeToken, csrf.makeChallengeToken()), true, -1, true);
+        String formValue = csrf.toJwt(new ChallengeToken(challengeToken, csrf.makeChallengeToken())).toString();
+
+        cookies = new HashMap<>();
+        cookies.put(COOKIE_NAME, cookie);
+        formData = new HashMap<>();
+        formData.put("csrfToken", List.of(formValue));
+    }
+
+    @Benchmark
+    public Request<DefaultSession, DefaultUser> prepare() throws HaltException {
+        Request<DefaultSession, DefaultUser> request = new Request<>();
+        request.setCookies(cookies);
+        Response<DefaultSession> response = new Response<>();
+        response.setCookies(new HashMap<>(cookies));
+
+        prepareCSRF.process(Method.GET, request, response);
+        return request;
+    }
+
+    @Benchmark
+    public Request<DefaultSession, DefaultUser> check() throws HaltException {
+        Request<DefaultSession, DefaultUser> request = new Request<>();
+        request.setCookies(cookies);
+        request.setFormData(formData);
+        Response<DefaultSession> response = new Response<>();
+        response.setCookies(new HashMap<>());
+
+        checkCSRF.process(Method.POST, request, response);
+        return request;
+    }
+}
@@ -0,0 +1,62 @@
+package net.tokensmith.otter.benchmark.security;
+
+
+import net.tokensmith.otter.security.BatchRandomString;
+import net.tokensmith.otter.security.RandomString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Makes challenge tokens with one RandomString shared by 1, 8 and 32 threads, like the DoubleSubmitCSRF of
+ * a group is shared by the requests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RandomStringBenchmark {
+    private RandomString randomString = new RandomString();
+    private RandomString batchRandomString = new BatchRandomString();
+
+    @Benchmark
+    @Threads(1)
+    public String randomString1() {
+        return randomString.run();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String randomString8() {
+        return randomString.run();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public String randomString32() {
+        return randomString.run();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String batchRandomString1() {
+        return batchRandomString.run();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String batchRandomString8() {
+        return batchRandomString.run();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public String batchRandomString32() {
+        return batchRandomString.run();
+    }
+}
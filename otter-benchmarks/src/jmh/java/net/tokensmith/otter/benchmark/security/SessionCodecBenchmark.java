@@ -0,0 +1,79 @@
+package net.tokensmith.otter.benchmark.security;
+
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import net.tokensmith.jwt.entity.jwk.SymmetricKey;
+import net.tokensmith.jwt.entity.jwk.Use;
+import net.tokensmith.otter.benchmark.security.SessionCopyBenchmark.BigSession;
+import net.tokensmith.otter.config.SessionCodecConfig;
+import net.tokensmith.otter.security.config.SecurityAppFactory;
+import net.tokensmith.otter.security.crypto.CompactJwe;
+import net.tokensmith.otter.security.session.codec.SessionCodecs;
+import net.tokensmith.otter.security.session.util.Decrypt;
+import net.tokensmith.otter.translator.config.TranslatorAppFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.util.HashMap;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encrypts and decrypts a 2 KB session cookie as JSON and as deflated JSON. The session json is 2088 bytes,
+ * its jwe cookie is 2882 bytes as json and 566 bytes when deflated.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SessionCodecBenchmark {
+    // -1 is not deflated.
+    @Param({"-1", "256"})
+    public int deflateThreshold;
+
+    private BigSession session;
+    private SymmetricKey encKey;
+    private SessionCodecs<BigSession> sessionCodecs;
+    private CompactJwe compactJwe;
+    private Decrypt<BigSession> decrypt;
+    private String encryptedSession;
+
+    @Setup
+    public void setUp() throws Exception {
+        SecurityAppFactory securityAppFactory = new SecurityAppFactory();
+        TranslatorAppFactory appFactory = new TranslatorAppFactory();
+        ObjectReader reader = appFactory.objectReader().forType(BigSession.class);
+        ObjectWriter writer = appFactory.objectWriter();
+
+        encKey = new SymmetricKey(Optional.of("1234"), "MMNj8rE5m7NIDhwKYDmHSnlU1wfKuVvW6G--GKPYkRA", Use.ENCRYPTION);
+
+        session = new BigSession();
+        new SessionCopyBenchmark().fill(session);
+
+        SessionCodecConfig config = deflateThreshold < 0 ? null : new SessionCodecConfig(deflateThreshold);
+        sessionCodecs = securityAppFactory.sessionCodecs(config, reader, writer, BigSession.class);
+
+        compactJwe = securityAppFactory.compactJwe();
+        decrypt = securityAppFactory.decrypt(sessionCodecs, encKey, new HashMap<>(), null, null);
+        encryptedSession = encrypt().toString();
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream encrypt() throws Exception {
+        // what EncryptSession does.
+        SessionCodecs.Encoded encoded = sessionCodecs.encode(session);
+        return compactJwe.encrypt(encKey, encoded.getBytes(), encoded.getContentType(), encoded.getCompressed());
+    }
+
+    @Benchmark
+    public BigSession decrypt() throws Exception {
+        return decrypt.decrypt(encryptedSession);
+    }
+}
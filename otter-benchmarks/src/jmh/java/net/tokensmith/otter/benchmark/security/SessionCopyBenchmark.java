@@ -0,0 +1,274 @@
+package net.tokensmith.otter.benchmark.security;
+
+
+import net.tokensmith.jwt.entity.jwk.SymmetricKey;
+import net.tokensmith.jwt.entity.jwk.Use;
+import net.tokensmith.otter.config.CookieConfig;
+import net.tokensmith.otter.controller.entity.Cookie;
+import net.tokensmith.otter.controller.entity.DefaultSession;
+import net.tokensmith.otter.controller.entity.DefaultUser;
+import net.tokensmith.otter.controller.entity.request.Request;
+import net.tokensmith.otter.controller.entity.response.Response;
+import net.tokensmith.otter.router.entity.Method;
+import net.tokensmith.otter.router.exception.HaltException;
+import net.tokensmith.otter.security.session.between.html.DecryptSession;
+import net.tokensmith.otter.security.session.between.html.EncryptSession;
+import net.tokensmith.otter.security.session.util.Decrypt;
+import net.tokensmith.otter.security.session.util.SessionCopy;
+import net.tokensmith.otter.translator.config.TranslatorAppFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures what DecryptSession and EncryptSession cost for a 2 KB session that the resource did not change.
+ * The session is already decrypted, as it would be when it is cached, so only the copy and the equals or the
+ * dirty check are measured.
+ *
+ * copyReflective and copyMethodHandle compare calling the copy constructor with Constructor.newInstance to SessionCopy.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SessionCopyBenchmark {
+    private static final String COOKIE_NAME = "session";
+
+    private Constructor<BigSession> ctor;
+    private SessionCopy<BigSession> sessionCopy;
+    private BigSession session;
+
+    private DecryptSession<BigSession, DefaultUser> decryptSession;
+    private EncryptSession<BigSession, DefaultUser> encryptSession;
+    private DecryptSession<TrackedBigSession, DefaultUser> decryptTrackedSession;
+    private EncryptSession<TrackedBigSession, DefaultUser> encryptTrackedSession;
+    private Map<String, Cookie> cookies;
+
+    @Setup
+    public void setUp() throws Exception {
+        ctor = BigSession.class.getConstructor(BigSession.class);
+        sessionCopy = new SessionCopy<>(ctor);
+        session = new BigSession();
+        fill(session);
+
+        TrackedBigSession trackedSession = new TrackedBigSession();
+        fill(trackedSession);
+        trackedSession.setDirty(false);
+
+        SymmetricKey encKey = new SymmetricKey(Optional.of("1234"), "MMNj8rE5m7NIDhwKYDmHSnlU1wfKuVvW6G--GKPYkRA", Use.ENCRYPTION);
+        CookieConfig cookieConfig = new CookieConfig(COOKIE_NAME, true, -1, true);
+        TranslatorAppFactory appFactory = new TranslatorAppFactory();
+
+        decryptSession = new DecryptSession<>(ctor, COOKIE_NAME, (response, e) -> response, true, new Decrypted<>(session));
+        encryptSession = new EncryptSession<>(cookieConfig, encKey, appFactory.objectWriter());
+
+        decryptTrackedSession = new DecryptSession<>(
+                TrackedBigSession.class.getConstructor(TrackedBigSession.class), COOKIE_NAME, (response, e) -> response, true, new Decrypted<>(trackedSession)
+        );
+        encryptTrackedSession = new EncryptSession<>(cookieConfig, encKey, appFactory.objectWriter());
+
+        cookies = new HashMap<>();
+        cookies.put(COOKIE_NAME, new Cookie.Builder().name(COOKIE_NAME).value("encrypted-session").build());
+    }
+
+    protected void fill(BigSession session) {
+        session.setUserId("c5b7f1c2-6d8e-4a9b-9f3e-2a1d4c7b8e90");
+        session.setEmail("obi-wan@tokensmith.net");
+        session.setDisplayName("Obi-Wan Kenobi");
+        session.setAccessToken("a".repeat(800));
+        session.setRefreshToken("r".repeat(400));
+        List<String> roles = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            roles.add("role-" + i);
+        }
+        session.setRoles(roles);
+        Map<String, String> preferences = new LinkedHashMap<>();
+        for (int i = 0; i < 20; i++) {
+            preferences.put("preference-" + i, "value-" + i);
+        }
+        session.setPreferences(preferences);
+    }
+
+    @Benchmark
+    public BigSession copyReflective() throws Exception {
+        return ctor.newInstance(session);
+    }
+
+    @Benchmark
+    public BigSession copyMethodHandle() throws Exception {
+        return sessionCopy.copy(session);
+    }
+
+    @Benchmark
+    public Response<BigSession> betweensNotTracked() throws HaltException {
+        Request<BigSession, DefaultUser> request = new Request<>();
+        request.setCookies(cookies);
+        Response<BigSession> response = new Response<>();
+        response.setCookies(new HashMap<>());
+
+        decryptSession.process(Method.GET, request, response);
+        encryptSession.process(Method.GET, request, response);
+        return response;
+    }
+
+    @Benchmark
+    public Response<TrackedBigSession> betweensTracked() throws HaltException {
+        Request<TrackedBigSession, DefaultUser> request = new Request<>();
+        request.setCookies(cookies);
+        Response<TrackedBigSession> response = new Response<>();
+        response.setCookies(new HashMap<>());
+
+        decryptTrackedSession.process(Method.GET, request, response);
+        encryptTrackedSession.process(Method.GET, request, response);
+        return response;
+    }
+
+    /**
+     * Gives the same session for every cookie.
+     */
+    public static class Decrypted<S> extends Decrypt<S> {
+        private S session;
+
+        public Decrypted(S session) {
+            super(null, null, null, null);
+            this.session = session;
+        }
+
+        @Override
+        public S decrypt(String encryptedSession) {
+            return session;
+        }
+    }
+
+    public static class BigSession extends DefaultSession {
+        private String userId;
+        private String email;
+        private String displayName;
+        private String accessToken;
+        private String refreshToken;
+        private List<String> roles;
+        private Map<String, String> preferences;
+
+        public BigSession() {
+        }
+
+        public BigSession(BigSession from) {
+            this.userId = from.userId;
+            this.email = from.email;
+            this.displayName = from.displayName;
+            this.accessToken = from.accessToken;
+            this.refreshToken = from.refreshToken;
+            this.roles = new ArrayList<>(from.roles);
+            this.preferences = new LinkedHashMap<>(from.preferences);
+        }
+
+        public String getUserId() {
+            return userId;
+        }
+
+        public void setUserId(String userId) {
+            this.userId = userId;
+            markDirty();
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public void setEmail(String email) {
+            this.email = email;
+            markDirty();
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+
+        public void setDisplayName(String displayName) {
+            this.displayName = displayName;
+            markDirty();
+        }
+
+        public String getAccessToken() {
+            return accessToken;
+        }
+
+        public void setAccessToken(String accessToken) {
+            this.accessToken = accessToken;
+            markDirty();
+        }
+
+        public String getRefreshToken() {
+            return refreshToken;
+        }
+
+        public void setRefreshToken(String refreshToken) {
+            this.refreshToken = refreshToken;
+            markDirty();
+        }
+
+        public List<String> getRoles() {
+            return roles;
+        }
+
+        public void setRoles(List<String> roles) {
+            this.roles = roles;
+            markDirty();
+        }
+
+        public Map<String, String> getPreferences() {
+            return preferences;
+        }
+
+        public void setPreferences(Map<String, String> preferences) {
+            this.preferences = preferences;
+            markDirty();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            BigSession that = (BigSession) o;
+            return Objects.equals(userId, that.userId) &&
+                    Objects.equals(email, that.email) &&
+                    Objects.equals(displayName, that.displayName) &&
+                    Objects.equals(accessToken, that.accessToken) &&
+                    Objects.equals(refreshToken, that.refreshToken) &&
+                    Objects.equals(roles, that.roles) &&
+                    Objects.equals(preferences, that.preferences);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, email, displayName, accessToken, refreshToken, roles, preferences);
+        }
+    }
+
+    public static class TrackedBigSession extends BigSession {
+        public TrackedBigSession() {
+        }
+
+        public TrackedBigSession(TrackedBigSession from) {
+            super(from);
+        }
+
+        @Override
+        public Boolean isTracked() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package net.tokensmith.otter.benchmark.security;
+
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import net.tokensmith.jwt.entity.jwk.SymmetricKey;
+import net.tokensmith.jwt.entity.jwk.Use;
+import net.tokensmith.otter.benchmark.security.SessionCopyBenchmark.BigSession;
+import net.tokensmith.otter.security.config.SecurityAppFactory;
+import net.tokensmith.otter.security.session.store.OffHeapSessionStore;
+import net.tokensmith.otter.security.session.store.SessionIds;
+import net.tokensmith.otter.security.session.util.Decrypt;
+import net.tokensmith.otter.translator.config.TranslatorAppFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading a 2 KB session from a JWE session cookie to reading it from an OffHeapSessionStore
+ * with a signed session id cookie. The session json is 2088 bytes, its jwe cookie is 2882 bytes and the
+ * session id cookie is 92 bytes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SessionStoreBenchmark {
+    private Decrypt<BigSession> cookieDecrypt;
+    private Decrypt<BigSession> storedDecrypt;
+    private OffHeapSessionStore sessionStore;
+    private String id;
+    private byte[] payload;
+    private String encryptedSession;
+    private String signedId;
+
+    @Setup
+    public void setUp() throws Exception {
+        SecurityAppFactory securityAppFactory = new SecurityAppFactory();
+        TranslatorAppFactory appFactory = new TranslatorAppFactory();
+        ObjectReader reader = appFactory.objectReader().forType(BigSession.class);
+        ObjectWriter writer = appFactory.objectWriter();
+
+        SymmetricKey encKey = new SymmetricKey(Optional.of("1234"), "MMNj8rE5m7NIDhwKYDmHSnlU1wfKuVvW6G--GKPYkRA", Use.ENCRYPTION);
+        SymmetricKey signKey = new SymmetricKey(Optional.of("5678"), "AyM1SysPpbyDfgZld3umj1qzKObwVMkoqQ-EstJQLr_T-1qS0gZH75aKtMN3Yj0iPS4hcgUuTwjAzZr1Z9CAow", Use.SIGNATURE);
+
+        BigSession session = new BigSession();
+        new SessionCopyBenchmark().fill(session);
+        payload = writer.writeValueAsBytes(session);
+
+        cookieDecrypt = securityAppFactory.decrypt(reader, encKey, new HashMap<>());
+        encryptedSession = securityAppFactory.compactJwe().encrypt(encKey, payload).toString();
+
+        SessionIds sessionIds = securityAppFactory.sessionIds(signKey, new HashMap<>());
+        sessionStore = new OffHeapSessionStore(512, 4096, 3600L, 8);
+        storedDecrypt = securityAppFactory.storedDecrypt(reader, sessionIds, sessionStore);
+        id = sessionIds.make();
+        signedId = sessionIds.sign(id);
+        sessionStore.put(id, payload);
+    }
+
+    @Benchmark
+    public BigSession readCookie() throws Exception {
+        return cookieDecrypt.decrypt(encryptedSession);
+    }
+
+    @Benchmark
+    public BigSession readStored() throws Exception {
+        return storedDecrypt.decrypt(signedId);
+    }
+
+    @Benchmark
+    public Boolean writeStored() {
+        return sessionStore.put(id, payload);
+    }
+}
@@ -0,0 +1,97 @@
+package net.tokensmith.otter.benchmark.translator;
+
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import net.tokensmith.hello.controller.api.v3.model.BadRequestPayload;
+import net.tokensmith.hello.model.Hello;
+import net.tokensmith.otter.controller.entity.Cause;
+import net.tokensmith.otter.controller.entity.ClientError;
+import net.tokensmith.otter.translator.JsonTranslator;
+import net.tokensmith.otter.translator.config.JsonAcceleration;
+import net.tokensmith.otter.translator.config.TranslatorAppFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares json acceleration modes on the payloads of the hello-world api/v2 and api/v3 routes,
+ * Hello for requests and responses and the error payloads.
+ *
+ * The reader benchmarks compare the cached reader for a class to making one with forType.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JsonTranslatorBenchmark {
+
+    @Param({"NONE", "AFTERBURNER"})
+    public JsonAcceleration acceleration;
+
+    private TranslatorAppFactory appFactory;
+    private JsonTranslator<Hello> helloTranslator;
+    private JsonTranslator<BadRequestPayload> badRequestTranslator;
+    private JsonTranslator<ClientError> clientErrorTranslator;
+
+    private Hello hello;
+    private byte[] helloJson;
+    private BadRequestPayload badRequest;
+    private ClientError clientError;
+
+    @Setup
+    public void setUp() throws Exception {
+        appFactory = new TranslatorAppFactory(acceleration);
+
+        helloTranslator = appFactory.jsonTranslator(Hello.class);
+        badRequestTranslator = appFactory.jsonTranslator(BadRequestPayload.class);
+        clientErrorTranslator = appFactory.jsonTranslator(ClientError.class);
+
+        hello = new Hello("Hello, World");
+        helloJson = helloTranslator.to(hello);
+        badRequest = new BadRequestPayload("The payload could not be parsed.", "message", "INVALID_VALUE");
+
+        List<Cause> causes = new ArrayList<>();
+        causes.add(new Cause(Cause.Source.BODY, "message", "1", Arrays.asList("string"), "There was a invalid value for a key."));
+        causes.add(new Cause(Cause.Source.HEADER, "Content-Type", "text/html", Arrays.asList("application/json"), "Content type was not expected."));
+        clientError = new ClientError(causes);
+    }
+
+    @Benchmark
+    public byte[] helloTo() throws Exception {
+        return helloTranslator.to(hello);
+    }
+
+    @Benchmark
+    public Hello helloFrom() throws Exception {
+        return helloTranslator.from(helloJson);
+    }
+
+    @Benchmark
+    public byte[] badRequestTo() throws Exception {
+        return badRequestTranslator.to(badRequest);
+    }
+
+    @Benchmark
+    public byte[] clientErrorTo() throws Exception {
+        return clientErrorTranslator.to(clientError);
+    }
+
+    @Benchmark
+    public ObjectReader cachedReader() {
+        return appFactory.objectReader(Hello.class);
+    }
+
+    @Benchmark
+    public ObjectReader forTypeReader() {
+        return appFactory.objectReader().forType(Hello.class);
+    }
+}
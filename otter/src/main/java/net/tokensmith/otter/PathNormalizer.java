@@ -0,0 +1,88 @@
+package net.tokensmith.otter;
+
+
+import java.util.Objects;
+
+/**
+ * Normalizes a request uri once per request so it can be used to find a Location.
+ *
+ * - The otter prefix, /app, is removed when it is the first segment of the path. The EntryFilter
+ *   forwards requests to it.
+ * - Percent encoded unreserved characters, RFC 3986 section 2.3, in the path are decoded. All
+ *   other percent encodings, such as %2F, are left as is so they will not change the segments.
+ * - The query string is appended after a "?" and is not changed.
+ *
+ * A new String is only made when the uri needs to be changed.
+ */
+public class PathNormalizer {
+    private static final String OTTER_PREFIX = "/app";
+    private static final char SEPARATOR = '/';
+    private static final char PARAM_DELIMITER = '?';
+    private static final char PERCENT = '%';
+    private static final String UNRESERVED_SYMBOLS = "-._~";
+
+    public String run(String requestUri, String queryString) {
+        String path = decodeUnreserved(stripPrefix(requestUri));
+        if (Objects.isNull(queryString)) {
+            return path;
+        }
+        return new StringBuilder(path.length() + queryString.length() + 1)
+                .append(path)
+                .append(PARAM_DELIMITER)
+                .append(queryString)
+                .toString();
+    }
+
+    protected String stripPrefix(String requestUri) {
+        if (requestUri.startsWith(OTTER_PREFIX)) {
+            int end = OTTER_PREFIX.length();
+            if (requestUri.length() == end) {
+                return "";
+            }
+            if (requestUri.charAt(end) == SEPARATOR) {
+                return requestUri.substring(end);
+            }
+        }
+        return requestUri;
+    }
+
+    protected String decodeUnreserved(String path) {
+        int i = path.indexOf(PERCENT);
+        if (i == -1) {
+            return path;
+        }
+
+        StringBuilder decoded = new StringBuilder(path.length());
+        decoded.append(path, 0, i);
+        while (i < path.length()) {
+            char c = path.charAt(i);
+            if (c == PERCENT && i + 2 < path.length() && isUnreserved(path.charAt(i + 1), path.charAt(i + 2))) {
+                decoded.append((char) hex(path.charAt(i + 1), path.charAt(i + 2)));
+                i += 3;
+            } else {
+                decoded.append(c);
+                i++;
+            }
+        }
+        return decoded.toString();
+    }
+
+    protected boolean isUnreserved(char high, char low) {
+        int value = hex(high, low);
+        if (value == -1) {
+            return false;
+        }
+        char c = (char) value;
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || UNRESERVED_SYMBOLS.indexOf(c) != -1;
+    }
+
+    protected int hex(char high, char low) {
+        int h = Character.digit(high, 16);
+        int l = Character.digit(low, 16);
+        if (h == -1 || l == -1) {
+            return -1;
+        }
+        return (h << 4) + l;
+    }
+}
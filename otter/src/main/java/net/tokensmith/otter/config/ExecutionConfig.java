@@ -0,0 +1,80 @@
+package net.tokensmith.otter.config;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Configures which threads run resources and their betweens after a request body was read. Resources that block,
+ * for example on a database, should not run on the container's threads because those also read and write the
+ * bodies of other requests.
+ *
+ * When a request is not accepted by the executor the response is a 503.
+ */
+public class ExecutionConfig {
+    private ExecutionMode mode;
+    private Integer threads;
+    private Integer queueSize;
+    private Executor executor;
+
+    /**
+     * @param mode CONTAINER or VIRTUAL, POOL uses the default threads and queue size.
+     */
+    public ExecutionConfig(ExecutionMode mode) {
+        this(mode, null, null, null);
+    }
+
+    /**
+     * A bounded pool of platform threads.
+     *
+     * @param threads the number of threads, null for the default
+     * @param queueSize the number of requests that may wait for a thread, null for the default
+     */
+    public ExecutionConfig(Integer threads, Integer queueSize) {
+        this(ExecutionMode.POOL, threads, queueSize, null);
+    }
+
+    /**
+     * @param executor runs resources, it is not shut down by otter.
+     */
+    public ExecutionConfig(Executor executor) {
+        this(ExecutionMode.EXECUTOR, null, null, executor);
+    }
+
+    public ExecutionConfig(ExecutionMode mode, Integer threads, Integer queueSize, Executor executor) {
+        this.mode = mode;
+        this.threads = threads;
+        this.queueSize = queueSize;
+        this.executor = executor;
+    }
+
+    public ExecutionMode getMode() {
+        return mode;
+    }
+
+    public void setMode(ExecutionMode mode) {
+        this.mode = mode;
+    }
+
+    public Integer getThreads() {
+        return threads;
+    }
+
+    public void setThreads(Integer threads) {
+        this.threads = threads;
+    }
+
+    public Integer getQueueSize() {
+        return queueSize;
+    }
+
+    public void setQueueSize(Integer queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+}
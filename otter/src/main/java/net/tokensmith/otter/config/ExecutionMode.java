@@ -0,0 +1,14 @@
+package net.tokensmith.otter.config;
+
+
+/**
+ * Which threads run resources, see ExecutionConfig.
+ *
+ * CONTAINER runs them on the container thread that read the request body, this is the default.
+ * POOL runs them on a bounded pool of platform threads.
+ * VIRTUAL runs each request on its own virtual thread, it needs JDK 21 or later.
+ * EXECUTOR runs them on an Executor that the application gives.
+ */
+public enum ExecutionMode {
+    CONTAINER, POOL, VIRTUAL, EXECUTOR
+}
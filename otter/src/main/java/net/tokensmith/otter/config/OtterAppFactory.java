@@ -1,6 +1,8 @@
 package net.tokensmith.otter.config;
 
 
+import com.fasterxml.jackson.core.JsonFactory;
+import net.tokensmith.otter.PathNormalizer;
 import net.tokensmith.otter.QueryStringToMap;
 import net.tokensmith.otter.controller.RestResource;
 import net.tokensmith.otter.controller.entity.ClientError;
@@ -43,6 +45,9 @@ import net.tokensmith.otter.server.path.CompiledClassPath;
 import net.tokensmith.otter.server.path.WebAppPath;
 import net.tokensmith.otter.translatable.Translatable;
 import net.tokensmith.otter.translator.MimeTypeTranslator;
+import net.tokensmith.otter.translator.config.TranslatorAppFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.validation.Validation;
 import javax.validation.Validator;
@@ -54,6 +59,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -63,7 +74,12 @@ import java.util.stream.Stream;
  * Application Factory to construct objects in project.
  */
 public class OtterAppFactory {
+    protected static Logger LOGGER = LoggerFactory.getLogger(OtterAppFactory.class);
     public static Integer WRITE_CHUNK_SIZE = 1024;
+    public static Long MAX_BODY_BYTES = 1024L * 1024L * 10L;
+    public static Integer EXECUTION_THREADS = 64;
+    public static Integer EXECUTION_QUEUE_SIZE = 1024;
+    public static final String NO_VIRTUAL_THREADS = "Virtual threads need JDK 21 or later, using a pool of {} platform threads";
 
 
     public CompiledClassPath compiledClassPath() {
@@ -89,6 +105,7 @@ public class OtterAppFactory {
         Map<String, RestLocationTranslator<? extends DefaultSession, ? extends DefaultUser, ?>> restLocationTranslators = restLocationTranslators(restLocationTranslatorFactory, restGroups, shape);
 
         Integer writeChunkSize = Objects.nonNull(shape.getWriteChunkSize()) ? shape.getWriteChunkSize() : WRITE_CHUNK_SIZE;
+        Long maxBodyBytes = Objects.nonNull(shape.getMaxBodyBytes()) ? shape.getMaxBodyBytes() : MAX_BODY_BYTES;
 
         // just in case not using default cookie names for session, csrf.
         Map<String, CookieConfig> cookieConfigs = new HashMap<>();
@@ -103,10 +120,85 @@ public class OtterAppFactory {
                 engine(),
                 locationTranslators,
                 restLocationTranslators,
-                writeChunkSize
+                new PathNormalizer(),
+                writeChunkSize,
+                maxBodyBytes
         );
     }
 
+    /**
+     * The executor that runs resources after a request body was read.
+     *
+     * @param execution which threads run resources, may be null
+     * @return the executor, empty when resources run on the container thread.
+     */
+    public Optional<Executor> executor(ExecutionConfig execution) {
+        if (Objects.isNull(execution) || Objects.isNull(execution.getMode())) {
+            return Optional.empty();
+        }
+
+        Executor executor = null;
+        switch (execution.getMode()) {
+            case POOL:
+                executor = pool(execution.getThreads(), execution.getQueueSize());
+                break;
+            case VIRTUAL:
+                executor = virtual().orElseGet(() -> {
+                    LOGGER.warn(NO_VIRTUAL_THREADS, EXECUTION_THREADS);
+                    return pool(execution.getThreads(), execution.getQueueSize());
+                });
+                break;
+            case EXECUTOR:
+                executor = execution.getExecutor();
+                break;
+            default:
+                break;
+        }
+        return Optional.ofNullable(executor);
+    }
+
+    /**
+     * A bounded pool of daemon platform threads, a request that does not fit in the queue is rejected.
+     *
+     * @param threads the number of threads, null for EXECUTION_THREADS
+     * @param queueSize the number of requests that may wait, null for EXECUTION_QUEUE_SIZE
+     * @return a bounded pool
+     */
+    public Executor pool(Integer threads, Integer queueSize) {
+        int poolSize = Objects.nonNull(threads) ? threads : EXECUTION_THREADS;
+        int capacity = Objects.nonNull(queueSize) ? queueSize : EXECUTION_QUEUE_SIZE;
+        AtomicInteger count = new AtomicInteger();
+
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                poolSize, poolSize, 60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(capacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "otter-exec-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    /**
+     * Otter compiles against JDK 12 so the virtual thread executor is looked up when it is running.
+     *
+     * @return an executor that starts a virtual thread per task, empty if the JDK does not have them.
+     */
+    public Optional<Executor> virtual() {
+        try {
+            return Optional.of((Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null));
+        } catch (ReflectiveOperationException e) {
+            return Optional.empty();
+        }
+    }
+
+    public JsonFactory jsonFactory() {
+        return new TranslatorAppFactory().objectMapper().getFactory();
+    }
+
     public Engine engine() {
         return new Engine(new Dispatcher(), new Dispatcher());
     }
@@ -144,6 +236,8 @@ public class OtterAppFactory {
                     .dispatchErrors(castedGroup.getDispatchErrors())
                     .defaultDispatchErrors(new HashMap<>())
                     .onHalts(onHalts)
+                    .sessionStore(castedGroup.getSessionStore())
+                    .csrfFormat(castedGroup.getCsrfFormat())
                     .build();
 
             locationTranslators.put(group.getName(), locationTranslatorFactory.make(config));
@@ -233,6 +327,8 @@ public class OtterAppFactory {
                     .defaultDispatchErrors(defaultDispatchErrors())
                     .validate(restValidate)
                     .onHalts(onHalts)
+                    .sessionStore(castedGroup.getSessionStore())
+                    .csrfFormat(castedGroup.getCsrfFormat())
                     .build();
 
             restLocationTranslators.put(castedGroup.getName(), restLocationTranslatorFactory.make(config));
@@ -280,6 +376,7 @@ public class OtterAppFactory {
                 httpServletRequestCookieTranslator(),
                 new HttpServletRequestHeaderTranslator(),
                 new QueryStringToMap(),
+                new PathNormalizer(),
                 new MimeTypeTranslator(),
                 cookieConfigs
         );
@@ -0,0 +1,60 @@
+package net.tokensmith.otter.config;
+
+import net.tokensmith.otter.security.session.cache.SessionCacheStats;
+
+/**
+ * Configures the cache of decrypted sessions. Each Group and RestGroup gets its own cache, all of them
+ * report to the same stats.
+ *
+ * The size of a session is the length of its cookie value, which is larger than the session it decrypts to.
+ */
+public class SessionCacheConfig {
+    private Integer maxEntries;
+    private Long maxBytes;
+    private Long ttlSeconds;
+    private Integer stripes;
+    private SessionCacheStats stats = new SessionCacheStats();
+
+    public SessionCacheConfig(Integer maxEntries, Long maxBytes, Long ttlSeconds, Integer stripes) {
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.ttlSeconds = ttlSeconds;
+        this.stripes = stripes;
+    }
+
+    public Integer getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(Integer maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public Long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public void setMaxBytes(Long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public Long getTtlSeconds() {
+        return ttlSeconds;
+    }
+
+    public void setTtlSeconds(Long ttlSeconds) {
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    public Integer getStripes() {
+        return stripes;
+    }
+
+    public void setStripes(Integer stripes) {
+        this.stripes = stripes;
+    }
+
+    public SessionCacheStats getStats() {
+        return stats;
+    }
+}
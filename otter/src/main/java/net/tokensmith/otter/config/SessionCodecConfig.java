@@ -0,0 +1,61 @@
+package net.tokensmith.otter.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Configures how sessions are encoded before they are encrypted into the session cookie. By default they are JSON
+ * and are not compressed.
+ *
+ * A binary format such as Smile or CBOR is used by giving an ObjectMapper made with that format's factory, id is
+ * written to the cty of the session cookie's header. Sessions that were JSON can still be read after the format
+ * changed.
+ */
+public class SessionCodecConfig {
+    private String id;
+    private ObjectMapper mapper;
+    private Integer deflateThreshold;
+
+    /**
+     * Sessions stay JSON.
+     *
+     * @param deflateThreshold deflate sessions larger than this many bytes, null to never deflate.
+     */
+    public SessionCodecConfig(Integer deflateThreshold) {
+        this(null, null, deflateThreshold);
+    }
+
+    /**
+     * @param id the id of the format, for example smile or cbor.
+     * @param mapper the ObjectMapper of the format.
+     * @param deflateThreshold deflate sessions larger than this many bytes, null to never deflate.
+     */
+    public SessionCodecConfig(String id, ObjectMapper mapper, Integer deflateThreshold) {
+        this.id = id;
+        this.mapper = mapper;
+        this.deflateThreshold = deflateThreshold;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public ObjectMapper getMapper() {
+        return mapper;
+    }
+
+    public void setMapper(ObjectMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    public Integer getDeflateThreshold() {
+        return deflateThreshold;
+    }
+
+    public void setDeflateThreshold(Integer deflateThreshold) {
+        this.deflateThreshold = deflateThreshold;
+    }
+}
@@ -0,0 +1,58 @@
+package net.tokensmith.otter.controller;
+
+import net.tokensmith.otter.controller.entity.DefaultUser;
+import net.tokensmith.otter.controller.entity.request.RestRequest;
+import net.tokensmith.otter.controller.entity.response.RestResponse;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A RestResource whose methods return a CompletionStage. The request does not hold a thread while the stage is
+ * not complete, its after betweens run and its response is written when it completes. Use it to call backends
+ * that are asynchronous.
+ *
+ * By default each async method completes with its RestResource method, so a resource only overrides the
+ * methods it implements.
+ *
+ * @param <U> User object
+ * @param <P> Payload object
+ */
+public class AsyncRestResource<U extends DefaultUser, P> extends RestResource<U, P> {
+
+    public CompletionStage<RestResponse<P>> getAsync(RestRequest<U, P> request, RestResponse<P> response) {
+        return CompletableFuture.completedFuture(get(request, response));
+    }
+
+    public CompletionStage<RestResponse<P>> postAsync(RestRequest<U, P> request, RestResponse<P> response) {
+        return CompletableFuture.completedFuture(post(request, response));
+    }
+
+    public CompletionStage<RestResponse<P>> putAsync(RestRequest<U, P> request, RestResponse<P> response) {
+        return CompletableFuture.completedFuture(put(request, response));
+    }
+
+    public CompletionStage<RestResponse<P>> deleteAsync(RestRequest<U, P> request, RestResponse<P> response) {
+        return CompletableFuture.completedFuture(delete(request, response));
+    }
+
+    public CompletionStage<RestResponse<P>> connectAsync(RestRequest<U, P> request, RestResponse<P> response) {
+        return CompletableFuture.completedFuture(connect(request, response));
+    }
+
+    public CompletionStage<RestResponse<P>> optionsAsync(RestRequest<U, P> request, RestResponse<P> response) {
+        return CompletableFuture.completedFuture(options(request, response));
+    }
+
+    public CompletionStage<RestResponse<P>> traceAsync(RestRequest<U, P> request, RestResponse<P> response) {
+        return CompletableFuture.completedFuture(trace(request, response));
+    }
+
+    public CompletionStage<RestResponse<P>> patchAsync(RestRequest<U, P> request, RestResponse<P> response) {
+        return CompletableFuture.completedFuture(patch(request, response));
+    }
+
+    public CompletionStage<RestResponse<P>> headAsync(RestRequest<U, P> request, RestResponse<P> response) {
+        return CompletableFuture.completedFuture(head(request, response));
+    }
+}
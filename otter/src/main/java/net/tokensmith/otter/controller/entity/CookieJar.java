@@ -0,0 +1,223 @@
+package net.tokensmith.otter.controller.entity;
+
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The cookies of a response. It is a Map of cookie name to cookie that remembers which cookies were
+ * added, replaced or removed so only those are written to the response. Cookies the request had that
+ * were not changed are not written again.
+ *
+ * A cookie is changed when a different Cookie is put for its name, even if it is equal, because equal cookies
+ * may have a different max age, secure or http only. Putting the same Cookie again does not change it. A cookie
+ * the jar was made with is also changed when its value, max age, secure, http only, path or domain was set.
+ *
+ * The cookies are kept in the map it is made with, so changes are seen by whatever else has that map. Changes
+ * must go through the jar to be seen by it. keySet, values and entrySet can not be changed.
+ *
+ * It is not thread safe, it belongs to the thread dispatching the request.
+ */
+public class CookieJar implements Map<String, Cookie> {
+    private Map<String, Cookie> cookies;
+    // the cookie each touched name had before it was first put or removed, it may be null.
+    private Map<String, Cookie> originals;
+    // copies of the cookies the jar was made with to find the ones that were changed with their setters.
+    private Map<String, Cookie> snapshots;
+
+    public CookieJar() {
+        this(new HashMap<>());
+    }
+
+    public CookieJar(Map<String, Cookie> cookies) {
+        this.cookies = cookies;
+        this.snapshots = new HashMap<>();
+        if (Objects.isNull(cookies)) {
+            return;
+        }
+        for (Map.Entry<String, Cookie> cookie : cookies.entrySet()) {
+            if (Objects.nonNull(cookie.getValue())) {
+                snapshots.put(cookie.getKey(), snapshot(cookie.getValue()));
+            }
+        }
+    }
+
+    /**
+     * @param name a cookie name
+     * @return true if the cookie of name was put or removed and is not the cookie it was before, or it was changed
+     * with its setters.
+     */
+    public Boolean isChanged(String name) {
+        if (Objects.nonNull(originals) && originals.containsKey(name) && originals.get(name) != cookies.get(name)) {
+            return true;
+        }
+        return isMutated(name);
+    }
+
+    /**
+     * @param name a cookie name
+     * @return true if the jar was made with the cookie of name and it was changed with its setters.
+     */
+    public Boolean isMutated(String name) {
+        Cookie snapshot = snapshots.get(name);
+        Cookie cookie = cookies.get(name);
+        if (Objects.isNull(snapshot) || Objects.isNull(cookie)) {
+            return false;
+        }
+        return !Objects.equals(snapshot.getValue(), cookie.getValue())
+                || snapshot.getMaxAge() != cookie.getMaxAge()
+                || snapshot.isSecure() != cookie.isSecure()
+                || snapshot.isHttpOnly() != cookie.isHttpOnly()
+                || !Objects.equals(snapshot.getPath(), cookie.getPath())
+                || !Objects.equals(snapshot.getDomain(), cookie.getDomain());
+    }
+
+    /**
+     * @param name a cookie name
+     * @return true if the jar had the cookie of name when it was made and it was removed.
+     */
+    public Boolean isRemoved(String name) {
+        return Objects.nonNull(originals) && Objects.nonNull(originals.get(name)) && !cookies.containsKey(name);
+    }
+
+    /**
+     * @return the names of the cookies that were put or removed, they may not have changed.
+     */
+    public Set<String> getTouched() {
+        if (Objects.isNull(originals)) {
+            return Collections.emptySet();
+        }
+        return Collections.unmodifiableSet(originals.keySet());
+    }
+
+    /**
+     * @return the names of the cookies that were changed, see isChanged.
+     */
+    public Set<String> getChanged() {
+        Set<String> changed = new LinkedHashSet<>();
+        for (String name : getTouched()) {
+            if (isChanged(name)) {
+                changed.add(name);
+            }
+        }
+        for (String name : snapshots.keySet()) {
+            if (isMutated(name)) {
+                changed.add(name);
+            }
+        }
+        return changed;
+    }
+
+    public Cookie getOriginal(String name) {
+        if (Objects.nonNull(originals) && originals.containsKey(name)) {
+            return originals.get(name);
+        }
+        return cookies.get(name);
+    }
+
+    protected Cookie snapshot(Cookie cookie) {
+        return new Cookie(
+            cookie.getName(), cookie.getValue(), cookie.getComment(), cookie.getDomain(), cookie.getMaxAge(),
+            cookie.getPath(), cookie.isSecure(), cookie.getVersion(), cookie.isHttpOnly()
+        );
+    }
+
+    protected void touch(Object name) {
+        if (Objects.isNull(originals)) {
+            originals = new HashMap<>();
+        }
+        if (name instanceof String && !originals.containsKey(name)) {
+            originals.put((String) name, cookies.get(name));
+        }
+    }
+
+    @Override
+    public Cookie put(String name, Cookie cookie) {
+        touch(name);
+        return cookies.put(name, cookie);
+    }
+
+    @Override
+    public Cookie remove(Object name) {
+        if (!cookies.containsKey(name)) {
+            return null;
+        }
+        touch(name);
+        return cookies.remove(name);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ? extends Cookie> from) {
+        for (Map.Entry<? extends String, ? extends Cookie> entry : from.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public void clear() {
+        for (String name : cookies.keySet()) {
+            touch(name);
+        }
+        cookies.clear();
+    }
+
+    @Override
+    public int size() {
+        return cookies.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return cookies.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object name) {
+        return cookies.containsKey(name);
+    }
+
+    @Override
+    public boolean containsValue(Object cookie) {
+        return cookies.containsValue(cookie);
+    }
+
+    @Override
+    public Cookie get(Object name) {
+        return cookies.get(name);
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return Collections.unmodifiableSet(cookies.keySet());
+    }
+
+    @Override
+    public Collection<Cookie> values() {
+        return Collections.unmodifiableCollection(cookies.values());
+    }
+
+    @Override
+    public Set<Entry<String, Cookie>> entrySet() {
+        return Collections.unmodifiableSet(cookies.entrySet());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return cookies.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return cookies.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return cookies.toString();
+    }
+}
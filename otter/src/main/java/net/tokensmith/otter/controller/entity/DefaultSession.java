@@ -1,9 +1,44 @@
 package net.tokensmith.otter.controller.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * Sessions may opt in to dirty tracking by overriding isTracked to return true and calling markDirty
+ * in every method that changes them. A tracked session is not copied for each request and is only re-encrypted
+ * when it is dirty or the response was given a different session.
+ *
+ * Sessions that are not tracked are copied with their copy constructor and re-encrypted when the copy
+ * is not equal to the request session.
+ */
 public class DefaultSession {
+    @JsonIgnore
+    private transient boolean dirty;
+
     public DefaultSession() {
     }
 
     public DefaultSession(DefaultSession defaultSession) {
     }
+
+    /**
+     * @return true if every method that changes the session calls markDirty.
+     */
+    @JsonIgnore
+    public Boolean isTracked() {
+        return false;
+    }
+
+    protected void markDirty() {
+        this.dirty = true;
+    }
+
+    @JsonIgnore
+    public Boolean isDirty() {
+        return dirty;
+    }
+
+    @JsonIgnore
+    public void setDirty(Boolean dirty) {
+        this.dirty = dirty;
+    }
 }
@@ -16,6 +16,7 @@ public class Response<S> {
     private Optional<String> template;
     private Optional<Object> presenter;
     private Optional<S> session = Optional.empty();
+    private Optional<S> decryptedSession = Optional.empty();
 
     public Response() {
     }
@@ -84,4 +85,16 @@ public class Response<S> {
     public void setSession(Optional<S> session) {
         this.session = session;
     }
+
+    /**
+     * @return the session DecryptSession gave the response, if the response session is not it then the
+     * resource replaced the session.
+     */
+    public Optional<S> getDecryptedSession() {
+        return decryptedSession;
+    }
+
+    public void setDecryptedSession(Optional<S> decryptedSession) {
+        this.decryptedSession = decryptedSession;
+    }
 }
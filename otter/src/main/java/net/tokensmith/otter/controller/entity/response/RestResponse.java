@@ -2,64 +2,91 @@ package net.tokensmith.otter.controller.entity.response;
 
 import net.tokensmith.otter.controller.entity.Cookie;
 import net.tokensmith.otter.controller.entity.StatusCode;
+import net.tokensmith.otter.dispatch.entity.RestExchange;
+import net.tokensmith.otter.translator.LazyPayload;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+/**
+ * The response given to a RestResource. It is a view of a RestExchange, the status, headers and cookies
+ * are the Answer's and the betweens' RestBtwnResponse is a view of the same exchange.
+ *
+ * @param <P> Payload object, the response payload.
+ */
 public class RestResponse<P> {
-    private StatusCode statusCode;
-    private Map<String, String> headers;
-    private Map<String, Cookie> cookies;
-    private Optional<P> payload = Optional.empty();
-    private Optional<byte[]> rawPayload = Optional.empty();
+    private RestExchange<?, ?, P> exchange;
 
     public RestResponse() {
+        this(new RestExchange<>());
+    }
+
+    public RestResponse(RestExchange<?, ?, P> exchange) {
+        this.exchange = exchange;
     }
 
     public RestResponse(StatusCode statusCode, Map<String, String> headers, Map<String, Cookie> cookies, Optional<P> payload) {
-        this.statusCode = statusCode;
-        this.headers = headers;
-        this.cookies = cookies;
-        this.payload = payload;
+        this();
+        setStatusCode(statusCode);
+        setHeaders(headers);
+        setCookies(cookies);
+        setPayload(payload);
     }
 
     public StatusCode getStatusCode() {
-        return statusCode;
+        return exchange.getAnswer().getStatusCode();
     }
 
     public void setStatusCode(StatusCode statusCode) {
-        this.statusCode = statusCode;
+        exchange.getAnswer().setStatusCode(statusCode);
     }
 
     public Map<String, String> getHeaders() {
-        return headers;
+        return exchange.getAnswer().getHeaders();
     }
 
     public void setHeaders(Map<String, String> headers) {
-        this.headers = headers;
+        exchange.getAnswer().setHeaders(headers);
     }
 
     public Map<String, Cookie> getCookies() {
-        return cookies;
+        return exchange.getAnswer().getCookies();
     }
 
     public void setCookies(Map<String, Cookie> cookies) {
-        this.cookies = cookies;
+        exchange.getAnswer().setCookies(cookies);
     }
 
     public Optional<P> getPayload() {
-        return payload;
+        return exchange.getResponsePayload();
     }
 
     public void setPayload(Optional<P> payload) {
-        this.payload = payload;
+        exchange.setResponsePayload(payload);
     }
 
     public Optional<byte[]> getRawPayload() {
-        return rawPayload;
+        return exchange.getRawPayload();
     }
 
     public void setRawPayload(Optional<byte[]> rawPayload) {
-        this.rawPayload = rawPayload;
+        exchange.setRawPayload(rawPayload);
+    }
+
+    public Optional<Stream<?>> getStreamPayload() {
+        return exchange.getStreamPayload();
+    }
+
+    public void setStreamPayload(Optional<Stream<?>> streamPayload) {
+        exchange.setStreamPayload(streamPayload);
+    }
+
+    public LazyPayload<P> getLazyPayload() {
+        return exchange.getLazyPayload();
+    }
+
+    public void setLazyPayload(LazyPayload<P> lazyPayload) {
+        exchange.setLazyPayload(lazyPayload);
     }
 }
@@ -8,6 +8,7 @@ public enum Header {
     CACHE_CONTROL ("Cache-Control"),
     PRAGMA ("Pragma"),
     CONTENT_TYPE ("Content-Type"),
+    CONNECTION ("Connection"),
     LOCATION ("Location");
 
     private String value;
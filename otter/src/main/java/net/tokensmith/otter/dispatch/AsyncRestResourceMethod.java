@@ -0,0 +1,17 @@
+package net.tokensmith.otter.dispatch;
+
+import net.tokensmith.otter.controller.entity.request.RestRequest;
+import net.tokensmith.otter.controller.entity.response.RestResponse;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * An async rest resource's method, such as getAsync or postAsync, bound when the route is built.
+ *
+ * @param <U> User object
+ * @param <P> Payload object
+ */
+@FunctionalInterface
+public interface AsyncRestResourceMethod<U, P> {
+    CompletionStage<RestResponse<P>> invoke(RestRequest<U, P> request, RestResponse<P> response);
+}
@@ -0,0 +1,16 @@
+package net.tokensmith.otter.dispatch;
+
+import net.tokensmith.otter.controller.entity.request.Request;
+import net.tokensmith.otter.controller.entity.response.Response;
+
+/**
+ * A resource's method, such as get or post, bound when the route is built so RouteRun
+ * does not have to pick it for each request.
+ *
+ * @param <S> Session object
+ * @param <U> User object
+ */
+@FunctionalInterface
+public interface ResourceMethod<S, U> {
+    Response<S> invoke(Request<S, U> request, Response<S> response);
+}
@@ -0,0 +1,16 @@
+package net.tokensmith.otter.dispatch;
+
+import net.tokensmith.otter.controller.entity.request.RestRequest;
+import net.tokensmith.otter.controller.entity.response.RestResponse;
+
+/**
+ * A rest resource's method, such as get or post, bound when the route is built so JsonRouteRun
+ * does not have to pick it for each request.
+ *
+ * @param <U> User object
+ * @param <P> Payload object
+ */
+@FunctionalInterface
+public interface RestResourceMethod<U, P> {
+    RestResponse<P> invoke(RestRequest<U, P> request, RestResponse<P> response);
+}
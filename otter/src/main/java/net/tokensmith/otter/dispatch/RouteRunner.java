@@ -5,7 +5,25 @@ import net.tokensmith.otter.router.entity.io.Answer;
 import net.tokensmith.otter.router.entity.io.Ask;
 import net.tokensmith.otter.router.exception.HaltException;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
 public interface RouteRunner {
     Answer run(Ask ask, Answer answer) throws HaltException;
 
+    /**
+     * Runs the route without waiting for an async resource. The stage completes exceptionally with a
+     * HaltException when the route halts. By default it is run.
+     *
+     * @param ask the request
+     * @param answer the response
+     * @return a stage of the answer
+     */
+    default CompletionStage<Answer> runAsync(Ask ask, Answer answer) {
+        try {
+            return CompletableFuture.completedFuture(run(ask, answer));
+        } catch (HaltException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 }
@@ -8,7 +8,6 @@ import net.tokensmith.otter.dispatch.json.JsonDispatchErrorRouteRun;
 import net.tokensmith.otter.dispatch.json.JsonErrorHandler;
 import net.tokensmith.otter.dispatch.json.validator.Validate;
 import net.tokensmith.otter.dispatch.translator.RestErrorHandler;
-import net.tokensmith.otter.dispatch.translator.rest.RestBtwnRequestTranslator;
 import net.tokensmith.otter.dispatch.translator.rest.RestBtwnResponseTranslator;
 import net.tokensmith.otter.dispatch.translator.rest.RestErrorRequestTranslator;
 import net.tokensmith.otter.dispatch.translator.rest.RestErrorResponseTranslator;
@@ -26,7 +25,15 @@ import java.util.HashMap;
 
 
 public class DispatchAppFactory {
-    private static TranslatorAppFactory translatorAppFactory = new TranslatorAppFactory();
+    private TranslatorAppFactory translatorAppFactory;
+
+    public DispatchAppFactory() {
+        this(new TranslatorAppFactory());
+    }
+
+    public DispatchAppFactory(TranslatorAppFactory translatorAppFactory) {
+        this.translatorAppFactory = translatorAppFactory;
+    }
 
     public <S extends DefaultSession, U extends DefaultUser, P extends Translatable> RestRoute<S, U, ? extends Translatable> makeRestRoute(RestErrorTarget<S, U, P> from) {
         return new RestRouteBuilder<S, U, P>()
@@ -40,10 +47,7 @@ public class DispatchAppFactory {
 
         Class<P> castedPayload = toPayload(payload);
         JsonTranslator<P> jsonTranslator = translatorAppFactory.jsonTranslator(castedPayload);
-
-        RestRequestTranslator<S, U, P> restRequestTranslator = new RestRequestTranslator<>();
         RestResponseTranslator<P> restResponseTranslator = new RestResponseTranslator<P>();
-        RestBtwnRequestTranslator<S, U, P> restBtwnRequestTranslator = new RestBtwnRequestTranslator<>();
         RestBtwnResponseTranslator<P> restBtwnResponseTranslator = new RestBtwnResponseTranslator<>();
 
         RestRoute<S, U, P> castedRestRoute = toRestRoute(restRoute);
@@ -51,8 +55,6 @@ public class DispatchAppFactory {
         return new JsonDispatchErrorRouteRun<>(
                 castedRestRoute,
                 restResponseTranslator,
-                restRequestTranslator,
-                restBtwnRequestTranslator,
                 restBtwnResponseTranslator,
                 jsonTranslator,
                 validate,
@@ -9,174 +9,170 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.regex.Matcher;
 
+/**
+ * The request given to rest betweens. It is a view of a RestExchange, the resource's RestRequest
+ * is a view of the same exchange.
+ *
+ * @param <S> Session object, intended to contain user session data.
+ * @param <U> User object, intended to be a authenticated user.
+ */
 public class RestBtwnRequest<S, U> {
-    private Optional<Matcher> matcher;
-    private List<MimeType> possibleContentTypes;
-    private List<MimeType> possibleAccepts;
-    private Method method;
-    private String scheme;
-    private String authority;
-    private Integer port;
-    private String pathWithParams;
-    private MimeType contentType;
-    private MimeType accept;
-    private Map<String, String> headers;
-    private Map<String, Cookie> cookies;
-    private Map<String, List<String>> queryParams;
-    private Map<String, List<String>> formData;
-    private Optional<byte[]> body;
-    private String ipAddress;
-    private Optional<U> user;
-    private Optional<S> session;
-
-    public RestBtwnRequest() {}
+    private RestExchange<S, U, ?> exchange;
+
+    public RestBtwnRequest() {
+        this(new RestExchange<>());
+    }
+
+    public RestBtwnRequest(RestExchange<S, U, ?> exchange) {
+        this.exchange = exchange;
+    }
 
     public Optional<Matcher> getMatcher() {
-        return matcher;
+        return exchange.getAsk().getMatcher();
     }
 
     public void setMatcher(Optional<Matcher> matcher) {
-        this.matcher = matcher;
+        exchange.getAsk().setMatcher(matcher);
     }
 
     public List<MimeType> getPossibleContentTypes() {
-        return possibleContentTypes;
+        return exchange.getAsk().getPossibleContentTypes();
     }
 
     public void setPossibleContentTypes(List<MimeType> possibleContentTypes) {
-        this.possibleContentTypes = possibleContentTypes;
+        exchange.getAsk().setPossibleContentTypes(possibleContentTypes);
     }
 
     public List<MimeType> getPossibleAccepts() {
-        return possibleAccepts;
+        return exchange.getAsk().getPossibleAccepts();
     }
 
     public void setPossibleAccepts(List<MimeType> possibleAccepts) {
-        this.possibleAccepts = possibleAccepts;
+        exchange.getAsk().setPossibleAccepts(possibleAccepts);
     }
 
     public Method getMethod() {
-        return method;
+        return exchange.getAsk().getMethod();
     }
 
     public void setMethod(Method method) {
-        this.method = method;
+        exchange.getAsk().setMethod(method);
     }
 
     public String getScheme() {
-        return scheme;
+        return exchange.getAsk().getScheme();
     }
 
     public void setScheme(String scheme) {
-        this.scheme = scheme;
+        exchange.getAsk().setScheme(scheme);
     }
 
     public String getAuthority() {
-        return authority;
+        return exchange.getAsk().getAuthority();
     }
 
     public void setAuthority(String authority) {
-        this.authority = authority;
+        exchange.getAsk().setAuthority(authority);
     }
 
     public Integer getPort() {
-        return port;
+        return exchange.getAsk().getPort();
     }
 
     public void setPort(Integer port) {
-        this.port = port;
+        exchange.getAsk().setPort(port);
     }
 
     public String getPathWithParams() {
-        return pathWithParams;
+        return exchange.getAsk().getPathWithParams();
     }
 
     public void setPathWithParams(String pathWithParams) {
-        this.pathWithParams = pathWithParams;
+        exchange.getAsk().setPathWithParams(pathWithParams);
     }
 
     public MimeType getContentType() {
-        return contentType;
+        return exchange.getAsk().getContentType();
     }
 
     public void setContentType(MimeType contentType) {
-        this.contentType = contentType;
+        exchange.getAsk().setContentType(contentType);
     }
 
     public MimeType getAccept() {
-        return accept;
+        return exchange.getAsk().getAccept();
     }
 
     public void setAccept(MimeType accept) {
-        this.accept = accept;
+        exchange.getAsk().setAccept(accept);
     }
 
     public Map<String, String> getHeaders() {
-        return headers;
+        return exchange.getAsk().getHeaders();
     }
 
     public void setHeaders(Map<String, String> headers) {
-        this.headers = headers;
+        exchange.getAsk().setHeaders(headers);
     }
 
     public Map<String, Cookie> getCookies() {
-        return cookies;
+        return exchange.getAsk().getCookies();
     }
 
     public void setCookies(Map<String, Cookie> cookies) {
-        this.cookies = cookies;
+        exchange.getAsk().setCookies(cookies);
     }
 
     public Map<String, List<String>> getQueryParams() {
-        return queryParams;
+        return exchange.getAsk().getQueryParams();
     }
 
     public void setQueryParams(Map<String, List<String>> queryParams) {
-        this.queryParams = queryParams;
+        exchange.getAsk().setQueryParams(queryParams);
     }
 
     public Map<String, List<String>> getFormData() {
-        return formData;
+        return exchange.getAsk().getFormData();
     }
 
     public void setFormData(Map<String, List<String>> formData) {
-        this.formData = formData;
+        exchange.getAsk().setFormData(formData);
     }
 
     public Optional<byte[]> getBody() {
-        return body;
+        return exchange.getAsk().getBody();
     }
 
     public void setBody(Optional<byte[]> body) {
-        this.body = body;
+        exchange.getAsk().setBody(body);
     }
 
     public String getIpAddress() {
-        return ipAddress;
+        return exchange.getAsk().getIpAddress();
     }
 
     public void setIpAddress(String ipAddress) {
-        this.ipAddress = ipAddress;
+        exchange.getAsk().setIpAddress(ipAddress);
     }
 
     public Optional<U> getUser() {
-        return user;
+        return exchange.getUser();
     }
 
     public void setUser(Optional<U> user) {
-        this.user = user;
+        exchange.setUser(user);
     }
 
     public Optional<S> getSession() {
-        return session;
+        return exchange.getSession();
     }
 
     public void setSession(Optional<S> session) {
-        this.session = session;
+        exchange.setSession(session);
     }
 
     @Override
     public String toString() {
-        return new StringBuilder().append(method).append(" ").append(pathWithParams).toString();
+        return new StringBuilder().append(getMethod()).append(" ").append(getPathWithParams()).toString();
     }
 }
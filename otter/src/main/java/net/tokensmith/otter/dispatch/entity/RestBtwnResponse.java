@@ -2,65 +2,80 @@ package net.tokensmith.otter.dispatch.entity;
 
 import net.tokensmith.otter.controller.entity.Cookie;
 import net.tokensmith.otter.controller.entity.StatusCode;
+import net.tokensmith.otter.translator.LazyPayload;
 
 import java.util.Map;
 import java.util.Optional;
 
+/**
+ * The response given to rest betweens. It is a view of a RestExchange, the status, headers and cookies
+ * are the Answer's and the resource's RestResponse is a view of the same exchange.
+ */
 public class RestBtwnResponse {
-    private StatusCode statusCode;
-    private Map<String, String> headers;
-    private Map<String, Cookie> cookies;
-    private Optional<byte[]> payload;
-    private Optional<byte[]> rawPayload;
+    private RestExchange<?, ?, ?> exchange;
 
     public RestBtwnResponse() {
+        this(new RestExchange<>());
+    }
+
+    public RestBtwnResponse(RestExchange<?, ?, ?> exchange) {
+        this.exchange = exchange;
     }
 
     public RestBtwnResponse(StatusCode statusCode, Map<String, String> headers, Map<String, Cookie> cookies, Optional<byte[]> payload, Optional<byte[]> rawPayload) {
-        this.statusCode = statusCode;
-        this.headers = headers;
-        this.cookies = cookies;
-        this.payload = payload;
-        this.rawPayload = payload;
+        this();
+        setStatusCode(statusCode);
+        setHeaders(headers);
+        setCookies(cookies);
+        setPayload(payload);
+        setRawPayload(payload);
     }
 
     public StatusCode getStatusCode() {
-        return statusCode;
+        return exchange.getAnswer().getStatusCode();
     }
 
     public void setStatusCode(StatusCode statusCode) {
-        this.statusCode = statusCode;
+        exchange.getAnswer().setStatusCode(statusCode);
     }
 
     public Map<String, String> getHeaders() {
-        return headers;
+        return exchange.getAnswer().getHeaders();
     }
 
     public void setHeaders(Map<String, String> headers) {
-        this.headers = headers;
+        exchange.getAnswer().setHeaders(headers);
     }
 
     public Map<String, Cookie> getCookies() {
-        return cookies;
+        return exchange.getAnswer().getCookies();
     }
 
     public void setCookies(Map<String, Cookie> cookies) {
-        this.cookies = cookies;
+        exchange.getAnswer().setCookies(cookies);
     }
 
     public Optional<byte[]> getPayload() {
-        return payload;
+        return exchange.getBtwnPayload().getBytes();
     }
 
     public void setPayload(Optional<byte[]> payload) {
-        this.payload = payload;
+        exchange.setBtwnPayload(new LazyPayload<>(Optional.empty(), payload));
+    }
+
+    public LazyPayload<?> getLazyPayload() {
+        return exchange.getBtwnPayload();
+    }
+
+    public void setLazyPayload(LazyPayload<?> payload) {
+        exchange.setBtwnPayload(payload);
     }
 
     public Optional<byte[]> getRawPayload() {
-        return rawPayload;
+        return exchange.getRawPayload();
     }
 
     public void setRawPayload(Optional<byte[]> rawPayload) {
-        this.rawPayload = rawPayload;
+        exchange.setRawPayload(rawPayload);
     }
 }
@@ -0,0 +1,192 @@
+package net.tokensmith.otter.dispatch.entity;
+
+import net.tokensmith.otter.controller.entity.request.RestRequest;
+import net.tokensmith.otter.controller.entity.response.RestResponse;
+import net.tokensmith.otter.router.entity.io.Answer;
+import net.tokensmith.otter.router.entity.io.Ask;
+import net.tokensmith.otter.translator.LazyPayload;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * One rest request and its response while they go through the betweens and the resource.
+ *
+ * The request is the Ask and the response is the Answer. RestBtwnRequest, RestRequest, RestBtwnResponse
+ * and RestResponse are views of this exchange so nothing is copied between them, a change made in one
+ * is seen in the others. It only keeps what the Ask and Answer do not have, such as the user and session.
+ *
+ * It is not thread safe, it belongs to the thread dispatching the request.
+ *
+ * @param <S> Session object, intended to contain user session data.
+ * @param <U> User object, intended to be a authenticated user.
+ * @param <P> Payload object, the request and response payload.
+ */
+public class RestExchange<S, U, P> {
+    // bytes are present so it is never serialized, it can be shared.
+    private static final LazyPayload<?> EMPTY_PAYLOAD = new LazyPayload<>(Optional.empty(), Optional.empty());
+
+    private Ask ask;
+    private Answer answer;
+
+    // request
+    private Optional<U> user = Optional.empty();
+    private Optional<S> session = Optional.empty();
+    private Optional<P> payload = Optional.empty();
+    private Optional<Throwable> cause = Optional.empty();
+
+    // response
+    private Optional<P> responsePayload = Optional.empty();
+    private Optional<byte[]> rawPayload = Optional.empty();
+    // written as a json array while the response is written, after betweens will not see it.
+    private Optional<Stream<?>> streamPayload = Optional.empty();
+    // the payload the betweens see, serialized when a between reads it.
+    private LazyPayload<?> btwnPayload = EMPTY_PAYLOAD;
+    // the payload and its json, otter sets this after the after betweens.
+    private LazyPayload<P> lazyPayload;
+
+    // views, made when first needed.
+    private RestBtwnRequest<S, U> btwnRequest;
+    private RestRequest<U, P> request;
+    private RestBtwnResponse btwnResponse;
+    private RestResponse<P> response;
+
+    public RestExchange() {
+        this(new Ask(), new Answer());
+    }
+
+    public RestExchange(Ask ask, Answer answer) {
+        this.ask = ask;
+        this.answer = answer;
+    }
+
+    public RestBtwnRequest<S, U> getBtwnRequest() {
+        if (Objects.isNull(btwnRequest)) {
+            btwnRequest = new RestBtwnRequest<>(this);
+        }
+        return btwnRequest;
+    }
+
+    public RestRequest<U, P> getRequest() {
+        if (Objects.isNull(request)) {
+            request = new RestRequest<>(this);
+        }
+        return request;
+    }
+
+    public RestBtwnResponse getBtwnResponse() {
+        if (Objects.isNull(btwnResponse)) {
+            btwnResponse = new RestBtwnResponse(this);
+        }
+        return btwnResponse;
+    }
+
+    public RestResponse<P> getResponse() {
+        if (Objects.isNull(response)) {
+            response = new RestResponse<>(this);
+        }
+        return response;
+    }
+
+    /**
+     * Makes a response the resource returned the response of this exchange. It is only copied if the resource
+     * made its own response rather than returning the one it was given.
+     *
+     * @param from the response the resource returned
+     * @return the response of this exchange
+     */
+    public RestResponse<P> merge(RestResponse<P> from) {
+        RestResponse<P> to = getResponse();
+        if (from != to) {
+            to.setStatusCode(from.getStatusCode());
+            to.setHeaders(from.getHeaders());
+            to.setCookies(from.getCookies());
+            to.setPayload(from.getPayload());
+            to.setRawPayload(from.getRawPayload());
+            to.setStreamPayload(from.getStreamPayload());
+            to.setLazyPayload(from.getLazyPayload());
+        }
+        return to;
+    }
+
+    public Ask getAsk() {
+        return ask;
+    }
+
+    public Answer getAnswer() {
+        return answer;
+    }
+
+    public Optional<U> getUser() {
+        return user;
+    }
+
+    public void setUser(Optional<U> user) {
+        this.user = user;
+    }
+
+    public Optional<S> getSession() {
+        return session;
+    }
+
+    public void setSession(Optional<S> session) {
+        this.session = session;
+    }
+
+    public Optional<P> getPayload() {
+        return payload;
+    }
+
+    public void setPayload(Optional<P> payload) {
+        this.payload = payload;
+    }
+
+    public Optional<Throwable> getCause() {
+        return cause;
+    }
+
+    public void setCause(Optional<Throwable> cause) {
+        this.cause = cause;
+    }
+
+    public Optional<P> getResponsePayload() {
+        return responsePayload;
+    }
+
+    public void setResponsePayload(Optional<P> responsePayload) {
+        this.responsePayload = responsePayload;
+    }
+
+    public Optional<byte[]> getRawPayload() {
+        return rawPayload;
+    }
+
+    public void setRawPayload(Optional<byte[]> rawPayload) {
+        this.rawPayload = rawPayload;
+    }
+
+    public Optional<Stream<?>> getStreamPayload() {
+        return streamPayload;
+    }
+
+    public void setStreamPayload(Optional<Stream<?>> streamPayload) {
+        this.streamPayload = streamPayload;
+    }
+
+    public LazyPayload<?> getBtwnPayload() {
+        return btwnPayload;
+    }
+
+    public void setBtwnPayload(LazyPayload<?> btwnPayload) {
+        this.btwnPayload = btwnPayload;
+    }
+
+    public LazyPayload<P> getLazyPayload() {
+        return lazyPayload;
+    }
+
+    public void setLazyPayload(LazyPayload<P> lazyPayload) {
+        this.lazyPayload = lazyPayload;
+    }
+}
@@ -0,0 +1,165 @@
+package net.tokensmith.otter.dispatch.factory;
+
+import net.tokensmith.otter.controller.AsyncRestResource;
+import net.tokensmith.otter.controller.Resource;
+import net.tokensmith.otter.controller.RestResource;
+import net.tokensmith.otter.controller.entity.DefaultSession;
+import net.tokensmith.otter.controller.entity.DefaultUser;
+import net.tokensmith.otter.controller.entity.StatusCode;
+import net.tokensmith.otter.dispatch.AsyncRestResourceMethod;
+import net.tokensmith.otter.dispatch.ResourceMethod;
+import net.tokensmith.otter.dispatch.RestResourceMethod;
+import net.tokensmith.otter.router.entity.Method;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Binds a resource to the method of a route. A Location is built for each method so the resource method
+ * can be picked once when it is built, rather than for each request.
+ *
+ * Dispatch errors, such as not found, are not built for a method. They are given a resource method that picks
+ * the resource method with the request's method.
+ */
+public class ResourceMethodFactory {
+    public static final String UNKNOWN_METHOD = "No resource method for, ";
+
+    public <S extends DefaultSession, U extends DefaultUser> ResourceMethod<S, U> make(Resource<S, U> resource, Method method) {
+        if (Objects.isNull(resource) || Objects.isNull(method)) {
+            return make(resource);
+        }
+        return bind(resource, method);
+    }
+
+    /**
+     * The bind methods are used both when a Location is built and, for dispatch errors, for each request
+     * with the request's method.
+     */
+    protected static <S extends DefaultSession, U extends DefaultUser> ResourceMethod<S, U> bind(Resource<S, U> resource, Method method) {
+        switch (method) {
+            case GET:
+                return resource::get;
+            case POST:
+                return resource::post;
+            case PUT:
+                return resource::put;
+            case PATCH:
+                return resource::patch;
+            case DELETE:
+                return resource::delete;
+            case CONNECT:
+                return resource::connect;
+            case OPTIONS:
+                return resource::options;
+            case TRACE:
+                return resource::trace;
+            case HEAD:
+                return resource::head;
+            default:
+                throw new IllegalArgumentException(UNKNOWN_METHOD + method);
+        }
+    }
+
+    /**
+     * @param resource the resource to bind
+     * @param <S> Session object
+     * @param <U> User object
+     * @return a resource method that uses the request's method to pick the resource method.
+     */
+    public <S extends DefaultSession, U extends DefaultUser> ResourceMethod<S, U> make(Resource<S, U> resource) {
+        return (request, response) -> bind(resource, request.getMethod()).invoke(request, response);
+    }
+
+    public <S extends DefaultSession, U extends DefaultUser> Map<StatusCode, ResourceMethod<S, U>> make(Map<StatusCode, Resource<S, U>> resources, Method method) {
+        Map<StatusCode, ResourceMethod<S, U>> to = new HashMap<>();
+        for (Map.Entry<StatusCode, Resource<S, U>> entry: resources.entrySet()) {
+            to.put(entry.getKey(), make(entry.getValue(), method));
+        }
+        return to;
+    }
+
+    public <U extends DefaultUser, P> RestResourceMethod<U, P> makeRest(RestResource<U, P> resource, Method method) {
+        if (Objects.isNull(resource) || Objects.isNull(method)) {
+            return makeRest(resource);
+        }
+        return bindRest(resource, method);
+    }
+
+    protected static <U extends DefaultUser, P> RestResourceMethod<U, P> bindRest(RestResource<U, P> resource, Method method) {
+        switch (method) {
+            case GET:
+                return resource::get;
+            case POST:
+                return resource::post;
+            case PUT:
+                return resource::put;
+            case PATCH:
+                return resource::patch;
+            case DELETE:
+                return resource::delete;
+            case CONNECT:
+                return resource::connect;
+            case OPTIONS:
+                return resource::options;
+            case TRACE:
+                return resource::trace;
+            case HEAD:
+                return resource::head;
+            default:
+                throw new IllegalArgumentException(UNKNOWN_METHOD + method);
+        }
+    }
+
+    /**
+     * @param resource the rest resource to bind
+     * @param <U> User object
+     * @param <P> Payload object
+     * @return a rest resource method that uses the request's method to pick the resource method.
+     */
+    public <U extends DefaultUser, P> RestResourceMethod<U, P> makeRest(RestResource<U, P> resource) {
+        return (request, response) -> bindRest(resource, request.getMethod()).invoke(request, response);
+    }
+
+    public <U extends DefaultUser, P> AsyncRestResourceMethod<U, P> makeAsyncRest(AsyncRestResource<U, P> resource, Method method) {
+        if (Objects.isNull(resource) || Objects.isNull(method)) {
+            return makeAsyncRest(resource);
+        }
+        return bindAsyncRest(resource, method);
+    }
+
+    protected static <U extends DefaultUser, P> AsyncRestResourceMethod<U, P> bindAsyncRest(AsyncRestResource<U, P> resource, Method method) {
+        switch (method) {
+            case GET:
+                return resource::getAsync;
+            case POST:
+                return resource::postAsync;
+            case PUT:
+                return resource::putAsync;
+            case PATCH:
+                return resource::patchAsync;
+            case DELETE:
+                return resource::deleteAsync;
+            case CONNECT:
+                return resource::connectAsync;
+            case OPTIONS:
+                return resource::optionsAsync;
+            case TRACE:
+                return resource::traceAsync;
+            case HEAD:
+                return resource::headAsync;
+            default:
+                throw new IllegalArgumentException(UNKNOWN_METHOD + method);
+        }
+    }
+
+    /**
+     * @param resource the async rest resource to bind
+     * @param <U> User object
+     * @param <P> Payload object
+     * @return a async rest resource method that uses the request's method to pick the resource method.
+     */
+    public <U extends DefaultUser, P> AsyncRestResourceMethod<U, P> makeAsyncRest(AsyncRestResource<U, P> resource) {
+        return (request, response) -> bindAsyncRest(resource, request.getMethod()).invoke(request, response);
+    }
+}
@@ -6,10 +6,12 @@ import net.tokensmith.otter.controller.entity.DefaultUser;
 import net.tokensmith.otter.controller.entity.StatusCode;
 import net.tokensmith.otter.controller.entity.request.Request;
 import net.tokensmith.otter.controller.entity.response.Response;
+import net.tokensmith.otter.dispatch.ResourceMethod;
 import net.tokensmith.otter.dispatch.RouteRunner;
 import net.tokensmith.otter.dispatch.builder.ResponseErrorBuilder;
 import net.tokensmith.otter.dispatch.entity.either.ResponseEither;
 import net.tokensmith.otter.dispatch.entity.either.ResponseError;
+import net.tokensmith.otter.dispatch.factory.ResourceMethodFactory;
 import net.tokensmith.otter.dispatch.translator.AnswerTranslator;
 import net.tokensmith.otter.dispatch.translator.RequestTranslator;
 import net.tokensmith.otter.router.entity.Method;
@@ -26,17 +28,32 @@ import java.util.Optional;
 
 
 public class RouteRun<S extends DefaultSession, U extends DefaultUser> implements RouteRunner {
+    private static ResourceMethodFactory resourceMethodFactory = new ResourceMethodFactory();
 
     private Route<S, U> route;
     private RequestTranslator<S, U> requestTranslator;
     private AnswerTranslator<S> answerTranslator;
     private Map<StatusCode, Resource<S, U>> errorResources;
 
+    // the resource methods, bound when the route was built.
+    private ResourceMethod<S, U> resourceMethod;
+    private Map<StatusCode, ResourceMethod<S, U>> errorResourceMethods;
+
+    /**
+     * Used when the route will be run for any method, such as dispatch errors. The resource method is picked
+     * with the request's method.
+     */
     public RouteRun(Route<S, U> route, RequestTranslator<S, U> requestTranslator, AnswerTranslator<S> answerTranslator, Map<StatusCode, Resource<S, U>> errorResources) {
+        this(route, requestTranslator, answerTranslator, errorResources, null);
+    }
+
+    public RouteRun(Route<S, U> route, RequestTranslator<S, U> requestTranslator, AnswerTranslator<S> answerTranslator, Map<StatusCode, Resource<S, U>> errorResources, Method method) {
         this.route = route;
         this.requestTranslator = requestTranslator;
         this.answerTranslator = answerTranslator;
         this.errorResources = errorResources;
+        this.resourceMethod = resourceMethodFactory.make(route.getResource(), method);
+        this.errorResourceMethods = resourceMethodFactory.make(errorResources, method);
     }
 
     @Override
@@ -84,36 +101,14 @@ public class RouteRun<S extends DefaultSession, U extends DefaultUser> implement
 
     protected Optional<Answer> handle(StatusCode statusCode, Throwable cause, Ask ask, Answer answer) {
         Optional<Answer> answerFromErrorResource = Optional.empty();
-        Resource<S, U> errorResource = errorResources.get(statusCode);
+        ResourceMethod<S, U> errorResourceMethod = errorResourceMethods.get(statusCode);
 
-        if (Objects.nonNull(errorResource)) {
+        if (Objects.nonNull(errorResourceMethod)) {
 
             Request<S, U> request = requestTranslator.to(ask, cause);
-
             Response<S> response = answerTranslator.from(answer);
-            Method method = request.getMethod();
-
-            Response<S> responseFromErrorResource = null;
-            if (method == Method.GET) {
-                responseFromErrorResource = errorResource.get(request, response);
-            } else if (method == Method.POST) {
-                responseFromErrorResource = errorResource.post(request, response);
-            } else if (method == Method.PUT) {
-                responseFromErrorResource = errorResource.put(request, response);
-            } else if (method == Method.PATCH) {
-                responseFromErrorResource = errorResource.patch(request, response);
-            } else if (method == Method.DELETE) {
-                responseFromErrorResource = errorResource.delete(request, response);
-            } else if (method == Method.CONNECT) {
-                responseFromErrorResource = errorResource.connect(request, response);
-            } else if (method == Method.OPTIONS) {
-                responseFromErrorResource = errorResource.options(request, response);
-            } else if (method == Method.TRACE) {
-                responseFromErrorResource = errorResource.trace(request, response);
-            } else if (method == Method.HEAD) {
-                responseFromErrorResource = errorResource.head(request, response);
-            }
 
+            Response<S> responseFromErrorResource = errorResourceMethod.invoke(request, response);
             answerFromErrorResource = Optional.of(answerTranslator.to(answer, responseFromErrorResource));
         }
 
@@ -135,13 +130,12 @@ public class RouteRun<S extends DefaultSession, U extends DefaultUser> implement
     protected ResponseEither<S, U> executeResourceMethod(Route<S, U> route, Request<S, U> request, Response<S> response) {
         ResponseEither<S, U> responseEither = new ResponseEither<>();
         ResponseErrorBuilder<S, U> errorBuilder = new ResponseErrorBuilder<>();
-        Resource<S, U> resource = route.getResource();
         Response<S> resourceResponse;
         Method method = request.getMethod();
 
         try {
             executeBetween(route.getBefore(), method, request, response);
-            resourceResponse = execute(method, resource, request, response);
+            resourceResponse = execute(request, response);
             executeBetween(route.getAfter(), method, request, resourceResponse);
         } catch (HaltException e) {
             errorBuilder = errorBuilder
@@ -165,30 +159,8 @@ public class RouteRun<S extends DefaultSession, U extends DefaultUser> implement
         return responseEither;
     }
 
-    protected Response<S> execute(Method method, Resource<S, U> resource, Request<S, U> request, Response<S> response) {
-
-        Response<S> resourceResponse = null;
-
-        if (method == Method.GET) {
-            resourceResponse = resource.get(request, response);
-        } else if (method == Method.POST) {
-            resourceResponse = resource.post(request, response);
-        } else if (method == Method.PUT) {
-            resourceResponse = resource.put(request, response);
-        } else if (method == Method.PATCH) {
-            resourceResponse = resource.patch(request, response);
-        } else if (method == Method.DELETE) {
-            resourceResponse = resource.delete(request, response);
-        } else if (method == Method.CONNECT) {
-            resourceResponse = resource.connect(request, response);
-        } else if (method == Method.OPTIONS) {
-            resourceResponse = resource.options(request, response);
-        } else if (method == Method.TRACE) {
-            resourceResponse = resource.trace(request, response);
-        } else if (method == Method.HEAD) {
-            resourceResponse = resource.head(request, response);
-        }
-        return resourceResponse;
+    protected Response<S> execute(Request<S, U> request, Response<S> response) {
+        return resourceMethod.invoke(request, response);
     }
 
     protected void executeBetween(List<Between<S, U>> betweens, Method method, Request<S, U> request, Response<S> response) throws HaltException {
@@ -216,4 +188,12 @@ public class RouteRun<S extends DefaultSession, U extends DefaultUser> implement
     public Map<StatusCode, Resource<S, U>> getErrorResources() {
         return errorResources;
     }
+
+    public ResourceMethod<S, U> getResourceMethod() {
+        return resourceMethod;
+    }
+
+    public Map<StatusCode, ResourceMethod<S, U>> getErrorResourceMethods() {
+        return errorResourceMethods;
+    }
 }
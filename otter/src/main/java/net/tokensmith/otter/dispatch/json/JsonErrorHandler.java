@@ -6,12 +6,13 @@ import net.tokensmith.otter.controller.entity.DefaultSession;
 import net.tokensmith.otter.controller.entity.DefaultUser;
 import net.tokensmith.otter.controller.entity.request.RestRequest;
 import net.tokensmith.otter.controller.entity.response.RestResponse;
+import net.tokensmith.otter.dispatch.RestResourceMethod;
 import net.tokensmith.otter.dispatch.entity.RestErrorRequest;
 import net.tokensmith.otter.dispatch.entity.RestErrorResponse;
+import net.tokensmith.otter.dispatch.factory.ResourceMethodFactory;
 import net.tokensmith.otter.dispatch.translator.RestErrorHandler;
 import net.tokensmith.otter.dispatch.translator.rest.RestRequestTranslator;
 import net.tokensmith.otter.dispatch.translator.rest.RestResponseTranslator;
-import net.tokensmith.otter.router.entity.Method;
 import net.tokensmith.otter.router.entity.io.Answer;
 import net.tokensmith.otter.translator.JsonTranslator;
 import net.tokensmith.otter.translator.exception.ToJsonException;
@@ -23,8 +24,11 @@ import java.util.Optional;
 
 public class JsonErrorHandler<S extends DefaultSession, U extends DefaultUser, P> implements RestErrorHandler<U> {
     protected static Logger LOGGER = LoggerFactory.getLogger(JsonErrorHandler.class);
+    private static ResourceMethodFactory resourceMethodFactory = new ResourceMethodFactory();
     private JsonTranslator<P> jsonTranslator;
     private RestResource<U, P> resource;
+    // picks the resource method with the request's method, it handles errors for all of a target's methods.
+    private RestResourceMethod<U, P> resourceMethod;
     private RestRequestTranslator<S, U, P> restRequestTranslator;
     private RestResponseTranslator<P> restResponseTranslator;
 
@@ -32,6 +36,7 @@ public class JsonErrorHandler<S extends DefaultSession, U extends DefaultUser, P
     public JsonErrorHandler(JsonTranslator<P> jsonTranslator, RestResource<U, P> resource, RestRequestTranslator<S, U, P> restRequestTranslator, RestResponseTranslator<P> restResponseTranslator) {
         this.jsonTranslator = jsonTranslator;
         this.resource = resource;
+        this.resourceMethod = resourceMethodFactory.makeRest(resource);
         this.restRequestTranslator = restRequestTranslator;
         this.restResponseTranslator = restResponseTranslator;
     }
@@ -40,7 +45,7 @@ public class JsonErrorHandler<S extends DefaultSession, U extends DefaultUser, P
     public Answer run(RestErrorRequest<U> request, RestErrorResponse response, Throwable cause) {
         RestRequest<U, P> requestToResource = restRequestTranslator.to(request, cause);
         RestResponse<P> responseToResource = restResponseTranslator.to(response);
-        RestResponse<P> responseFromResource = execute(resource, requestToResource, responseToResource);
+        RestResponse<P> responseFromResource = execute(requestToResource, responseToResource);
 
         Optional<byte[]> out = Optional.empty();
         Answer answer = restResponseTranslator.from(responseFromResource);
@@ -54,31 +59,8 @@ public class JsonErrorHandler<S extends DefaultSession, U extends DefaultUser, P
         return answer;
     }
 
-    protected RestResponse<P> execute(RestResource<U,P> resource, RestRequest<U, P> request, RestResponse<P> response) {
-        Method method = request.getMethod();
-        RestResponse<P> resourceResponse = null;
-
-        if (method == Method.GET) {
-            resourceResponse = resource.get(request, response);
-        } else if (method == Method.POST) {
-            resourceResponse = resource.post(request, response);
-        } else if (method == Method.PUT) {
-            resourceResponse = resource.put(request, response);
-        } else if (method == Method.PATCH) {
-            resourceResponse = resource.patch(request, response);
-        } else if (method == Method.DELETE) {
-            resourceResponse = resource.delete(request, response);
-        } else if (method == Method.CONNECT) {
-            resourceResponse = resource.connect(request, response);
-        } else if (method == Method.OPTIONS) {
-            resourceResponse = resource.options(request, response);
-        } else if (method == Method.TRACE) {
-            resourceResponse = resource.trace(request, response);
-        } else if (method == Method.HEAD) {
-            resourceResponse = resource.head(request, response);
-        }
-
-        return resourceResponse;
+    protected RestResponse<P> execute(RestRequest<U, P> request, RestResponse<P> response) {
+        return resourceMethod.invoke(request, response);
     }
 
     protected Optional<byte[]> payloadToBytes(Optional<P> payload) {
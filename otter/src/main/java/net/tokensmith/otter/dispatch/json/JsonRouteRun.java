@@ -1,56 +1,66 @@
 package net.tokensmith.otter.dispatch.json;
 
 
-import net.tokensmith.otter.controller.RestResource;
+import net.tokensmith.otter.controller.AsyncRestResource;
 import net.tokensmith.otter.controller.entity.DefaultSession;
 import net.tokensmith.otter.controller.entity.DefaultUser;
 import net.tokensmith.otter.controller.entity.StatusCode;
 import net.tokensmith.otter.controller.entity.request.RestRequest;
 import net.tokensmith.otter.controller.entity.response.RestResponse;
+import net.tokensmith.otter.dispatch.AsyncRestResourceMethod;
+import net.tokensmith.otter.dispatch.RestResourceMethod;
 import net.tokensmith.otter.dispatch.RouteRunner;
 import net.tokensmith.otter.dispatch.builder.RestResponseErrorBuilder;
 import net.tokensmith.otter.dispatch.entity.RestBtwnRequest;
 import net.tokensmith.otter.dispatch.entity.RestBtwnResponse;
 import net.tokensmith.otter.dispatch.entity.RestErrorRequest;
 import net.tokensmith.otter.dispatch.entity.RestErrorResponse;
+import net.tokensmith.otter.dispatch.entity.RestExchange;
 import net.tokensmith.otter.dispatch.entity.either.RestReponseEither;
 import net.tokensmith.otter.dispatch.entity.either.RestResponseError;
 import net.tokensmith.otter.dispatch.exception.ClientException;
 import net.tokensmith.otter.dispatch.exception.ServerException;
+import net.tokensmith.otter.dispatch.factory.ResourceMethodFactory;
 import net.tokensmith.otter.dispatch.json.validator.Validate;
 import net.tokensmith.otter.dispatch.json.validator.ValidateError;
 import net.tokensmith.otter.dispatch.json.validator.exception.ValidateException;
 import net.tokensmith.otter.dispatch.translator.RestErrorHandler;
-import net.tokensmith.otter.dispatch.translator.rest.RestBtwnRequestTranslator;
 import net.tokensmith.otter.dispatch.translator.rest.RestBtwnResponseTranslator;
 import net.tokensmith.otter.dispatch.translator.rest.RestErrorRequestTranslator;
 import net.tokensmith.otter.dispatch.translator.rest.RestErrorResponseTranslator;
-import net.tokensmith.otter.dispatch.translator.rest.RestRequestTranslator;
 import net.tokensmith.otter.dispatch.translator.rest.RestResponseTranslator;
 import net.tokensmith.otter.router.entity.Method;
 import net.tokensmith.otter.router.entity.RestRoute;
+import net.tokensmith.otter.router.entity.between.AsyncRestBetween;
 import net.tokensmith.otter.router.entity.between.RestBetween;
 import net.tokensmith.otter.router.entity.io.Answer;
 import net.tokensmith.otter.router.entity.io.Ask;
 import net.tokensmith.otter.router.exception.HaltException;
+import net.tokensmith.otter.translator.JsonTokenizer;
 import net.tokensmith.otter.translator.JsonTranslator;
+import net.tokensmith.otter.translator.LazyPayload;
 import net.tokensmith.otter.translator.exception.DeserializationException;
 import net.tokensmith.otter.translator.exception.ToJsonException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 
 public class JsonRouteRun<S extends DefaultSession, U extends DefaultUser, P> implements RouteRunner {
     protected static Logger LOGGER = LoggerFactory.getLogger(JsonRouteRun.class);
+    private static ResourceMethodFactory resourceMethodFactory = new ResourceMethodFactory();
     private RestRoute<S, U, P> restRoute;
+    // the resource method, bound when the route was built.
+    private RestResourceMethod<U, P> resourceMethod;
+    // the async resource method, null when the resource is not a AsyncRestResource.
+    private AsyncRestResourceMethod<U, P> asyncResourceMethod;
     private RestResponseTranslator<P> restResponseTranslator;
-    private RestRequestTranslator<S, U, P> restRequestTranslator;
-    private RestBtwnRequestTranslator<S, U, P> restBtwnRequestTranslator;
     private RestBtwnResponseTranslator<P> restBtwnResponseTranslator;
     private JsonTranslator<P> jsonTranslator;
     private Validate validate;
@@ -63,11 +73,21 @@ public class JsonRouteRun<S extends DefaultSession, U extends DefaultUser, P> im
     public JsonRouteRun() {
     }
 
-    public JsonRouteRun(RestRoute<S, U, P> restRoute, RestResponseTranslator<P> restResponseTranslator, RestRequestTranslator<S, U, P> restRequestTranslator, RestBtwnRequestTranslator<S, U, P> restBtwnRequestTranslator, RestBtwnResponseTranslator<P> restBtwnResponseTranslator, JsonTranslator<P> jsonTranslator, Validate validate, Map<StatusCode, RestErrorHandler<U>> errorHandlers, RestErrorRequestTranslator<S, U> errorRequestTranslator, RestErrorResponseTranslator errorResponseTranslator) {
+    /**
+     * Used when the route will be run for any method, such as dispatch errors. The resource method is picked
+     * with the request's method.
+     */
+    public JsonRouteRun(RestRoute<S, U, P> restRoute, RestResponseTranslator<P> restResponseTranslator, RestBtwnResponseTranslator<P> restBtwnResponseTranslator, JsonTranslator<P> jsonTranslator, Validate validate, Map<StatusCode, RestErrorHandler<U>> errorHandlers, RestErrorRequestTranslator<S, U> errorRequestTranslator, RestErrorResponseTranslator errorResponseTranslator) {
+        this(restRoute, restResponseTranslator, restBtwnResponseTranslator, jsonTranslator, validate, errorHandlers, errorRequestTranslator, errorResponseTranslator, null);
+    }
+
+    public JsonRouteRun(RestRoute<S, U, P> restRoute, RestResponseTranslator<P> restResponseTranslator, RestBtwnResponseTranslator<P> restBtwnResponseTranslator, JsonTranslator<P> jsonTranslator, Validate validate, Map<StatusCode, RestErrorHandler<U>> errorHandlers, RestErrorRequestTranslator<S, U> errorRequestTranslator, RestErrorResponseTranslator errorResponseTranslator, Method method) {
         this.restRoute = restRoute;
+        this.resourceMethod = resourceMethodFactory.makeRest(restRoute.getRestResource(), method);
+        if (restRoute.getRestResource() instanceof AsyncRestResource) {
+            this.asyncResourceMethod = resourceMethodFactory.makeAsyncRest((AsyncRestResource<U, P>) restRoute.getRestResource(), method);
+        }
         this.restResponseTranslator = restResponseTranslator;
-        this.restRequestTranslator = restRequestTranslator;
-        this.restBtwnRequestTranslator = restBtwnRequestTranslator;
         this.restBtwnResponseTranslator = restBtwnResponseTranslator;
         this.jsonTranslator = jsonTranslator;
         this.validate = validate;
@@ -89,40 +109,105 @@ public class JsonRouteRun<S extends DefaultSession, U extends DefaultUser, P> im
         return answer;
     }
 
+    /**
+     * Runs the route without waiting for a AsyncRestResource or AsyncRestBetween to complete. Routes whose
+     * resource is a RestResource are run.
+     *
+     * @param ask the request
+     * @param answer the response
+     * @return a stage of the answer, it completes exceptionally with a HaltException when the route halts.
+     */
+    @Override
+    public CompletionStage<Answer> runAsync(Ask ask, Answer answer) {
+        if (Objects.isNull(asyncResourceMethod)) {
+            return RouteRunner.super.runAsync(ask, answer);
+        }
+        return processAsync(ask, answer);
+    }
+
     protected Answer process(Ask ask, Answer answer) throws HaltException {
+        RestExchange<S, U, P> exchange;
+        try {
+            exchange = exchange(ask, answer);
+        } catch (ClientException e) {
+            return handleErrors(badRequest(e), ask, answer);
+        }
+
+        RestReponseEither<S, U, P> runResponse = executeResourceMethod(restRoute, exchange);
+        return toAnswer(runResponse, ask, answer);
+    }
+
+    protected CompletionStage<Answer> processAsync(Ask ask, Answer answer) {
+        RestExchange<S, U, P> exchange;
+        try {
+            exchange = exchange(ask, answer);
+        } catch (ClientException e) {
+            try {
+                return CompletableFuture.completedFuture(handleErrors(badRequest(e), ask, answer));
+            } catch (HaltException h) {
+                return CompletableFuture.failedFuture(h);
+            }
+        }
+
+        return executeResourceMethodAsync(restRoute, exchange).thenCompose(runResponse -> {
+            try {
+                return CompletableFuture.completedFuture(toAnswer(runResponse, ask, answer));
+            } catch (HaltException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        });
+    }
 
+    /**
+     * Reads and validates the request payload then makes the exchange for the betweens and the resource.
+     *
+     * @param ask the request
+     * @param answer the response
+     * @return the exchange
+     * @throws ClientException if the payload could not be read or violated constraints
+     */
+    protected RestExchange<S, U, P> exchange(Ask ask, Answer answer) throws ClientException {
         Optional<P> entity;
         try {
-            entity = to(ask.getBody());
+            if (ask.getBodyTokens().isPresent()) {
+                entity = to(ask.getBodyTokens().get());
+            } else {
+                entity = to(ask.getBody());
+            }
         } catch (DeserializationException e) {
-            // May want to consider an alternative to prevent duplicate returns in this method.
-            ClientException clientException = new ClientException("Could not serialize request body", e);
-            RestResponseError<S, U, P> error = new RestResponseErrorBuilder<S, U, P>()
-                    .cause(clientException)
-                    .errorType(RestResponseError.ErrorType.BAD_REQUEST)
-                    .build();
-            return handleErrors(error, ask, answer);
+            throw new ClientException("Could not serialize request body", e);
         }
 
         try {
             validate(entity);
         } catch (ValidateException e) {
-            // May want to consider an alternative to prevent duplicate returns in this method.
-            ClientException clientException = new ClientException("Payload violated constraints", e);
-            RestResponseError<S, U, P> error = new RestResponseErrorBuilder<S, U, P>()
-                    .cause(clientException)
-                    .errorType(RestResponseError.ErrorType.BAD_REQUEST)
-                    .build();
-            return handleErrors(error, ask, answer);
+            throw new ClientException("Payload violated constraints", e);
         }
 
-        RestBtwnRequest<S, U> btwnRequest = restBtwnRequestTranslator.to(ask);
-        RestBtwnResponse btwnResponse = restBtwnResponseTranslator.to(answer);
+        RestExchange<S, U, P> exchange = new RestExchange<>(ask, answer);
+        exchange.setPayload(entity);
+        if (Objects.nonNull(answer.getPayload()) && answer.getPayload().isPresent()) {
+            exchange.getBtwnResponse().setPayload(answer.getPayload());
+        }
+        return exchange;
+    }
 
-        RestReponseEither<S, U, P> runResponse = executeResourceMethod(restRoute, btwnRequest, btwnResponse, entity);
+    protected RestResponseError<S, U, P> badRequest(ClientException cause) {
+        return new RestResponseErrorBuilder<S, U, P>()
+                .cause(cause)
+                .errorType(RestResponseError.ErrorType.BAD_REQUEST)
+                .build();
+    }
 
+    protected Answer toAnswer(RestReponseEither<S, U, P> runResponse, Ask ask, Answer answer) throws HaltException {
         if (runResponse.getLeft().isPresent()) {
             answer = handleErrors(runResponse.getLeft().get(), ask, answer);
+        } else if (runResponse.getRight().isPresent() && runResponse.getRight().get().getStreamPayload().isPresent()) {
+            LOGGER.debug("using stream payload");
+            answer = restResponseTranslator.from(answer, runResponse.getRight().get());
+            answer.setStreamPayload(
+                Optional.of(jsonTranslator.stream(runResponse.getRight().get().getStreamPayload().get()))
+            );
         } else if (runResponse.getRight().isPresent() && runResponse.getRight().get().getRawPayload().isPresent()) {
             LOGGER.debug("using raw payload");
             answer = restResponseTranslator.from(answer, runResponse.getRight().get());
@@ -130,8 +215,7 @@ public class JsonRouteRun<S extends DefaultSession, U extends DefaultUser, P> im
         } else {
             LOGGER.debug("using typed payload");
             answer = restResponseTranslator.from(answer, runResponse.getRight().get());
-            Optional<byte[]> out = payloadToBytes(runResponse.getRight().get().getPayload());
-            answer.setPayload(out);
+            answer.setPayload(responseBytes(runResponse.getRight().get()));
         }
 
         return answer;
@@ -148,6 +232,17 @@ public class JsonRouteRun<S extends DefaultSession, U extends DefaultUser, P> im
         return makeEntity(body);
     }
 
+    /**
+     * Modularized so it can be overloaded for the dispatch error runner.
+     *
+     * @param bodyTokens the tokens of the request body
+     * @return Optional<P> an optional for the expected payload
+     * @throws DeserializationException if there was an issue serializing the body to the expected payload
+     */
+    protected Optional<P> to(JsonTokenizer bodyTokens) throws DeserializationException {
+        return Optional.of(jsonTranslator.from(bodyTokens));
+    }
+
     protected void validate(Optional<P> entity) throws ValidateException {
         if (entity.isPresent()) {
             List<ValidateError> errors = validate.validate(entity.get());
@@ -213,17 +308,19 @@ public class JsonRouteRun<S extends DefaultSession, U extends DefaultUser, P> im
      * type in order to handle exceptions. The handlers should have access to the various request and response objects
      * which are parameterized types. Exceptions cannot have generic typed parameters.
      *
+     * The betweens and the resource are given views of the exchange so nothing is copied between them.
+     *
      * @param route the route to execute.
-     * @param btwnRequest the request to pass before betweens.
-     * @param btwnResponse the response to pass to before betweens.
-     * @param entity the payload of the request.
+     * @param exchange the request, with its payload, and the response.
      * @return A RestReponseEither, if left is present then it executed correctly. If right is present then an
      * error occurred and it should be handled.
      */
-    protected RestReponseEither<S, U, P> executeResourceMethod(RestRoute<S, U, P> route, RestBtwnRequest<S, U> btwnRequest, RestBtwnResponse btwnResponse, Optional<P> entity) {
+    protected RestReponseEither<S, U, P> executeResourceMethod(RestRoute<S, U, P> route, RestExchange<S, U, P> exchange) {
 
         RestReponseEither<S, U, P> responseEither = new RestReponseEither<>();
         RestResponseErrorBuilder<S, U, P> errorBuilder = new RestResponseErrorBuilder<>();
+        RestBtwnRequest<S, U> btwnRequest = exchange.getBtwnRequest();
+        RestBtwnResponse btwnResponse = exchange.getBtwnResponse();
 
         RestRequest<U, P> requestForResource = null;
         RestResponse<P> responseForResource = null;
@@ -231,27 +328,26 @@ public class JsonRouteRun<S extends DefaultSession, U extends DefaultUser, P> im
         RestResponse<P> response = null;
 
         try {
-            RestResource<U, P> resource = route.getRestResource();
             Method method = btwnRequest.getMethod();
 
             executeBetween(route.getBefore(), method, btwnRequest, btwnResponse);
 
-            requestForResource = restRequestTranslator.to(btwnRequest, entity);
-            responseForResource = restResponseTranslator.to(btwnResponse);
+            requestForResource = exchange.getRequest();
+            responseForResource = exchange.getResponse();
 
-            resourceResponse = execute(method, resource, requestForResource, responseForResource);
+            resourceResponse = execute(requestForResource, responseForResource);
 
-            RestBtwnRequest<S, U> btwnRequestForAfter = restBtwnRequestTranslator.to(requestForResource);
-            Optional<byte[]> resourceResponsePayload = payloadToBytes(resourceResponse.getPayload());
-            RestBtwnResponse btwnResponseForAfter = restBtwnResponseTranslator.to(resourceResponse, resourceResponsePayload);
+            // only copied if the resource returned a response it made.
+            response = exchange.merge(resourceResponse);
 
-            executeBetween(route.getAfter(), method, btwnRequestForAfter, btwnResponseForAfter);
+            // serialized once, when the answer is made or if a after between reads it.
+            LazyPayload<P> resourceResponsePayload = new LazyPayload<>(response.getPayload(), jsonTranslator);
+            btwnResponse.setLazyPayload(resourceResponsePayload);
 
-            // in case a after between modified the response.
-            response = restResponseTranslator.to(btwnResponseForAfter);
+            executeBetween(route.getAfter(), method, btwnRequest, btwnResponse);
 
             // sets the response payload. Decides which payload to use in case a after between modified the payload.
-            setResponsePayload(resourceResponsePayload, btwnResponseForAfter.getPayload(), resourceResponse, response);
+            setResponsePayload(resourceResponsePayload, btwnResponse.getLazyPayload(), response);
 
         } catch (HaltException e) {
             errorBuilder = errorBuilder
@@ -286,56 +382,111 @@ public class JsonRouteRun<S extends DefaultSession, U extends DefaultUser, P> im
         return responseEither;
     }
 
-    protected RestResponse<P> execute(Method method, RestResource<U, P> resource, RestRequest<U, P> request, RestResponse<P> response) {
-
-        RestResponse<P> resourceResponse = null;
+    /**
+     * The async version of executeResourceMethod. Each between and the resource start when the one before it
+     * completed, a AsyncRestBetween or AsyncRestResource does not hold a thread while it is not complete.
+     *
+     * @param route the route to execute.
+     * @param exchange the request, with its payload, and the response.
+     * @return a stage of a RestReponseEither, it always completes normally.
+     */
+    protected CompletionStage<RestReponseEither<S, U, P>> executeResourceMethodAsync(RestRoute<S, U, P> route, RestExchange<S, U, P> exchange) {
+        RestBtwnRequest<S, U> btwnRequest = exchange.getBtwnRequest();
+        RestBtwnResponse btwnResponse = exchange.getBtwnResponse();
+        RestResponseErrorBuilder<S, U, P> errorBuilder = new RestResponseErrorBuilder<S, U, P>()
+                .btwnRequest(btwnRequest)
+                .btwnResponse(btwnResponse);
+        Method method = btwnRequest.getMethod();
+
+        return executeBetweenAsync(route.getBefore(), method, btwnRequest, btwnResponse)
+            .thenCompose(before -> {
+                RestRequest<U, P> requestForResource = exchange.getRequest();
+                RestResponse<P> responseForResource = exchange.getResponse();
+                errorBuilder.requestForResource(requestForResource).responseForResource(responseForResource);
+                return asyncResourceMethod.invoke(requestForResource, responseForResource);
+            })
+            .thenCompose(resourceResponse -> {
+                // only copied if the resource returned a response it made.
+                RestResponse<P> response = exchange.merge(resourceResponse);
+                errorBuilder.resourceResponse(resourceResponse).response(response);
+
+                LazyPayload<P> resourceResponsePayload = new LazyPayload<>(response.getPayload(), jsonTranslator);
+                btwnResponse.setLazyPayload(resourceResponsePayload);
+
+                return executeBetweenAsync(route.getAfter(), method, btwnRequest, btwnResponse).thenCompose(after -> {
+                    try {
+                        setResponsePayload(resourceResponsePayload, btwnResponse.getLazyPayload(), response);
+                    } catch (DeserializationException e) {
+                        return CompletableFuture.failedFuture(e);
+                    }
+                    return CompletableFuture.completedFuture(response);
+                });
+            })
+            .handle((response, t) -> {
+                Throwable e = (t instanceof CompletionException && Objects.nonNull(t.getCause())) ? t.getCause() : t;
+                if (e instanceof HaltException) {
+                    errorBuilder.cause(e).errorType(RestResponseError.ErrorType.HALT);
+                } else if (Objects.nonNull(e)) {
+                    // it's more descriptive to use ServerException, other than e.
+                    errorBuilder.cause(new ServerException("", e)).errorType(RestResponseError.ErrorType.SERVER);
+                }
+
+                RestResponseError<S, U, P> error = errorBuilder.build();
+                RestReponseEither<S, U, P> responseEither = new RestReponseEither<>();
+                responseEither.setLeft(Objects.isNull(error.getCause()) ? Optional.empty() : Optional.of(error));
+                responseEither.setRight(Objects.isNull(error.getCause()) ? Optional.of(response) : Optional.empty());
+                return responseEither;
+            });
+    }
 
-        if (method == Method.GET) {
-            resourceResponse = resource.get(request, response);
-        } else if (method == Method.POST) {
-            resourceResponse = resource.post(request, response);
-        } else if (method == Method.PUT) {
-            resourceResponse = resource.put(request, response);
-        } else if (method == Method.PATCH) {
-            resourceResponse = resource.patch(request, response);
-        } else if (method == Method.DELETE) {
-            resourceResponse = resource.delete(request, response);
-        } else if (method == Method.CONNECT) {
-            resourceResponse = resource.connect(request, response);
-        } else if (method == Method.OPTIONS) {
-            resourceResponse = resource.options(request, response);
-        } else if (method == Method.TRACE) {
-            resourceResponse = resource.trace(request, response);
-        } else if (method == Method.HEAD) {
-            resourceResponse = resource.head(request, response);
+    /**
+     * Waits for a AsyncRestResource when the route is run with run instead of runAsync.
+     *
+     * @param request the request for the resource
+     * @param response the response for the resource
+     * @return the resource's response
+     */
+    protected RestResponse<P> execute(RestRequest<U, P> request, RestResponse<P> response) {
+        if (Objects.nonNull(asyncResourceMethod)) {
+            return asyncResourceMethod.invoke(request, response).toCompletableFuture().join();
         }
-        return resourceResponse;
+        return resourceMethod.invoke(request, response);
     }
 
-    protected void setResponsePayload(Optional<byte[]> payload, Optional<byte[]> afterPayload, RestResponse<P> resourceResponse, RestResponse<P> response) throws DeserializationException {
+    protected void setResponsePayload(LazyPayload<P> payload, LazyPayload<?> afterPayload, RestResponse<P> response) throws DeserializationException {
         // if a after between modified the response payload then it needs to re-hydrate.
         if (isPayloadDirty(payload, afterPayload)) {
             Optional<P> responseEntity;
-            responseEntity = makeEntity(afterPayload);
+            responseEntity = makeEntity(afterPayload.getBytes());
             response.setPayload(responseEntity);
+            response.setLazyPayload(new LazyPayload<>(responseEntity, afterPayload.getBytes()));
         } else {
-            response.setPayload(resourceResponse.getPayload());
+            response.setPayload(payload.getEntity());
+            response.setLazyPayload(payload);
         }
     }
 
-    protected boolean isPayloadDirty(Optional<byte[]> resourcePayload, Optional<byte[]> btwnPayload)  {
-        boolean isDirty = false;
-
-        if (!resourcePayload.isPresent() && btwnPayload.isPresent()) {
-            // resource has no payload but btwn has one.
-            isDirty = true;
-        } else if (resourcePayload.isPresent() &&
-                btwnPayload.isPresent() &&
-                ! Arrays.equals(resourcePayload.get(), btwnPayload.get())) {
-            // both have payloads but they are not equal.
-            isDirty = true;
+    /**
+     * A after between modified the payload if it replaced it with one that is present. The payloads are
+     * not compared so the resource's payload does not need to be serialized.
+     *
+     * @param resourcePayload the payload from the resource
+     * @param btwnPayload the payload after the after betweens
+     * @return true if the after betweens modified the payload
+     */
+    protected boolean isPayloadDirty(LazyPayload<P> resourcePayload, LazyPayload<?> btwnPayload)  {
+        return resourcePayload != btwnPayload && btwnPayload.getBytes().isPresent();
+    }
+
+    /**
+     * @param response the response from the after betweens
+     * @return the json of the response's payload, it is only serialized if it has not been already.
+     */
+    protected Optional<byte[]> responseBytes(RestResponse<P> response) {
+        if (Objects.nonNull(response.getLazyPayload())) {
+            return response.getLazyPayload().getBytes();
         }
-        return isDirty;
+        return payloadToBytes(response.getPayload());
     }
 
     protected void executeBetween(List<RestBetween<S, U>> betweens, Method method, RestBtwnRequest<S, U> btwnRequest, RestBtwnResponse btwnResponse) throws HaltException {
@@ -349,6 +500,26 @@ public class JsonRouteRun<S extends DefaultSession, U extends DefaultUser, P> im
         }
     }
 
+    protected CompletionStage<Void> executeBetweenAsync(List<RestBetween<S, U>> betweens, Method method, RestBtwnRequest<S, U> btwnRequest, RestBtwnResponse btwnResponse) {
+        CompletionStage<Void> stage = CompletableFuture.completedFuture(null);
+        for(RestBetween<S, U> between: betweens) {
+            stage = stage.thenCompose(previous -> executeBetweenAsync(between, method, btwnRequest, btwnResponse));
+        }
+        return stage;
+    }
+
+    protected CompletionStage<Void> executeBetweenAsync(RestBetween<S, U> between, Method method, RestBtwnRequest<S, U> btwnRequest, RestBtwnResponse btwnResponse) {
+        if (between instanceof AsyncRestBetween) {
+            return ((AsyncRestBetween<S, U>) between).processAsync(method, btwnRequest, btwnResponse);
+        }
+        try {
+            between.process(method, btwnRequest, btwnResponse);
+        } catch (HaltException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
     protected Optional<byte[]> payloadToBytes(Optional<P> payload) {
         Optional<byte[]> out = Optional.empty();
 
@@ -367,6 +538,14 @@ public class JsonRouteRun<S extends DefaultSession, U extends DefaultUser, P> im
         return restRoute;
     }
 
+    public RestResourceMethod<U, P> getResourceMethod() {
+        return resourceMethod;
+    }
+
+    public AsyncRestResourceMethod<U, P> getAsyncResourceMethod() {
+        return asyncResourceMethod;
+    }
+
     // only used for tests to make sure it get built accurately.
     public Validate getValidate() {
         return validate;
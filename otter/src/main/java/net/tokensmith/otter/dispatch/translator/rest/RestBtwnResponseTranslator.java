@@ -3,6 +3,7 @@ package net.tokensmith.otter.dispatch.translator.rest;
 import net.tokensmith.otter.controller.entity.response.RestResponse;
 import net.tokensmith.otter.dispatch.entity.RestBtwnResponse;
 import net.tokensmith.otter.router.entity.io.Answer;
+import net.tokensmith.otter.translator.LazyPayload;
 
 import java.util.Optional;
 
@@ -31,13 +32,13 @@ public class RestBtwnResponseTranslator<P> {
     }
 
     // outbound
-    public RestBtwnResponse to(RestResponse<P> from, Optional<byte[]> fromPayload) {
+    public RestBtwnResponse to(RestResponse<P> from, LazyPayload<P> fromPayload) {
         RestBtwnResponse to = new RestBtwnResponse();
         to.setStatusCode(from.getStatusCode());
         to.setHeaders(from.getHeaders());
         to.setCookies(from.getCookies());
         to.setRawPayload(from.getRawPayload());
-        to.setPayload(fromPayload);
+        to.setLazyPayload(fromPayload);
 
         return to;
     }
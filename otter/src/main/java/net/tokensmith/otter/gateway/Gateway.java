@@ -34,7 +34,7 @@ public class Gateway {
     }
 
     protected Location add(Dispatcher dispatcher, Method method, Location location) {
-        dispatcher.locations(method).add(location);
+        dispatcher.add(method, location);
         return location;
     }
 
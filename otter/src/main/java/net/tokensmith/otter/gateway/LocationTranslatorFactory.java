@@ -14,7 +14,11 @@ import net.tokensmith.otter.router.factory.BetweenFlyweight;
 import net.tokensmith.otter.security.Halt;
 import net.tokensmith.otter.security.builder.BetweenBuilder;
 import net.tokensmith.otter.security.builder.entity.Betweens;
+import net.tokensmith.otter.security.config.SecurityAppFactory;
+import net.tokensmith.otter.security.csrf.CsrfFormat;
 import net.tokensmith.otter.security.exception.SessionCtorException;
+import net.tokensmith.otter.security.session.cache.SessionCache;
+import net.tokensmith.otter.security.session.store.SessionStore;
 import net.tokensmith.otter.translator.config.TranslatorAppFactory;
 
 import java.util.List;
@@ -28,10 +32,13 @@ import java.util.function.BiFunction;
  * This is not in OtterAppFactory due to it's complexity
  */
 public class LocationTranslatorFactory {
+    private static SecurityAppFactory securityAppFactory = new SecurityAppFactory();
     private Shape shape;
+    private TranslatorAppFactory translatorAppFactory;
 
     public LocationTranslatorFactory(Shape shape) {
         this.shape = shape;
+        this.translatorAppFactory = new TranslatorAppFactory(shape.getJsonAcceleration());
     }
 
     public <S extends DefaultSession, U extends DefaultUser> LocationTranslator<S, U> make(TranslatorConfig<S, U> config) throws SessionCtorException {
@@ -42,7 +49,9 @@ public class LocationTranslatorFactory {
                     config.getLabelAfter(),
                     config.getBefores(),
                     config.getAfters(),
-                    config.getOnHalts()
+                    config.getOnHalts(),
+                    config.getSessionStore(),
+                    config.getCsrfFormat()
                 ),
                 config.getErrorResources(),
                 config.getDispatchErrors(),
@@ -50,6 +59,14 @@ public class LocationTranslatorFactory {
         );
     }
 
+    public <S, U> BetweenFlyweight<S, U> betweenFlyweight(Class<S> sessionClazz, Map<Label, List<Between<S,U>>> labelBefore, Map<Label, List<Between<S,U>>> labelAfter, List<Between<S, U>> befores, List<Between<S, U>> afters, Map<Halt, BiFunction<Response<S>, HaltException, Response<S>>> onHalts) throws SessionCtorException {
+        return betweenFlyweight(sessionClazz, labelBefore, labelAfter, befores, afters, onHalts, null);
+    }
+
+    public <S, U> BetweenFlyweight<S, U> betweenFlyweight(Class<S> sessionClazz, Map<Label, List<Between<S,U>>> labelBefore, Map<Label, List<Between<S,U>>> labelAfter, List<Between<S, U>> befores, List<Between<S, U>> afters, Map<Halt, BiFunction<Response<S>, HaltException, Response<S>>> onHalts, SessionStore sessionStore) throws SessionCtorException {
+        return betweenFlyweight(sessionClazz, labelBefore, labelAfter, befores, afters, onHalts, sessionStore, CsrfFormat.JWT);
+    }
+
     /**
      * Construct a flyweight for betweens that will be used when a Target is translated to a Location. Each target that
      * is translated will use the same flyweight to add csrf, session, and authentication betweens to a Location.
@@ -61,28 +78,33 @@ public class LocationTranslatorFactory {
      * @param befores before betweens that will be used in the flyweight.
      * @param afters after betweens that will be used in the flyweight.
      * @param onHalts a map of halt handlers
+     * @param sessionStore where to keep sessions, null to keep them in the session cookie.
+     * @param csrfFormat the format of csrf values.
      * @param <S> Session
      * @param <U> User
      * @return BetweenFlyweight that will be used the LocationTranslator.
      * @throws SessionCtorException if S does not have a copy constructor.
      */
-    public <S, U> BetweenFlyweight<S, U> betweenFlyweight(Class<S> sessionClazz, Map<Label, List<Between<S,U>>> labelBefore, Map<Label, List<Between<S,U>>> labelAfter, List<Between<S, U>> befores, List<Between<S, U>> afters, Map<Halt, BiFunction<Response<S>, HaltException, Response<S>>> onHalts) throws SessionCtorException {
-        TranslatorAppFactory appFactory = new TranslatorAppFactory();
+    public <S, U> BetweenFlyweight<S, U> betweenFlyweight(Class<S> sessionClazz, Map<Label, List<Between<S,U>>> labelBefore, Map<Label, List<Between<S,U>>> labelAfter, List<Between<S, U>> befores, List<Between<S, U>> afters, Map<Halt, BiFunction<Response<S>, HaltException, Response<S>>> onHalts, SessionStore sessionStore, CsrfFormat csrfFormat) throws SessionCtorException {
+        TranslatorAppFactory appFactory = translatorAppFactory;
 
         // 188: is this the right spot? add defaults.
         if (Objects.isNull(labelBefore.get(Label.CSRF_PREPARE)) || labelBefore.get(Label.CSRF_PREPARE).isEmpty()) {
-            Betweens<S, U> csrfPrepare = csrfPrepare(appFactory);
+            Betweens<S, U> csrfPrepare = csrfPrepare(appFactory, csrfFormat);
             labelBefore.put(Label.CSRF_PREPARE, csrfPrepare.getBefore());
         }
 
         if (Objects.isNull(labelBefore.get(Label.CSRF_PROTECT)) || labelBefore.get(Label.CSRF_PROTECT).isEmpty()) {
-            Betweens<S, U> csrfProtect = csrfProtect(appFactory, onHalts);
+            Betweens<S, U> csrfProtect = csrfProtect(appFactory, onHalts, csrfFormat);
             labelBefore.put(Label.CSRF_PROTECT, csrfProtect.getBefore());
         }
 
+        // required and optional sessions share the cache, null if sessions are not cached or they are stored.
+        SessionCache<S> sessionCache = Objects.isNull(sessionStore) ? securityAppFactory.sessionCache(shape.getSessionCache()) : null;
+
         // 188: should these only run if needed?
-        Betweens<S, U> session = session(appFactory, sessionClazz, onHalts);
-        Betweens<S, U> sessionOptional = sessionOptional(appFactory, sessionClazz, onHalts);
+        Betweens<S, U> session = session(appFactory, sessionClazz, onHalts, sessionCache, sessionStore);
+        Betweens<S, U> sessionOptional = sessionOptional(appFactory, sessionClazz, onHalts, sessionCache, sessionStore);
 
         if (Objects.isNull(labelBefore.get(Label.SESSION_OPTIONAL)) || labelBefore.get(Label.SESSION_OPTIONAL).isEmpty()) {
             labelBefore.put(Label.SESSION_OPTIONAL, sessionOptional.getBefore());
@@ -108,30 +130,32 @@ public class LocationTranslatorFactory {
         );
     }
 
-    protected <S, U> Betweens<S, U> csrfPrepare(TranslatorAppFactory appFactory) {
+    protected <S, U> Betweens<S, U> csrfPrepare(TranslatorAppFactory appFactory, CsrfFormat csrfFormat) {
         return new BetweenBuilder<S, U>()
                 .routerAppFactory(appFactory)
                 .signKey(shape.getSignkey())
                 .rotationSignKeys(shape.getRotationSignKeys())
                 .csrfCookieConfig(shape.getCsrfCookie())
+                .csrfFormat(csrfFormat)
                 .csrfPrepare()
                 .build();
 
     }
 
-    protected <S, U> Betweens<S, U> csrfProtect(TranslatorAppFactory appFactory, Map<Halt, BiFunction<Response<S>, HaltException, Response<S>>> onHalts) {
+    protected <S, U> Betweens<S, U> csrfProtect(TranslatorAppFactory appFactory, Map<Halt, BiFunction<Response<S>, HaltException, Response<S>>> onHalts, CsrfFormat csrfFormat) {
         return new BetweenBuilder<S, U>()
                 .routerAppFactory(appFactory)
                 .signKey(shape.getSignkey())
                 .rotationSignKeys(shape.getRotationSignKeys())
                 .csrfCookieConfig(shape.getCsrfCookie())
+                .csrfFormat(csrfFormat)
                 .onHalts(onHalts)
                 .csrfProtect()
                 .build();
 
     }
 
-    protected <S, U> Betweens<S, U> session(TranslatorAppFactory appFactory, Class<S> sessionClazz, Map<Halt, BiFunction<Response<S>, HaltException, Response<S>>> onHalts) throws SessionCtorException {
+    protected <S, U> Betweens<S, U> session(TranslatorAppFactory appFactory, Class<S> sessionClazz, Map<Halt, BiFunction<Response<S>, HaltException, Response<S>>> onHalts, SessionCache<S> sessionCache, SessionStore sessionStore) throws SessionCtorException {
         return new BetweenBuilder<S, U>()
                 .routerAppFactory(appFactory)
                 .encKey(shape.getEncKey())
@@ -139,12 +163,17 @@ public class LocationTranslatorFactory {
                 .sessionClass(sessionClazz)
                 .sessionCookieConfig(shape.getSessionCookie())
                 .onHalts(onHalts)
+                .sessionCache(sessionCache)
+                .sessionCodec(shape.getSessionCodec())
+                .signKey(shape.getSignkey())
+                .rotationSignKeys(shape.getRotationSignKeys())
+                .sessionStore(sessionStore)
                 .session()
                 .build();
     }
 
 
-    protected <S, U> Betweens<S, U> sessionOptional(TranslatorAppFactory appFactory, Class<S> sessionClazz, Map<Halt, BiFunction<Response<S>, HaltException, Response<S>>> onHalts) throws SessionCtorException {
+    protected <S, U> Betweens<S, U> sessionOptional(TranslatorAppFactory appFactory, Class<S> sessionClazz, Map<Halt, BiFunction<Response<S>, HaltException, Response<S>>> onHalts, SessionCache<S> sessionCache, SessionStore sessionStore) throws SessionCtorException {
         return new BetweenBuilder<S, U>()
                 .routerAppFactory(appFactory)
                 .encKey(shape.getEncKey())
@@ -152,6 +181,11 @@ public class LocationTranslatorFactory {
                 .sessionClass(sessionClazz)
                 .sessionCookieConfig(shape.getSessionCookie())
                 .onHalts(onHalts)
+                .sessionCache(sessionCache)
+                .sessionCodec(shape.getSessionCodec())
+                .signKey(shape.getSignkey())
+                .rotationSignKeys(shape.getRotationSignKeys())
+                .sessionStore(sessionStore)
                 .optionalSession()
                 .build();
     }
@@ -13,6 +13,10 @@ import net.tokensmith.otter.router.factory.RestBetweenFlyweight;
 import net.tokensmith.otter.security.Halt;
 import net.tokensmith.otter.security.builder.RestBetweenBuilder;
 import net.tokensmith.otter.security.builder.entity.RestBetweens;
+import net.tokensmith.otter.security.config.SecurityAppFactory;
+import net.tokensmith.otter.security.csrf.CsrfFormat;
+import net.tokensmith.otter.security.session.cache.SessionCache;
+import net.tokensmith.otter.security.session.store.SessionStore;
 import net.tokensmith.otter.translator.config.TranslatorAppFactory;
 
 import java.util.List;
@@ -25,10 +29,13 @@ import java.util.function.BiFunction;
  * This is not in OtterAppFactory because it follows the same pattern as its sibling, LocationTranslatorFactory.
  */
 public class RestLocationTranslatorFactory {
+    private static SecurityAppFactory securityAppFactory = new SecurityAppFactory();
     private Shape shape;
+    private TranslatorAppFactory translatorAppFactory;
 
     public RestLocationTranslatorFactory(Shape shape) {
         this.shape = shape;
+        this.translatorAppFactory = new TranslatorAppFactory(shape.getJsonAcceleration());
     }
 
     public <S extends DefaultSession, U extends DefaultUser, P> RestLocationTranslator<S, U, P> make(RestTranslatorConfig<S, U> config) {
@@ -39,16 +46,27 @@ public class RestLocationTranslatorFactory {
                     config.getLabelAfter(),
                     config.getBefores(),
                     config.getAfters(),
-                    config.getOnHalts()
+                    config.getOnHalts(),
+                    config.getSessionStore(),
+                    config.getCsrfFormat()
                 ),
                 config.getRestErrors(),
                 config.getDefaultErrors(),
                 config.getDispatchErrors(),
                 config.getDefaultDispatchErrors(),
-                config.getValidate()
+                config.getValidate(),
+                translatorAppFactory
         );
     }
 
+    public <S, U> RestBetweenFlyweight<S, U> restBetweenFlyweight(Class<S> sessionClazz, Map<Label, List<RestBetween<S, U>>> labelBefore, Map<Label, List<RestBetween<S, U>>> labelAfter, List<RestBetween<S, U>> befores, List<RestBetween<S, U>> afters, Map<Halt, BiFunction<RestBtwnResponse, HaltException, RestBtwnResponse>> onHalts) {
+        return restBetweenFlyweight(sessionClazz, labelBefore, labelAfter, befores, afters, onHalts, null);
+    }
+
+    public <S, U> RestBetweenFlyweight<S, U> restBetweenFlyweight(Class<S> sessionClazz, Map<Label, List<RestBetween<S, U>>> labelBefore, Map<Label, List<RestBetween<S, U>>> labelAfter, List<RestBetween<S, U>> befores, List<RestBetween<S, U>> afters, Map<Halt, BiFunction<RestBtwnResponse, HaltException, RestBtwnResponse>> onHalts, SessionStore sessionStore) {
+        return restBetweenFlyweight(sessionClazz, labelBefore, labelAfter, befores, afters, onHalts, sessionStore, CsrfFormat.JWT);
+    }
+
     /**
      * Construct a flyweight for betweens that will be used when a RestTarget is translated to a Location. Each rest target
      * that is translated will use the same flyweight to add authentication betweens to a Location.
@@ -60,22 +78,27 @@ public class RestLocationTranslatorFactory {
      * @param befores before betweens that will be used in the flyweight.
      * @param afters after betweens that will be used in the flyweight.
      * @param onHalts a map of halt handlers
+     * @param sessionStore where to keep sessions, null to keep them in the session cookie.
+     * @param csrfFormat the format of csrf values.
      * @param <S> Session
      * @param <U> User
      * @return RestBetweenFlyweight that will be used in the RestLocationTranslator.
      */
-    public <S, U> RestBetweenFlyweight<S, U> restBetweenFlyweight(Class<S> sessionClazz, Map<Label, List<RestBetween<S, U>>> labelBefore, Map<Label, List<RestBetween<S, U>>> labelAfter, List<RestBetween<S, U>> befores, List<RestBetween<S, U>> afters, Map<Halt, BiFunction<RestBtwnResponse, HaltException, RestBtwnResponse>> onHalts) {
-        TranslatorAppFactory appFactory = new TranslatorAppFactory();
+    public <S, U> RestBetweenFlyweight<S, U> restBetweenFlyweight(Class<S> sessionClazz, Map<Label, List<RestBetween<S, U>>> labelBefore, Map<Label, List<RestBetween<S, U>>> labelAfter, List<RestBetween<S, U>> befores, List<RestBetween<S, U>> afters, Map<Halt, BiFunction<RestBtwnResponse, HaltException, RestBtwnResponse>> onHalts, SessionStore sessionStore, CsrfFormat csrfFormat) {
+        TranslatorAppFactory appFactory = translatorAppFactory;
 
         // 188: is this the right spot? add defaults.
         if (Objects.isNull(labelBefore.get(Label.CSRF_PREPARE)) || labelBefore.get(Label.CSRF_PROTECT).isEmpty()) {
-            RestBetweens<S, U> csrfProtect = csrfProtect(appFactory, onHalts);
+            RestBetweens<S, U> csrfProtect = csrfProtect(appFactory, onHalts, csrfFormat);
             labelBefore.put(Label.CSRF_PROTECT, csrfProtect.getBefore());
         }
 
+        // required and optional sessions share the cache, null if sessions are not cached or they are stored.
+        SessionCache<S> sessionCache = Objects.isNull(sessionStore) ? securityAppFactory.sessionCache(shape.getSessionCache()) : null;
+
         // 188: should these only run if needed?
-        RestBetweens<S, U> session = session(appFactory, sessionClazz, onHalts);
-        RestBetweens<S, U> sessionOptional = sessionOptional(appFactory, sessionClazz, onHalts);
+        RestBetweens<S, U> session = session(appFactory, sessionClazz, onHalts, sessionCache, sessionStore);
+        RestBetweens<S, U> sessionOptional = sessionOptional(appFactory, sessionClazz, onHalts, sessionCache, sessionStore);
 
         if (Objects.isNull(labelBefore.get(Label.SESSION_OPTIONAL)) || labelBefore.get(Label.SESSION_OPTIONAL).isEmpty()) {
             labelBefore.put(Label.SESSION_OPTIONAL, sessionOptional.getBefore());
@@ -101,7 +124,7 @@ public class RestLocationTranslatorFactory {
         );
     }
 
-    protected <S, U> RestBetweens<S, U> session(TranslatorAppFactory appFactory, Class<S> sessionClazz, Map<Halt, BiFunction<RestBtwnResponse, HaltException, RestBtwnResponse>> onHalts) {
+    protected <S, U> RestBetweens<S, U> session(TranslatorAppFactory appFactory, Class<S> sessionClazz, Map<Halt, BiFunction<RestBtwnResponse, HaltException, RestBtwnResponse>> onHalts, SessionCache<S> sessionCache, SessionStore sessionStore) {
         return new RestBetweenBuilder<S, U>()
                 .routerAppFactory(appFactory)
                 .encKey(shape.getEncKey())
@@ -109,11 +132,16 @@ public class RestLocationTranslatorFactory {
                 .sessionCookieConfig(shape.getSessionCookie())
                 .sessionClazz(sessionClazz)
                 .onHalts(onHalts)
+                .sessionCache(sessionCache)
+                .sessionCodec(shape.getSessionCodec())
+                .signKey(shape.getSignkey())
+                .rotationSignKeys(shape.getRotationSignKeys())
+                .sessionStore(sessionStore)
                 .session()
                 .build();
     }
 
-    protected <S, U> RestBetweens<S, U> sessionOptional(TranslatorAppFactory appFactory, Class<S> sessionClazz, Map<Halt, BiFunction<RestBtwnResponse, HaltException, RestBtwnResponse>> onHalts) {
+    protected <S, U> RestBetweens<S, U> sessionOptional(TranslatorAppFactory appFactory, Class<S> sessionClazz, Map<Halt, BiFunction<RestBtwnResponse, HaltException, RestBtwnResponse>> onHalts, SessionCache<S> sessionCache, SessionStore sessionStore) {
         return new RestBetweenBuilder<S, U>()
                 .routerAppFactory(appFactory)
                 .encKey(shape.getEncKey())
@@ -121,16 +149,22 @@ public class RestLocationTranslatorFactory {
                 .sessionCookieConfig(shape.getSessionCookie())
                 .sessionClazz(sessionClazz)
                 .onHalts(onHalts)
+                .sessionCache(sessionCache)
+                .sessionCodec(shape.getSessionCodec())
+                .signKey(shape.getSignkey())
+                .rotationSignKeys(shape.getRotationSignKeys())
+                .sessionStore(sessionStore)
                 .optionalSession()
                 .build();
     }
 
-    protected <S, U> RestBetweens<S, U> csrfProtect(TranslatorAppFactory appFactory, Map<Halt, BiFunction<RestBtwnResponse, HaltException, RestBtwnResponse>> onHalts) {
+    protected <S, U> RestBetweens<S, U> csrfProtect(TranslatorAppFactory appFactory, Map<Halt, BiFunction<RestBtwnResponse, HaltException, RestBtwnResponse>> onHalts, CsrfFormat csrfFormat) {
         return new RestBetweenBuilder<S, U>()
                 .routerAppFactory(appFactory)
                 .signKey(shape.getSignkey())
                 .rotationSignKeys(shape.getRotationSignKeys())
                 .csrfCookieConfig(shape.getCsrfCookie())
+                .csrfFormat(csrfFormat)
                 .onHalts(onHalts)
                 .csrfProtect()
                 .build();
@@ -11,6 +11,8 @@ import net.tokensmith.otter.gateway.entity.Label;
 import net.tokensmith.otter.router.entity.between.Between;
 import net.tokensmith.otter.router.exception.HaltException;
 import net.tokensmith.otter.security.Halt;
+import net.tokensmith.otter.security.csrf.CsrfFormat;
+import net.tokensmith.otter.security.session.store.SessionStore;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -35,6 +37,9 @@ public class GroupBuilder<S extends DefaultSession, U extends DefaultUser> {
 
     // halts - custom halt handlers for security betweens
     private Map<Halt, BiFunction<Response<S>, HaltException, Response<S>>> onHalts = new HashMap<>();
+    // optional, null when sessions are kept in the session cookie.
+    private SessionStore sessionStore;
+    private CsrfFormat csrfFormat = CsrfFormat.JWT;
 
     public GroupBuilder<S, U> name(String name) {
         this.name = name;
@@ -87,6 +92,30 @@ public class GroupBuilder<S extends DefaultSession, U extends DefaultUser> {
         return this;
     }
 
+    /**
+     * Keeps the sessions of the group in sessionStore instead of the session cookie, the session cookie
+     * will be a signed session id.
+     *
+     * @param sessionStore where to keep sessions
+     * @return this
+     */
+    public GroupBuilder<S, U> sessionStore(SessionStore sessionStore) {
+        this.sessionStore = sessionStore;
+        return this;
+    }
+
+    /**
+     * The format of the csrf cookie and form values, JWT by default. COMPACT values are smaller and are not
+     * json, see CompactCSRF. Groups that share the csrf cookie should use the same format.
+     *
+     * @param csrfFormat the format of csrf values
+     * @return this
+     */
+    public GroupBuilder<S, U> csrfFormat(CsrfFormat csrfFormat) {
+        this.csrfFormat = csrfFormat;
+        return this;
+    }
+
     public Group<S, U> build() {
         return new Group<S, U>(
                 name,
@@ -97,7 +126,9 @@ public class GroupBuilder<S extends DefaultSession, U extends DefaultUser> {
                 afters,
                 errorResources,
                 dispatchErrors,
-                onHalts
+                onHalts,
+                sessionStore,
+            csrfFormat
         );
     }
 }
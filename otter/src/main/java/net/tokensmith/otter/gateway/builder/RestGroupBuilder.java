@@ -12,6 +12,8 @@ import net.tokensmith.otter.gateway.entity.rest.RestGroup;
 import net.tokensmith.otter.router.entity.between.RestBetween;
 import net.tokensmith.otter.router.exception.HaltException;
 import net.tokensmith.otter.security.Halt;
+import net.tokensmith.otter.security.csrf.CsrfFormat;
+import net.tokensmith.otter.security.session.store.SessionStore;
 import net.tokensmith.otter.translatable.Translatable;
 
 import java.util.ArrayList;
@@ -38,6 +40,9 @@ public class RestGroupBuilder<S extends DefaultSession, U extends DefaultUser> {
     private Map<StatusCode, RestErrorTarget<S, U, ? extends Translatable>> dispatchErrors = new HashMap<>();
     // halts - custom halt handlers for security betweens
     private Map<Halt, BiFunction<RestBtwnResponse, HaltException, RestBtwnResponse>> onHalts = new HashMap<>();
+    // optional, null when sessions are kept in the session cookie.
+    private SessionStore sessionStore;
+    private CsrfFormat csrfFormat = CsrfFormat.JWT;
 
     public RestGroupBuilder<S, U> name(String name) {
         this.name = name;
@@ -91,6 +96,30 @@ public class RestGroupBuilder<S extends DefaultSession, U extends DefaultUser> {
         return this;
     }
 
+    /**
+     * Keeps the sessions of the group in sessionStore instead of the session cookie, the session cookie
+     * will be a signed session id.
+     *
+     * @param sessionStore where to keep sessions
+     * @return this
+     */
+    public RestGroupBuilder<S, U> sessionStore(SessionStore sessionStore) {
+        this.sessionStore = sessionStore;
+        return this;
+    }
+
+    /**
+     * The format of the csrf cookie and form values, JWT by default. COMPACT values are smaller and are not
+     * json, see CompactCSRF. Groups that share the csrf cookie should use the same format.
+     *
+     * @param csrfFormat the format of csrf values
+     * @return this
+     */
+    public RestGroupBuilder<S, U> csrfFormat(CsrfFormat csrfFormat) {
+        this.csrfFormat = csrfFormat;
+        return this;
+    }
+
     public RestGroup<S, U> build() {
         return new RestGroup<>(
             name,
@@ -101,7 +130,9 @@ public class RestGroupBuilder<S extends DefaultSession, U extends DefaultUser> {
             afters,
             restErrors,
             dispatchErrors,
-            onHalts
+            onHalts,
+            sessionStore,
+            csrfFormat
         );
     }
 }
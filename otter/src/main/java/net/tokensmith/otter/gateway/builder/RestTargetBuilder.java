@@ -42,6 +42,8 @@ public class RestTargetBuilder<S extends DefaultSession, U extends DefaultUser,
     private Map<StatusCode, RestErrorTarget<S, U, ? extends Translatable>> errorTargets = new HashMap<>();
     private Map<StatusCode, RestError<U, ? extends Translatable>> restErrors = new HashMap<>();
     private String groupName;
+    private Long maxBodyBytes;
+    private Boolean parseWhileReading = false;
 
     public RestTargetBuilder<S, U, P> method(Method method) {
         this.methods.add(method);
@@ -172,7 +174,29 @@ public class RestTargetBuilder<S extends DefaultSession, U extends DefaultUser,
         return this;
     }
 
+    /**
+     * The max size of a request body, overrides the one on Shape.
+     *
+     * @param maxBodyBytes max number of bytes of a request body
+     * @return this
+     */
+    public RestTargetBuilder<S, U, P> maxBodyBytes(Long maxBodyBytes) {
+        this.maxBodyBytes = maxBodyBytes;
+        return this;
+    }
+
+    /**
+     * Tokenize json request bodies as they are read, the payload is ready when the body has been read.
+     * The bytes of the body are not kept so betweens and the resource will not have the body.
+     *
+     * @return this
+     */
+    public RestTargetBuilder<S, U, P> parseWhileReading() {
+        this.parseWhileReading = true;
+        return this;
+    }
+
     public RestTarget<S, U, P> build() {
-        return new RestTarget<S, U, P>(methods, regex, restResource, payload, contentTypes, accepts, labels, before, after, validate, errorTargets, restErrors, groupName);
+        return new RestTarget<S, U, P>(methods, regex, restResource, payload, contentTypes, accepts, labels, before, after, validate, errorTargets, restErrors, groupName, maxBodyBytes, parseWhileReading);
     }
 }
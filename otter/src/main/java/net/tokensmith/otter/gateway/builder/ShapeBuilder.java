@@ -2,7 +2,11 @@ package net.tokensmith.otter.gateway.builder;
 
 import net.tokensmith.jwt.entity.jwk.SymmetricKey;
 import net.tokensmith.otter.config.CookieConfig;
+import net.tokensmith.otter.config.ExecutionConfig;
+import net.tokensmith.otter.config.SessionCacheConfig;
+import net.tokensmith.otter.config.SessionCodecConfig;
 import net.tokensmith.otter.gateway.entity.Shape;
+import net.tokensmith.otter.translator.config.JsonAcceleration;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -14,6 +18,11 @@ public class ShapeBuilder {
     private Map<String, SymmetricKey> rotationEncKeys;
     private Integer writeChunkSize;
     private Integer readChunkSize;
+    private Long maxBodyBytes;
+    private JsonAcceleration jsonAcceleration;
+    private SessionCacheConfig sessionCache;
+    private SessionCodecConfig sessionCodec;
+    private ExecutionConfig execution;
     private Map<String, CookieConfig> cookieConfigs = new HashMap<>();
 
     public ShapeBuilder signkey(SymmetricKey signKey) {
@@ -46,6 +55,56 @@ public class ShapeBuilder {
         return this;
     }
 
+    public ShapeBuilder maxBodyBytes(Long maxBodyBytes) {
+        this.maxBodyBytes = maxBodyBytes;
+        return this;
+    }
+
+    /**
+     * How json is accelerated, defaults to NONE.
+     *
+     * @param jsonAcceleration how json is accelerated
+     * @return this
+     */
+    public ShapeBuilder jsonAcceleration(JsonAcceleration jsonAcceleration) {
+        this.jsonAcceleration = jsonAcceleration;
+        return this;
+    }
+
+    /**
+     * Caches decrypted sessions, by default they are not cached. A cached session is shared by the
+     * requests that send the same session cookie.
+     *
+     * @param sessionCache how to configure the cache
+     * @return this
+     */
+    public ShapeBuilder sessionCache(SessionCacheConfig sessionCache) {
+        this.sessionCache = sessionCache;
+        return this;
+    }
+
+    /**
+     * How sessions are encoded and when they are compressed, by default they are JSON that is not compressed.
+     *
+     * @param sessionCodec how to encode sessions
+     * @return this
+     */
+    public ShapeBuilder sessionCodec(SessionCodecConfig sessionCodec) {
+        this.sessionCodec = sessionCodec;
+        return this;
+    }
+
+    /**
+     * Which threads run resources, by default the container thread that read the request body.
+     *
+     * @param execution which threads run resources
+     * @return this
+     */
+    public ShapeBuilder execution(ExecutionConfig execution) {
+        this.execution = execution;
+        return this;
+    }
+
     public ShapeBuilder sessionCookieConfig(CookieConfig cookieConfig) {
         this.cookieConfigs.put(Shape.SESSION_COOKIE_NAME, cookieConfig);
         return this;
@@ -82,6 +141,11 @@ public class ShapeBuilder {
             rotationEncKeys,
             writeChunkSize,
             readChunkSize,
+            maxBodyBytes,
+            jsonAcceleration,
+            sessionCache,
+            sessionCodec,
+            execution,
             cookieConfigs
         );
     }
@@ -34,6 +34,7 @@ public class TargetBuilder<S extends DefaultSession, U extends DefaultUser> {
     private Map<StatusCode, ErrorTarget<S, U>> errorTargets = new HashMap<>();
     private Map<StatusCode, Resource<S, U>> errorResources = new HashMap<>();
     private String groupName;
+    private Long maxBodyBytes;
 
     public TargetBuilder<S, U> method(Method method) {
         methods.add(method);
@@ -143,7 +144,18 @@ public class TargetBuilder<S extends DefaultSession, U extends DefaultUser> {
         return this;
     }
 
+    /**
+     * The max size of a request body, overrides the one on Shape.
+     *
+     * @param maxBodyBytes max number of bytes of a request body
+     * @return this
+     */
+    public TargetBuilder<S, U> maxBodyBytes(Long maxBodyBytes) {
+        this.maxBodyBytes = maxBodyBytes;
+        return this;
+    }
+
     public Target<S, U> build() {
-        return new Target<S, U>(methods, regex, resource, contentTypes, accepts, labels, before, after, errorTargets, errorResources, groupName);
+        return new Target<S, U>(methods, regex, resource, contentTypes, accepts, labels, before, after, errorTargets, errorResources, groupName, maxBodyBytes);
     }
 }
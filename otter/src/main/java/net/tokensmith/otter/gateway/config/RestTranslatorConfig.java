@@ -11,6 +11,8 @@ import net.tokensmith.otter.gateway.entity.rest.RestErrorTarget;
 import net.tokensmith.otter.router.entity.between.RestBetween;
 import net.tokensmith.otter.router.exception.HaltException;
 import net.tokensmith.otter.security.Halt;
+import net.tokensmith.otter.security.csrf.CsrfFormat;
+import net.tokensmith.otter.security.session.store.SessionStore;
 import net.tokensmith.otter.translatable.Translatable;
 
 import java.util.List;
@@ -31,8 +33,20 @@ public class RestTranslatorConfig<S extends DefaultSession, U extends DefaultUse
     private Validate validate;
     // halts - custom halt handlers for security betweens
     private Map<Halt, BiFunction<RestBtwnResponse, HaltException, RestBtwnResponse>> onHalts;
+    // optional, null when sessions are kept in the session cookie.
+    private SessionStore sessionStore;
+    // the format of csrf values, JWT when null.
+    private CsrfFormat csrfFormat;
 
     public RestTranslatorConfig(Class<S> sessionClazz, Map<Label, List<RestBetween<S, U>>> labelBefore, Map<Label, List<RestBetween<S, U>>> labelAfter, List<RestBetween<S, U>> befores, List<RestBetween<S, U>> afters, Map<StatusCode, RestError<U, ? extends Translatable>> restErrors, Map<StatusCode, RestError<U, ? extends Translatable>> defaultErrors, Map<StatusCode, RestErrorTarget<S, U, ? extends Translatable>> dispatchErrors, Map<StatusCode, RestErrorTarget<S, U, ? extends Translatable>> defaultDispatchErrors, Validate validate, Map<Halt, BiFunction<RestBtwnResponse, HaltException, RestBtwnResponse>> onHalts) {
+        this(sessionClazz, labelBefore, labelAfter, befores, afters, restErrors, defaultErrors, dispatchErrors, defaultDispatchErrors, validate, onHalts, null);
+    }
+
+    public RestTranslatorConfig(Class<S> sessionClazz, Map<Label, List<RestBetween<S, U>>> labelBefore, Map<Label, List<RestBetween<S, U>>> labelAfter, List<RestBetween<S, U>> befores, List<RestBetween<S, U>> afters, Map<StatusCode, RestError<U, ? extends Translatable>> restErrors, Map<StatusCode, RestError<U, ? extends Translatable>> defaultErrors, Map<StatusCode, RestErrorTarget<S, U, ? extends Translatable>> dispatchErrors, Map<StatusCode, RestErrorTarget<S, U, ? extends Translatable>> defaultDispatchErrors, Validate validate, Map<Halt, BiFunction<RestBtwnResponse, HaltException, RestBtwnResponse>> onHalts, SessionStore sessionStore) {
+        this(sessionClazz, labelBefore, labelAfter, befores, afters, restErrors, defaultErrors, dispatchErrors, defaultDispatchErrors, validate, onHalts, sessionStore, CsrfFormat.JWT);
+    }
+
+    public RestTranslatorConfig(Class<S> sessionClazz, Map<Label, List<RestBetween<S, U>>> labelBefore, Map<Label, List<RestBetween<S, U>>> labelAfter, List<RestBetween<S, U>> befores, List<RestBetween<S, U>> afters, Map<StatusCode, RestError<U, ? extends Translatable>> restErrors, Map<StatusCode, RestError<U, ? extends Translatable>> defaultErrors, Map<StatusCode, RestErrorTarget<S, U, ? extends Translatable>> dispatchErrors, Map<StatusCode, RestErrorTarget<S, U, ? extends Translatable>> defaultDispatchErrors, Validate validate, Map<Halt, BiFunction<RestBtwnResponse, HaltException, RestBtwnResponse>> onHalts, SessionStore sessionStore, CsrfFormat csrfFormat) {
         this.sessionClazz = sessionClazz;
         this.labelBefore = labelBefore;
         this.labelAfter = labelAfter;
@@ -44,6 +58,8 @@ public class RestTranslatorConfig<S extends DefaultSession, U extends DefaultUse
         this.defaultDispatchErrors = defaultDispatchErrors;
         this.validate = validate;
         this.onHalts = onHalts;
+        this.sessionStore = sessionStore;
+        this.csrfFormat = csrfFormat;
     }
 
     public Class<S> getSessionClazz() {
@@ -134,6 +150,22 @@ public class RestTranslatorConfig<S extends DefaultSession, U extends DefaultUse
         this.onHalts = onHalts;
     }
 
+    public SessionStore getSessionStore() {
+        return sessionStore;
+    }
+
+    public void setSessionStore(SessionStore sessionStore) {
+        this.sessionStore = sessionStore;
+    }
+
+    public CsrfFormat getCsrfFormat() {
+        return csrfFormat;
+    }
+
+    public void setCsrfFormat(CsrfFormat csrfFormat) {
+        this.csrfFormat = csrfFormat;
+    }
+
     public static class Builder<S extends DefaultSession, U extends DefaultUser> {
         private Class<S> sessionClazz;
         private Map<Label, List<RestBetween<S, U>>> labelBefore;
@@ -146,6 +178,8 @@ public class RestTranslatorConfig<S extends DefaultSession, U extends DefaultUse
         private Map<StatusCode, RestErrorTarget<S, U, ? extends Translatable>> defaultDispatchErrors;
         private Validate validate;
         private Map<Halt, BiFunction<RestBtwnResponse, HaltException, RestBtwnResponse>> onHalts;
+        private SessionStore sessionStore;
+        private CsrfFormat csrfFormat = CsrfFormat.JWT;
 
         public Builder<S, U> sessionClazz(Class<S> sessionClazz) {
             this.sessionClazz = sessionClazz;
@@ -202,6 +236,16 @@ public class RestTranslatorConfig<S extends DefaultSession, U extends DefaultUse
             return this;
         }
 
+        public Builder<S, U> sessionStore(SessionStore sessionStore) {
+            this.sessionStore = sessionStore;
+            return this;
+        }
+
+        public Builder<S, U> csrfFormat(CsrfFormat csrfFormat) {
+            this.csrfFormat = csrfFormat;
+            return this;
+        }
+
         public RestTranslatorConfig<S, U> build() {
             return new RestTranslatorConfig<>(
                     sessionClazz,
@@ -214,7 +258,9 @@ public class RestTranslatorConfig<S extends DefaultSession, U extends DefaultUse
                     dispatchErrors,
                     defaultDispatchErrors,
                     validate,
-                    onHalts
+                    onHalts,
+                    sessionStore,
+                    csrfFormat
             );
         }
     }
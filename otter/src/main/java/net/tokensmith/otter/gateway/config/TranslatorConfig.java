@@ -10,6 +10,8 @@ import net.tokensmith.otter.gateway.entity.Label;
 import net.tokensmith.otter.router.entity.between.Between;
 import net.tokensmith.otter.router.exception.HaltException;
 import net.tokensmith.otter.security.Halt;
+import net.tokensmith.otter.security.csrf.CsrfFormat;
+import net.tokensmith.otter.security.session.store.SessionStore;
 
 import java.util.List;
 import java.util.Map;
@@ -27,8 +29,20 @@ public class TranslatorConfig<S extends DefaultSession, U extends DefaultUser> {
 
     // halts - custom halt handlers for security betweens
     private Map<Halt, BiFunction<Response<S>, HaltException, Response<S>>> onHalts;
+    // optional, null when sessions are kept in the session cookie.
+    private SessionStore sessionStore;
+    // the format of csrf values, JWT when null.
+    private CsrfFormat csrfFormat;
 
     public TranslatorConfig(Class<S> sessionClazz, Map<Label, List<Between<S, U>>> labelBefore, Map<Label, List<Between<S, U>>> labelAfter, List<Between<S,U>> befores, List<Between<S,U>> afters, Map<StatusCode, Resource<S, U>> errorResources, Map<StatusCode, ErrorTarget<S, U>> dispatchErrors, Map<StatusCode, ErrorTarget<S, U>> defaultDispatchErrors, Map<Halt, BiFunction<Response<S>, HaltException, Response<S>>> onHalts) {
+        this(sessionClazz, labelBefore, labelAfter, befores, afters, errorResources, dispatchErrors, defaultDispatchErrors, onHalts, null);
+    }
+
+    public TranslatorConfig(Class<S> sessionClazz, Map<Label, List<Between<S, U>>> labelBefore, Map<Label, List<Between<S, U>>> labelAfter, List<Between<S,U>> befores, List<Between<S,U>> afters, Map<StatusCode, Resource<S, U>> errorResources, Map<StatusCode, ErrorTarget<S, U>> dispatchErrors, Map<StatusCode, ErrorTarget<S, U>> defaultDispatchErrors, Map<Halt, BiFunction<Response<S>, HaltException, Response<S>>> onHalts, SessionStore sessionStore) {
+        this(sessionClazz, labelBefore, labelAfter, befores, afters, errorResources, dispatchErrors, defaultDispatchErrors, onHalts, sessionStore, CsrfFormat.JWT);
+    }
+
+    public TranslatorConfig(Class<S> sessionClazz, Map<Label, List<Between<S, U>>> labelBefore, Map<Label, List<Between<S, U>>> labelAfter, List<Between<S,U>> befores, List<Between<S,U>> afters, Map<StatusCode, Resource<S, U>> errorResources, Map<StatusCode, ErrorTarget<S, U>> dispatchErrors, Map<StatusCode, ErrorTarget<S, U>> defaultDispatchErrors, Map<Halt, BiFunction<Response<S>, HaltException, Response<S>>> onHalts, SessionStore sessionStore, CsrfFormat csrfFormat) {
         this.sessionClazz = sessionClazz;
         this.labelBefore = labelBefore;
         this.labelAfter = labelAfter;
@@ -38,6 +52,8 @@ public class TranslatorConfig<S extends DefaultSession, U extends DefaultUser> {
         this.dispatchErrors = dispatchErrors;
         this.defaultDispatchErrors = defaultDispatchErrors;
         this.onHalts = onHalts;
+        this.sessionStore = sessionStore;
+        this.csrfFormat = csrfFormat;
     }
 
     public Class<S> getSessionClazz() {
@@ -112,6 +128,22 @@ public class TranslatorConfig<S extends DefaultSession, U extends DefaultUser> {
         this.onHalts = onHalts;
     }
 
+    public SessionStore getSessionStore() {
+        return sessionStore;
+    }
+
+    public void setSessionStore(SessionStore sessionStore) {
+        this.sessionStore = sessionStore;
+    }
+
+    public CsrfFormat getCsrfFormat() {
+        return csrfFormat;
+    }
+
+    public void setCsrfFormat(CsrfFormat csrfFormat) {
+        this.csrfFormat = csrfFormat;
+    }
+
     public static class Builder<S extends DefaultSession, U extends DefaultUser> {
         private Class<S> sessionClazz;
         private Map<Label, List<Between<S,U>>> labelBefore;
@@ -122,6 +154,8 @@ public class TranslatorConfig<S extends DefaultSession, U extends DefaultUser> {
         private Map<StatusCode, ErrorTarget<S, U>> dispatchErrors;
         private Map<StatusCode, ErrorTarget<S, U>> defaultDispatchErrors;
         private Map<Halt, BiFunction<Response<S>, HaltException, Response<S>>> onHalts;
+        private SessionStore sessionStore;
+        private CsrfFormat csrfFormat = CsrfFormat.JWT;
 
         public Builder<S, U> sessionClazz(Class<S> sessionClazz) {
             this.sessionClazz = sessionClazz;
@@ -168,6 +202,16 @@ public class TranslatorConfig<S extends DefaultSession, U extends DefaultUser> {
             return this;
         }
 
+        public Builder<S, U> sessionStore(SessionStore sessionStore) {
+            this.sessionStore = sessionStore;
+            return this;
+        }
+
+        public Builder<S, U> csrfFormat(CsrfFormat csrfFormat) {
+            this.csrfFormat = csrfFormat;
+            return this;
+        }
+
         public TranslatorConfig<S, U> build() {
             return new TranslatorConfig<S, U>(
                     sessionClazz,
@@ -178,7 +222,9 @@ public class TranslatorConfig<S extends DefaultSession, U extends DefaultUser> {
                     errorResources,
                     dispatchErrors,
                     defaultDispatchErrors,
-                    onHalts
+                    onHalts,
+                    sessionStore,
+                    csrfFormat
             );
         }
     }
@@ -8,6 +8,8 @@ import net.tokensmith.otter.controller.entity.response.Response;
 import net.tokensmith.otter.router.entity.between.Between;
 import net.tokensmith.otter.router.exception.HaltException;
 import net.tokensmith.otter.security.Halt;
+import net.tokensmith.otter.security.csrf.CsrfFormat;
+import net.tokensmith.otter.security.session.store.SessionStore;
 
 import java.util.List;
 import java.util.Map;
@@ -29,8 +31,20 @@ public class Group<S extends DefaultSession, U extends DefaultUser> {
 
     // halts - custom halt handlers for security betweens
     private Map<Halt, BiFunction<Response<S>, HaltException, Response<S>>> onHalts;
+    // optional, null when sessions are kept in the session cookie.
+    private SessionStore sessionStore;
+    // the format of csrf values, JWT when null.
+    private CsrfFormat csrfFormat;
 
     public Group(String name, Class<S> sessionClazz, Map<Label, List<Between<S, U>>> labelBefore, Map<Label, List<Between<S, U>>> labelAfter, List<Between<S, U>> befores, List<Between<S, U>> afters, Map<StatusCode, Resource<S, U>> errorResources, Map<StatusCode, ErrorTarget<S, U>> dispatchErrors, Map<Halt, BiFunction<Response<S>, HaltException, Response<S>>> onHalts) {
+        this(name, sessionClazz, labelBefore, labelAfter, befores, afters, errorResources, dispatchErrors, onHalts, null);
+    }
+
+    public Group(String name, Class<S> sessionClazz, Map<Label, List<Between<S, U>>> labelBefore, Map<Label, List<Between<S, U>>> labelAfter, List<Between<S, U>> befores, List<Between<S, U>> afters, Map<StatusCode, Resource<S, U>> errorResources, Map<StatusCode, ErrorTarget<S, U>> dispatchErrors, Map<Halt, BiFunction<Response<S>, HaltException, Response<S>>> onHalts, SessionStore sessionStore) {
+        this(name, sessionClazz, labelBefore, labelAfter, befores, afters, errorResources, dispatchErrors, onHalts, sessionStore, CsrfFormat.JWT);
+    }
+
+    public Group(String name, Class<S> sessionClazz, Map<Label, List<Between<S, U>>> labelBefore, Map<Label, List<Between<S, U>>> labelAfter, List<Between<S, U>> befores, List<Between<S, U>> afters, Map<StatusCode, Resource<S, U>> errorResources, Map<StatusCode, ErrorTarget<S, U>> dispatchErrors, Map<Halt, BiFunction<Response<S>, HaltException, Response<S>>> onHalts, SessionStore sessionStore, CsrfFormat csrfFormat) {
         this.name = name;
         this.sessionClazz = sessionClazz;
         this.labelBefore = labelBefore;
@@ -40,6 +54,8 @@ public class Group<S extends DefaultSession, U extends DefaultUser> {
         this.errorResources = errorResources;
         this.dispatchErrors = dispatchErrors;
         this.onHalts = onHalts;
+        this.sessionStore = sessionStore;
+        this.csrfFormat = csrfFormat;
     }
 
     public String getName() {
@@ -113,4 +129,20 @@ public class Group<S extends DefaultSession, U extends DefaultUser> {
     public void setOnHalts(Map<Halt, BiFunction<Response<S>, HaltException, Response<S>>> onHalts) {
         this.onHalts = onHalts;
     }
+
+    public SessionStore getSessionStore() {
+        return sessionStore;
+    }
+
+    public void setSessionStore(SessionStore sessionStore) {
+        this.sessionStore = sessionStore;
+    }
+
+    public CsrfFormat getCsrfFormat() {
+        return csrfFormat;
+    }
+
+    public void setCsrfFormat(CsrfFormat csrfFormat) {
+        this.csrfFormat = csrfFormat;
+    }
 }
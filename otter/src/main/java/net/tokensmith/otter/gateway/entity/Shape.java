@@ -2,6 +2,10 @@ package net.tokensmith.otter.gateway.entity;
 
 import net.tokensmith.jwt.entity.jwk.SymmetricKey;
 import net.tokensmith.otter.config.CookieConfig;
+import net.tokensmith.otter.config.ExecutionConfig;
+import net.tokensmith.otter.config.SessionCacheConfig;
+import net.tokensmith.otter.config.SessionCodecConfig;
+import net.tokensmith.otter.translator.config.JsonAcceleration;
 
 import java.util.Map;
 
@@ -16,6 +20,11 @@ import java.util.Map;
  *  - session fail template
  *  - rotation keys
  *  - async i/o chuck sizes
+ *  - max request body size, can be overridden by a Target or RestTarget
+ *  - json acceleration
+ *  - decrypted session cache
+ *  - session codec and compression
+ *  - which threads run resources
  */
 public class Shape {
     public static final String SESSION_COOKIE_NAME = "session";
@@ -27,16 +36,34 @@ public class Shape {
     private Map<String, SymmetricKey> rotationEncKeys;
     private Integer writeChunkSize;
     private Integer readChunkSize;
+    private Long maxBodyBytes;
+    private JsonAcceleration jsonAcceleration;
+    private SessionCacheConfig sessionCache;
+    private SessionCodecConfig sessionCodec;
+    private ExecutionConfig execution;
 
     private Map<String, CookieConfig> cookieConfigs;
 
-    public Shape(SymmetricKey signkey, SymmetricKey encKey, Map<String, SymmetricKey> rotationSignKeys, Map<String, SymmetricKey> rotationEncKeys, Integer writeChunkSize, Integer readChunkSize, Map<String, CookieConfig> cookieConfigs) {
+    public Shape(SymmetricKey signkey, SymmetricKey encKey, Map<String, SymmetricKey> rotationSignKeys, Map<String, SymmetricKey> rotationEncKeys, Integer writeChunkSize, Integer readChunkSize, Long maxBodyBytes, JsonAcceleration jsonAcceleration, SessionCacheConfig sessionCache, Map<String, CookieConfig> cookieConfigs) {
+        this(signkey, encKey, rotationSignKeys, rotationEncKeys, writeChunkSize, readChunkSize, maxBodyBytes, jsonAcceleration, sessionCache, null, cookieConfigs);
+    }
+
+    public Shape(SymmetricKey signkey, SymmetricKey encKey, Map<String, SymmetricKey> rotationSignKeys, Map<String, SymmetricKey> rotationEncKeys, Integer writeChunkSize, Integer readChunkSize, Long maxBodyBytes, JsonAcceleration jsonAcceleration, SessionCacheConfig sessionCache, SessionCodecConfig sessionCodec, Map<String, CookieConfig> cookieConfigs) {
+        this(signkey, encKey, rotationSignKeys, rotationEncKeys, writeChunkSize, readChunkSize, maxBodyBytes, jsonAcceleration, sessionCache, sessionCodec, null, cookieConfigs);
+    }
+
+    public Shape(SymmetricKey signkey, SymmetricKey encKey, Map<String, SymmetricKey> rotationSignKeys, Map<String, SymmetricKey> rotationEncKeys, Integer writeChunkSize, Integer readChunkSize, Long maxBodyBytes, JsonAcceleration jsonAcceleration, SessionCacheConfig sessionCache, SessionCodecConfig sessionCodec, ExecutionConfig execution, Map<String, CookieConfig> cookieConfigs) {
         this.signkey = signkey;
         this.encKey = encKey;
         this.rotationSignKeys = rotationSignKeys;
         this.rotationEncKeys = rotationEncKeys;
         this.writeChunkSize = writeChunkSize;
         this.readChunkSize = readChunkSize;
+        this.maxBodyBytes = maxBodyBytes;
+        this.jsonAcceleration = jsonAcceleration;
+        this.sessionCache = sessionCache;
+        this.sessionCodec = sessionCodec;
+        this.execution = execution;
         this.cookieConfigs = cookieConfigs;
     }
 
@@ -88,6 +115,46 @@ public class Shape {
         this.readChunkSize = readChunkSize;
     }
 
+    public Long getMaxBodyBytes() {
+        return maxBodyBytes;
+    }
+
+    public void setMaxBodyBytes(Long maxBodyBytes) {
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    public JsonAcceleration getJsonAcceleration() {
+        return jsonAcceleration;
+    }
+
+    public void setJsonAcceleration(JsonAcceleration jsonAcceleration) {
+        this.jsonAcceleration = jsonAcceleration;
+    }
+
+    public SessionCacheConfig getSessionCache() {
+        return sessionCache;
+    }
+
+    public void setSessionCache(SessionCacheConfig sessionCache) {
+        this.sessionCache = sessionCache;
+    }
+
+    public SessionCodecConfig getSessionCodec() {
+        return sessionCodec;
+    }
+
+    public void setSessionCodec(SessionCodecConfig sessionCodec) {
+        this.sessionCodec = sessionCodec;
+    }
+
+    public ExecutionConfig getExecution() {
+        return execution;
+    }
+
+    public void setExecution(ExecutionConfig execution) {
+        this.execution = execution;
+    }
+
     public CookieConfig getSessionCookie() {
         return cookieConfigs.get(SESSION_COOKIE_NAME);
     }
@@ -24,8 +24,10 @@ public class Target<S extends DefaultSession, U extends DefaultUser> {
     private Map<StatusCode, ErrorTarget<S, U>> errorTargets;
     private Map<StatusCode, Resource<S, U>> errorResources;
     private String groupName;
+    // overrides the max body bytes on Shape.
+    private Long maxBodyBytes;
 
-    public Target(List<Method> methods, String regex, Resource<S, U> resource, Map<Method, List<MimeType>> contentTypes, Map<Method, List<MimeType>> accepts, List<Label> labels, List<Between<S, U>> before, List<Between<S, U>> after, Map<StatusCode, ErrorTarget<S, U>> errorTargets, Map<StatusCode, Resource<S, U>> errorResources, String groupName) {
+    public Target(List<Method> methods, String regex, Resource<S, U> resource, Map<Method, List<MimeType>> contentTypes, Map<Method, List<MimeType>> accepts, List<Label> labels, List<Between<S, U>> before, List<Between<S, U>> after, Map<StatusCode, ErrorTarget<S, U>> errorTargets, Map<StatusCode, Resource<S, U>> errorResources, String groupName, Long maxBodyBytes) {
         this.methods = methods;
         this.regex = regex;
         this.resource = resource;
@@ -37,6 +39,7 @@ public class Target<S extends DefaultSession, U extends DefaultUser> {
         this.errorTargets = errorTargets;
         this.errorResources = errorResources;
         this.groupName = groupName;
+        this.maxBodyBytes = maxBodyBytes;
     }
 
     public List<Method> getMethods() {
@@ -90,4 +93,12 @@ public class Target<S extends DefaultSession, U extends DefaultUser> {
     public void setGroupName(String groupName) {
         this.groupName = groupName;
     }
+
+    public Long getMaxBodyBytes() {
+        return maxBodyBytes;
+    }
+
+    public void setMaxBodyBytes(Long maxBodyBytes) {
+        this.maxBodyBytes = maxBodyBytes;
+    }
 }
@@ -9,6 +9,8 @@ import net.tokensmith.otter.gateway.entity.Label;
 import net.tokensmith.otter.router.entity.between.RestBetween;
 import net.tokensmith.otter.router.exception.HaltException;
 import net.tokensmith.otter.security.Halt;
+import net.tokensmith.otter.security.csrf.CsrfFormat;
+import net.tokensmith.otter.security.session.store.SessionStore;
 import net.tokensmith.otter.translatable.Translatable;
 
 import java.util.List;
@@ -32,8 +34,20 @@ public class RestGroup<S extends DefaultSession, U extends DefaultUser> {
     private Map<StatusCode, RestErrorTarget<S, U, ? extends Translatable>> dispatchErrors;
     // halts - custom halt handlers for security betweens
     private Map<Halt, BiFunction<RestBtwnResponse, HaltException, RestBtwnResponse>> onHalts;
+    // optional, null when sessions are kept in the session cookie.
+    private SessionStore sessionStore;
+    // the format of csrf values, JWT when null.
+    private CsrfFormat csrfFormat;
 
     public RestGroup(String name, Class<S> sessionClazz, Map<Label, List<RestBetween<S, U>>> labelBefore, Map<Label, List<RestBetween<S, U>>> labelAfter, List<RestBetween<S, U>> befores, List<RestBetween<S, U>> afters, Map<StatusCode, RestError<U, ? extends Translatable>> restErrors, Map<StatusCode, RestErrorTarget<S, U, ? extends Translatable>> dispatchErrors, Map<Halt, BiFunction<RestBtwnResponse, HaltException, RestBtwnResponse>> onHalts) {
+        this(name, sessionClazz, labelBefore, labelAfter, befores, afters, restErrors, dispatchErrors, onHalts, null);
+    }
+
+    public RestGroup(String name, Class<S> sessionClazz, Map<Label, List<RestBetween<S, U>>> labelBefore, Map<Label, List<RestBetween<S, U>>> labelAfter, List<RestBetween<S, U>> befores, List<RestBetween<S, U>> afters, Map<StatusCode, RestError<U, ? extends Translatable>> restErrors, Map<StatusCode, RestErrorTarget<S, U, ? extends Translatable>> dispatchErrors, Map<Halt, BiFunction<RestBtwnResponse, HaltException, RestBtwnResponse>> onHalts, SessionStore sessionStore) {
+        this(name, sessionClazz, labelBefore, labelAfter, befores, afters, restErrors, dispatchErrors, onHalts, sessionStore, CsrfFormat.JWT);
+    }
+
+    public RestGroup(String name, Class<S> sessionClazz, Map<Label, List<RestBetween<S, U>>> labelBefore, Map<Label, List<RestBetween<S, U>>> labelAfter, List<RestBetween<S, U>> befores, List<RestBetween<S, U>> afters, Map<StatusCode, RestError<U, ? extends Translatable>> restErrors, Map<StatusCode, RestErrorTarget<S, U, ? extends Translatable>> dispatchErrors, Map<Halt, BiFunction<RestBtwnResponse, HaltException, RestBtwnResponse>> onHalts, SessionStore sessionStore, CsrfFormat csrfFormat) {
         this.name = name;
         this.sessionClazz = sessionClazz;
         this.labelBefore = labelBefore;
@@ -43,6 +57,8 @@ public class RestGroup<S extends DefaultSession, U extends DefaultUser> {
         this.restErrors = restErrors;
         this.dispatchErrors = dispatchErrors;
         this.onHalts = onHalts;
+        this.sessionStore = sessionStore;
+        this.csrfFormat = csrfFormat;
     }
 
     public String getName() {
@@ -116,4 +132,20 @@ public class RestGroup<S extends DefaultSession, U extends DefaultUser> {
     public void setOnHalts(Map<Halt, BiFunction<RestBtwnResponse, HaltException, RestBtwnResponse>> onHalts) {
         this.onHalts = onHalts;
     }
+
+    public SessionStore getSessionStore() {
+        return sessionStore;
+    }
+
+    public void setSessionStore(SessionStore sessionStore) {
+        this.sessionStore = sessionStore;
+    }
+
+    public CsrfFormat getCsrfFormat() {
+        return csrfFormat;
+    }
+
+    public void setCsrfFormat(CsrfFormat csrfFormat) {
+        this.csrfFormat = csrfFormat;
+    }
 }
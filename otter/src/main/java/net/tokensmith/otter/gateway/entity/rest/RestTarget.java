@@ -29,8 +29,12 @@ public class RestTarget<S extends DefaultSession, U extends DefaultUser, P> {
     private Map<StatusCode, RestErrorTarget<S, U, ? extends Translatable>> errorTargets; // dispatch errors
     private Map<StatusCode, RestError<U, ? extends Translatable>> restErrors;
     private String groupName;
+    // overrides the max body bytes on Shape.
+    private Long maxBodyBytes;
+    // tokenize json bodies as they are read.
+    private Boolean parseWhileReading;
 
-    public RestTarget(List<Method> methods, String regex, RestResource<U, P> restResource, Class<P> payload, Map<Method, List<MimeType>> contentTypes, Map<Method, List<MimeType>> accepts, List<Label> labels, List<RestBetween<S, U>> before, List<RestBetween<S, U>> after, Validate validate, Map<StatusCode, RestErrorTarget<S, U, ? extends Translatable>> errorTargets, Map<StatusCode, RestError<U, ? extends Translatable>> restErrors, String groupName) {
+    public RestTarget(List<Method> methods, String regex, RestResource<U, P> restResource, Class<P> payload, Map<Method, List<MimeType>> contentTypes, Map<Method, List<MimeType>> accepts, List<Label> labels, List<RestBetween<S, U>> before, List<RestBetween<S, U>> after, Validate validate, Map<StatusCode, RestErrorTarget<S, U, ? extends Translatable>> errorTargets, Map<StatusCode, RestError<U, ? extends Translatable>> restErrors, String groupName, Long maxBodyBytes, Boolean parseWhileReading) {
         this.methods = methods;
         this.regex = regex;
         this.restResource = restResource;
@@ -44,6 +48,8 @@ public class RestTarget<S extends DefaultSession, U extends DefaultUser, P> {
         this.errorTargets = errorTargets; // dispatch errors
         this.restErrors = restErrors;
         this.groupName = groupName;
+        this.maxBodyBytes = maxBodyBytes;
+        this.parseWhileReading = parseWhileReading;
     }
 
     public List<Method> getMethods() {
@@ -146,4 +152,20 @@ public class RestTarget<S extends DefaultSession, U extends DefaultUser, P> {
     public void setGroupName(String groupName) {
         this.groupName = groupName;
     }
+
+    public Long getMaxBodyBytes() {
+        return maxBodyBytes;
+    }
+
+    public void setMaxBodyBytes(Long maxBodyBytes) {
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    public Boolean getParseWhileReading() {
+        return parseWhileReading;
+    }
+
+    public void setParseWhileReading(Boolean parseWhileReading) {
+        this.parseWhileReading = parseWhileReading;
+    }
 }
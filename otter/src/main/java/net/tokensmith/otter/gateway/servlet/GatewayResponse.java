@@ -1,10 +1,13 @@
 package net.tokensmith.otter.gateway.servlet;
 
 
+import net.tokensmith.otter.translator.JsonStream;
+
 import java.util.Optional;
 
 public class GatewayResponse {
     private Optional<byte[]> payload = Optional.empty();
+    private Optional<JsonStream> streamPayload = Optional.empty();
     private Optional<String> template = Optional.empty();
     private Integer writeChunkSize;
 
@@ -18,6 +21,14 @@ public class GatewayResponse {
         this.payload = payload;
     }
 
+    public Optional<JsonStream> getStreamPayload() {
+        return streamPayload;
+    }
+
+    public void setStreamPayload(Optional<JsonStream> streamPayload) {
+        this.streamPayload = streamPayload;
+    }
+
     public Optional<String> getTemplate() {
         return template;
     }
@@ -1,6 +1,8 @@
 package net.tokensmith.otter.gateway.servlet;
 
 
+import net.tokensmith.otter.PathNormalizer;
+import net.tokensmith.otter.controller.entity.CookieJar;
 import net.tokensmith.otter.controller.entity.DefaultSession;
 import net.tokensmith.otter.controller.entity.DefaultUser;
 import net.tokensmith.otter.gateway.Gateway;
@@ -11,9 +13,13 @@ import net.tokensmith.otter.gateway.translator.LocationTranslator;
 import net.tokensmith.otter.gateway.translator.RestLocationTranslator;
 import net.tokensmith.otter.router.Engine;
 import net.tokensmith.otter.router.builder.AnswerBuilder;
+import net.tokensmith.otter.router.entity.Lookup;
+import net.tokensmith.otter.router.entity.MatchedLocation;
+import net.tokensmith.otter.router.entity.Method;
 import net.tokensmith.otter.router.entity.io.Answer;
 import net.tokensmith.otter.router.entity.io.Ask;
 import net.tokensmith.otter.router.exception.HaltException;
+import net.tokensmith.otter.translator.JsonTokenizer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -22,7 +28,11 @@ import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Servlet API Gateway that translates Servlet API objects to Otter objects
@@ -36,48 +46,102 @@ public class ServletGateway extends Gateway {
     private HttpServletRequestTranslator httpServletRequestTranslator;
     private HttpServletRequestMerger httpServletRequestMerger;
     private HttpServletResponseMerger httpServletResponseMerger;
+    private PathNormalizer pathNormalizer;
     private Integer writeChunkSize;
+    private Long maxBodyBytes;
 
-    public ServletGateway(HttpServletRequestTranslator httpServletRequestTranslator, HttpServletRequestMerger httpServletRequestMerger, HttpServletResponseMerger httpServletResponseMerger, Engine engine, Map<String, LocationTranslator<? extends DefaultSession, ? extends DefaultUser>> locationTranslators, Map<String, RestLocationTranslator<? extends DefaultSession, ? extends DefaultUser, ?>> restLocationTranslators, Integer writeChunkSize) {
+    public ServletGateway(HttpServletRequestTranslator httpServletRequestTranslator, HttpServletRequestMerger httpServletRequestMerger, HttpServletResponseMerger httpServletResponseMerger, Engine engine, Map<String, LocationTranslator<? extends DefaultSession, ? extends DefaultUser>> locationTranslators, Map<String, RestLocationTranslator<? extends DefaultSession, ? extends DefaultUser, ?>> restLocationTranslators, PathNormalizer pathNormalizer, Integer writeChunkSize, Long maxBodyBytes) {
         super(engine, locationTranslators, restLocationTranslators);
         this.httpServletRequestTranslator = httpServletRequestTranslator;
         this.httpServletRequestMerger = httpServletRequestMerger;
         this.httpServletResponseMerger = httpServletResponseMerger;
+        this.pathNormalizer = pathNormalizer;
         this.writeChunkSize = writeChunkSize;
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    /**
+     * Finds the location that matches the request before its body is read.
+     *
+     * @param containerRequest the container's request
+     * @return the location that matches the request
+     */
+    public Optional<MatchedLocation> find(HttpServletRequest containerRequest) {
+        return lookup(containerRequest).getMatchedLocation();
+    }
+
+    /**
+     * Finds the location that matches the request before its body is read. Give it to processRequest so the
+     * request is not normalized and matched again.
+     *
+     * @param containerRequest the container's request
+     * @return the method, normalized path and location of the request
+     */
+    public Lookup lookup(HttpServletRequest containerRequest) {
+        Method method = Method.valueOf(containerRequest.getMethod());
+        String path = pathNormalizer.run(containerRequest.getRequestURI(), containerRequest.getQueryString());
+        return new Lookup(method, path, engine.getDispatcher().find(method, path));
+    }
+
+    /**
+     * Finds the max number of bytes the request body may have before it is read. It is the
+     * max body bytes of the location that matches the request or the default from Shape.
+     *
+     * @param containerRequest the container's request
+     * @return the max number of bytes allowed for the request body.
+     */
+    public Long maxBodyBytes(HttpServletRequest containerRequest) {
+        return maxBodyBytes(find(containerRequest));
+    }
+
+    public Long maxBodyBytes(Optional<MatchedLocation> matchedLocation) {
+        if (matchedLocation.isPresent() && Objects.nonNull(matchedLocation.get().getLocation().getMaxBodyBytes())) {
+            return matchedLocation.get().getLocation().getMaxBodyBytes();
+        }
+        return maxBodyBytes;
+    }
+
+    /**
+     * @param matchedLocation the location that matches the request
+     * @return true if the request body should be tokenized as it is read.
+     */
+    public Boolean parseWhileReading(Optional<MatchedLocation> matchedLocation) {
+        return matchedLocation.isPresent() && matchedLocation.get().getLocation().getParseWhileReading();
     }
 
     public GatewayResponse processRequest(HttpServletRequest containerRequest, HttpServletResponse containerResponse, byte[] body) {
+        return processRequest(containerRequest, containerResponse, body, Optional.empty());
+    }
+
+    public GatewayResponse processRequest(HttpServletRequest containerRequest, HttpServletResponse containerResponse, byte[] body, Optional<JsonTokenizer> bodyTokens) {
+        return processRequest(containerRequest, containerResponse, body, bodyTokens, Optional.empty());
+    }
+
+    /**
+     * @param containerRequest the container's request
+     * @param containerResponse the container's response
+     * @param body the request body
+     * @param bodyTokens the tokens of the request body, when it was parsed while reading
+     * @param lookup the location that was found for the request before its body was read, see lookup.
+     * @return the GatewayResponse
+     */
+    public GatewayResponse processRequest(HttpServletRequest containerRequest, HttpServletResponse containerResponse, byte[] body, Optional<JsonTokenizer> bodyTokens, Optional<Lookup> lookup) {
         GatewayResponse gatewayResponse = new GatewayResponse();
         try {
-            Ask ask = httpServletRequestTranslator.from(containerRequest, body);
-
-            Answer answer = new AnswerBuilder()
-                    .headers(new HashMap<>())
-                    .cookies(ask.getCookies())
-                    .payload(Optional.empty())
-                    .presenter(Optional.empty())
-                    .template(Optional.empty())
-                    .build();
+            Ask ask = ask(containerRequest, body, bodyTokens, lookup);
+            Answer answer = answer(ask);
 
             Answer resourceAnswer;
             try {
-                resourceAnswer = engine.route(ask, answer);
+                resourceAnswer = lookup.isPresent()
+                        ? engine.route(ask, answer, lookup.get().getMatchedLocation())
+                        : engine.route(ask, answer);
             } catch (HaltException e) {
                 LOGGER.debug(e.getMessage(), e);
                 resourceAnswer = answer;
             }
 
-            httpServletResponseMerger.merge(containerResponse, containerRequest.getCookies(), resourceAnswer);
-            httpServletRequestMerger.merge(containerRequest, resourceAnswer);
-
-            if (resourceAnswer.getPayload().isPresent()) {
-                gatewayResponse.setPayload(Optional.of(resourceAnswer.getPayload().get()));
-            } else {
-                gatewayResponse.setPayload(Optional.empty());
-            }
-            gatewayResponse.setWriteChunkSize(writeChunkSize);
-            gatewayResponse.setTemplate(resourceAnswer.getTemplate());
-
+            gatewayResponse = gatewayResponse(containerRequest, containerResponse, resourceAnswer);
         } catch (IOException e) {
             LOGGER.error(e.getMessage(), e);
             containerResponse.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
@@ -87,4 +151,100 @@ public class ServletGateway extends Gateway {
         }
         return gatewayResponse;
     }
+
+    /**
+     * The async version of processRequest. A request to an AsyncRestResource does not hold the calling thread,
+     * the stage completes when the resource's stage does. Other requests are processed before it is returned.
+     *
+     * @param containerRequest the container's request
+     * @param containerResponse the container's response
+     * @param body the request body
+     * @param bodyTokens the tokens of the request body, when it was parsed while reading
+     * @return a stage of the GatewayResponse, it always completes normally.
+     */
+    public CompletionStage<GatewayResponse> processRequestAsync(HttpServletRequest containerRequest, HttpServletResponse containerResponse, byte[] body, Optional<JsonTokenizer> bodyTokens) {
+        return processRequestAsync(containerRequest, containerResponse, body, bodyTokens, Optional.empty());
+    }
+
+    /**
+     * @param containerRequest the container's request
+     * @param containerResponse the container's response
+     * @param body the request body
+     * @param bodyTokens the tokens of the request body, when it was parsed while reading
+     * @param lookup the location that was found for the request before its body was read, see lookup.
+     * @return a stage of the GatewayResponse, it always completes normally.
+     */
+    public CompletionStage<GatewayResponse> processRequestAsync(HttpServletRequest containerRequest, HttpServletResponse containerResponse, byte[] body, Optional<JsonTokenizer> bodyTokens, Optional<Lookup> lookup) {
+        Ask ask;
+        Answer answer;
+        CompletionStage<Answer> resourceAnswer;
+        try {
+            ask = ask(containerRequest, body, bodyTokens, lookup);
+            answer = answer(ask);
+            resourceAnswer = lookup.isPresent()
+                    ? engine.routeAsync(ask, answer, lookup.get().getMatchedLocation())
+                    : engine.routeAsync(ask, answer);
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+            containerResponse.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            return CompletableFuture.completedFuture(new GatewayResponse());
+        }
+
+        return resourceAnswer.handle((routed, t) -> {
+            Throwable e = (t instanceof CompletionException && Objects.nonNull(t.getCause())) ? t.getCause() : t;
+            if (e instanceof HaltException) {
+                LOGGER.debug(e.getMessage(), e);
+                routed = answer;
+            } else if (Objects.nonNull(e)) {
+                LOGGER.error(e.getMessage(), e);
+                containerResponse.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+                return new GatewayResponse();
+            }
+
+            try {
+                return gatewayResponse(containerRequest, containerResponse, routed);
+            } catch (Exception ex) {
+                LOGGER.error(ex.getMessage(), ex);
+                containerResponse.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+                return new GatewayResponse();
+            }
+        });
+    }
+
+    protected Ask ask(HttpServletRequest containerRequest, byte[] body, Optional<JsonTokenizer> bodyTokens, Optional<Lookup> lookup) throws IOException {
+        Ask ask;
+        if (lookup.isPresent()) {
+            ask = httpServletRequestTranslator.from(containerRequest, body, lookup.get().getMethod(), lookup.get().getNormalizedPath());
+        } else {
+            ask = httpServletRequestTranslator.from(containerRequest, body);
+        }
+        ask.setBodyTokens(bodyTokens);
+        return ask;
+    }
+
+    protected Answer answer(Ask ask) {
+        return new AnswerBuilder()
+                .headers(new HashMap<>())
+                .cookies(new CookieJar(ask.getCookies()))
+                .payload(Optional.empty())
+                .presenter(Optional.empty())
+                .template(Optional.empty())
+                .build();
+    }
+
+    protected GatewayResponse gatewayResponse(HttpServletRequest containerRequest, HttpServletResponse containerResponse, Answer resourceAnswer) {
+        GatewayResponse gatewayResponse = new GatewayResponse();
+        httpServletResponseMerger.merge(containerResponse, containerRequest.getCookies(), resourceAnswer);
+        httpServletRequestMerger.merge(containerRequest, resourceAnswer);
+
+        if (resourceAnswer.getPayload().isPresent()) {
+            gatewayResponse.setPayload(Optional.of(resourceAnswer.getPayload().get()));
+        } else {
+            gatewayResponse.setPayload(Optional.empty());
+        }
+        gatewayResponse.setStreamPayload(resourceAnswer.getStreamPayload());
+        gatewayResponse.setWriteChunkSize(writeChunkSize);
+        gatewayResponse.setTemplate(resourceAnswer.getTemplate());
+        return gatewayResponse;
+    }
 }
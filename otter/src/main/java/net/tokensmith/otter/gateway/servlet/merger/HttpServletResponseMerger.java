@@ -2,6 +2,7 @@ package net.tokensmith.otter.gateway.servlet.merger;
 
 
 
+import net.tokensmith.otter.controller.entity.CookieJar;
 import net.tokensmith.otter.gateway.servlet.translator.HttpServletRequestCookieTranslator;
 import net.tokensmith.otter.router.entity.io.Answer;
 import org.slf4j.Logger;
@@ -31,8 +32,12 @@ public class HttpServletResponseMerger {
         }
 
         // cookies
-        Map<String, Cookie> containerCookiesMap = deleteAndUpdateCookies(response, requestCookies, answer);
-        createCookies(response, containerCookiesMap, answer.getCookies());
+        if (answer.getCookies() instanceof CookieJar) {
+            mergeChangedCookies(response, requestCookies, (CookieJar) answer.getCookies());
+        } else {
+            Map<String, Cookie> containerCookiesMap = deleteAndUpdateCookies(response, requestCookies, answer);
+            createCookies(response, containerCookiesMap, answer.getCookies());
+        }
 
         // status code
         response.setStatus(answer.getStatusCode().getCode());
@@ -40,6 +45,46 @@ public class HttpServletResponseMerger {
         return response;
     }
 
+    /**
+     * Only adds the cookies of the jar that were added, replaced, removed or changed with their setters. The
+     * cookies of the request that were not changed are already in the browser.
+     *
+     * @param response the container response
+     * @param requestCookies the container request cookies
+     * @param cookieJar the cookies of the answer
+     */
+    protected void mergeChangedCookies(HttpServletResponse response, Cookie[] requestCookies, CookieJar cookieJar) {
+        for(String name: cookieJar.getChanged()) {
+            if (cookieJar.isRemoved(name)) {
+                Cookie toDelete = requestCookie(requestCookies, name);
+                if (Objects.isNull(toDelete)) {
+                    toDelete = httpServletRequestCookieTranslator.to(cookieJar.getOriginal(name));
+                }
+                toDelete.setMaxAge(0);
+                toDelete.setValue("");
+                response.addCookie(toDelete);
+
+                logCookie("Removing cookie from container request", toDelete);
+            } else if (cookieJar.containsKey(name)) {
+                Cookie toAdd = httpServletRequestCookieTranslator.to(cookieJar.get(name));
+                response.addCookie(toAdd);
+
+                logCookie("Adding cookie to container response", toAdd);
+            }
+        }
+    }
+
+    protected Cookie requestCookie(Cookie[] requestCookies, String name) {
+        if (Objects.nonNull(requestCookies)) {
+            for (Cookie requestCookie : requestCookies) {
+                if (name.equals(requestCookie.getName())) {
+                    return requestCookie;
+                }
+            }
+        }
+        return null;
+    }
+
     protected Map<String, Cookie> deleteAndUpdateCookies(HttpServletResponse response, Cookie[] requestCookies, Answer answer) {
         Map<String, Cookie> containerCookiesMap = new HashMap<>();
 
@@ -1,6 +1,7 @@
 package net.tokensmith.otter.gateway.servlet.translator;
 
 
+import net.tokensmith.otter.PathNormalizer;
 import net.tokensmith.otter.QueryStringToMap;
 import net.tokensmith.otter.config.CookieConfig;
 import net.tokensmith.otter.controller.entity.Cookie;
@@ -35,25 +36,41 @@ public class HttpServletRequestTranslator  {
     private HttpServletRequestCookieTranslator httpServletCookieTranslator;
     private HttpServletRequestHeaderTranslator httpServletRequestHeaderTranslator;
     private QueryStringToMap queryStringToMap;
+    private PathNormalizer pathNormalizer;
     private MimeTypeTranslator mimeTypeTranslator;
     // used to ensure http only is set on incoming cookies
     private Map<String, CookieConfig> cookieConfigs;
 
     public HttpServletRequestTranslator(HttpServletRequestCookieTranslator httpServletCookieTranslator,
                                         HttpServletRequestHeaderTranslator httpServletRequestHeaderTranslator,
-                                        QueryStringToMap queryStringToMap, MimeTypeTranslator mimeTypeTranslator,
+                                        QueryStringToMap queryStringToMap, PathNormalizer pathNormalizer,
+                                        MimeTypeTranslator mimeTypeTranslator,
                                         Map<String, CookieConfig> cookieConfigs) {
         this.httpServletCookieTranslator = httpServletCookieTranslator;
         this.httpServletRequestHeaderTranslator = httpServletRequestHeaderTranslator;
         this.queryStringToMap = queryStringToMap;
+        this.pathNormalizer = pathNormalizer;
         this.mimeTypeTranslator = mimeTypeTranslator;
         this.cookieConfigs = cookieConfigs;
     }
 
     public Ask from(HttpServletRequest containerRequest, byte[] containerBody) throws IOException {
-
         Method method = Method.valueOf(containerRequest.getMethod());
+        String normalizedPath = pathNormalizer.run(
+                containerRequest.getRequestURI(), containerRequest.getQueryString()
+        );
+        return from(containerRequest, containerBody, method, normalizedPath);
+    }
 
+    /**
+     * @param containerRequest the container's request
+     * @param containerBody the request body
+     * @param method the method of containerRequest
+     * @param normalizedPath the path of containerRequest that was already normalized, see PathNormalizer
+     * @return the Ask of containerRequest
+     * @throws IOException if containerRequest could not be read
+     */
+    public Ask from(HttpServletRequest containerRequest, byte[] containerBody, Method method, String normalizedPath) throws IOException {
         String pathWithParams = containerRequest.getRequestURI() +
                 queryStringForUrl(containerRequest.getQueryString());
 
@@ -86,6 +103,7 @@ public class HttpServletRequestTranslator  {
                 .authority(containerRequest.getServerName())
                 .port(containerRequest.getServerPort())
                 .pathWithParams(pathWithParams)
+                .normalizedPath(normalizedPath)
                 .contentType(contentType)
                 .accept(acceptTo)
                 .cookies(otterCookies)
@@ -60,7 +60,9 @@ public class LocationTranslator<S extends DefaultSession, U extends DefaultUser>
 
 
             Location location = new LocationBuilder<S, U>()
+                .method(method)
                 .path(from.getRegex())
+                .maxBodyBytes(from.getMaxBodyBytes())
                 .contentTypes(contentTypes)
                 .accepts(accepts)
                 .resource(from.getResource())
@@ -19,6 +19,7 @@ import net.tokensmith.otter.router.entity.RestRoute;
 import net.tokensmith.otter.router.factory.RestBetweenFlyweight;
 import net.tokensmith.otter.security.builder.entity.RestBetweens;
 import net.tokensmith.otter.translatable.Translatable;
+import net.tokensmith.otter.translator.config.TranslatorAppFactory;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -30,7 +31,8 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class RestLocationTranslator<S extends DefaultSession, U extends DefaultUser, P> {
-    private static DispatchAppFactory dispatchAppFactory = new DispatchAppFactory();
+    private TranslatorAppFactory translatorAppFactory;
+    private DispatchAppFactory dispatchAppFactory;
 
     private RestBetweenFlyweight<S, U> restBetweenFlyweight;
 
@@ -50,6 +52,12 @@ public class RestLocationTranslator<S extends DefaultSession, U extends DefaultU
     private Map<StatusCode, RestErrorTarget<S, U, ? extends Translatable>> defaultDispatchErrors;
 
     public RestLocationTranslator(RestBetweenFlyweight<S, U> restBetweenFlyweight, Map<StatusCode, RestError<U, ? extends Translatable>> restErrors, Map<StatusCode, RestError<U, ? extends Translatable>> defaultErrors, Map<StatusCode, RestErrorTarget<S, U, ? extends Translatable>> dispatchErrors, Map<StatusCode, RestErrorTarget<S, U, ? extends Translatable>> defaultDispatchErrors, Validate restValidate) {
+        this(restBetweenFlyweight, restErrors, defaultErrors, dispatchErrors, defaultDispatchErrors, restValidate, new TranslatorAppFactory());
+    }
+
+    public RestLocationTranslator(RestBetweenFlyweight<S, U> restBetweenFlyweight, Map<StatusCode, RestError<U, ? extends Translatable>> restErrors, Map<StatusCode, RestError<U, ? extends Translatable>> defaultErrors, Map<StatusCode, RestErrorTarget<S, U, ? extends Translatable>> dispatchErrors, Map<StatusCode, RestErrorTarget<S, U, ? extends Translatable>> defaultDispatchErrors, Validate restValidate, TranslatorAppFactory translatorAppFactory) {
+        this.translatorAppFactory = translatorAppFactory;
+        this.dispatchAppFactory = new DispatchAppFactory(translatorAppFactory);
         this.restBetweenFlyweight = restBetweenFlyweight;
         this.restErrors = restErrors;
         this.defaultErrors = defaultErrors;
@@ -109,11 +117,15 @@ public class RestLocationTranslator<S extends DefaultSession, U extends DefaultU
         }
 
         RestLocationBuilder<S, U, P> locationBuilder = new RestLocationBuilder<S, U, P>()
+                .method(method)
                 .path(from.getRegex())
+                .maxBodyBytes(from.getMaxBodyBytes())
+                .parseWhileReading(Boolean.TRUE.equals(from.getParseWhileReading()))
                 .contentTypes(contentTypes)
                 .accepts(accepts)
                 .restResource(from.getRestResource())
                 .payload(from.getPayload())
+                .translatorAppFactory(translatorAppFactory)
                 .validate(validate)
                 .before(
                         Stream.of(betweens.getBefore(), from.getBefore())
@@ -4,42 +4,80 @@ package net.tokensmith.otter.router;
 import net.tokensmith.otter.router.entity.Location;
 import net.tokensmith.otter.router.entity.MatchedLocation;
 import net.tokensmith.otter.router.entity.Method;
+import net.tokensmith.otter.router.index.PatternSegmenter;
+import net.tokensmith.otter.router.index.RouteIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.regex.Matcher;
 
 public class Dispatcher {
     protected static Logger LOGGER = LoggerFactory.getLogger(Dispatcher.class);
-    private static String OTTER_PREFIX = "/app";
-    private static String EMPTY = "";
-    private List<Location> get = new ArrayList<>();
-    private List<Location> post = new ArrayList<>();
-    private List<Location> put = new ArrayList<>();
-    private List<Location> patch = new ArrayList<>();
-    private List<Location> delete = new ArrayList<>();
-    private List<Location> connect = new ArrayList<>();
-    private List<Location> options = new ArrayList<>();
-    private List<Location> trace = new ArrayList<>();
-    private List<Location> head = new ArrayList<>();
+    private List<Location> get = new Locations(Method.GET);
+    private List<Location> post = new Locations(Method.POST);
+    private List<Location> put = new Locations(Method.PUT);
+    private List<Location> patch = new Locations(Method.PATCH);
+    private List<Location> delete = new Locations(Method.DELETE);
+    private List<Location> connect = new Locations(Method.CONNECT);
+    private List<Location> options = new Locations(Method.OPTIONS);
+    private List<Location> trace = new Locations(Method.TRACE);
+    private List<Location> head = new Locations(Method.HEAD);
+
+    // segment tries of the locations above, used by find. They are replaced, never changed, when locations
+    // change so requests read them without a lock.
+    private PatternSegmenter patternSegmenter = new PatternSegmenter();
+    private volatile Map<Method, RouteIndex> indexes = new EnumMap<>(Method.class);
+
+
+    /**
+     * Finds the first location for the method whose regex matches the url.
+     *
+     * @param method the http method
+     * @param url the normalized path, see PathNormalizer. It must not have the otter prefix, /app
+     * @return the matched location or empty if none matched.
+     */
+    public Optional<MatchedLocation> find(Method method, String url) {
+        RouteIndex index = indexes.get(method);
+        if (Objects.isNull(index)) {
+            return Optional.empty();
+        }
+        return index.find(url);
+    }
 
+    public void add(Method method, Location location) {
+        locations(method).add(location);
+    }
 
-    public Optional<MatchedLocation> find(Method method, String url) {
-        // this allows urls to resources to not have the otter prefix, /app
-        String scrubbedUrl = url.replaceAll(OTTER_PREFIX, EMPTY);
-
-        Optional<MatchedLocation> m = Optional.empty();
-        for(Location location: locations(method)) {
-            Matcher matcher = location.getPattern().matcher(scrubbedUrl);
-            if (matcher.matches()) {
-                m = Optional.of(new MatchedLocation(matcher, location));
-                break;
-            }
+    /**
+     * Builds a new index of the locations of a method and publishes it. It is called when the list of a method
+     * changes, so locations that were added to the list directly are indexed too.
+     *
+     * @param method the http method
+     * @param locations the locations of the method
+     */
+    protected synchronized void rebuild(Method method, List<Location> locations) {
+        RouteIndex index = new RouteIndex(patternSegmenter);
+        for(Location location: locations) {
+            index.add(location);
         }
-        return m;
+        Map<Method, RouteIndex> rebuilt = new EnumMap<>(Method.class);
+        rebuilt.putAll(indexes);
+        rebuilt.put(method, index);
+        indexes = rebuilt;
+    }
+
+    /**
+     * @param method the http method
+     * @return the published index of the method, null if no locations were added for it.
+     */
+    protected RouteIndex index(Method method) {
+        return indexes.get(method);
     }
 
     public List<Location> locations(Method method) {
@@ -102,4 +140,86 @@ public class Dispatcher {
     public List<Location> getHead() {
         return head;
     }
+
+    /**
+     * The locations of a method, its index is rebuilt when it is changed with add, addAll, set, remove
+     * or clear.
+     */
+    protected class Locations extends ArrayList<Location> {
+        private Method method;
+
+        public Locations(Method method) {
+            this.method = method;
+        }
+
+        @Override
+        public boolean add(Location location) {
+            synchronized (Dispatcher.this) {
+                boolean added = super.add(location);
+                rebuild(method, this);
+                return added;
+            }
+        }
+
+        @Override
+        public void add(int index, Location location) {
+            synchronized (Dispatcher.this) {
+                super.add(index, location);
+                rebuild(method, this);
+            }
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends Location> locations) {
+            synchronized (Dispatcher.this) {
+                boolean added = super.addAll(locations);
+                rebuild(method, this);
+                return added;
+            }
+        }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends Location> locations) {
+            synchronized (Dispatcher.this) {
+                boolean added = super.addAll(index, locations);
+                rebuild(method, this);
+                return added;
+            }
+        }
+
+        @Override
+        public Location set(int index, Location location) {
+            synchronized (Dispatcher.this) {
+                Location previous = super.set(index, location);
+                rebuild(method, this);
+                return previous;
+            }
+        }
+
+        @Override
+        public Location remove(int index) {
+            synchronized (Dispatcher.this) {
+                Location removed = super.remove(index);
+                rebuild(method, this);
+                return removed;
+            }
+        }
+
+        @Override
+        public boolean remove(Object location) {
+            synchronized (Dispatcher.this) {
+                boolean removed = super.remove(location);
+                rebuild(method, this);
+                return removed;
+            }
+        }
+
+        @Override
+        public void clear() {
+            synchronized (Dispatcher.this) {
+                super.clear();
+                rebuild(method, this);
+            }
+        }
+    }
 }
@@ -9,8 +9,9 @@ import net.tokensmith.otter.router.entity.io.Answer;
 import net.tokensmith.otter.router.entity.io.Ask;
 import net.tokensmith.otter.router.exception.HaltException;
 
-import java.util.ArrayList;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.regex.Matcher;
 
 public class Engine {
     private Dispatcher dispatcher;
@@ -23,43 +24,85 @@ public class Engine {
     }
 
     public Answer route(Ask ask, Answer answer) throws HaltException {
-        Answer resourceAnswer = new Answer();
-        Optional<MatchedLocation> matchedLocation = dispatcher.find(
-                ask.getMethod(), ask.getPathWithParams()
-        );
-
-        if (matchedLocation.isPresent()) {
-            ask.setMatcher(Optional.of(matchedLocation.get().getMatcher()));
-            ask.setPossibleContentTypes(matchedLocation.get().getLocation().getContentTypes());
-            ask.setPossibleAccepts(matchedLocation.get().getLocation().getAccepts());
-        } else {
-            ask.setMatcher(Optional.empty());
-            ask.setPossibleContentTypes(new ArrayList<>());
-            ask.setPossibleAccepts(new ArrayList<>());
-        }
+        return select(ask).run(ask, answer);
+    }
 
-        try {
-            StatusCode matches = to(matchedLocation, ask);
-            switch (matches){
-                case OK:
-                    resourceAnswer = found(matchedLocation.get(), ask, answer);
-                    break;
-                case NOT_FOUND:
-                    resourceAnswer = notFound(ask, answer);
-                    break;
-                case UNSUPPORTED_MEDIA_TYPE:
-                    resourceAnswer = unSupportedMediaType(matchedLocation.get(), ask, answer);
-                    break;
-                case NOT_ACCEPTABLE:
-                    resourceAnswer = notAcceptable(matchedLocation.get(), ask, answer);
-                    break;
-            }
+    /**
+     * Routes the request to a location that was already found for it, see ServletGateway.lookup.
+     *
+     * @param ask Ask to pass to the route runner
+     * @param answer Answer to pass to the route runner
+     * @param matchedLocation the location that matched ask, empty when none did.
+     * @return An Answer from the route runner
+     * @throws HaltException Could be thrown from the route runner.
+     */
+    public Answer route(Ask ask, Answer answer, Optional<MatchedLocation> matchedLocation) throws HaltException {
+        return select(ask, matchedLocation).run(ask, answer);
+    }
+
+    /**
+     * Routes the request without waiting for an async rest resource, see RouteRunner.runAsync.
+     *
+     * @param ask Ask to pass to the route runner
+     * @param answer Answer to pass to the route runner
+     * @return a stage of the answer, it completes exceptionally with a HaltException when the route halts.
+     */
+    public CompletionStage<Answer> routeAsync(Ask ask, Answer answer) {
+        return select(ask).runAsync(ask, answer);
+    }
+
+    /**
+     * The async version of route with a location that was already found.
+     *
+     * @param ask Ask to pass to the route runner
+     * @param answer Answer to pass to the route runner
+     * @param matchedLocation the location that matched ask, empty when none did.
+     * @return a stage of the answer, it completes exceptionally with a HaltException when the route halts.
+     */
+    public CompletionStage<Answer> routeAsync(Ask ask, Answer answer, Optional<MatchedLocation> matchedLocation) {
+        return select(ask, matchedLocation).runAsync(ask, answer);
+    }
 
-        } catch (HaltException e) {
-            throw e;
+    protected RouteRunner select(Ask ask) {
+        return select(ask, dispatcher.find(ask.getMethod(), ask.getNormalizedPath()));
+    }
+
+    /**
+     * Picks the route runner for the request and sets the matcher, content types and accepts of the ask for it.
+     * When no location matched it is the not found location's. When the location does not allow the content
+     * type or accept of the request it is the location's error route runner for the status code.
+     * This does not validate that the ask's content type matches the not found's content-type
+     *
+     * @param ask the request
+     * @param matchedLocation the location that matched ask, empty when none did.
+     * @return the route runner to run
+     */
+    protected RouteRunner select(Ask ask, Optional<MatchedLocation> matchedLocation) {
+        RouteRunner routeRunner;
+        StatusCode matches = to(matchedLocation, ask);
+        switch (matches) {
+            case OK:
+                routeRunner = matchedLocation.get().getLocation().getRouteRunner();
+                prepare(ask, Optional.of(matchedLocation.get().getMatcher()), matchedLocation.get().getLocation());
+                break;
+            case NOT_FOUND:
+                MatchedLocation notFound = notFoundDispatcher.find(ask.getMethod(), ask.getNormalizedPath()).get();
+                routeRunner = notFound.getLocation().getRouteRunner();
+                prepare(ask, Optional.of(notFound.getMatcher()), notFound.getLocation());
+                break;
+            default:
+                // unsupported media type or not acceptable.
+                routeRunner = matchedLocation.get().getLocation().getErrorRouteRunners().get(matches);
+                prepare(ask, Optional.empty(), matchedLocation.get().getLocation());
+                break;
         }
+        return routeRunner;
+    }
 
-        return resourceAnswer;
+    protected void prepare(Ask ask, Optional<Matcher> matcher, Location location) {
+        ask.setMatcher(matcher);
+        ask.setPossibleContentTypes(location.getContentTypes());
+        ask.setPossibleAccepts(location.getAccepts());
     }
 
     protected StatusCode to(Optional<MatchedLocation> matchedLocation, Ask ask) {
@@ -78,48 +121,6 @@ public class Engine {
         return to;
     }
 
-    protected Answer found(MatchedLocation foundLocation, Ask ask, Answer answer) throws HaltException {
-        ask.setMatcher(Optional.of(foundLocation.getMatcher()));
-        ask.setPossibleContentTypes(foundLocation.getLocation().getContentTypes());
-        return foundLocation.getLocation().getRouteRunner().run(ask, answer);
-    }
-
-    /**
-     * Finds the location from the notFoundDispatcher, executes its route, then returns the answer.
-     * This does not validate that the ask's content type matches the not found's content-type
-     *
-     * @param ask Ask to pass to the route runner
-     * @param answer Answer to pass to the route runner
-     * @return An Answer from the route runner
-     * @throws HaltException Could be thrown from the route runner.
-     */
-    protected Answer notFound(Ask ask, Answer answer) throws HaltException {
-        Optional<MatchedLocation> matchedLocation = notFoundDispatcher.find(ask.getMethod(), ask.getPathWithParams());
-        MatchedLocation foundLocation = matchedLocation.get();
-        ask.setMatcher(Optional.of(foundLocation.getMatcher()));
-        ask.setPossibleContentTypes(foundLocation.getLocation().getContentTypes());
-        ask.setPossibleAccepts(foundLocation.getLocation().getAccepts());
-        return matchedLocation.get().getLocation().getRouteRunner().run(ask, answer);
-    }
-
-    protected Answer unSupportedMediaType(MatchedLocation foundLocation, Ask ask, Answer answer) throws HaltException{
-        ask.setMatcher(Optional.empty());
-        ask.setPossibleContentTypes(foundLocation.getLocation().getContentTypes());
-        ask.setPossibleAccepts(foundLocation.getLocation().getAccepts());
-
-        RouteRunner mediaTypeRunner = foundLocation.getLocation().getErrorRouteRunners().get(StatusCode.UNSUPPORTED_MEDIA_TYPE);
-        return mediaTypeRunner.run(ask, answer);
-    }
-
-    protected Answer notAcceptable(MatchedLocation foundLocation, Ask ask, Answer answer) throws HaltException{
-        ask.setMatcher(Optional.empty());
-        ask.setPossibleContentTypes(foundLocation.getLocation().getContentTypes());
-        ask.setPossibleAccepts(foundLocation.getLocation().getAccepts());
-
-        RouteRunner notAcceptable = foundLocation.getLocation().getErrorRouteRunners().get(StatusCode.NOT_ACCEPTABLE);
-        return notAcceptable.run(ask, answer);
-    }
-
     public Dispatcher getDispatcher() {
         return dispatcher;
     }
@@ -20,6 +20,7 @@ public class AskBuilder {
     private String authority;
     private Integer port;
     private String pathWithParams;
+    private String normalizedPath;
     private MimeType contentType;
     private MimeType accept;
     private Map<String, String> headers;
@@ -71,6 +72,11 @@ public class AskBuilder {
         return this;
     }
 
+    public AskBuilder normalizedPath(String normalizedPath) {
+        this.normalizedPath = normalizedPath;
+        return this;
+    }
+
     public AskBuilder contentType(MimeType contentType) {
         this.contentType = contentType;
         return this;
@@ -117,6 +123,6 @@ public class AskBuilder {
     }
 
     public Ask build() {
-        return new Ask(this.matcher, this.possibleContentTypes, this.possibleAccepts, this.method, this.scheme, this.authority, this.port, this.pathWithParams, this.contentType, this.accept, this.headers, this.cookies, this.queryParams, this.formData, this.body, this.csrfChallenge, this.ipAddress);
+        return new Ask(this.matcher, this.possibleContentTypes, this.possibleAccepts, this.method, this.scheme, this.authority, this.port, this.pathWithParams, this.normalizedPath, this.contentType, this.accept, this.headers, this.cookies, this.queryParams, this.formData, this.body, this.csrfChallenge, this.ipAddress);
     }
 }
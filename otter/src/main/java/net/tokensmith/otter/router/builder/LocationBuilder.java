@@ -11,6 +11,7 @@ import net.tokensmith.otter.dispatch.html.RouteRun;
 import net.tokensmith.otter.dispatch.translator.AnswerTranslator;
 import net.tokensmith.otter.dispatch.translator.RequestTranslator;
 import net.tokensmith.otter.router.entity.Location;
+import net.tokensmith.otter.router.entity.Method;
 import net.tokensmith.otter.router.entity.Route;
 import net.tokensmith.otter.router.entity.between.Between;
 
@@ -22,6 +23,9 @@ import java.util.regex.Pattern;
 
 public class LocationBuilder<S extends DefaultSession, U extends DefaultUser> {
     private Pattern pattern;
+    // the resource methods are bound to it, if it is not set they are picked for each request.
+    private Method method;
+    private Long maxBodyBytes;
     private List<MimeType> contentTypes = new ArrayList<>();
     private List<MimeType> accepts = new ArrayList<>();
     private Resource<S, U> resource;
@@ -39,6 +43,16 @@ public class LocationBuilder<S extends DefaultSession, U extends DefaultUser> {
         return this;
     }
 
+    public LocationBuilder<S, U> method(Method method) {
+        this.method = method;
+        return this;
+    }
+
+    public LocationBuilder<S, U> maxBodyBytes(Long maxBodyBytes) {
+        this.maxBodyBytes = maxBodyBytes;
+        return this;
+    }
+
     public LocationBuilder<S, U> contentTypes(List<MimeType> contentTypes) {
         this.contentTypes = contentTypes;
         return this;
@@ -111,7 +125,7 @@ public class LocationBuilder<S extends DefaultSession, U extends DefaultUser> {
                 .build();
 
 
-        RouteRunner routeRunner = new RouteRun<S, U>(route, requestTranslator, answerTranslator, errorResources);
-        return new Location(pattern, contentTypes, accepts, routeRunner, errorRouteRunners);
+        RouteRunner routeRunner = new RouteRun<S, U>(route, requestTranslator, answerTranslator, errorResources, method);
+        return new Location(pattern, contentTypes, accepts, routeRunner, errorRouteRunners, maxBodyBytes);
     }
 }
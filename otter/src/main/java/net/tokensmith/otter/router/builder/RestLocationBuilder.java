@@ -11,13 +11,12 @@ import net.tokensmith.otter.dispatch.json.JsonDispatchErrorRouteRun;
 import net.tokensmith.otter.dispatch.json.JsonRouteRun;
 import net.tokensmith.otter.dispatch.json.validator.Validate;
 import net.tokensmith.otter.dispatch.translator.RestErrorHandler;
-import net.tokensmith.otter.dispatch.translator.rest.RestBtwnRequestTranslator;
 import net.tokensmith.otter.dispatch.translator.rest.RestBtwnResponseTranslator;
 import net.tokensmith.otter.dispatch.translator.rest.RestErrorRequestTranslator;
 import net.tokensmith.otter.dispatch.translator.rest.RestErrorResponseTranslator;
-import net.tokensmith.otter.dispatch.translator.rest.RestRequestTranslator;
 import net.tokensmith.otter.dispatch.translator.rest.RestResponseTranslator;
 import net.tokensmith.otter.router.entity.Location;
+import net.tokensmith.otter.router.entity.Method;
 import net.tokensmith.otter.router.entity.RestRoute;
 import net.tokensmith.otter.router.entity.between.RestBetween;
 import net.tokensmith.otter.translator.JsonTranslator;
@@ -32,6 +31,10 @@ import java.util.regex.Pattern;
 
 public class RestLocationBuilder<S extends DefaultSession, U extends DefaultUser, P> {
     private Pattern pattern;
+    // the resource method is bound to it, if it is not set it is picked for each request.
+    private Method method;
+    private Long maxBodyBytes;
+    private Boolean parseWhileReading = false;
     private List<MimeType> contentTypes = new ArrayList<>();
     private List<MimeType> accepts = new ArrayList<>();
     private RestResource<U, P> restResource;
@@ -55,6 +58,21 @@ public class RestLocationBuilder<S extends DefaultSession, U extends DefaultUser
         return this;
     }
 
+    public RestLocationBuilder<S, U, P> method(Method method) {
+        this.method = method;
+        return this;
+    }
+
+    public RestLocationBuilder<S, U, P> maxBodyBytes(Long maxBodyBytes) {
+        this.maxBodyBytes = maxBodyBytes;
+        return this;
+    }
+
+    public RestLocationBuilder<S, U, P> parseWhileReading(Boolean parseWhileReading) {
+        this.parseWhileReading = parseWhileReading;
+        return this;
+    }
+
     public RestLocationBuilder<S, U, P> contentTypes(List<MimeType> contentTypes) {
         this.contentTypes = contentTypes;
         return this;
@@ -85,6 +103,15 @@ public class RestLocationBuilder<S extends DefaultSession, U extends DefaultUser
         return this;
     }
 
+    /**
+     * @param translatorAppFactory makes the json translator of the payload, it has the acceleration of the Shape.
+     * @return this
+     */
+    public RestLocationBuilder<S, U, P> translatorAppFactory(TranslatorAppFactory translatorAppFactory) {
+        this.translatorAppFactory = translatorAppFactory;
+        return this;
+    }
+
     public RestLocationBuilder<S, U, P> validate(Validate validate) {
         this.validate = validate;
         return this;
@@ -128,10 +155,7 @@ public class RestLocationBuilder<S extends DefaultSession, U extends DefaultUser
                 .build();
 
         JsonTranslator<P> jsonTranslator = translatorAppFactory.jsonTranslator(payload);
-
-        RestRequestTranslator<S, U, P> restRequestTranslator = new RestRequestTranslator<S, U, P>();
         RestResponseTranslator<P> restResponseTranslator = new RestResponseTranslator<P>();
-        RestBtwnRequestTranslator<S, U, P> restBtwnRequestTranslator = new RestBtwnRequestTranslator<>();
         RestBtwnResponseTranslator<P> restBtwnResponseTranslator = new RestBtwnResponseTranslator<>();
 
         RouteRunner routeRunner;
@@ -139,31 +163,31 @@ public class RestLocationBuilder<S extends DefaultSession, U extends DefaultUser
             routeRunner = new JsonDispatchErrorRouteRun<>(
                     restRoute,
                     restResponseTranslator,
-                    restRequestTranslator,
-                    restBtwnRequestTranslator,
                     restBtwnResponseTranslator,
                     jsonTranslator,
                     validate,
                     errorHandlers,
                     new RestErrorRequestTranslator<>(),
-                    new RestErrorResponseTranslator()
+                    new RestErrorResponseTranslator(),
+                    method
             );
 
         } else {
             routeRunner = new JsonRouteRun<S, U, P>(
                     restRoute,
                     restResponseTranslator,
-                    restRequestTranslator,
-                    restBtwnRequestTranslator,
                     restBtwnResponseTranslator,
                     jsonTranslator,
                     validate,
                     errorHandlers,
                     new RestErrorRequestTranslator<>(),
-                    new RestErrorResponseTranslator()
+                    new RestErrorResponseTranslator(),
+                    method
             );
         }
 
-        return new Location(pattern, contentTypes, accepts, routeRunner, errorRouteRunners);
+        Location location = new Location(pattern, contentTypes, accepts, routeRunner, errorRouteRunners, maxBodyBytes);
+        location.setParseWhileReading(parseWhileReading);
+        return location;
     }
 }
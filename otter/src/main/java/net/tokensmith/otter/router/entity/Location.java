@@ -20,13 +20,22 @@ public class Location {
     private List<MimeType> accepts;
     private RouteRunner routeRunner;
     private Map<StatusCode, RouteRunner> errorRouteRunners = new HashMap<>();
+    // when null the max body bytes on Shape is used.
+    private Long maxBodyBytes;
+    // tokenize json bodies as they are read.
+    private Boolean parseWhileReading = false;
 
     public Location(Pattern pattern, List<MimeType> contentTypes, List<MimeType> accepts, RouteRunner routeRunner, Map<StatusCode, RouteRunner> errorRouteRunners) {
+        this(pattern, contentTypes, accepts, routeRunner, errorRouteRunners, null);
+    }
+
+    public Location(Pattern pattern, List<MimeType> contentTypes, List<MimeType> accepts, RouteRunner routeRunner, Map<StatusCode, RouteRunner> errorRouteRunners, Long maxBodyBytes) {
         this.pattern = pattern;
         this.contentTypes = contentTypes;
         this.accepts = accepts;
         this.routeRunner = routeRunner;
         this.errorRouteRunners = errorRouteRunners;
+        this.maxBodyBytes = maxBodyBytes;
     }
 
     public Pattern getPattern() {
@@ -69,8 +78,24 @@ public class Location {
         this.errorRouteRunners = errorRouteRunners;
     }
 
+    public Long getMaxBodyBytes() {
+        return maxBodyBytes;
+    }
+
+    public void setMaxBodyBytes(Long maxBodyBytes) {
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
     @Override
     public String toString() {
         return pattern.toString();
     }
+
+    public Boolean getParseWhileReading() {
+        return parseWhileReading;
+    }
+
+    public void setParseWhileReading(Boolean parseWhileReading) {
+        this.parseWhileReading = parseWhileReading;
+    }
 }
@@ -0,0 +1,45 @@
+package net.tokensmith.otter.router.entity;
+
+
+import java.util.Optional;
+
+
+/**
+ * The location a request matched before its body was read, it is kept so the request is not matched again
+ * when it is routed.
+ */
+public class Lookup {
+    private Method method;
+    private String normalizedPath;
+    private Optional<MatchedLocation> matchedLocation;
+
+    public Lookup(Method method, String normalizedPath, Optional<MatchedLocation> matchedLocation) {
+        this.method = method;
+        this.normalizedPath = normalizedPath;
+        this.matchedLocation = matchedLocation;
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    public void setMethod(Method method) {
+        this.method = method;
+    }
+
+    public String getNormalizedPath() {
+        return normalizedPath;
+    }
+
+    public void setNormalizedPath(String normalizedPath) {
+        this.normalizedPath = normalizedPath;
+    }
+
+    public Optional<MatchedLocation> getMatchedLocation() {
+        return matchedLocation;
+    }
+
+    public void setMatchedLocation(Optional<MatchedLocation> matchedLocation) {
+        this.matchedLocation = matchedLocation;
+    }
+}
@@ -0,0 +1,38 @@
+package net.tokensmith.otter.router.entity;
+
+
+/**
+ * A single path segment of a Location's regex, the text between two "/".
+ * A literal segment must equal the request's path segment exactly. A segment that
+ * is not literal is a capture, its value is verified by the Location's full regex.
+ */
+public class Segment {
+    private String value;
+    private Boolean literal;
+
+    public Segment(String value, Boolean literal) {
+        this.value = value;
+        this.literal = literal;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public void setValue(String value) {
+        this.value = value;
+    }
+
+    public Boolean isLiteral() {
+        return literal;
+    }
+
+    public void setLiteral(Boolean literal) {
+        this.literal = literal;
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
@@ -0,0 +1,36 @@
+package net.tokensmith.otter.router.entity.between;
+
+
+import net.tokensmith.otter.dispatch.entity.RestBtwnRequest;
+import net.tokensmith.otter.dispatch.entity.RestBtwnResponse;
+import net.tokensmith.otter.router.entity.Method;
+import net.tokensmith.otter.router.exception.HaltException;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+
+/**
+ * A RestBetween that completes later. When the route's resource is an AsyncRestResource the next between, or the
+ * resource, runs when the stage completes. To halt complete the stage exceptionally with a HaltException.
+ *
+ * Routes whose resource is a RestResource wait for the stage.
+ *
+ * @param <S> Session object
+ * @param <U> User object, intended to be a authenticated user.
+ */
+public interface AsyncRestBetween<S, U> extends RestBetween<S, U> {
+    CompletionStage<Void> processAsync(Method method, RestBtwnRequest<S, U> request, RestBtwnResponse response);
+
+    @Override
+    default void process(Method method, RestBtwnRequest<S, U> request, RestBtwnResponse response) throws HaltException {
+        try {
+            processAsync(method, request, response).toCompletableFuture().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof HaltException) {
+                throw (HaltException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
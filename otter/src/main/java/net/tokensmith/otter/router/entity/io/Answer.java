@@ -2,6 +2,7 @@ package net.tokensmith.otter.router.entity.io;
 
 import net.tokensmith.otter.controller.entity.Cookie;
 import net.tokensmith.otter.controller.entity.StatusCode;
+import net.tokensmith.otter.translator.JsonStream;
 
 import java.util.Map;
 import java.util.Optional;
@@ -13,6 +14,7 @@ public class Answer {
     private Optional<byte[]> payload;
     private Optional<String> template = Optional.empty();
     private Optional<Object> presenter = Optional.empty();
+    private Optional<JsonStream> streamPayload = Optional.empty();
 
     public Answer() {
     }
@@ -73,4 +75,12 @@ public class Answer {
     public void setPresenter(Optional<Object> presenter) {
         this.presenter = presenter;
     }
+
+    public Optional<JsonStream> getStreamPayload() {
+        return streamPayload;
+    }
+
+    public void setStreamPayload(Optional<JsonStream> streamPayload) {
+        this.streamPayload = streamPayload;
+    }
 }
@@ -3,6 +3,7 @@ package net.tokensmith.otter.router.entity.io;
 import net.tokensmith.otter.controller.entity.Cookie;
 import net.tokensmith.otter.controller.entity.mime.MimeType;
 import net.tokensmith.otter.router.entity.Method;
+import net.tokensmith.otter.translator.JsonTokenizer;
 
 import java.util.List;
 import java.util.Map;
@@ -21,6 +22,8 @@ public class Ask {
     private String authority;
     private Integer port;
     private String pathWithParams;
+    // pathWithParams without the otter prefix, used to find the location.
+    private String normalizedPath;
     private MimeType contentType;
     private MimeType accept;
     private Map<String, String> headers;
@@ -28,13 +31,15 @@ public class Ask {
     private Map<String, List<String>> queryParams;
     private Map<String, List<String>> formData;
     private Optional<byte[]> body;
+    // the body's tokens when it was tokenized while it was read, then body is empty.
+    private Optional<JsonTokenizer> bodyTokens = Optional.empty();
     private Optional<String> csrfChallenge;
     private String ipAddress;
 
     public Ask() {
     }
 
-    public Ask(Optional<Matcher> matcher, List<MimeType> possibleContentTypes,List<MimeType> possibleAccepts, Method method, String scheme, String authority, Integer port, String pathWithParams, MimeType contentType, MimeType accept, Map<String, String> headers, Map<String, Cookie> cookies, Map<String, List<String>> queryParams, Map<String, List<String>> formData, Optional<byte[]> body, Optional<String> csrfChallenge, String ipAddress) {
+    public Ask(Optional<Matcher> matcher, List<MimeType> possibleContentTypes,List<MimeType> possibleAccepts, Method method, String scheme, String authority, Integer port, String pathWithParams, String normalizedPath, MimeType contentType, MimeType accept, Map<String, String> headers, Map<String, Cookie> cookies, Map<String, List<String>> queryParams, Map<String, List<String>> formData, Optional<byte[]> body, Optional<String> csrfChallenge, String ipAddress) {
         this.matcher = matcher;
         this.possibleContentTypes = possibleContentTypes;
         this.possibleAccepts = possibleAccepts;
@@ -43,6 +48,7 @@ public class Ask {
         this.authority = authority;
         this.port = port;
         this.pathWithParams = pathWithParams;
+        this.normalizedPath = normalizedPath;
         this.contentType = contentType;
         this.accept = accept;
         this.headers = headers;
@@ -102,6 +108,14 @@ public class Ask {
         this.pathWithParams = pathWithParams;
     }
 
+    public String getNormalizedPath() {
+        return normalizedPath;
+    }
+
+    public void setNormalizedPath(String normalizedPath) {
+        this.normalizedPath = normalizedPath;
+    }
+
     public MimeType getContentType() {
         return contentType;
     }
@@ -189,4 +203,12 @@ public class Ask {
     public void setPossibleAccepts(List<MimeType> possibleAccepts) {
         this.possibleAccepts = possibleAccepts;
     }
+
+    public Optional<JsonTokenizer> getBodyTokens() {
+        return bodyTokens;
+    }
+
+    public void setBodyTokens(Optional<JsonTokenizer> bodyTokens) {
+        this.bodyTokens = bodyTokens;
+    }
 }
@@ -0,0 +1,199 @@
+package net.tokensmith.otter.router.index;
+
+
+import net.tokensmith.otter.router.entity.Segment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Splits a Location's regex into path segments so it can be placed in a RouteIndex.
+ *
+ * A regex can only be split when every match of it has the same number of "/" as the regex
+ * itself. Therefore, a "/" must not be inside a group or character class, must not be quantified,
+ * and no segment may be able to match a "/". When a regex cannot be split safely an empty
+ * Optional is returned and the RouteIndex will fall back to matching it with the full regex.
+ */
+public class PatternSegmenter {
+    private static final char SEPARATOR = '/';
+    private static final String QUANTIFIERS = "?*+{";
+    private static final String META = "^$?*+{}[]().|\\";
+    // escapes that are not literals but can never match a "/"
+    private static final String SAFE_ESCAPES = "dwsbB";
+    private static final String SAFE_CLASS_ESCAPES = "dwstnrf";
+
+    public Optional<List<Segment>> run(String regex) {
+        String r = regex;
+        if (r.startsWith("^")) {
+            r = r.substring(1);
+        }
+        if (r.endsWith("$") && !r.endsWith("\\$")) {
+            r = r.substring(0, r.length() - 1);
+        }
+
+        List<Segment> segments = new ArrayList<>();
+        StringBuilder raw = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        boolean isLiteral = true;
+        int depth = 0;
+
+        int i = 0;
+        while (i < r.length()) {
+            char c = r.charAt(i);
+
+            if (c == '\\') {
+                if (i + 1 >= r.length()) {
+                    return Optional.empty();
+                }
+                char n = r.charAt(i + 1);
+                if (!Character.isLetterOrDigit(n) && n != SEPARATOR) {
+                    literal.append(n);
+                } else if (SAFE_ESCAPES.indexOf(n) != -1) {
+                    isLiteral = false;
+                } else {
+                    return Optional.empty();
+                }
+                raw.append(c).append(n);
+                i += 2;
+                continue;
+            }
+
+            if (c == '[') {
+                int end = endOfClass(r, i);
+                if (end == -1) {
+                    return Optional.empty();
+                }
+                raw.append(r, i, end + 1);
+                isLiteral = false;
+                i = end + 1;
+                continue;
+            }
+
+            if (c == '(') {
+                if (i + 1 < r.length() && r.charAt(i + 1) == '?' && !isAllowedGroup(r, i)) {
+                    return Optional.empty();
+                }
+                depth++;
+            } else if (c == ')') {
+                depth--;
+                if (depth < 0) {
+                    return Optional.empty();
+                }
+            } else if (c == '|' && depth == 0) {
+                return Optional.empty();
+            } else if (c == '.') {
+                return Optional.empty();
+            } else if (c == SEPARATOR) {
+                if (depth > 0) {
+                    return Optional.empty();
+                }
+                if (i + 1 < r.length() && QUANTIFIERS.indexOf(r.charAt(i + 1)) != -1) {
+                    return Optional.empty();
+                }
+                segments.add(toSegment(raw, literal, isLiteral));
+                raw = new StringBuilder();
+                literal = new StringBuilder();
+                isLiteral = true;
+                i++;
+                continue;
+            }
+
+            if (META.indexOf(c) != -1) {
+                isLiteral = false;
+            } else {
+                literal.append(c);
+            }
+            raw.append(c);
+            i++;
+        }
+
+        if (depth != 0) {
+            return Optional.empty();
+        }
+        segments.add(toSegment(raw, literal, isLiteral));
+        return Optional.of(segments);
+    }
+
+    protected Segment toSegment(StringBuilder raw, StringBuilder literal, boolean isLiteral) {
+        if (isLiteral) {
+            return new Segment(literal.toString(), true);
+        }
+        return new Segment(raw.toString(), false);
+    }
+
+    /**
+     * Only non capturing and named groups are allowed. Look arounds and inline flags are not.
+     *
+     * @param r the regex
+     * @param i position of the "("
+     * @return true if the group is allowed.
+     */
+    protected boolean isAllowedGroup(String r, int i) {
+        if (i + 2 >= r.length()) {
+            return false;
+        }
+        char kind = r.charAt(i + 2);
+        if (kind == ':') {
+            return true;
+        }
+        return kind == '<' && i + 3 < r.length() && Character.isLetter(r.charAt(i + 3));
+    }
+
+    /**
+     * Finds the end of a character class that can never match a "/".
+     *
+     * @param r the regex
+     * @param start position of the "["
+     * @return the position of the closing "]" or -1 if the class could match a "/" or is not supported.
+     */
+    protected int endOfClass(String r, int start) {
+        int i = start + 1;
+        if (i >= r.length() || r.charAt(i) == '^' || r.charAt(i) == ']') {
+            return -1;
+        }
+
+        // the previous single char in the class, used to check ranges.
+        int previous = -1;
+        while (i < r.length()) {
+            char c = r.charAt(i);
+            int current;
+
+            if (c == ']') {
+                return i;
+            } else if (c == '[' || (c == '&' && i + 1 < r.length() && r.charAt(i + 1) == '&')) {
+                return -1;
+            } else if (c == '\\') {
+                if (i + 1 >= r.length()) {
+                    return -1;
+                }
+                char n = r.charAt(i + 1);
+                if (!Character.isLetterOrDigit(n) && n != SEPARATOR) {
+                    current = n;
+                } else if (SAFE_CLASS_ESCAPES.indexOf(n) != -1) {
+                    current = -1;
+                } else {
+                    return -1;
+                }
+                i += 2;
+            } else if (c == '-' && previous != -1 && i + 1 < r.length() && r.charAt(i + 1) != ']') {
+                char to = r.charAt(i + 1);
+                if (to == '\\' || to == '[') {
+                    return -1;
+                }
+                if (previous <= SEPARATOR && SEPARATOR <= to) {
+                    return -1;
+                }
+                current = -1;
+                i += 2;
+            } else if (c == SEPARATOR) {
+                return -1;
+            } else {
+                current = c;
+                i++;
+            }
+            previous = current;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,122 @@
+package net.tokensmith.otter.router.index;
+
+
+import net.tokensmith.otter.router.entity.Location;
+import net.tokensmith.otter.router.entity.MatchedLocation;
+import net.tokensmith.otter.router.entity.Segment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Matcher;
+
+/**
+ * Index of the Locations for a single http method.
+ *
+ * Each Location's regex is split into segments and placed in a segment trie so a lookup walks
+ * the trie once per segment of the path, instead of running every regex. The trie only narrows
+ * down candidates, the full regex of a candidate is always what decides if it matches. Regexes
+ * that cannot be split are kept aside and are always candidates.
+ *
+ * The result is the same as checking every Location in the order they were added and returning
+ * the first one that matches.
+ */
+public class RouteIndex {
+    private static final char SEPARATOR = '/';
+
+    private PatternSegmenter patternSegmenter;
+    private RouteNode root = new RouteNode();
+    private List<Location> locations = new ArrayList<>();
+    // positions of locations whose regex could not be split, ascending.
+    private List<Integer> unsegmented = new ArrayList<>();
+
+    public RouteIndex(PatternSegmenter patternSegmenter) {
+        this.patternSegmenter = patternSegmenter;
+    }
+
+    public void add(Location location) {
+        Integer position = locations.size();
+        locations.add(location);
+
+        Optional<List<Segment>> segments = patternSegmenter.run(location.getPattern().pattern());
+        if (segments.isEmpty()) {
+            unsegmented.add(position);
+            return;
+        }
+
+        RouteNode node = root;
+        for (Segment segment: segments.get()) {
+            node = segment.isLiteral() ? node.literal(segment.getValue()) : node.capture();
+        }
+        node.getPositions().add(position);
+    }
+
+    public Optional<MatchedLocation> find(String path) {
+        Candidate best = new Candidate();
+        search(root, path, 0, best);
+        verify(unsegmented, path, best);
+
+        Optional<MatchedLocation> m = Optional.empty();
+        if (Objects.nonNull(best.matcher)) {
+            m = Optional.of(new MatchedLocation(best.matcher, locations.get(best.position)));
+        }
+        return m;
+    }
+
+    protected void search(RouteNode node, String path, int start, Candidate best) {
+        int end = path.indexOf(SEPARATOR, start);
+        boolean isLast = end == -1;
+        String segment = isLast ? path.substring(start) : path.substring(start, end);
+
+        RouteNode literal = node.getLiterals().get(segment);
+        if (Objects.nonNull(literal)) {
+            next(literal, path, end, isLast, best);
+        }
+        if (Objects.nonNull(node.getCapture())) {
+            next(node.getCapture(), path, end, isLast, best);
+        }
+    }
+
+    protected void next(RouteNode node, String path, int end, boolean isLast, Candidate best) {
+        if (isLast) {
+            verify(node.getPositions(), path, best);
+        } else {
+            search(node, path, end + 1, best);
+        }
+    }
+
+    /**
+     * Runs the full regex of each candidate that was added before the current best candidate.
+     *
+     * @param positions candidate positions, ascending.
+     * @param path the path to match
+     * @param best the best candidate so far, it will be replaced if an earlier one matches.
+     */
+    protected void verify(List<Integer> positions, String path, Candidate best) {
+        for (Integer position: positions) {
+            if (position >= best.position) {
+                return;
+            }
+            Matcher matcher = locations.get(position).getPattern().matcher(path);
+            if (matcher.matches()) {
+                best.position = position;
+                best.matcher = matcher;
+                return;
+            }
+        }
+    }
+
+    public List<Location> getLocations() {
+        return locations;
+    }
+
+    public Integer size() {
+        return locations.size();
+    }
+
+    protected static class Candidate {
+        private int position = Integer.MAX_VALUE;
+        private Matcher matcher;
+    }
+}
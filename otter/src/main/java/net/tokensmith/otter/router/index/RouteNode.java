@@ -0,0 +1,42 @@
+package net.tokensmith.otter.router.index;
+
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A node in the RouteIndex. Each edge is a path segment. Literal segments are looked up by
+ * value and all capture segments at the same depth share one edge, the capture.
+ */
+public class RouteNode {
+    private Map<String, RouteNode> literals = new HashMap<>();
+    private RouteNode capture;
+    // positions of the locations that end at this node, ascending.
+    private List<Integer> positions = new ArrayList<>();
+
+    public RouteNode literal(String segment) {
+        return literals.computeIfAbsent(segment, k -> new RouteNode());
+    }
+
+    public RouteNode capture() {
+        if (Objects.isNull(capture)) {
+            capture = new RouteNode();
+        }
+        return capture;
+    }
+
+    public Map<String, RouteNode> getLiterals() {
+        return literals;
+    }
+
+    public RouteNode getCapture() {
+        return capture;
+    }
+
+    public List<Integer> getPositions() {
+        return positions;
+    }
+}
@@ -0,0 +1,117 @@
+package net.tokensmith.otter.security;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Objects;
+
+
+/**
+ * A RandomString for many threads. Each platform thread has its own SecureRandom so they do not wait on each other,
+ * virtual threads share a bounded pool of them, see Pooled. It reads the random bytes of many tokens at once. A token is the url safe base64 of tokenBytes random bytes, it is
+ * encoded into a char array that the thread reuses.
+ *
+ * One instance is meant to be shared by the application, see SecurityAppFactory.
+ */
+public class BatchRandomString extends RandomString {
+    public static final int TOKEN_BYTES = 18;
+    public static final int BATCH_TOKENS = 64;
+    private static final String DRBG = "DRBG";
+    private static final char[] ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".toCharArray();
+
+    private int tokenBytes;
+    private int batchTokens;
+    private Pooled<Batch> batches = new Pooled<>();
+
+    public BatchRandomString() {
+        this(TOKEN_BYTES, BATCH_TOKENS);
+    }
+
+    /**
+     * @param tokenBytes the number of random bytes in a token, it should be a multiple of 3 so there is no padding.
+     * @param batchTokens the number of tokens whose random bytes are read at once.
+     */
+    public BatchRandomString(Integer tokenBytes, Integer batchTokens) {
+        this.tokenBytes = tokenBytes;
+        this.batchTokens = batchTokens;
+    }
+
+    @Override
+    public String run() {
+        Batch batch = batches.take();
+        if (Objects.isNull(batch)) {
+            batch = batch();
+        }
+        String token = batch.next();
+        batches.give(batch);
+        return token;
+    }
+
+    protected Batch batch() {
+        return new Batch(secureRandom(), tokenBytes, batchTokens);
+    }
+
+    /**
+     * DRBG instances do not share state, the default SecureRandom on linux reads from one shared source
+     * under a lock.
+     *
+     * @return a SecureRandom for one batch
+     */
+    protected SecureRandom secureRandom() {
+        try {
+            return SecureRandom.getInstance(DRBG);
+        } catch (NoSuchAlgorithmException e) {
+            return new SecureRandom();
+        }
+    }
+
+    protected static class Batch {
+        private SecureRandom secureRandom;
+        private int tokenBytes;
+        private byte[] bytes;
+        private int position;
+        private char[] chars;
+
+        public Batch(SecureRandom secureRandom, int tokenBytes, int batchTokens) {
+            this.secureRandom = secureRandom;
+            this.tokenBytes = tokenBytes;
+            this.bytes = new byte[tokenBytes * batchTokens];
+            this.position = bytes.length;
+            this.chars = new char[(tokenBytes * 4 + 2) / 3];
+        }
+
+        public String next() {
+            if (position == bytes.length) {
+                secureRandom.nextBytes(bytes);
+                position = 0;
+            }
+
+            int from = position;
+            int end = from + tokenBytes;
+            int c = 0;
+            for (; from + 3 <= end; from += 3) {
+                int bits = (bytes[from] & 0xff) << 16 | (bytes[from + 1] & 0xff) << 8 | (bytes[from + 2] & 0xff);
+                chars[c++] = ALPHABET[bits >>> 18];
+                chars[c++] = ALPHABET[(bits >>> 12) & 0x3f];
+                chars[c++] = ALPHABET[(bits >>> 6) & 0x3f];
+                chars[c++] = ALPHABET[bits & 0x3f];
+            }
+
+            // the last 1 or 2 bytes, without padding.
+            int left = end - from;
+            if (left > 0) {
+                int bits = (bytes[from] & 0xff) << 16 | (left == 2 ? (bytes[from + 1] & 0xff) << 8 : 0);
+                chars[c++] = ALPHABET[bits >>> 18];
+                chars[c++] = ALPHABET[(bits >>> 12) & 0x3f];
+                if (left == 2) {
+                    chars[c++] = ALPHABET[(bits >>> 6) & 0x3f];
+                }
+            }
+
+            // the bytes are not used again.
+            Arrays.fill(bytes, position, end, (byte) 0);
+            position = end;
+            return new String(chars, 0, c);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package net.tokensmith.otter.security;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+
+/**
+ * Reuses instances that are not thread safe and are expensive to make, such as a Mac, Cipher or Deflater.
+ *
+ * A platform thread keeps the instance it gave back in a ThreadLocal, which is the fastest when there are a
+ * few long lived threads. A virtual thread lives for one request so a ThreadLocal would make a instance for every
+ * request, instead they take from and give back to a bounded pool that all virtual threads share. Instances given
+ * back when the pool is full are discarded.
+ *
+ * Use it as, take, make one if it was null, use it, then give it back in a finally.
+ *
+ * @param <T> the type of the instances
+ */
+public class Pooled<T> {
+    public static final int MAX_POOLED = Runtime.getRuntime().availableProcessors() * 4;
+    private static final MethodHandle IS_VIRTUAL = isVirtualHandle();
+
+    private Integer maxPooled;
+    private Consumer<T> discard;
+    private ThreadLocal<T> local = new ThreadLocal<>();
+    private Queue<T> shared = new ConcurrentLinkedQueue<>();
+    private AtomicInteger pooled = new AtomicInteger(0);
+
+    public Pooled() {
+        this(MAX_POOLED, null);
+    }
+
+    /**
+     * @param maxPooled the most instances virtual threads share
+     * @param discard called with instances that are not kept, such as Deflater::end. It may be null.
+     */
+    public Pooled(Integer maxPooled, Consumer<T> discard) {
+        this.maxPooled = maxPooled;
+        this.discard = discard;
+    }
+
+    /**
+     * @return a instance that belongs to the caller until it is given back, null if there is not one.
+     */
+    public T take() {
+        if (!isVirtual()) {
+            return local.get();
+        }
+        T instance = shared.poll();
+        if (Objects.nonNull(instance)) {
+            pooled.decrementAndGet();
+        }
+        return instance;
+    }
+
+    /**
+     * @param instance the instance the caller took or made, it may not be used after it was given back.
+     */
+    public void give(T instance) {
+        if (!isVirtual()) {
+            T kept = local.get();
+            if (Objects.isNull(kept)) {
+                local.set(instance);
+            } else if (kept != instance) {
+                discard(instance);
+            }
+            return;
+        }
+        if (pooled.incrementAndGet() > maxPooled) {
+            pooled.decrementAndGet();
+            discard(instance);
+            return;
+        }
+        shared.offer(instance);
+    }
+
+    /**
+     * @return the number of instances virtual threads share
+     */
+    public Integer size() {
+        return pooled.get();
+    }
+
+    protected void discard(T instance) {
+        if (Objects.nonNull(discard)) {
+            discard.accept(instance);
+        }
+    }
+
+    /**
+     * @return true when the calling thread is a virtual thread.
+     */
+    protected Boolean isVirtual() {
+        if (Objects.isNull(IS_VIRTUAL)) {
+            return false;
+        }
+        try {
+            return (boolean) IS_VIRTUAL.invokeExact(Thread.currentThread());
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    /**
+     * Otter compiles against JDK 12 so Thread.isVirtual is looked up when it is running.
+     *
+     * @return a handle to Thread.isVirtual, null if the JDK does not have virtual threads.
+     */
+    private static MethodHandle isVirtualHandle() {
+        try {
+            return MethodHandles.publicLookup().findVirtual(Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+}
@@ -4,25 +4,34 @@ package net.tokensmith.otter.security.builder;
 import com.fasterxml.jackson.databind.ObjectReader;
 import net.tokensmith.jwt.entity.jwk.SymmetricKey;
 import net.tokensmith.otter.config.CookieConfig;
+import net.tokensmith.otter.config.SessionCodecConfig;
 import net.tokensmith.otter.controller.entity.response.Response;
 import net.tokensmith.otter.router.entity.between.Between;
 import net.tokensmith.otter.router.exception.HaltException;
 import net.tokensmith.otter.security.Halt;
 import net.tokensmith.otter.security.builder.entity.Betweens;
 import net.tokensmith.otter.security.config.SecurityAppFactory;
+import net.tokensmith.otter.security.csrf.CsrfFormat;
 import net.tokensmith.otter.security.csrf.DoubleSubmitCSRF;
 import net.tokensmith.otter.security.csrf.between.html.CheckCSRF;
 import net.tokensmith.otter.security.csrf.between.html.PrepareCSRF;
 import net.tokensmith.otter.security.exception.SessionCtorException;
+import net.tokensmith.otter.security.session.cache.SessionCache;
+import net.tokensmith.otter.security.session.codec.SessionCodecs;
 import net.tokensmith.otter.security.session.between.html.DecryptSession;
 import net.tokensmith.otter.security.session.between.html.EncryptSession;
+import net.tokensmith.otter.security.session.between.html.StoreSession;
+import net.tokensmith.otter.security.session.store.SessionIds;
+import net.tokensmith.otter.security.session.store.SessionStore;
 import net.tokensmith.otter.security.session.util.Decrypt;
+import net.tokensmith.otter.security.session.util.SessionCopy;
 import net.tokensmith.otter.translator.config.TranslatorAppFactory;
 
 import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.BiFunction;
 
 public class BetweenBuilder<S, U> {
@@ -40,6 +49,8 @@ public class BetweenBuilder<S, U> {
     private SymmetricKey signKey;
     private Map<String, SymmetricKey> rotationSignKeys;
     private CookieConfig csrfCookieConfig;
+    // null is JWT.
+    private CsrfFormat csrfFormat;
 
     // session
     private SymmetricKey encKey;
@@ -49,6 +60,12 @@ public class BetweenBuilder<S, U> {
     private Class<S> sessionClass;
     private ObjectReader sessionObjectReader;
     private Constructor<S> sessionCtor;
+    // optional, null when sessions are not cached.
+    private SessionCache<S> sessionCache;
+    // optional, null when sessions are JSON that is not deflated.
+    private SessionCodecConfig sessionCodec;
+    // optional, null when sessions are kept in the session cookie.
+    private SessionStore sessionStore;
 
     private List<Between<S,U>> before = new ArrayList<>();
     private List<Between<S,U>> after = new ArrayList<>();
@@ -73,6 +90,11 @@ public class BetweenBuilder<S, U> {
         return this;
     }
 
+    public BetweenBuilder<S, U> csrfFormat(CsrfFormat csrfFormat) {
+        this.csrfFormat = csrfFormat;
+        return this;
+    }
+
     public BetweenBuilder<S, U> csrfCookieConfig(CookieConfig csrfCookieConfig) {
         this.csrfCookieConfig = csrfCookieConfig;
         return this;
@@ -84,7 +106,7 @@ public class BetweenBuilder<S, U> {
     }
 
     public BetweenBuilder<S, U> csrfPrepare() {
-        DoubleSubmitCSRF doubleSubmitCSRF = securityAppFactory.doubleSubmitCSRF(signKey, rotationSignKeys);
+        DoubleSubmitCSRF doubleSubmitCSRF = securityAppFactory.doubleSubmitCSRF(csrfFormat, signKey, rotationSignKeys);
 
         Between<S,U> prepareCSRF = new PrepareCSRF<S, U>(csrfCookieConfig, doubleSubmitCSRF);
         before.add(prepareCSRF);
@@ -93,7 +115,7 @@ public class BetweenBuilder<S, U> {
     }
 
     public BetweenBuilder<S, U> csrfProtect() {
-        DoubleSubmitCSRF doubleSubmitCSRF = securityAppFactory.doubleSubmitCSRF(signKey, rotationSignKeys);
+        DoubleSubmitCSRF doubleSubmitCSRF = securityAppFactory.doubleSubmitCSRF(csrfFormat, signKey, rotationSignKeys);
         Between<S,U> checkCSRF = new CheckCSRF<S, U>(csrfCookieConfig.getName(), CSRF_FORM_NAME, doubleSubmitCSRF, onHalts.get(Halt.CSRF));
         before.add(checkCSRF);
 
@@ -116,6 +138,28 @@ public class BetweenBuilder<S, U> {
         return this;
     }
 
+    public BetweenBuilder<S, U> sessionCache(SessionCache<S> sessionCache) {
+        this.sessionCache = sessionCache;
+        return this;
+    }
+
+    public BetweenBuilder<S, U> sessionCodec(SessionCodecConfig sessionCodec) {
+        this.sessionCodec = sessionCodec;
+        return this;
+    }
+
+    /**
+     * Keeps sessions in sessionStore, the session cookie is a session id signed with the sign keys. When
+     * sessions are stored they are not cached.
+     *
+     * @param sessionStore where to keep sessions, null to keep them in the session cookie.
+     * @return this
+     */
+    public BetweenBuilder<S, U> sessionStore(SessionStore sessionStore) {
+        this.sessionStore = sessionStore;
+        return this;
+    }
+
     public BetweenBuilder<S, U> session() throws SessionCtorException {
         try {
             sessionCtor = sessionClass.getConstructor(sessionClass);
@@ -123,13 +167,9 @@ public class BetweenBuilder<S, U> {
             throw new SessionCtorException(COULD_NOT_ACCESS_SESSION_CTORS, e);
         }
 
-        Decrypt<S> decrypt = securityAppFactory.decrypt(sessionObjectReader, encKey, rotationEncKeys);
-
-        Between<S,U> decryptSession = new DecryptSession<S, U>(sessionCtor, sessionCookieConfig.getName(), onHalts.get(Halt.SESSION), true, decrypt);
+        Between<S,U> decryptSession = new DecryptSession<S, U>(sessionCtor, sessionCookieConfig.getName(), onHalts.get(Halt.SESSION), true, decrypt());
         before.add(decryptSession);
-
-        Between<S,U> encryptSession = new EncryptSession<S, U>(sessionCookieConfig, encKey, appFactory.objectWriter());
-        after.add(encryptSession);
+        after.add(encryptSession());
 
         return this;
     }
@@ -141,17 +181,33 @@ public class BetweenBuilder<S, U> {
             throw new SessionCtorException(COULD_NOT_ACCESS_SESSION_CTORS, e);
         }
 
-        Decrypt<S> decrypt = securityAppFactory.decrypt(sessionObjectReader, encKey, rotationEncKeys);
-
-        Between<S,U> decryptSession = new DecryptSession<S, U>(sessionCtor, sessionCookieConfig.getName(), onHalts.get(Halt.SESSION), false, decrypt);
+        Between<S,U> decryptSession = new DecryptSession<S, U>(sessionCtor, sessionCookieConfig.getName(), onHalts.get(Halt.SESSION), false, decrypt());
         before.add(decryptSession);
-
-        Between<S,U> encryptSession = new EncryptSession<S, U>(sessionCookieConfig, encKey, appFactory.objectWriter());
-        after.add(encryptSession);
+        after.add(encryptSession());
 
         return this;
     }
 
+    protected Decrypt<S> decrypt() {
+        if (Objects.nonNull(sessionStore)) {
+            SessionIds sessionIds = securityAppFactory.sessionIds(signKey, rotationSignKeys);
+            return securityAppFactory.storedDecrypt(sessionObjectReader, sessionIds, sessionStore);
+        }
+        return securityAppFactory.decrypt(sessionCodecs(), encKey, rotationEncKeys, sessionCache, new SessionCopy<>(sessionCtor));
+    }
+
+    protected SessionCodecs<S> sessionCodecs() {
+        return securityAppFactory.sessionCodecs(sessionCodec, sessionObjectReader, appFactory.objectWriter(), sessionClass);
+    }
+
+    protected Between<S, U> encryptSession() {
+        if (Objects.nonNull(sessionStore)) {
+            SessionIds sessionIds = securityAppFactory.sessionIds(signKey, rotationSignKeys);
+            return new StoreSession<S, U>(sessionCookieConfig, appFactory.objectWriter(), sessionIds, sessionStore);
+        }
+        return new EncryptSession<S, U>(sessionCookieConfig, encKey, sessionCodecs(), securityAppFactory.compactJwe());
+    }
+
     public Betweens<S,U> build() {
         return new Betweens<S,U>(before, after);
     }
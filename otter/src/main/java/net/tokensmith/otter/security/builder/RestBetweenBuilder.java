@@ -3,21 +3,29 @@ package net.tokensmith.otter.security.builder;
 import com.fasterxml.jackson.databind.ObjectReader;
 import net.tokensmith.jwt.entity.jwk.SymmetricKey;
 import net.tokensmith.otter.config.CookieConfig;
+import net.tokensmith.otter.config.SessionCodecConfig;
 import net.tokensmith.otter.dispatch.entity.RestBtwnResponse;
 import net.tokensmith.otter.router.entity.between.RestBetween;
 import net.tokensmith.otter.router.exception.HaltException;
 import net.tokensmith.otter.security.Halt;
 import net.tokensmith.otter.security.builder.entity.RestBetweens;
 import net.tokensmith.otter.security.config.SecurityAppFactory;
+import net.tokensmith.otter.security.csrf.CsrfFormat;
 import net.tokensmith.otter.security.csrf.DoubleSubmitCSRF;
 import net.tokensmith.otter.security.csrf.between.rest.RestCheckCSRF;
 import net.tokensmith.otter.security.session.between.rest.RestReadSession;
+import net.tokensmith.otter.security.session.cache.SessionCache;
+import net.tokensmith.otter.security.session.codec.SessionCodecs;
+import net.tokensmith.otter.security.session.store.SessionIds;
+import net.tokensmith.otter.security.session.store.SessionStore;
 import net.tokensmith.otter.security.session.util.Decrypt;
+import net.tokensmith.otter.security.session.util.SessionCopy;
 import net.tokensmith.otter.translator.config.TranslatorAppFactory;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.BiFunction;
 
 
@@ -35,6 +43,8 @@ public class RestBetweenBuilder<S, U> {
     private SymmetricKey signKey;
     private Map<String, SymmetricKey> rotationSignKeys;
     private CookieConfig csrfCookieConfig;
+    // null is JWT.
+    private CsrfFormat csrfFormat;
 
     // session
     private SymmetricKey encKey;
@@ -43,6 +53,12 @@ public class RestBetweenBuilder<S, U> {
 
     private Class<S> sessionClazz;
     private ObjectReader sessionObjectReader;
+    // optional, null when sessions are not cached.
+    private SessionCache<S> sessionCache;
+    // optional, null when sessions are JSON that is not deflated.
+    private SessionCodecConfig sessionCodec;
+    // optional, null when sessions are kept in the session cookie.
+    private SessionStore sessionStore;
 
     private List<RestBetween<S,U>> before = new ArrayList<>();
     private List<RestBetween<S,U>> after = new ArrayList<>();
@@ -67,6 +83,11 @@ public class RestBetweenBuilder<S, U> {
         return this;
     }
 
+    public RestBetweenBuilder<S, U> csrfFormat(CsrfFormat csrfFormat) {
+        this.csrfFormat = csrfFormat;
+        return this;
+    }
+
     public RestBetweenBuilder<S, U> csrfCookieConfig(CookieConfig csrfCookieConfig) {
         this.csrfCookieConfig = csrfCookieConfig;
         return this;
@@ -93,10 +114,31 @@ public class RestBetweenBuilder<S, U> {
         return this;
     }
 
+    public RestBetweenBuilder<S, U> sessionCache(SessionCache<S> sessionCache) {
+        this.sessionCache = sessionCache;
+        return this;
+    }
+
+    public RestBetweenBuilder<S, U> sessionCodec(SessionCodecConfig sessionCodec) {
+        this.sessionCodec = sessionCodec;
+        return this;
+    }
+
+    /**
+     * Reads sessions from sessionStore, the session cookie is a session id signed with the sign keys. When
+     * sessions are stored they are not cached.
+     *
+     * @param sessionStore where sessions are kept, null if they are kept in the session cookie.
+     * @return this
+     */
+    public RestBetweenBuilder<S, U> sessionStore(SessionStore sessionStore) {
+        this.sessionStore = sessionStore;
+        return this;
+    }
+
     public RestBetweenBuilder<S, U> session() {
 
-        Decrypt<S> decrypt = securityAppFactory.decrypt(sessionObjectReader, encKey, rotationEncKeys);
-        RestBetween<S, U> decryptSession = new RestReadSession<S, U>(sessionCookieConfig.getName(), true, decrypt, onHalts.get(Halt.SESSION));
+        RestBetween<S, U> decryptSession = new RestReadSession<S, U>(sessionCookieConfig.getName(), true, decrypt(), onHalts.get(Halt.SESSION));
         before.add(decryptSession);
 
         return this;
@@ -104,21 +146,46 @@ public class RestBetweenBuilder<S, U> {
 
     public RestBetweenBuilder<S, U> optionalSession() {
 
-        Decrypt<S> decrypt = securityAppFactory.decrypt(sessionObjectReader, encKey, rotationEncKeys);
-        RestBetween<S, U> decryptSession = new RestReadSession<S, U>(sessionCookieConfig.getName(), false, decrypt, onHalts.get(Halt.SESSION));
+        RestBetween<S, U> decryptSession = new RestReadSession<S, U>(sessionCookieConfig.getName(), false, decrypt(), onHalts.get(Halt.SESSION));
         before.add(decryptSession);
 
         return this;
     }
 
     public RestBetweenBuilder<S, U> csrfProtect() {
-        DoubleSubmitCSRF doubleSubmitCSRF = securityAppFactory.doubleSubmitCSRF(signKey, rotationSignKeys);
+        DoubleSubmitCSRF doubleSubmitCSRF = securityAppFactory.doubleSubmitCSRF(csrfFormat, signKey, rotationSignKeys);
         RestBetween<S,U> checkCSRF = new RestCheckCSRF<>(csrfCookieConfig.getName(), CSRF_HDR_NAME, doubleSubmitCSRF, onHalts.get(Halt.CSRF));
         before.add(checkCSRF);
 
         return this;
     }
 
+    protected Decrypt<S> decrypt() {
+        if (Objects.nonNull(sessionStore)) {
+            SessionIds sessionIds = securityAppFactory.sessionIds(signKey, rotationSignKeys);
+            return securityAppFactory.storedDecrypt(sessionObjectReader, sessionIds, sessionStore);
+        }
+        return securityAppFactory.decrypt(sessionCodecs(), encKey, rotationEncKeys, sessionCache, sessionCopy());
+    }
+
+    /**
+     * @return copies sessions with their copy constructor, null if the session does not have one and then it is not cached.
+     */
+    protected SessionCopy<S> sessionCopy() {
+        if (Objects.isNull(sessionCache)) {
+            return null;
+        }
+        try {
+            return new SessionCopy<>(sessionClazz.getConstructor(sessionClazz));
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    protected SessionCodecs<S> sessionCodecs() {
+        return securityAppFactory.sessionCodecs(sessionCodec, sessionObjectReader, null, sessionClazz);
+    }
+
     public RestBetweens<S, U> build() {
         return new RestBetweens<S,U>(before, after);
     }
@@ -1,25 +1,170 @@
 package net.tokensmith.otter.security.config;
 
 import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import net.tokensmith.jwt.config.JwtAppFactory;
 import net.tokensmith.jwt.entity.jwk.SymmetricKey;
+import net.tokensmith.otter.security.BatchRandomString;
 import net.tokensmith.otter.security.RandomString;
+import net.tokensmith.otter.config.SessionCacheConfig;
+import net.tokensmith.otter.config.SessionCodecConfig;
+import net.tokensmith.otter.security.crypto.CompactJwe;
+import net.tokensmith.otter.security.crypto.CompactJws;
+import net.tokensmith.otter.security.crypto.CryptoPool;
+import net.tokensmith.otter.security.csrf.CompactCSRF;
+import net.tokensmith.otter.security.csrf.CsrfFormat;
 import net.tokensmith.otter.security.csrf.DoubleSubmitCSRF;
+import net.tokensmith.otter.security.session.cache.SessionCache;
+import net.tokensmith.otter.security.session.codec.JacksonSessionCodec;
+import net.tokensmith.otter.security.session.codec.SessionCodec;
+import net.tokensmith.otter.security.session.codec.SessionCodecs;
+import net.tokensmith.otter.security.session.store.SessionIds;
+import net.tokensmith.otter.security.session.store.SessionStore;
+import net.tokensmith.otter.security.session.util.CachedDecrypt;
 import net.tokensmith.otter.security.session.util.Decrypt;
+import net.tokensmith.otter.security.session.util.SessionCopy;
+import net.tokensmith.otter.security.session.util.StoredDecrypt;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 public class SecurityAppFactory {
+    private static CryptoPool cryptoPool;
+    private static CompactJws compactJws;
+    private static CompactJwe compactJwe;
+    private static RandomString randomString;
 
     public JwtAppFactory jwtAppFactory() {
         return new JwtAppFactory();
     }
 
     public DoubleSubmitCSRF doubleSubmitCSRF(SymmetricKey signKey, Map<String, SymmetricKey> rotationSignKeys) {
-        return new DoubleSubmitCSRF(jwtAppFactory(), new RandomString(), signKey, rotationSignKeys);
+        return new DoubleSubmitCSRF(jwtAppFactory(), compactJws(), randomString(), signKey, rotationSignKeys);
+    }
+
+    /**
+     * @param csrfFormat the format of csrf values, JWT when null.
+     * @param signKey the preferred sign key
+     * @param rotationSignKeys the rotation sign keys
+     * @return a DoubleSubmitCSRF for csrfFormat
+     */
+    public DoubleSubmitCSRF doubleSubmitCSRF(CsrfFormat csrfFormat, SymmetricKey signKey, Map<String, SymmetricKey> rotationSignKeys) {
+        if (CsrfFormat.COMPACT == csrfFormat) {
+            return new CompactCSRF(jwtAppFactory(), compactJws(), cryptoPool(), randomString(), signKey, rotationSignKeys);
+        }
+        return doubleSubmitCSRF(signKey, rotationSignKeys);
     }
 
     public <S> Decrypt<S> decrypt(ObjectReader sessionObjectReader, SymmetricKey encKey, Map<String, SymmetricKey> rotationEncKeys) {
-        return new Decrypt<S>(jwtAppFactory(), sessionObjectReader, encKey, rotationEncKeys);
+        return new Decrypt<S>(jwtAppFactory(), compactJwe(), sessionObjectReader, encKey, rotationEncKeys);
+    }
+
+    /**
+     * Cached sessions are copied for each request so sessions are only cached when they can be copied.
+     *
+     * @param sessionObjectReader the JSON reader of the session
+     * @param encKey the preferred encryption key
+     * @param rotationEncKeys the rotation encryption keys
+     * @param sessionCache the cache, it may be null.
+     * @param sessionCopy copies the session, it may be null.
+     * @param <S> Session object
+     * @return a CachedDecrypt when sessionCache and sessionCopy are not null, otherwise a Decrypt
+     */
+    public <S> Decrypt<S> decrypt(ObjectReader sessionObjectReader, SymmetricKey encKey, Map<String, SymmetricKey> rotationEncKeys, SessionCache<S> sessionCache, SessionCopy<S> sessionCopy) {
+        if (Objects.isNull(sessionCache) || Objects.isNull(sessionCopy)) {
+            return decrypt(sessionObjectReader, encKey, rotationEncKeys);
+        }
+        return new CachedDecrypt<S>(jwtAppFactory(), compactJwe(), sessionObjectReader, encKey, rotationEncKeys, sessionCache, sessionCopy);
+    }
+
+    public <S> Decrypt<S> decrypt(SessionCodecs<S> sessionCodecs, SymmetricKey encKey, Map<String, SymmetricKey> rotationEncKeys, SessionCache<S> sessionCache, SessionCopy<S> sessionCopy) {
+        if (Objects.isNull(sessionCache) || Objects.isNull(sessionCopy)) {
+            return new Decrypt<S>(jwtAppFactory(), compactJwe(), sessionCodecs, encKey, rotationEncKeys);
+        }
+        return new CachedDecrypt<S>(jwtAppFactory(), compactJwe(), sessionCodecs, encKey, rotationEncKeys, sessionCache, sessionCopy);
+    }
+
+    /**
+     * JSON is always a codec so sessions that were JSON can be read after the preferred codec changed.
+     *
+     * @param config how sessions are encoded, it may be null.
+     * @param sessionObjectReader the JSON reader of the session
+     * @param sessionObjectWriter the JSON writer of the session
+     * @param sessionClazz the session class
+     * @param <S> Session object
+     * @return the session codecs, JSON that is not deflated if config is null.
+     */
+    public <S> SessionCodecs<S> sessionCodecs(SessionCodecConfig config, ObjectReader sessionObjectReader, ObjectWriter sessionObjectWriter, Class<S> sessionClazz) {
+        SessionCodec<S> json = new JacksonSessionCodec<>(JacksonSessionCodec.JSON, sessionObjectReader, sessionObjectWriter);
+        if (Objects.isNull(config)) {
+            return new SessionCodecs<>(json, List.of(json), null);
+        }
+
+        SessionCodec<S> preferred = json;
+        if (Objects.nonNull(config.getMapper())) {
+            preferred = new JacksonSessionCodec<>(config.getId(), config.getMapper(), sessionClazz);
+        }
+        return new SessionCodecs<>(preferred, List.of(json), config.getDeflateThreshold());
+    }
+
+    public <S> Decrypt<S> storedDecrypt(ObjectReader sessionObjectReader, SessionIds sessionIds, SessionStore sessionStore) {
+        return new StoredDecrypt<S>(sessionObjectReader, sessionIds, sessionStore);
+    }
+
+    public SessionIds sessionIds(SymmetricKey signKey, Map<String, SymmetricKey> rotationSignKeys) {
+        return new SessionIds(cryptoPool(), signKey, rotationSignKeys);
+    }
+
+    /**
+     * @param config how to configure the cache, it may be null.
+     * @param <S> Session object
+     * @return a session cache or null if config is null
+     */
+    public <S> SessionCache<S> sessionCache(SessionCacheConfig config) {
+        if (Objects.isNull(config)) {
+            return null;
+        }
+        return new SessionCache<S>(config.getMaxEntries(), config.getMaxBytes(), config.getTtlSeconds(), config.getStripes(), config.getStats());
+    }
+
+    /**
+     * Each thread has its own SecureRandom in the BatchRandomString, so it is shared by everything that
+     * makes challenge tokens.
+     *
+     * @return the RandomString
+     */
+    public RandomString randomString() {
+        if (Objects.isNull(randomString)) {
+            randomString = new BatchRandomString();
+        }
+        return randomString;
+    }
+
+    /**
+     * The Macs and Ciphers are kept per thread in the CryptoPool, so it is shared by everything that signs,
+     * verifies, encrypts or decrypts.
+     *
+     * @return the CryptoPool
+     */
+    public CryptoPool cryptoPool() {
+        if (Objects.isNull(cryptoPool)) {
+            cryptoPool = new CryptoPool();
+        }
+        return cryptoPool;
+    }
+
+    public CompactJws compactJws() {
+        if (Objects.isNull(compactJws)) {
+            compactJws = new CompactJws(cryptoPool());
+        }
+        return compactJws;
+    }
+
+    public CompactJwe compactJwe() {
+        if (Objects.isNull(compactJwe)) {
+            compactJwe = new CompactJwe(cryptoPool());
+        }
+        return compactJwe;
     }
 }
@@ -1,19 +1,17 @@
 package net.tokensmith.otter.security.cookie;
 
-import net.tokensmith.jwt.builder.compact.SecureCompactBuilder;
-import net.tokensmith.jwt.builder.exception.CompactException;
 import net.tokensmith.jwt.config.JwtAppFactory;
 import net.tokensmith.jwt.entity.jwk.SymmetricKey;
 import net.tokensmith.jwt.entity.jwt.Claims;
 import net.tokensmith.jwt.entity.jwt.JsonWebToken;
-import net.tokensmith.jwt.entity.jwt.header.Algorithm;
 import net.tokensmith.jwt.exception.InvalidJWT;
-import net.tokensmith.jwt.exception.SignatureException;
-import net.tokensmith.jwt.jws.verifier.VerifySignature;
 import net.tokensmith.jwt.serialization.JwtSerde;
 import net.tokensmith.jwt.serialization.exception.JsonToJwtException;
 import net.tokensmith.otter.config.CookieConfig;
 import net.tokensmith.otter.controller.entity.Cookie;
+import net.tokensmith.otter.security.config.SecurityAppFactory;
+import net.tokensmith.otter.security.crypto.CompactJws;
+import net.tokensmith.otter.security.crypto.exception.CryptoException;
 import net.tokensmith.otter.security.cookie.either.CookieError;
 import net.tokensmith.otter.security.cookie.either.ReadEither;
 import net.tokensmith.otter.security.cookie.either.ReadError;
@@ -28,13 +26,20 @@ import java.util.Optional;
 public class CookieSigner implements CookieSecurity {
     protected static Logger LOGGER = LoggerFactory.getLogger(CookieSigner.class);
     public static final String SIGNATURE_INVALID = "Signature Invalid";
+    private static SecurityAppFactory securityAppFactory = new SecurityAppFactory();
 
     private JwtAppFactory jwtAppFactory;
+    private CompactJws compactJws;
     private Map<String, SymmetricKey> keys;
     private Map<String, String> preferredKeys; // [cookie-name][preferred-key-id]
 
     public CookieSigner(JwtAppFactory jwtAppFactory, Map<String, SymmetricKey> keys, Map<String, String> preferredKeys) {
+        this(jwtAppFactory, securityAppFactory.compactJws(), keys, preferredKeys);
+    }
+
+    public CookieSigner(JwtAppFactory jwtAppFactory, CompactJws compactJws, Map<String, SymmetricKey> keys, Map<String, String> preferredKeys) {
         this.jwtAppFactory = jwtAppFactory;
+        this.compactJws = compactJws;
         this.keys = keys;
         this.preferredKeys = preferredKeys;
     }
@@ -45,14 +50,10 @@ public class CookieSigner implements CookieSecurity {
         String preferredKeyId = preferredKeys.get(cookieConfig.getName());
         SymmetricKey preferredKey = getKey(preferredKeyId);
 
-        SecureCompactBuilder compactBuilder = new SecureCompactBuilder();
         ByteArrayOutputStream compactJwt;
         try {
-            compactJwt = compactBuilder.alg(Algorithm.HS256)
-                    .key(preferredKey)
-                    .claims(claims)
-                    .build();
-        } catch (CompactException e) {
+            compactJwt = compactJws.sign(preferredKey, claims);
+        } catch (CryptoException e) {
             throw new CookieJwtException("Could not serialize to compact jwt", e);
         }
 
@@ -151,16 +152,10 @@ public class CookieSigner implements CookieSecurity {
     }
 
     protected <T extends Claims> Boolean verifySignature(JsonWebToken<T> csrfJwt, SymmetricKey signKey) throws CookieJwtException {
-
-        VerifySignature verifySignature;
         try {
-            verifySignature = jwtAppFactory.verifySignature(
-                    csrfJwt.getHeader().getAlgorithm(), signKey
-            );
-        } catch (SignatureException e) {
+            return compactJws.verify(signKey, csrfJwt);
+        } catch (CryptoException e) {
             throw new CookieJwtException("Could not verify signature", e);
         }
-
-        return verifySignature.run(csrfJwt);
     }
 }
@@ -0,0 +1,226 @@
+package net.tokensmith.otter.security.crypto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import net.tokensmith.jwt.entity.jwk.SymmetricKey;
+import net.tokensmith.otter.security.crypto.entity.JweContent;
+import net.tokensmith.otter.security.crypto.exception.CryptoException;
+import net.tokensmith.otter.security.crypto.exception.NotCompactException;
+
+import javax.crypto.Cipher;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Encrypts and decrypts compact JWEs that use direct encryption with A256GCM with the Ciphers of a CryptoPool.
+ * The compact JWEs are the same as the ones jwt makes so either can read what the other encrypted.
+ *
+ * The header of a key id does not change so it is encoded once. A header may also have the cty and zip members,
+ * see SessionCodecs, they are read from a header after it was authenticated by decrypting its JWE.
+ */
+public class CompactJwe {
+    public static final String ENCRYPT_FAILED = "Could not encrypt compact jwe";
+    public static final String DECRYPT_FAILED = "Could not decrypt compact jwe";
+    public static final String NOT_A_JWE = "Value is not a compact jwe";
+    public static final String NO_KEY = "No key to encrypt or decrypt with";
+    private static final String DIRECT = "dir";
+    private static final String A256GCM = "A256GCM";
+    private static final String DEFLATE = "DEF";
+    private static final int MAX_HEADERS = 64;
+    private static final byte DOT = '.';
+    private static final int TAG_LENGTH = CryptoPool.TAG_BITS / 8;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private CryptoPool cryptoPool;
+    private ObjectWriter headerWriter = new ObjectMapper().writer();
+    private ObjectReader headerReader = new ObjectMapper().readerFor(Map.class);
+    private Map<String, byte[]> headers = new ConcurrentHashMap<>();
+    // the cty and zip of headers that were decrypted, by their encoded header.
+    private Map<String, JweContent> contents = new ConcurrentHashMap<>();
+
+    public CompactJwe(CryptoPool cryptoPool) {
+        this.cryptoPool = cryptoPool;
+    }
+
+    public ByteArrayOutputStream encrypt(SymmetricKey key, byte[] payload) throws CryptoException {
+        return encrypt(key, payload, Optional.empty(), false);
+    }
+
+    /**
+     * @param key the content encryption key
+     * @param payload the payload to encrypt
+     * @param contentType the cty header member, empty to leave it out
+     * @param compressed true if payload was compressed with DEFLATE, then the zip header member is DEF.
+     * @return the compact jwe
+     * @throws CryptoException if key is null or payload could not be encrypted
+     */
+    public ByteArrayOutputStream encrypt(SymmetricKey key, byte[] payload, Optional<String> contentType, Boolean compressed) throws CryptoException {
+        if (Objects.isNull(key)) {
+            throw new CryptoException(NO_KEY);
+        }
+
+        byte[] header = header(key, contentType, compressed);
+        byte[] iv = cryptoPool.iv();
+
+        byte[] encrypted;
+        try {
+            Cipher cipher = cryptoPool.cipher(Cipher.ENCRYPT_MODE, key, iv);
+            cipher.updateAAD(header);
+            encrypted = cipher.doFinal(payload);
+            cryptoPool.give(cipher);
+        } catch (GeneralSecurityException e) {
+            throw new CryptoException(ENCRYPT_FAILED, e);
+        }
+
+        // the cipher puts the tag after the cipher text.
+        int cipherTextLength = encrypted.length - TAG_LENGTH;
+        byte[] cipherText = new byte[cipherTextLength];
+        byte[] tag = new byte[TAG_LENGTH];
+        System.arraycopy(encrypted, 0, cipherText, 0, cipherTextLength);
+        System.arraycopy(encrypted, cipherTextLength, tag, 0, TAG_LENGTH);
+
+        ByteArrayOutputStream compactJwe = new ByteArrayOutputStream(header.length + 4 * encrypted.length / 3 + 32);
+        compactJwe.writeBytes(header);
+        compactJwe.write(DOT);
+        compactJwe.write(DOT);
+        compactJwe.writeBytes(ENCODER.encode(iv));
+        compactJwe.write(DOT);
+        compactJwe.writeBytes(ENCODER.encode(cipherText));
+        compactJwe.write(DOT);
+        compactJwe.writeBytes(ENCODER.encode(tag));
+        return compactJwe;
+    }
+
+    /**
+     * @param key the content encryption key
+     * @param compactJwe a compact jwe that was encrypted with key
+     * @return the payload of compactJwe
+     * @throws NotCompactException if compactJwe is not a compact jwe
+     * @throws CryptoException if key is null or compactJwe could not be decrypted with key
+     */
+    public byte[] decrypt(SymmetricKey key, String compactJwe) throws CryptoException {
+        return decryptContent(key, compactJwe).getPayload();
+    }
+
+    /**
+     * @param key the content encryption key
+     * @param compactJwe a compact jwe that was encrypted with key
+     * @return the payload of compactJwe with its cty and zip header members
+     * @throws NotCompactException if compactJwe is not a compact jwe
+     * @throws CryptoException if key is null or compactJwe could not be decrypted with key
+     */
+    public JweContent decryptContent(SymmetricKey key, String compactJwe) throws CryptoException {
+        if (Objects.isNull(key)) {
+            throw new CryptoException(NO_KEY);
+        }
+
+        // header.encrypted-key.iv.cipher-text.tag
+        int[] dots = new int[4];
+        int from = 0;
+        for (int i = 0; i < dots.length; i++) {
+            dots[i] = compactJwe.indexOf(DOT, from);
+            if (dots[i] < 0) {
+                throw new NotCompactException(NOT_A_JWE);
+            }
+            from = dots[i] + 1;
+        }
+        if (compactJwe.indexOf(DOT, from) >= 0) {
+            throw new NotCompactException(NOT_A_JWE);
+        }
+
+        byte[] iv;
+        byte[] encrypted;
+        try {
+            iv = DECODER.decode(compactJwe.substring(dots[1] + 1, dots[2]));
+            byte[] cipherText = DECODER.decode(compactJwe.substring(dots[2] + 1, dots[3]));
+            byte[] tag = DECODER.decode(compactJwe.substring(dots[3] + 1));
+            encrypted = new byte[cipherText.length + tag.length];
+            System.arraycopy(cipherText, 0, encrypted, 0, cipherText.length);
+            System.arraycopy(tag, 0, encrypted, cipherText.length, tag.length);
+        } catch (IllegalArgumentException e) {
+            throw new NotCompactException(NOT_A_JWE, e);
+        }
+
+        String header = compactJwe.substring(0, dots[0]);
+        byte[] payload;
+        try {
+            Cipher cipher = cryptoPool.cipher(Cipher.DECRYPT_MODE, key, iv);
+            cipher.updateAAD(header.getBytes(StandardCharsets.US_ASCII));
+            payload = cipher.doFinal(encrypted);
+            cryptoPool.give(cipher);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new CryptoException(DECRYPT_FAILED, e);
+        }
+
+        JweContent content = content(header);
+        return new JweContent(payload, content.getContentType(), content.getCompressed());
+    }
+
+    /**
+     * @param header an encoded header that was authenticated
+     * @return the cty and zip members of header, without a payload.
+     * @throws CryptoException if header is not json
+     */
+    protected JweContent content(String header) throws CryptoException {
+        JweContent content = contents.get(header);
+        if (Objects.isNull(content)) {
+            Map<String, Object> members;
+            try {
+                members = headerReader.readValue(DECODER.decode(header));
+            } catch (IOException | IllegalArgumentException e) {
+                throw new CryptoException(DECRYPT_FAILED, e);
+            }
+            Object contentType = members.get("cty");
+            content = new JweContent(
+                    null,
+                    contentType instanceof String ? Optional.of((String) contentType) : Optional.empty(),
+                    DEFLATE.equals(members.get("zip"))
+            );
+
+            // a key has few headers, this only stops a client from growing it.
+            if (contents.size() >= MAX_HEADERS) {
+                contents.clear();
+            }
+            contents.put(header, content);
+        }
+        return content;
+    }
+
+    protected byte[] header(SymmetricKey key) throws CryptoException {
+        return header(key, Optional.empty(), false);
+    }
+
+    protected byte[] header(SymmetricKey key, Optional<String> contentType, Boolean compressed) throws CryptoException {
+        String keyId = cryptoPool.keyId(key);
+        String cacheKey = contentType.isEmpty() && !compressed ? keyId : keyId + '.' + contentType.orElse("") + '.' + compressed;
+        byte[] header = headers.get(cacheKey);
+        if (Objects.isNull(header)) {
+            Map<String, String> members = new LinkedHashMap<>();
+            members.put("alg", DIRECT);
+            key.getKeyId().ifPresent(id -> members.put("kid", id));
+            members.put("enc", A256GCM);
+            contentType.ifPresent(cty -> members.put("cty", cty));
+            if (compressed) {
+                members.put("zip", DEFLATE);
+            }
+            try {
+                header = ENCODER.encode(headerWriter.writeValueAsBytes(members));
+            } catch (JsonProcessingException e) {
+                throw new CryptoException(ENCRYPT_FAILED, e);
+            }
+            headers.put(cacheKey, header);
+        }
+        return header;
+    }
+}
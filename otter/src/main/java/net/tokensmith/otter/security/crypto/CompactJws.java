@@ -0,0 +1,138 @@
+package net.tokensmith.otter.security.crypto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import net.tokensmith.jwt.entity.jwk.SymmetricKey;
+import net.tokensmith.jwt.entity.jwt.Claims;
+import net.tokensmith.jwt.entity.jwt.JsonWebToken;
+import net.tokensmith.jwt.entity.jwt.header.Algorithm;
+import net.tokensmith.otter.security.crypto.exception.CryptoException;
+
+import javax.crypto.Mac;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Signs and verifies HS256 compact JWTs with the Macs of a CryptoPool. The compact JWTs are the same
+ * as the ones jwt makes so either can read what the other signed.
+ *
+ * The header of a key id does not change so it is encoded once.
+ */
+public class CompactJws {
+    public static final String SIGN_FAILED = "Could not sign compact jwt";
+    public static final String VERIFY_FAILED = "Could not verify signature";
+    public static final String ALG_NOT_SUPPORTED = "Algorithm is not supported: %s";
+    public static final String NO_KEY = "No key to sign or verify with";
+    private static final String HS256 = "HS256";
+    private static final String JWT = "JWT";
+    private static final byte DOT = '.';
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private CryptoPool cryptoPool;
+    private ObjectWriter claimsWriter;
+    private Map<String, byte[]> headers = new ConcurrentHashMap<>();
+
+    public CompactJws(CryptoPool cryptoPool) {
+        this.cryptoPool = cryptoPool;
+        this.claimsWriter = new ObjectMapper()
+                .registerModule(new Jdk8Module())
+                .setSerializationInclusion(JsonInclude.Include.NON_ABSENT)
+                .writer();
+    }
+
+    public ByteArrayOutputStream sign(SymmetricKey key, Claims claims) throws CryptoException {
+        if (Objects.isNull(key)) {
+            throw new CryptoException(NO_KEY);
+        }
+
+        byte[] payload;
+        try {
+            payload = ENCODER.encode(claimsWriter.writeValueAsBytes(claims));
+        } catch (JsonProcessingException e) {
+            throw new CryptoException(SIGN_FAILED, e);
+        }
+
+        byte[] header = header(key);
+        byte[] signature;
+        try {
+            Mac mac = cryptoPool.mac(key);
+            mac.update(header);
+            mac.update(DOT);
+            mac.update(payload);
+            signature = ENCODER.encode(mac.doFinal());
+            cryptoPool.give(key, mac);
+        } catch (GeneralSecurityException e) {
+            throw new CryptoException(SIGN_FAILED, e);
+        }
+
+        ByteArrayOutputStream compactJwt = new ByteArrayOutputStream(header.length + payload.length + signature.length + 2);
+        compactJwt.writeBytes(header);
+        compactJwt.write(DOT);
+        compactJwt.writeBytes(payload);
+        compactJwt.write(DOT);
+        compactJwt.writeBytes(signature);
+        return compactJwt;
+    }
+
+    /**
+     * @param key the key that signed the jwt
+     * @param jwt a jwt that was read from its compact form
+     * @return true if the signature of jwt is the HS256 of its header and claims
+     * @throws CryptoException if key is null, the algorithm of jwt is not HS256 or the Mac could not be made
+     */
+    public Boolean verify(SymmetricKey key, JsonWebToken<?> jwt) throws CryptoException {
+        if (Objects.isNull(key)) {
+            throw new CryptoException(NO_KEY);
+        }
+        if (!Algorithm.HS256.equals(jwt.getHeader().getAlgorithm())) {
+            throw new CryptoException(String.format(ALG_NOT_SUPPORTED, jwt.getHeader().getAlgorithm()));
+        }
+
+        Optional<String> compactJwt = jwt.getJwt();
+        Optional<byte[]> signature = jwt.getSignature();
+        if (compactJwt.isEmpty() || signature.isEmpty()) {
+            return false;
+        }
+
+        String signingInput = compactJwt.get().substring(0, compactJwt.get().lastIndexOf(DOT));
+        byte[] expected;
+        try {
+            Mac mac = cryptoPool.mac(key);
+            expected = mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+            cryptoPool.give(key, mac);
+        } catch (GeneralSecurityException e) {
+            throw new CryptoException(VERIFY_FAILED, e);
+        }
+
+        return MessageDigest.isEqual(expected, signature.get());
+    }
+
+    protected byte[] header(SymmetricKey key) throws CryptoException {
+        String keyId = cryptoPool.keyId(key);
+        byte[] header = headers.get(keyId);
+        if (Objects.isNull(header)) {
+            Map<String, String> members = new LinkedHashMap<>();
+            members.put("alg", HS256);
+            members.put("typ", JWT);
+            key.getKeyId().ifPresent(id -> members.put("kid", id));
+            try {
+                header = ENCODER.encode(claimsWriter.writeValueAsBytes(members));
+            } catch (JsonProcessingException e) {
+                throw new CryptoException(SIGN_FAILED, e);
+            }
+            headers.put(keyId, header);
+        }
+        return header;
+    }
+}
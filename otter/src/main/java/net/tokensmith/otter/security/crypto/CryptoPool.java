@@ -0,0 +1,164 @@
+package net.tokensmith.otter.security.crypto;
+
+import net.tokensmith.jwt.entity.jwk.SymmetricKey;
+import net.tokensmith.otter.security.Pooled;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.InvalidKeyException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the JCA engines used to sign, verify, encrypt and decrypt cookies so they are not looked up
+ * and initialized for every request.
+ *
+ * Mac and Cipher are not thread safe so they are taken from a Pooled and given back when they were used, a platform
+ * thread keeps its own and virtual threads share a bounded pool. There is one initialized Mac per key id and one
+ * AES/GCM Cipher that is initialized with the key and iv of each message. The key material of a key id is compared
+ * every time, if a key was replaced then its engines are made again.
+ *
+ * One instance is meant to be shared by the application, see SecurityAppFactory.
+ */
+public class CryptoPool {
+    public static final String HMAC_SHA_256 = "HmacSHA256";
+    public static final String AES = "AES";
+    public static final String AES_GCM = "AES/GCM/NoPadding";
+    public static final int IV_LENGTH = 12;
+    public static final int TAG_BITS = 128;
+    public static final String KEY_NOT_BASE64 = "Key is not base64url encoded";
+    private static final String NO_KEY_ID = "";
+
+    private Map<String, PooledMacs> macs = new ConcurrentHashMap<>();
+    private Pooled<Cipher> ciphers = new Pooled<>();
+    private Pooled<SecureRandom> randoms = new Pooled<>();
+    private Map<String, PooledKey> aesKeys = new ConcurrentHashMap<>();
+
+    /**
+     * @param key the sign key
+     * @return a HmacSHA256 Mac that is initialized with key, it belongs to the caller until it is given back.
+     * @throws GeneralSecurityException if the Mac could not be made
+     */
+    public Mac mac(SymmetricKey key) throws GeneralSecurityException {
+        Mac mac = macs(key).macs.take();
+        if (Objects.isNull(mac)) {
+            mac = Mac.getInstance(HMAC_SHA_256);
+            mac.init(new SecretKeySpec(decode(key), HMAC_SHA_256));
+        }
+        return mac;
+    }
+
+    /**
+     * @param key the sign key the mac was taken for
+     * @param mac a Mac from mac(key) that was used
+     */
+    public void give(SymmetricKey key, Mac mac) {
+        PooledMacs pooled = macs.get(keyId(key));
+        if (Objects.nonNull(pooled) && pooled.material.equals(key.getKey())) {
+            pooled.macs.give(mac);
+        }
+    }
+
+    /**
+     * @param mode Cipher.ENCRYPT_MODE or Cipher.DECRYPT_MODE
+     * @param key the content encryption key
+     * @param iv the initialization vector of the message
+     * @return a AES/GCM Cipher that is initialized, it belongs to the caller until it is given back.
+     * @throws GeneralSecurityException if the Cipher could not be made or initialized
+     */
+    public Cipher cipher(int mode, SymmetricKey key, byte[] iv) throws GeneralSecurityException {
+        Cipher cipher = ciphers.take();
+        if (Objects.isNull(cipher)) {
+            cipher = Cipher.getInstance(AES_GCM);
+        }
+        cipher.init(mode, aesKey(key), new GCMParameterSpec(TAG_BITS, iv));
+        return cipher;
+    }
+
+    /**
+     * @param cipher a Cipher from cipher(mode, key, iv) that was used
+     */
+    public void give(Cipher cipher) {
+        ciphers.give(cipher);
+    }
+
+    /**
+     * @return a new random iv for AES/GCM
+     */
+    public byte[] iv() {
+        return random(IV_LENGTH);
+    }
+
+    /**
+     * @param length how many bytes
+     * @return length random bytes from the calling thread's SecureRandom
+     */
+    public byte[] random(int length) {
+        SecureRandom random = randoms.take();
+        if (Objects.isNull(random)) {
+            random = new SecureRandom();
+        }
+        byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        randoms.give(random);
+        return bytes;
+    }
+
+    protected PooledMacs macs(SymmetricKey key) {
+        String keyId = keyId(key);
+        PooledMacs pooled = macs.get(keyId);
+        if (Objects.isNull(pooled) || !pooled.material.equals(key.getKey())) {
+            pooled = new PooledMacs(key.getKey(), new Pooled<>());
+            macs.put(keyId, pooled);
+        }
+        return pooled;
+    }
+
+    protected SecretKeySpec aesKey(SymmetricKey key) throws InvalidKeyException {
+        String keyId = keyId(key);
+        PooledKey pooled = aesKeys.get(keyId);
+        if (Objects.isNull(pooled) || !pooled.material.equals(key.getKey())) {
+            pooled = new PooledKey(key.getKey(), new SecretKeySpec(decode(key), AES));
+            aesKeys.put(keyId, pooled);
+        }
+        return pooled.spec;
+    }
+
+    public String keyId(SymmetricKey key) {
+        return key.getKeyId().orElse(NO_KEY_ID);
+    }
+
+    protected byte[] decode(SymmetricKey key) throws InvalidKeyException {
+        try {
+            return Base64.getUrlDecoder().decode(key.getKey());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidKeyException(KEY_NOT_BASE64, e);
+        }
+    }
+
+    private static class PooledMacs {
+        private final String material;
+        private final Pooled<Mac> macs;
+
+        PooledMacs(String material, Pooled<Mac> macs) {
+            this.material = material;
+            this.macs = macs;
+        }
+    }
+
+    private static class PooledKey {
+        private final String material;
+        private final SecretKeySpec spec;
+
+        PooledKey(String material, SecretKeySpec spec) {
+            this.material = material;
+            this.spec = spec;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package net.tokensmith.otter.security.crypto.entity;
+
+import java.util.Optional;
+
+/**
+ * The decrypted payload of a compact JWE and the members of its header that say how to read it.
+ */
+public class JweContent {
+    private byte[] payload;
+    // the cty header member
+    private Optional<String> contentType;
+    // true when the zip header member is DEF
+    private Boolean compressed;
+
+    public JweContent(byte[] payload, Optional<String> contentType, Boolean compressed) {
+        this.payload = payload;
+        this.contentType = contentType;
+        this.compressed = compressed;
+    }
+
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    public Optional<String> getContentType() {
+        return contentType;
+    }
+
+    public Boolean getCompressed() {
+        return compressed;
+    }
+}
@@ -0,0 +1,14 @@
+package net.tokensmith.otter.security.crypto.exception;
+
+/**
+ * Used when a value could not be signed, verified, encrypted or decrypted.
+ */
+public class CryptoException extends Exception {
+    public CryptoException(String message) {
+        super(message);
+    }
+
+    public CryptoException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
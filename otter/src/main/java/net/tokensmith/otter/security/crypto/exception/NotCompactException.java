@@ -0,0 +1,14 @@
+package net.tokensmith.otter.security.crypto.exception;
+
+/**
+ * Used when a value is not in the compact serialization it was expected to be in.
+ */
+public class NotCompactException extends CryptoException {
+    public NotCompactException(String message) {
+        super(message);
+    }
+
+    public NotCompactException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,223 @@
+package net.tokensmith.otter.security.csrf;
+
+
+import net.tokensmith.jwt.config.JwtAppFactory;
+import net.tokensmith.jwt.entity.jwk.SymmetricKey;
+import net.tokensmith.jwt.entity.jwt.JsonWebToken;
+import net.tokensmith.otter.security.RandomString;
+import net.tokensmith.otter.security.crypto.CompactJws;
+import net.tokensmith.otter.security.crypto.CryptoPool;
+import net.tokensmith.otter.security.csrf.exception.CsrfException;
+import net.tokensmith.otter.security.entity.ChallengeToken;
+
+import javax.crypto.Mac;
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * A DoubleSubmitCSRF whose csrf cookie and form values are not JWTs. A value is the url safe base64 of
+ *
+ *   version | kid | challenge token | noise | iat | HMAC-SHA256 of the previous, truncated to TAG_BYTES
+ *
+ * where kid, challenge token and noise are prefixed with their length. There is no json to write or read.
+ *
+ * The csrf cookie value does not change until the cookie does, so its verified claims are cached by value and
+ * later form renders and checks do not verify it again. JWT values are still read so cookies made before a group
+ * changed its CsrfFormat keep working.
+ */
+public class CompactCSRF extends DoubleSubmitCSRF {
+    public static final int TAG_BYTES = 16;
+    public static final int MAX_CACHED = 10_000;
+    public static final String NOT_COMPACT = "Value is not a compact csrf token";
+    public static final String TOO_LONG = "Compact csrf token member is longer than 255 bytes";
+    public static final String NO_KEY = "No sign key for compact csrf token";
+    private static final byte VERSION = 1;
+    private static final char DOT = '.';
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static String SIGN_MSG = "Could not sign compact csrf token";
+
+    private CryptoPool cryptoPool;
+    private Integer maxCached;
+    private Map<String, CsrfClaims> verified = new ConcurrentHashMap<>();
+
+    public CompactCSRF(JwtAppFactory jwtAppFactory, CompactJws compactJws, CryptoPool cryptoPool, RandomString randomString, SymmetricKey preferredSignKey, Map<String, SymmetricKey> rotationSignKeys) {
+        this(jwtAppFactory, compactJws, cryptoPool, randomString, preferredSignKey, rotationSignKeys, MAX_CACHED);
+    }
+
+    public CompactCSRF(JwtAppFactory jwtAppFactory, CompactJws compactJws, CryptoPool cryptoPool, RandomString randomString, SymmetricKey preferredSignKey, Map<String, SymmetricKey> rotationSignKeys, Integer maxCached) {
+        super(jwtAppFactory, compactJws, randomString, preferredSignKey, rotationSignKeys);
+        this.cryptoPool = cryptoPool;
+        this.maxCached = maxCached;
+    }
+
+    @Override
+    protected CsrfClaims cookieClaims(String cookieValue) throws CsrfException {
+        CsrfClaims claims = verified.get(cookieValue);
+        if (Objects.isNull(claims)) {
+            claims = toClaims(cookieValue);
+
+            // clear instead of evict, it refills with the cookies that are in use.
+            if (verified.size() >= maxCached) {
+                verified.clear();
+            }
+            verified.put(cookieValue, claims);
+        }
+        return claims;
+    }
+
+    @Override
+    protected CsrfClaims toClaims(String value) throws CsrfException {
+        if (value.indexOf(DOT) >= 0) {
+            return super.toClaims(value);
+        }
+        return fromCompact(value);
+    }
+
+    /**
+     * Used by PrepareCSRF to read the csrf cookie. Like a JWT value a compact value is only read, it is verified
+     * when it is checked. Its claims are returned in a JsonWebToken without a header.
+     *
+     * @param encodedCsrfCookieValue the value of the csrf cookie
+     * @return a JsonWebToken with the claims of the csrf cookie
+     * @throws CsrfException if the value could not be read
+     */
+    @Override
+    public JsonWebToken<CsrfClaims> csrfToJwt(String encodedCsrfCookieValue) throws CsrfException {
+        if (encodedCsrfCookieValue.indexOf(DOT) >= 0) {
+            return super.csrfToJwt(encodedCsrfCookieValue);
+        }
+        CsrfClaims claims = verified.get(encodedCsrfCookieValue);
+        if (Objects.isNull(claims)) {
+            claims = new CsrfClaims();
+            read(decode(encodedCsrfCookieValue), claims);
+        }
+        JsonWebToken<CsrfClaims> jsonWebToken = new JsonWebToken<>();
+        jsonWebToken.setClaims(claims);
+        return jsonWebToken;
+    }
+
+    /**
+     * @param challengeToken the challenge token and noise
+     * @return the compact value of challengeToken, the name is kept so the csrf betweens work with either format.
+     * @throws CsrfException if it could not be signed
+     */
+    @Override
+    public ByteArrayOutputStream toJwt(ChallengeToken challengeToken) throws CsrfException {
+        SymmetricKey key = getPreferredSignKey();
+        byte[] kid = key.getKeyId().orElse("").getBytes(StandardCharsets.UTF_8);
+        byte[] token = challengeToken.getToken().getBytes(StandardCharsets.UTF_8);
+        byte[] noise = challengeToken.getNoise().getBytes(StandardCharsets.UTF_8);
+        if (kid.length > 255 || token.length > 255 || noise.length > 255) {
+            throw new CsrfException(TOO_LONG);
+        }
+
+        ByteBuffer compact = ByteBuffer.allocate(4 + kid.length + token.length + noise.length + Long.BYTES + TAG_BYTES);
+        compact.put(VERSION);
+        compact.put((byte) kid.length).put(kid);
+        compact.put((byte) token.length).put(token);
+        compact.put((byte) noise.length).put(noise);
+        compact.putLong(OffsetDateTime.now().toEpochSecond());
+
+        byte[] bytes = compact.array();
+        int signed = bytes.length - TAG_BYTES;
+        try {
+            Mac mac = cryptoPool.mac(key);
+            mac.update(bytes, 0, signed);
+            System.arraycopy(mac.doFinal(), 0, bytes, signed, TAG_BYTES);
+            cryptoPool.give(key, mac);
+        } catch (GeneralSecurityException e) {
+            throw new CsrfException(SIGN_MSG, e);
+        }
+
+        byte[] encoded = ENCODER.encode(bytes);
+        ByteArrayOutputStream value = new ByteArrayOutputStream(encoded.length);
+        value.writeBytes(encoded);
+        return value;
+    }
+
+    protected CsrfClaims fromCompact(String value) throws CsrfException {
+        byte[] bytes = decode(value);
+        CsrfClaims claims = new CsrfClaims();
+        String kid = read(bytes, claims);
+
+        SymmetricKey key = getSignKey(kid);
+        if (Objects.isNull(key)) {
+            throw new CsrfException(NO_KEY);
+        }
+
+        int signed = bytes.length - TAG_BYTES;
+        byte[] tag;
+        try {
+            Mac mac = cryptoPool.mac(key);
+            mac.update(bytes, 0, signed);
+            tag = Arrays.copyOf(mac.doFinal(), TAG_BYTES);
+            cryptoPool.give(key, mac);
+        } catch (GeneralSecurityException e) {
+            throw new CsrfException(SIGNATURE_INVALID, e);
+        }
+
+        if (!MessageDigest.isEqual(tag, Arrays.copyOfRange(bytes, signed, bytes.length))) {
+            throw new CsrfException(SIGNATURE_INVALID);
+        }
+        return claims;
+    }
+
+    protected byte[] decode(String value) throws CsrfException {
+        try {
+            return DECODER.decode(value);
+        } catch (IllegalArgumentException e) {
+            throw new CsrfException(NOT_COMPACT, e);
+        }
+    }
+
+    /**
+     * Reads the claims of a compact value, it does not verify it.
+     *
+     * @param bytes the decoded compact value
+     * @param claims where the claims are read to
+     * @return the kid of the key it was signed with
+     * @throws CsrfException if bytes is not a compact value
+     */
+    protected String read(byte[] bytes, CsrfClaims claims) throws CsrfException {
+        String kid;
+        try {
+            ByteBuffer compact = ByteBuffer.wrap(bytes);
+            if (compact.get() != VERSION) {
+                throw new CsrfException(NOT_COMPACT);
+            }
+            kid = member(compact);
+            claims.setChallengeToken(member(compact));
+            claims.setNoise(member(compact));
+            claims.setIssuedAt(Optional.of(compact.getLong()));
+            if (compact.remaining() != TAG_BYTES) {
+                throw new CsrfException(NOT_COMPACT);
+            }
+        } catch (BufferUnderflowException e) {
+            throw new CsrfException(NOT_COMPACT, e);
+        }
+        return kid;
+    }
+
+    protected String member(ByteBuffer compact) {
+        int length = compact.get() & 0xff;
+        if (length > compact.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String member = new String(compact.array(), compact.position(), length, StandardCharsets.UTF_8);
+        compact.position(compact.position() + length);
+        return member;
+    }
+}
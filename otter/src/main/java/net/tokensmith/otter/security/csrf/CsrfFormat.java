@@ -0,0 +1,11 @@
+package net.tokensmith.otter.security.csrf;
+
+/**
+ * The format of the csrf cookie and form values of a group.
+ *
+ * JWT - signed JWTs, the default.
+ * COMPACT - signed binary values, see CompactCSRF. It also reads JWT values.
+ */
+public enum CsrfFormat {
+    JWT, COMPACT
+}
@@ -1,19 +1,17 @@
 package net.tokensmith.otter.security.csrf;
 
 
-import net.tokensmith.jwt.builder.compact.SecureCompactBuilder;
-import net.tokensmith.jwt.builder.exception.CompactException;
 import net.tokensmith.jwt.config.JwtAppFactory;
 import net.tokensmith.jwt.entity.jwk.SymmetricKey;
 import net.tokensmith.jwt.entity.jwt.JsonWebToken;
-import net.tokensmith.jwt.entity.jwt.header.Algorithm;
 import net.tokensmith.jwt.exception.InvalidJWT;
-import net.tokensmith.jwt.exception.SignatureException;
-import net.tokensmith.jwt.jws.verifier.VerifySignature;
 import net.tokensmith.jwt.serialization.JwtSerde;
 import net.tokensmith.jwt.serialization.exception.JsonToJwtException;
 import net.tokensmith.otter.controller.entity.Cookie;
 import net.tokensmith.otter.security.RandomString;
+import net.tokensmith.otter.security.config.SecurityAppFactory;
+import net.tokensmith.otter.security.crypto.CompactJws;
+import net.tokensmith.otter.security.crypto.exception.CryptoException;
 import net.tokensmith.otter.security.csrf.exception.CsrfException;
 import net.tokensmith.otter.security.entity.ChallengeToken;
 import org.slf4j.Logger;
@@ -22,6 +20,7 @@ import org.slf4j.LoggerFactory;
 import java.io.ByteArrayOutputStream;
 import java.time.OffsetDateTime;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 public class DoubleSubmitCSRF {
@@ -31,19 +30,27 @@ public class DoubleSubmitCSRF {
     private static String SERIALIZE_JWT = "Could not serialize to compact jwt";
     private static String DE_SERIALIZE_JWT = "Could not deserialize CSRF JWT to pojo";
     protected static Logger LOGGER = LoggerFactory.getLogger(DoubleSubmitCSRF.class);
+    private static SecurityAppFactory securityAppFactory = new SecurityAppFactory();
 
     private JwtAppFactory jwtAppFactory;
+    private CompactJws compactJws;
     private RandomString randomString;
     private SymmetricKey preferredSignKey;
     private Map<String, SymmetricKey> rotationSignKeys;
 
     public DoubleSubmitCSRF(JwtAppFactory jwtAppFactory, RandomString randomString) {
         this.jwtAppFactory = jwtAppFactory;
+        this.compactJws = securityAppFactory.compactJws();
         this.randomString = randomString;
     }
 
     public DoubleSubmitCSRF(JwtAppFactory jwtAppFactory, RandomString randomString, SymmetricKey preferredSignKey, Map<String, SymmetricKey> rotationSignKeys) {
+        this(jwtAppFactory, securityAppFactory.compactJws(), randomString, preferredSignKey, rotationSignKeys);
+    }
+
+    public DoubleSubmitCSRF(JwtAppFactory jwtAppFactory, CompactJws compactJws, RandomString randomString, SymmetricKey preferredSignKey, Map<String, SymmetricKey> rotationSignKeys) {
         this.jwtAppFactory = jwtAppFactory;
+        this.compactJws = compactJws;
         this.randomString = randomString;
         this.preferredSignKey = preferredSignKey;
         this.rotationSignKeys = rotationSignKeys;
@@ -54,13 +61,17 @@ public class DoubleSubmitCSRF {
         CsrfClaims cookieClaims;
         CsrfClaims formClaims;
         try {
-            cookieClaims = toClaims(cookieValue);
+            cookieClaims = cookieClaims(cookieValue);
             formClaims = toClaims(formValue);
         } catch (CsrfException e) {
             LOGGER.debug(e.getMessage(), e);
             return false;
         }
 
+        return claimsMatch(cookieClaims, formClaims);
+    }
+
+    protected Boolean claimsMatch(CsrfClaims cookieClaims, CsrfClaims formClaims) {
         Boolean challengeTokensMatch = cookieClaims.getChallengeToken().equals(formClaims.getChallengeToken());
         Boolean noiseMatch = cookieClaims.getNoise().equals(formClaims.getNoise());
 
@@ -72,6 +83,15 @@ public class DoubleSubmitCSRF {
         return false;
     }
 
+    /**
+     * @param cookieValue the value of the csrf cookie
+     * @return the verified claims of cookieValue
+     * @throws CsrfException if cookieValue could not be read or its signature is invalid
+     */
+    protected CsrfClaims cookieClaims(String cookieValue) throws CsrfException {
+        return toClaims(cookieValue);
+    }
+
     protected CsrfClaims toClaims(String value) throws CsrfException {
         JsonWebToken<CsrfClaims> csrfJwt;
         try {
@@ -117,24 +137,20 @@ public class DoubleSubmitCSRF {
         SymmetricKey key;
         if (preferredSignKey.getKeyId().get().equals(keyId)) {
             key = preferredSignKey;
-        } else {
+        } else if (Objects.nonNull(rotationSignKeys)) {
             key = rotationSignKeys.get(keyId);
+        } else {
+            key = null;
         }
         return key;
     }
 
     protected Boolean verifyCsrfCookieSignature(JsonWebToken<CsrfClaims> csrfJwt, SymmetricKey signKey) throws CsrfException {
-
-        VerifySignature verifySignature;
         try {
-            verifySignature = jwtAppFactory.verifySignature(
-                csrfJwt.getHeader().getAlgorithm(), signKey
-            );
-        } catch (SignatureException e) {
+            return compactJws.verify(signKey, csrfJwt);
+        } catch (CryptoException e) {
             throw new CsrfException(VERIFY_MSG, e);
         }
-
-        return verifySignature.run(csrfJwt);
     }
 
     public String makeChallengeToken() {
@@ -162,15 +178,10 @@ public class DoubleSubmitCSRF {
         csrfClaims.setNoise(challengeToken.getNoise());
         csrfClaims.setIssuedAt(issuedAt);
 
-        SecureCompactBuilder compactBuilder = new SecureCompactBuilder();
-
         ByteArrayOutputStream compactJwt;
         try {
-            compactJwt = compactBuilder.alg(Algorithm.HS256)
-                    .key(preferredSignKey)
-                    .claims(csrfClaims)
-                    .build();
-        } catch (CompactException e) {
+            compactJwt = compactJws.sign(preferredSignKey, csrfClaims);
+        } catch (CryptoException e) {
             throw new CsrfException(SERIALIZE_JWT, e);
         }
 
@@ -178,6 +189,10 @@ public class DoubleSubmitCSRF {
     }
 
 
+    public SymmetricKey getPreferredSignKey() {
+        return preferredSignKey;
+    }
+
     public void setPreferredSignKey(SymmetricKey preferredSignKey) {
         this.preferredSignKey = preferredSignKey;
     }
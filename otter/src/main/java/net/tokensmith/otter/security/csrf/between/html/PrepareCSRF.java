@@ -43,8 +43,11 @@ public class PrepareCSRF<S, U> implements Between<S, U> {
 
     @Override
     public void process(Method method, Request<S, U> request, Response<S> response) throws HaltException {
-        if (Objects.isNull(response.getCookies().get(cookieConfig.getName()))) {
-            LOGGER.debug("No CSRF Cookie - adding it");
+        Cookie cookie = response.getCookies().get(cookieConfig.getName());
+        Optional<CsrfClaims> cookieClaims = Objects.isNull(cookie) ? Optional.empty() : cookieClaims(cookie.getValue());
+
+        if (cookieClaims.isEmpty()) {
+            LOGGER.debug("No CSRF Cookie or it could not be read - adding it");
             String challengeToken = doubleSubmitCSRF.makeChallengeToken();
 
             String cookieNoise = doubleSubmitCSRF.makeChallengeToken();
@@ -68,22 +71,30 @@ public class PrepareCSRF<S, U> implements Between<S, U> {
             }
         } else {
             LOGGER.debug("CSRF Cookie exists - adding it to it's token to request");
-            JsonWebToken<CsrfClaims> csrfJwt = null;
-            try {
-                csrfJwt = doubleSubmitCSRF.csrfToJwt(response.getCookies().get(cookieConfig.getName()).getValue());
-            } catch (CsrfException e) {
-                LOGGER.error(e.getMessage(), e);
-            }
             String formNoise = doubleSubmitCSRF.makeChallengeToken();
-            CsrfClaims claims = csrfJwt.getClaims();
-            ChallengeToken formChallengeToken = new ChallengeToken(claims.getChallengeToken(), formNoise);
-            ByteArrayOutputStream formValue = null;
+            ChallengeToken formChallengeToken = new ChallengeToken(cookieClaims.get().getChallengeToken(), formNoise);
             try {
-                formValue = doubleSubmitCSRF.toJwt(formChallengeToken);
+                ByteArrayOutputStream formValue = doubleSubmitCSRF.toJwt(formChallengeToken);
+                request.setCsrfChallenge(Optional.of(formValue.toString()));
             } catch (CsrfException e) {
                 LOGGER.error(e.getMessage(), e);
             }
-            request.setCsrfChallenge(Optional.of(formValue.toString()));
+        }
+    }
+
+    /**
+     * The cookie is only read here, it is verified when the form is checked by CheckCSRF.
+     *
+     * @param cookieValue the value of the csrf cookie
+     * @return the claims of the csrf cookie or empty if it could not be read, then a new csrf cookie is made.
+     */
+    protected Optional<CsrfClaims> cookieClaims(String cookieValue) {
+        try {
+            JsonWebToken<CsrfClaims> csrfJwt = doubleSubmitCSRF.csrfToJwt(cookieValue);
+            return Optional.ofNullable(csrfJwt.getClaims());
+        } catch (CsrfException e) {
+            LOGGER.error(e.getMessage(), e);
+            return Optional.empty();
         }
     }
 
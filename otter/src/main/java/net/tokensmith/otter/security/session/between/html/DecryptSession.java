@@ -2,6 +2,7 @@ package net.tokensmith.otter.security.session.between.html;
 
 
 import net.tokensmith.otter.controller.entity.Cookie;
+import net.tokensmith.otter.controller.entity.DefaultSession;
 import net.tokensmith.otter.controller.entity.request.Request;
 import net.tokensmith.otter.controller.entity.response.Response;
 import net.tokensmith.otter.router.entity.Method;
@@ -11,11 +12,11 @@ import net.tokensmith.otter.security.exception.SessionCtorException;
 import net.tokensmith.otter.security.session.exception.InvalidSessionException;
 import net.tokensmith.otter.security.session.exception.SessionDecryptException;
 import net.tokensmith.otter.security.session.util.Decrypt;
+import net.tokensmith.otter.security.session.util.SessionCopy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.BiFunction;
@@ -34,14 +35,14 @@ public class DecryptSession<S, U> implements Between<S, U> {
     public static final String COULD_NOT_CALL_THE_SESSION_COPY_CONSTRUCTOR = "Could not call the session's copy constructor";
     protected static Logger LOGGER = LoggerFactory.getLogger(DecryptSession.class);
 
-    private Constructor<S> ctor;
+    private SessionCopy<S> sessionCopy;
     private String sessionCookieName;
     private Boolean required;
     private BiFunction<Response<S>, HaltException, Response<S>> onHalt;
     private Decrypt<S> decrypt;
 
     public DecryptSession(Constructor<S> ctor, String sessionCookieName, BiFunction<Response<S>, HaltException, Response<S>> onHalt, Boolean required, Decrypt<S> decrypt) {
-        this.ctor = ctor;
+        this.sessionCopy = new SessionCopy<>(ctor);
         this.sessionCookieName = sessionCookieName;
         this.onHalt = onHalt;
         this.required = required;
@@ -78,21 +79,36 @@ public class DecryptSession<S, U> implements Between<S, U> {
             throw halt;
         }
 
+        // A tracked session is shared by the request and response, EncryptSession re-encrypts it when it is dirty.
+        if (isTracked(session.get())) {
+            request.setSession(session);
+            response.setSession(session);
+            response.setDecryptedSession(session);
+            return;
+        }
+
         // Copies the request session and assigns it to, response.
         // This is required because the after between, EncryptSession, does an .equals() to
         // determine if the session has changed. If it changed then it will be re encrypted.
         request.setSession(session);
-        S responseSession;
+        S responseSession = copy(session.get(), response);
+        response.setSession(Optional.of(responseSession));
+        response.setDecryptedSession(Optional.of(responseSession));
+    }
 
+    protected Boolean isTracked(S session) {
+        return session instanceof DefaultSession && ((DefaultSession) session).isTracked();
+    }
+
+    protected S copy(S from, Response<S> response) throws HaltException {
         try {
-            responseSession = copy(session.get());
+            return copy(from);
         } catch (SessionCtorException e) {
             LOGGER.error(e.getMessage(), e);
             HaltException halt = new HaltException(FAILED_TO_COPY_REQUEST_SESSION, e);
             onHalt(halt, response);
             throw halt;
         }
-        response.setSession(Optional.of(responseSession));
     }
 
     /**
@@ -103,13 +119,7 @@ public class DecryptSession<S, U> implements Between<S, U> {
      * @throws SessionCtorException when ctor could not executed
      */
     protected S copy(S from) throws SessionCtorException {
-        S copy;
-        try {
-            copy = ctor.newInstance(from);
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-            throw new SessionCtorException(COULD_NOT_CALL_THE_SESSION_COPY_CONSTRUCTOR,e);
-        }
-        return copy;
+        return sessionCopy.copy(from);
     }
 
     /**
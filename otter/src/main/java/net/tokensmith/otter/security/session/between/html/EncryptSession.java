@@ -1,26 +1,27 @@
 package net.tokensmith.otter.security.session.between.html;
 
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectWriter;
-import net.tokensmith.jwt.builder.compact.EncryptedCompactBuilder;
-import net.tokensmith.jwt.builder.exception.CompactException;
-import net.tokensmith.jwt.entity.jwe.EncryptionAlgorithm;
 import net.tokensmith.jwt.entity.jwk.SymmetricKey;
-import net.tokensmith.jwt.entity.jwt.header.Algorithm;
 import net.tokensmith.otter.config.CookieConfig;
 import net.tokensmith.otter.controller.entity.Cookie;
+import net.tokensmith.otter.controller.entity.DefaultSession;
 import net.tokensmith.otter.controller.entity.StatusCode;
 import net.tokensmith.otter.controller.entity.request.Request;
 import net.tokensmith.otter.controller.entity.response.Response;
 import net.tokensmith.otter.router.entity.Method;
 import net.tokensmith.otter.router.entity.between.Between;
 import net.tokensmith.otter.router.exception.HaltException;
+import net.tokensmith.otter.security.config.SecurityAppFactory;
+import net.tokensmith.otter.security.crypto.CompactJwe;
+import net.tokensmith.otter.security.crypto.exception.CryptoException;
+import net.tokensmith.otter.security.session.codec.SessionCodecs;
 import net.tokensmith.otter.security.session.exception.EncryptSessionException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 
 
 /**
@@ -35,16 +36,27 @@ public class EncryptSession<S, U> implements Between<S, U> {
     public static final String ENCRYPTING = "re-encrypting session cookie";
     public static final String COULD_NOT_ENCRYPT_SESSION = "Could not encrypt session cookie";
     protected static Logger LOGGER = LoggerFactory.getLogger(EncryptSession.class);
+    private static SecurityAppFactory securityAppFactory = new SecurityAppFactory();
 
     private CookieConfig cookieConfig;
     private SymmetricKey preferredKey;
-    private ObjectWriter objectWriter;
+    private SessionCodecs<S> sessionCodecs;
+    private CompactJwe compactJwe;
 
 
     public EncryptSession(CookieConfig cookieConfig, SymmetricKey preferredKey, ObjectWriter objectWriter) {
+        this(cookieConfig, preferredKey, objectWriter, securityAppFactory.compactJwe());
+    }
+
+    public EncryptSession(CookieConfig cookieConfig, SymmetricKey preferredKey, ObjectWriter objectWriter, CompactJwe compactJwe) {
+        this(cookieConfig, preferredKey, SessionCodecs.json(null, objectWriter), compactJwe);
+    }
+
+    public EncryptSession(CookieConfig cookieConfig, SymmetricKey preferredKey, SessionCodecs<S> sessionCodecs, CompactJwe compactJwe) {
         this.cookieConfig = cookieConfig;
         this.preferredKey = preferredKey;
-        this.objectWriter = objectWriter;
+        this.sessionCodecs = sessionCodecs;
+        this.compactJwe = compactJwe;
     }
 
     @Override
@@ -91,7 +103,12 @@ public class EncryptSession<S, U> implements Between<S, U> {
 
     protected Boolean shouldEncrypt(Request<S, U> request, Response<S> response) {
         if (request.getSession().isPresent() && response.getSession().isPresent()) {
-            if ( response.getSession().get().equals(request.getSession().get()) ) {
+            S responseSession = response.getSession().get();
+            // a tracked session that was not replaced by the resource only changed if it is dirty.
+            if (responseSession == request.getSession().get() && isTracked(responseSession)) {
+                return ((DefaultSession) responseSession).isDirty();
+            }
+            if ( responseSession.equals(request.getSession().get()) ) {
                 return false;
             }
             return true;
@@ -101,28 +118,24 @@ public class EncryptSession<S, U> implements Between<S, U> {
         return false;
     }
 
+    protected Boolean isTracked(S session) {
+        return session instanceof DefaultSession && ((DefaultSession) session).isTracked();
+    }
+
     protected ByteArrayOutputStream encrypt(S session) throws EncryptSessionException {
-        byte[] payload;
+        SessionCodecs.Encoded encoded;
 
         try {
-            payload = objectWriter.writeValueAsBytes(session);
-        } catch (JsonProcessingException e) {
+            encoded = sessionCodecs.encode(session);
+        } catch (IOException e) {
             throw new EncryptSessionException(e.getMessage(), e);
         }
 
-        EncryptedCompactBuilder compactBuilder = new EncryptedCompactBuilder();
-        ByteArrayOutputStream compactJwe;
         try {
-            compactJwe = compactBuilder.encAlg(EncryptionAlgorithm.AES_GCM_256)
-                    .alg(Algorithm.DIRECT)
-                    .payload(payload)
-                    .cek(preferredKey)
-                    .build();
-        } catch (CompactException e) {
+            return compactJwe.encrypt(preferredKey, encoded.getBytes(), encoded.getContentType(), encoded.getCompressed());
+        } catch (CryptoException e) {
             throw new EncryptSessionException(e.getMessage(), e);
         }
-
-        return compactJwe;
     }
 
     public CookieConfig getCookieConfig() {
@@ -0,0 +1,151 @@
+package net.tokensmith.otter.security.session.between.html;
+
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import net.tokensmith.otter.config.CookieConfig;
+import net.tokensmith.otter.controller.entity.Cookie;
+import net.tokensmith.otter.controller.entity.request.Request;
+import net.tokensmith.otter.controller.entity.response.Response;
+import net.tokensmith.otter.router.entity.Method;
+import net.tokensmith.otter.router.exception.HaltException;
+import net.tokensmith.otter.security.crypto.exception.CryptoException;
+import net.tokensmith.otter.security.session.store.SessionIds;
+import net.tokensmith.otter.security.session.store.SessionStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+import java.util.Optional;
+
+
+/**
+ * Used instead of EncryptSession when sessions are kept in a SessionStore. The session is written to the
+ * store under the id of the request's session cookie. A session cookie is only written when the request did not
+ * have one or the id was rotated, see shouldRotate. Otherwise the cookie does not change when the session does.
+ *
+ * When the resource removes the response session the stored session and the cookie are removed. A rotated id is
+ * kept for ROTATED_TTL_SECONDS so requests that were sent with it before the new cookie was set still have a session.
+ *
+ * @param <S> Session object, intended to contain user session data.
+ * @param <U> User object, intended to be a authenticated user.
+ */
+public class StoreSession<S, U> extends EncryptSession<S, U> {
+    public static final String NOT_STORING = "Not storing session";
+    public static final String STORING = "storing session";
+    public static final String REMOVING = "removing stored session";
+    public static final String ROTATING = "rotating session id";
+    public static final String COULD_NOT_STORE_SESSION = "Could not store session";
+    public static final Long ROTATED_TTL_SECONDS = 30L;
+    protected static Logger LOGGER = LoggerFactory.getLogger(StoreSession.class);
+
+    private ObjectWriter objectWriter;
+    private SessionIds sessionIds;
+    private SessionStore sessionStore;
+
+    public StoreSession(CookieConfig cookieConfig, ObjectWriter objectWriter, SessionIds sessionIds, SessionStore sessionStore) {
+        super(cookieConfig, null, objectWriter, null);
+        this.objectWriter = objectWriter;
+        this.sessionIds = sessionIds;
+        this.sessionStore = sessionStore;
+    }
+
+    @Override
+    public void process(Method method, Request<S, U> request, Response<S> response) throws HaltException {
+        if (request.getSession().isPresent() && response.getSession().isEmpty()) {
+            LOGGER.debug(REMOVING);
+            requestId(request).ifPresent(id -> sessionStore.remove(id));
+            response.getCookies().remove(getCookieConfig().getName());
+            return;
+        }
+
+        if (!shouldEncrypt(request, response)) {
+            LOGGER.debug(NOT_STORING);
+            return;
+        }
+
+        LOGGER.debug(STORING);
+        try {
+            byte[] session = objectWriter.writeValueAsBytes(response.getSession().get());
+            Optional<String> id = requestId(request);
+            if (id.isPresent() && !shouldRotate(id.get(), request, response)) {
+                store(id.get(), session);
+                return;
+            }
+
+            // a new id so an id that was known before the session was replaced, such as at login, is not used after.
+            LOGGER.debug(ROTATING);
+            String newId = sessionIds.make();
+            store(newId, session);
+            id.ifPresent(oldId -> sessionStore.expire(oldId, ROTATED_TTL_SECONDS));
+
+            Cookie cookie = new Cookie.Builder()
+                .name(getCookieConfig().getName())
+                .maxAge(getCookieConfig().getAge())
+                .secure(getCookieConfig().getSecure())
+                .httpOnly(getCookieConfig().getHttpOnly())
+                .value(sessionIds.sign(newId))
+                .build();
+
+            response.getCookies().put(getCookieConfig().getName(), cookie);
+        } catch (JsonProcessingException | CryptoException | HaltException e) {
+            LOGGER.error(e.getMessage(), e);
+            HaltException haltException = new HaltException(COULD_NOT_STORE_SESSION, e);
+            onHalt(haltException, response);
+            throw haltException;
+        }
+    }
+
+    /**
+     * The id is rotated when the resource replaced the request's session, such as at login, or when the id is not
+     * in the store. Changing the session DecryptSession gave the response keeps the id.
+     *
+     * @param id the id of the request's session cookie
+     * @param request the request
+     * @param response the response
+     * @return true if the session should be stored under a new id
+     */
+    protected Boolean shouldRotate(String id, Request<S, U> request, Response<S> response) {
+        if (request.getSession().isEmpty() || isReplaced(request, response)) {
+            return true;
+        }
+        return sessionStore.get(id).isEmpty();
+    }
+
+    /**
+     * @param request the request, it has a session
+     * @param response the response, it has a session
+     * @return true if the response session is not the one DecryptSession gave it. When the resource made a new
+     * response it is compared to the request's session.
+     */
+    protected Boolean isReplaced(Request<S, U> request, Response<S> response) {
+        S decrypted = response.getDecryptedSession().orElse(request.getSession().get());
+        return response.getSession().get() != decrypted;
+    }
+
+    protected void store(String id, byte[] session) throws HaltException {
+        if (!sessionStore.put(id, session)) {
+            throw new HaltException(COULD_NOT_STORE_SESSION);
+        }
+    }
+
+    /**
+     * @param request the request
+     * @return the id of the request's session cookie or empty if it does not have a valid one.
+     */
+    protected Optional<String> requestId(Request<S, U> request) {
+        Cookie sessionCookie = request.getCookies().get(getCookieConfig().getName());
+        if (Objects.isNull(sessionCookie)) {
+            return Optional.empty();
+        }
+        return sessionIds.verify(sessionCookie.getValue());
+    }
+
+    public SessionIds getSessionIds() {
+        return sessionIds;
+    }
+
+    public SessionStore getSessionStore() {
+        return sessionStore;
+    }
+}
@@ -21,6 +21,8 @@ import java.util.function.BiFunction;
  * A RestBetween that will read and decrypt a session that can be used to assign a user to the request.
  * This is useful for requests to an API from a browser.
  *
+ * When sessions are cached each request is given its own copy of the session, sessions without a copy constructor are not cached.
+ *
  * @param <S> Session to decrypt
  * @param <U> The User to pass along to the RestResource
  */
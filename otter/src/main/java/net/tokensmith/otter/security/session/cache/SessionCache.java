@@ -0,0 +1,215 @@
+package net.tokensmith.otter.security.session.cache;
+
+import net.tokensmith.otter.security.Pooled;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * A bounded cache of decrypted sessions keyed by a SHA-256 digest of the session cookie. A browser sends
+ * the same cookie for many requests, so a hit skips parsing the JWE, decrypting it and reading the json.
+ *
+ * Entries expire ttl after they were added. Each stripe is a least recently used map with its own lock and
+ * an even share of the max entries and max bytes, a entry's bytes is the length of the cookie.
+ *
+ * The cached session is not given to requests, CachedDecrypt gives each request a copy of it.
+ *
+ * @param <S> Session object
+ */
+public class SessionCache<S> {
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final Pooled<MessageDigest> DIGESTS = new Pooled<>();
+
+    private Stripe<S>[] stripes;
+    private int mask;
+    private long ttlNanos;
+    private SessionCacheStats stats;
+    private LongSupplier clock;
+
+    public SessionCache(Integer maxEntries, Long maxBytes, Long ttlSeconds, Integer stripes, SessionCacheStats stats) {
+        this(maxEntries, maxBytes, ttlSeconds, stripes, stats, System::nanoTime);
+    }
+
+    @SuppressWarnings("unchecked")
+    public SessionCache(Integer maxEntries, Long maxBytes, Long ttlSeconds, Integer stripes, SessionCacheStats stats, LongSupplier clock) {
+        int count = Integer.highestOneBit(Math.max(1, stripes));
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            this.stripes[i] = new Stripe<>(Math.max(1, maxEntries / count), Math.max(1L, maxBytes / count));
+        }
+        this.mask = count - 1;
+        this.ttlNanos = ttlSeconds * 1_000_000_000L;
+        this.stats = stats;
+        this.clock = clock;
+    }
+
+    /**
+     * @param encryptedSession the value of the session cookie
+     * @return the key to use for the session cookie
+     */
+    public Key key(String encryptedSession) {
+        MessageDigest messageDigest = DIGESTS.take();
+        if (Objects.isNull(messageDigest)) {
+            messageDigest = messageDigest();
+        }
+        byte[] digest = messageDigest.digest(encryptedSession.getBytes(StandardCharsets.US_ASCII));
+        DIGESTS.give(messageDigest);
+        return new Key(digest, encryptedSession.length());
+    }
+
+    public Optional<S> get(Key key) {
+        Optional<S> session = stripe(key).get(key, clock.getAsLong());
+        if (session.isPresent()) {
+            stats.hit();
+        } else {
+            stats.miss();
+        }
+        return session;
+    }
+
+    public void put(Key key, S session) {
+        int evicted = stripe(key).put(key, session, clock.getAsLong() + ttlNanos);
+        for (int i = 0; i < evicted; i++) {
+            stats.eviction();
+        }
+    }
+
+    public void invalidateAll() {
+        for (Stripe<S> stripe: stripes) {
+            stripe.clear();
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe<S> stripe: stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    public SessionCacheStats getStats() {
+        return stats;
+    }
+
+    protected Stripe<S> stripe(Key key) {
+        return stripes[key.hashCode() & mask];
+    }
+
+    private static MessageDigest messageDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // every jvm has SHA-256.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static class Key {
+        private byte[] digest;
+        private int bytes;
+        private int hash;
+
+        public Key(byte[] digest, int bytes) {
+            this.digest = digest;
+            this.bytes = bytes;
+            this.hash = Arrays.hashCode(digest);
+        }
+
+        public int getBytes() {
+            return bytes;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return Arrays.equals(digest, key.digest);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    protected static class Entry<S> {
+        private S session;
+        private long expiresAt;
+        private int bytes;
+
+        public Entry(S session, long expiresAt, int bytes) {
+            this.session = session;
+            this.expiresAt = expiresAt;
+            this.bytes = bytes;
+        }
+    }
+
+    protected static class Stripe<S> {
+        private int maxEntries;
+        private long maxBytes;
+        private long bytes;
+        private LinkedHashMap<Key, Entry<S>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+        public Stripe(int maxEntries, long maxBytes) {
+            this.maxEntries = maxEntries;
+            this.maxBytes = maxBytes;
+        }
+
+        public synchronized Optional<S> get(Key key, long now) {
+            Entry<S> entry = entries.get(key);
+            if (Objects.isNull(entry)) {
+                return Optional.empty();
+            }
+            if (entry.expiresAt - now <= 0) {
+                entries.remove(key);
+                bytes -= entry.bytes;
+                return Optional.empty();
+            }
+            return Optional.of(entry.session);
+        }
+
+        /**
+         * @return the number of entries evicted to make room for it.
+         */
+        public synchronized int put(Key key, S session, long expiresAt) {
+            if (key.getBytes() > maxBytes) {
+                return 0;
+            }
+
+            Entry<S> previous = entries.put(key, new Entry<>(session, expiresAt, key.getBytes()));
+            if (Objects.nonNull(previous)) {
+                bytes -= previous.bytes;
+            }
+            bytes += key.getBytes();
+
+            int evicted = 0;
+            Iterator<Map.Entry<Key, Entry<S>>> eldest = entries.entrySet().iterator();
+            while ((entries.size() > maxEntries || bytes > maxBytes) && eldest.hasNext()) {
+                Map.Entry<Key, Entry<S>> next = eldest.next();
+                bytes -= next.getValue().bytes;
+                eldest.remove();
+                evicted++;
+            }
+            return evicted;
+        }
+
+        public synchronized void clear() {
+            entries.clear();
+            bytes = 0;
+        }
+
+        public synchronized int size() {
+            return entries.size();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package net.tokensmith.otter.security.session.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts how session caches are used. A stats is shared by the caches made from the same
+ * SessionCacheConfig so the counts are for all of the groups that use it.
+ */
+public class SessionCacheStats {
+    private LongAdder hits = new LongAdder();
+    private LongAdder misses = new LongAdder();
+    private LongAdder evictions = new LongAdder();
+
+    public void hit() {
+        hits.increment();
+    }
+
+    public void miss() {
+        misses.increment();
+    }
+
+    public void eviction() {
+        evictions.increment();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+}
@@ -0,0 +1,46 @@
+package net.tokensmith.otter.security.session.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+
+/**
+ * A SessionCodec for any Jackson data format. The JSON codec uses the session object reader and writer, a
+ * binary format such as Smile or CBOR is used by giving it an ObjectMapper made with that format's factory.
+ *
+ * @param <S> Session object
+ */
+public class JacksonSessionCodec<S> implements SessionCodec<S> {
+    public static final String JSON = "json";
+
+    private String id;
+    private ObjectReader reader;
+    private ObjectWriter writer;
+
+    public JacksonSessionCodec(String id, ObjectReader reader, ObjectWriter writer) {
+        this.id = id;
+        this.reader = reader;
+        this.writer = writer;
+    }
+
+    public JacksonSessionCodec(String id, ObjectMapper mapper, Class<S> sessionClazz) {
+        this(id, mapper.readerFor(sessionClazz), mapper.writer());
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public byte[] encode(S session) throws IOException {
+        return writer.writeValueAsBytes(session);
+    }
+
+    @Override
+    public S decode(byte[] encoded) throws IOException {
+        return reader.readValue(encoded);
+    }
+}
@@ -0,0 +1,17 @@
+package net.tokensmith.otter.security.session.codec;
+
+import java.io.IOException;
+
+/**
+ * Encodes sessions to the bytes that are encrypted into the session cookie and decodes them back.
+ *
+ * The id of the codec that encoded a session is the cty of its JWE header, so a session cookie is decoded by the
+ * codec that encoded it even after the preferred codec changed.
+ *
+ * @param <S> Session object
+ */
+public interface SessionCodec<S> {
+    String getId();
+    byte[] encode(S session) throws IOException;
+    S decode(byte[] encoded) throws IOException;
+}
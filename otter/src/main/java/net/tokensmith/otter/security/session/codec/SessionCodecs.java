@@ -0,0 +1,187 @@
+package net.tokensmith.otter.security.session.codec;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import net.tokensmith.otter.security.Pooled;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * The codecs a group encodes and decodes sessions with. Sessions are encoded with the preferred codec and
+ * decoded with the codec that encoded them, sessions without a codec id were encoded as JSON.
+ *
+ * Encoded sessions larger than the deflate threshold are compressed with DEFLATE before they are encrypted, which
+ * is the zip member of the JWE header. Inflated sessions may not be larger than MAX_INFLATED_BYTES.
+ *
+ * Deflaters and Inflaters hold native memory, they are reused with a Pooled and the ones it does not keep are ended.
+ *
+ * @param <S> Session object
+ */
+public class SessionCodecs<S> {
+    public static final String UNKNOWN_CODEC = "Unknown session codec: %s";
+    public static final String NOT_DEFLATED = "Session is not deflated";
+    public static final String INFLATED_TOO_LARGE = "Inflated session is larger than %s bytes";
+    public static final int MAX_INFLATED_BYTES = 256 * 1024;
+    private static final int BUFFER_SIZE = 4096;
+    private static final Pooled<Deflater> DEFLATERS = new Pooled<>(Pooled.MAX_POOLED, Deflater::end);
+    private static final Pooled<Inflater> INFLATERS = new Pooled<>(Pooled.MAX_POOLED, Inflater::end);
+    private static final Pooled<byte[]> BUFFERS = new Pooled<>();
+
+    private SessionCodec<S> preferred;
+    private Map<String, SessionCodec<S>> codecs = new HashMap<>();
+    private Integer deflateThreshold;
+
+    /**
+     * @param preferred the codec to encode with
+     * @param codecs the codecs to decode with, one of them should be the JSON codec.
+     * @param deflateThreshold deflate encoded sessions larger than this, null to never deflate.
+     */
+    public SessionCodecs(SessionCodec<S> preferred, List<SessionCodec<S>> codecs, Integer deflateThreshold) {
+        this.preferred = preferred;
+        for (SessionCodec<S> codec: codecs) {
+            this.codecs.put(codec.getId(), codec);
+        }
+        this.codecs.put(preferred.getId(), preferred);
+        this.deflateThreshold = deflateThreshold;
+    }
+
+    /**
+     * @param reader the session object reader, null if sessions are only encoded
+     * @param writer the session object writer, null if sessions are only decoded
+     * @param <S> Session object
+     * @return JSON codecs that do not deflate
+     */
+    public static <S> SessionCodecs<S> json(ObjectReader reader, ObjectWriter writer) {
+        SessionCodec<S> json = new JacksonSessionCodec<>(JacksonSessionCodec.JSON, reader, writer);
+        return new SessionCodecs<>(json, List.of(json), null);
+    }
+
+    public Encoded encode(S session) throws IOException {
+        byte[] encoded = preferred.encode(session);
+        Boolean compressed = false;
+        if (Objects.nonNull(deflateThreshold) && encoded.length > deflateThreshold) {
+            byte[] deflated = deflate(encoded);
+            if (deflated.length < encoded.length) {
+                encoded = deflated;
+                compressed = true;
+            }
+        }
+
+        // json is not named so json sessions have the same header they always had.
+        Optional<String> contentType = JacksonSessionCodec.JSON.equals(preferred.getId()) ? Optional.empty() : Optional.of(preferred.getId());
+        return new Encoded(encoded, contentType, compressed);
+    }
+
+    /**
+     * @param encoded an encoded session
+     * @param contentType the id of the codec that encoded it, empty if it is JSON.
+     * @param compressed true if it was deflated
+     * @return the session
+     * @throws IOException if the codec is unknown, it could not be inflated or decoded.
+     */
+    public S decode(byte[] encoded, Optional<String> contentType, Boolean compressed) throws IOException {
+        String id = contentType.orElse(JacksonSessionCodec.JSON);
+        SessionCodec<S> codec = codecs.get(id);
+        if (Objects.isNull(codec)) {
+            throw new IOException(String.format(UNKNOWN_CODEC, id));
+        }
+        return codec.decode(compressed ? inflate(encoded) : encoded);
+    }
+
+    protected byte[] deflate(byte[] bytes) {
+        Deflater deflater = DEFLATERS.take();
+        if (Objects.isNull(deflater)) {
+            deflater = new Deflater(Deflater.BEST_SPEED, true);
+        }
+        byte[] buffer = buffer();
+        deflater.reset();
+        deflater.setInput(bytes);
+        deflater.finish();
+
+        ByteArrayOutputStream deflated = new ByteArrayOutputStream(bytes.length / 2 + 16);
+        while (!deflater.finished()) {
+            int length = deflater.deflate(buffer);
+            deflated.write(buffer, 0, length);
+        }
+        DEFLATERS.give(deflater);
+        BUFFERS.give(buffer);
+        return deflated.toByteArray();
+    }
+
+    protected byte[] inflate(byte[] bytes) throws IOException {
+        Inflater inflater = INFLATERS.take();
+        if (Objects.isNull(inflater)) {
+            inflater = new Inflater(true);
+        }
+        byte[] buffer = buffer();
+        inflater.reset();
+        inflater.setInput(bytes);
+
+        ByteArrayOutputStream inflated = new ByteArrayOutputStream(bytes.length * 3);
+        try {
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IOException(NOT_DEFLATED);
+                }
+                inflated.write(buffer, 0, length);
+                if (inflated.size() > MAX_INFLATED_BYTES) {
+                    throw new IOException(String.format(INFLATED_TOO_LARGE, MAX_INFLATED_BYTES));
+                }
+            }
+        } catch (DataFormatException e) {
+            throw new IOException(NOT_DEFLATED, e);
+        } finally {
+            // reset when it is taken again.
+            INFLATERS.give(inflater);
+            BUFFERS.give(buffer);
+        }
+        return inflated.toByteArray();
+    }
+
+    protected byte[] buffer() {
+        byte[] buffer = BUFFERS.take();
+        return Objects.nonNull(buffer) ? buffer : new byte[BUFFER_SIZE];
+    }
+
+    public SessionCodec<S> getPreferred() {
+        return preferred;
+    }
+
+    public Integer getDeflateThreshold() {
+        return deflateThreshold;
+    }
+
+    public static class Encoded {
+        private byte[] bytes;
+        private Optional<String> contentType;
+        private Boolean compressed;
+
+        public Encoded(byte[] bytes, Optional<String> contentType, Boolean compressed) {
+            this.bytes = bytes;
+            this.contentType = contentType;
+            this.compressed = compressed;
+        }
+
+        public byte[] getBytes() {
+            return bytes;
+        }
+
+        public Optional<String> getContentType() {
+            return contentType;
+        }
+
+        public Boolean getCompressed() {
+            return compressed;
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package net.tokensmith.otter.security.session.store;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * A SessionStore that keeps the serialized sessions in direct ByteBuffers, outside of the java heap, so
+ * many large sessions do not add to garbage collection.
+ *
+ * The store is split into stripes, each with its own lock and slab. A slab is an even share of the slots and a
+ * session takes as many slots as it needs, they do not have to be next to each other. When a stripe does not have
+ * enough free slots the least recently used sessions are evicted. Sessions expire ttl after they were last read
+ * or written.
+ *
+ * snapshot and restore write and read the sessions to a file so they survive a restart, an application would
+ * restore before the server starts and snapshot after it stops.
+ */
+public class OffHeapSessionStore implements SessionStore {
+    public static final String NOT_A_SNAPSHOT = "Not a session snapshot: %s";
+    private static final int SNAPSHOT_MAGIC = 0x4f545353;
+
+    private Stripe[] stripes;
+    private int mask;
+    private long ttlNanos;
+    private LongSupplier clock;
+
+    public OffHeapSessionStore(Integer slotBytes, Integer slots, Long ttlSeconds, Integer stripes) {
+        this(slotBytes, slots, ttlSeconds, stripes, System::nanoTime);
+    }
+
+    public OffHeapSessionStore(Integer slotBytes, Integer slots, Long ttlSeconds, Integer stripes, LongSupplier clock) {
+        int count = Integer.highestOneBit(Math.max(1, stripes));
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            this.stripes[i] = new Stripe(slotBytes, Math.max(1, slots / count));
+        }
+        this.mask = count - 1;
+        this.ttlNanos = ttlSeconds * 1_000_000_000L;
+        this.clock = clock;
+    }
+
+    @Override
+    public Optional<byte[]> get(String id) {
+        long now = clock.getAsLong();
+        return stripe(id).get(id, now, now + ttlNanos);
+    }
+
+    @Override
+    public Boolean put(String id, byte[] session) {
+        return stripe(id).put(id, session, clock.getAsLong() + ttlNanos);
+    }
+
+    @Override
+    public void remove(String id) {
+        stripe(id).remove(id);
+    }
+
+    @Override
+    public void expire(String id, Long ttlSeconds) {
+        stripe(id).expire(id, clock.getAsLong() + ttlSeconds * 1_000_000_000L);
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe: stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    /**
+     * Writes the sessions that have not expired to file. It is written to a temporary file first which then
+     * replaces file, so a snapshot that was interrupted does not replace the previous one.
+     *
+     * @param file where to write the snapshot
+     * @return the number of sessions written
+     * @throws IOException if the file could not be written
+     */
+    public int snapshot(Path file) throws IOException {
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        long now = clock.getAsLong();
+        int count = 0;
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            for (Stripe stripe: stripes) {
+                for (Snapshot snapshot: stripe.snapshot(now)) {
+                    out.writeBoolean(true);
+                    out.writeUTF(snapshot.id);
+                    out.writeLong(snapshot.ttlNanos);
+                    out.writeInt(snapshot.session.length);
+                    out.write(snapshot.session);
+                    count++;
+                }
+            }
+            out.writeBoolean(false);
+        }
+
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return count;
+    }
+
+    /**
+     * Reads the sessions of a snapshot into the store, each keeps the ttl it had left when it was written.
+     *
+     * @param file a snapshot
+     * @return the number of sessions read, 0 if there is no snapshot
+     * @throws IOException if the file could not be read or is not a snapshot
+     */
+    public int restore(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+
+        long now = clock.getAsLong();
+        int count = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC) {
+                throw new IOException(String.format(NOT_A_SNAPSHOT, file));
+            }
+            while (in.readBoolean()) {
+                String id = in.readUTF();
+                long ttl = in.readLong();
+                byte[] session = new byte[in.readInt()];
+                in.readFully(session);
+                if (stripe(id).put(id, session, now + ttl)) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    protected Stripe stripe(String id) {
+        int hash = id.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & mask];
+    }
+
+    protected static class Entry {
+        private int[] slots;
+        private int length;
+        private long expiresAt;
+        // true when it was expired, reading it does not extend it.
+        private boolean expiring;
+
+        public Entry(int[] slots, int length, long expiresAt) {
+            this.slots = slots;
+            this.length = length;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    protected static class Snapshot {
+        private String id;
+        private long ttlNanos;
+        private byte[] session;
+
+        public Snapshot(String id, long ttlNanos, byte[] session) {
+            this.id = id;
+            this.ttlNanos = ttlNanos;
+            this.session = session;
+        }
+    }
+
+    protected static class Stripe {
+        private int slotBytes;
+        private ByteBuffer slab;
+        private int[] free;
+        private int freeCount;
+        private LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+        public Stripe(int slotBytes, int slots) {
+            this.slotBytes = slotBytes;
+            this.slab = ByteBuffer.allocateDirect(Math.multiplyExact(slotBytes, slots));
+            this.free = new int[slots];
+            for (int i = 0; i < slots; i++) {
+                free[i] = slots - 1 - i;
+            }
+            this.freeCount = slots;
+        }
+
+        public synchronized Optional<byte[]> get(String id, long now, long expiresAt) {
+            Entry entry = entries.get(id);
+            if (Objects.isNull(entry)) {
+                return Optional.empty();
+            }
+            if (entry.expiresAt - now <= 0) {
+                release(entries.remove(id));
+                return Optional.empty();
+            }
+            if (!entry.expiring) {
+                entry.expiresAt = expiresAt;
+            }
+            return Optional.of(read(entry));
+        }
+
+        public synchronized Boolean put(String id, byte[] session, long expiresAt) {
+            int needed = Math.max(1, (session.length + slotBytes - 1) / slotBytes);
+            if (needed > free.length) {
+                return false;
+            }
+
+            Entry previous = entries.remove(id);
+            boolean expiring = false;
+            if (Objects.nonNull(previous)) {
+                release(previous);
+                // writing a session that is expiring does not extend it.
+                if (previous.expiring) {
+                    expiresAt = previous.expiresAt;
+                    expiring = true;
+                }
+            }
+
+            Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+            while (freeCount < needed && eldest.hasNext()) {
+                release(eldest.next().getValue());
+                eldest.remove();
+            }
+
+            int[] slots = new int[needed];
+            for (int i = 0; i < needed; i++) {
+                slots[i] = free[--freeCount];
+            }
+            Entry entry = new Entry(slots, session.length, expiresAt);
+            entry.expiring = expiring;
+            write(entry, session);
+            entries.put(id, entry);
+            return true;
+        }
+
+        public synchronized void remove(String id) {
+            Entry entry = entries.remove(id);
+            if (Objects.nonNull(entry)) {
+                release(entry);
+            }
+        }
+
+        public synchronized void expire(String id, long expiresAt) {
+            Entry entry = entries.get(id);
+            if (Objects.isNull(entry)) {
+                return;
+            }
+            if (expiresAt - entry.expiresAt < 0) {
+                entry.expiresAt = expiresAt;
+            }
+            entry.expiring = true;
+        }
+
+        public synchronized int size() {
+            return entries.size();
+        }
+
+        public synchronized List<Snapshot> snapshot(long now) {
+            List<Snapshot> snapshots = new ArrayList<>(entries.size());
+            for (Map.Entry<String, Entry> entry: entries.entrySet()) {
+                long ttl = entry.getValue().expiresAt - now;
+                if (ttl > 0) {
+                    snapshots.add(new Snapshot(entry.getKey(), ttl, read(entry.getValue())));
+                }
+            }
+            return snapshots;
+        }
+
+        protected byte[] read(Entry entry) {
+            byte[] session = new byte[entry.length];
+            int offset = 0;
+            for (int slot: entry.slots) {
+                int length = Math.min(slotBytes, entry.length - offset);
+                slab.position(slot * slotBytes);
+                slab.get(session, offset, length);
+                offset += length;
+            }
+            return session;
+        }
+
+        protected void write(Entry entry, byte[] session) {
+            int offset = 0;
+            for (int slot: entry.slots) {
+                int length = Math.min(slotBytes, entry.length - offset);
+                slab.position(slot * slotBytes);
+                slab.put(session, offset, length);
+                offset += length;
+            }
+        }
+
+        protected void release(Entry entry) {
+            for (int slot: entry.slots) {
+                free[freeCount++] = slot;
+            }
+        }
+    }
+}
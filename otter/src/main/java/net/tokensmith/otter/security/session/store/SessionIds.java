@@ -0,0 +1,112 @@
+package net.tokensmith.otter.security.session.store;
+
+import net.tokensmith.jwt.entity.jwk.SymmetricKey;
+import net.tokensmith.otter.security.crypto.CryptoPool;
+import net.tokensmith.otter.security.crypto.exception.CryptoException;
+
+import javax.crypto.Mac;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Makes the random ids of stored sessions and signs them for the session cookie.
+ *
+ * The cookie value is kid.id.signature where the signature is the base64url HS256 of kid.id. The kid
+ * picks the preferred key or a rotation key, so ids that were signed with a rotated key can still be read.
+ *
+ * @see SessionStore
+ */
+public class SessionIds {
+    public static final int ID_BYTES = 32;
+    public static final String SIGN_FAILED = "Could not sign session id";
+    private static final char DOT = '.';
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private CryptoPool cryptoPool;
+    private SymmetricKey preferredKey;
+    private Map<String, SymmetricKey> rotationKeys;
+
+    public SessionIds(CryptoPool cryptoPool, SymmetricKey preferredKey, Map<String, SymmetricKey> rotationKeys) {
+        this.cryptoPool = cryptoPool;
+        this.preferredKey = preferredKey;
+        this.rotationKeys = rotationKeys;
+    }
+
+    /**
+     * @return a new random session id, it is base64url encoded.
+     */
+    public String make() {
+        return ENCODER.encodeToString(cryptoPool.random(ID_BYTES));
+    }
+
+    /**
+     * @param id a session id
+     * @return the value of the session cookie for id
+     * @throws CryptoException if the Mac could not be made
+     */
+    public String sign(String id) throws CryptoException {
+        String signingInput = cryptoPool.keyId(preferredKey) + DOT + id;
+        byte[] signature;
+        try {
+            signature = mac(preferredKey, signingInput);
+        } catch (GeneralSecurityException e) {
+            throw new CryptoException(SIGN_FAILED, e);
+        }
+        return signingInput + DOT + ENCODER.encodeToString(signature);
+    }
+
+    /**
+     * @param cookieValue the value of the session cookie
+     * @return the session id if cookieValue was signed by the preferred key or a rotation key, otherwise empty.
+     */
+    public Optional<String> verify(String cookieValue) {
+        int sigDot = cookieValue.lastIndexOf(DOT);
+        int idDot = sigDot > 0 ? cookieValue.lastIndexOf(DOT, sigDot - 1) : -1;
+        if (idDot < 0) {
+            return Optional.empty();
+        }
+
+        SymmetricKey key = getKey(cookieValue.substring(0, idDot));
+        if (Objects.isNull(key)) {
+            return Optional.empty();
+        }
+
+        byte[] signature;
+        byte[] expected;
+        try {
+            signature = DECODER.decode(cookieValue.substring(sigDot + 1));
+            expected = mac(key, cookieValue.substring(0, sigDot));
+        } catch (IllegalArgumentException | GeneralSecurityException e) {
+            return Optional.empty();
+        }
+
+        if (!MessageDigest.isEqual(expected, signature)) {
+            return Optional.empty();
+        }
+        return Optional.of(cookieValue.substring(idDot + 1, sigDot));
+    }
+
+    protected byte[] mac(SymmetricKey key, String signingInput) throws GeneralSecurityException {
+        Mac mac = cryptoPool.mac(key);
+        byte[] signature = mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+        cryptoPool.give(key, mac);
+        return signature;
+    }
+
+    protected SymmetricKey getKey(String keyId) {
+        if (cryptoPool.keyId(preferredKey).equals(keyId)) {
+            return preferredKey;
+        }
+        return Objects.isNull(rotationKeys) ? null : rotationKeys.get(keyId);
+    }
+
+    public void setPreferredKey(SymmetricKey preferredKey) {
+        this.preferredKey = preferredKey;
+    }
+}
@@ -0,0 +1,36 @@
+package net.tokensmith.otter.security.session.store;
+
+import java.util.Optional;
+
+/**
+ * Keeps serialized sessions on the server by their id. When a Group or RestGroup has a session store the
+ * session cookie only carries the signed id, see SessionIds.
+ *
+ * Implementations must be thread safe, they are shared by every request of a group.
+ */
+public interface SessionStore {
+
+    /**
+     * @param id the session id
+     * @return the serialized session or empty if it is not stored or it expired
+     */
+    Optional<byte[]> get(String id);
+
+    /**
+     * @param id the session id
+     * @param session the serialized session
+     * @return false if the session could not be stored, such as when it is larger than the store
+     */
+    Boolean put(String id, byte[] session);
+
+    void remove(String id);
+
+    /**
+     * Expires the session after ttlSeconds, reading it does not extend it. Used for an id that was rotated so
+     * requests that were sent with it before the new id was set can still read it.
+     *
+     * @param id the session id
+     * @param ttlSeconds seconds until it expires, it is not extended if it would expire sooner
+     */
+    void expire(String id, Long ttlSeconds);
+}
@@ -0,0 +1,88 @@
+package net.tokensmith.otter.security.session.util;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import net.tokensmith.jwt.config.JwtAppFactory;
+import net.tokensmith.jwt.entity.jwk.SymmetricKey;
+import net.tokensmith.otter.controller.entity.DefaultSession;
+import net.tokensmith.otter.security.crypto.CompactJwe;
+import net.tokensmith.otter.security.exception.SessionCtorException;
+import net.tokensmith.otter.security.session.cache.SessionCache;
+import net.tokensmith.otter.security.session.codec.SessionCodecs;
+import net.tokensmith.otter.security.session.exception.InvalidSessionException;
+import net.tokensmith.otter.security.session.exception.SessionDecryptException;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Decrypts a session cookie once and then gives a copy of the session from the cache until it expires. Cookies
+ * that could not be decrypted are not cached. The cached session is never given out, each request gets its own
+ * copy so changing it does not change the session other requests with the same cookie get.
+ *
+ * @param <S> Session object
+ */
+public class CachedDecrypt<S> extends Decrypt<S> {
+    public static final String COULD_NOT_COPY = "Cached session could not be copied";
+    private SessionCache<S> sessionCache;
+    private SessionCopy<S> sessionCopy;
+
+    public CachedDecrypt(JwtAppFactory jwtAppFactory, ObjectReader objectReader, SymmetricKey preferredKey, Map<String, SymmetricKey> rotationKeys, SessionCache<S> sessionCache, SessionCopy<S> sessionCopy) {
+        super(jwtAppFactory, objectReader, preferredKey, rotationKeys);
+        this.sessionCache = sessionCache;
+        this.sessionCopy = sessionCopy;
+    }
+
+    public CachedDecrypt(JwtAppFactory jwtAppFactory, CompactJwe compactJwe, ObjectReader objectReader, SymmetricKey preferredKey, Map<String, SymmetricKey> rotationKeys, SessionCache<S> sessionCache, SessionCopy<S> sessionCopy) {
+        super(jwtAppFactory, compactJwe, objectReader, preferredKey, rotationKeys);
+        this.sessionCache = sessionCache;
+        this.sessionCopy = sessionCopy;
+    }
+
+    public CachedDecrypt(JwtAppFactory jwtAppFactory, CompactJwe compactJwe, SessionCodecs<S> sessionCodecs, SymmetricKey preferredKey, Map<String, SymmetricKey> rotationKeys, SessionCache<S> sessionCache, SessionCopy<S> sessionCopy) {
+        super(jwtAppFactory, compactJwe, sessionCodecs, preferredKey, rotationKeys);
+        this.sessionCache = sessionCache;
+        this.sessionCopy = sessionCopy;
+    }
+
+    @Override
+    public S decrypt(String encryptedSession) throws InvalidSessionException, SessionDecryptException {
+        SessionCache.Key key = sessionCache.key(encryptedSession);
+        Optional<S> cached = sessionCache.get(key);
+        if (cached.isPresent()) {
+            return copy(cached.get());
+        }
+
+        S session = super.decrypt(encryptedSession);
+        if (Objects.nonNull(session)) {
+            sessionCache.put(key, session);
+            return copy(session);
+        }
+        return session;
+    }
+
+    protected S copy(S session) throws SessionDecryptException {
+        S copy;
+        try {
+            copy = sessionCopy.copy(session);
+        } catch (SessionCtorException e) {
+            throw new SessionDecryptException(COULD_NOT_COPY, e);
+        }
+        // the copy is the same as the session that was decrypted.
+        if (copy instanceof DefaultSession) {
+            ((DefaultSession) copy).setDirty(false);
+        }
+        return copy;
+    }
+
+    @Override
+    public void setPreferredKey(SymmetricKey preferredKey) {
+        super.setPreferredKey(preferredKey);
+        // sessions decrypted with a previous key should be decrypted again.
+        sessionCache.invalidateAll();
+    }
+
+    public SessionCache<S> getSessionCache() {
+        return sessionCache;
+    }
+}
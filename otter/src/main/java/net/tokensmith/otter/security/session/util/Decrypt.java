@@ -5,13 +5,15 @@ import net.tokensmith.jwt.config.JwtAppFactory;
 import net.tokensmith.jwt.entity.jwk.SymmetricKey;
 import net.tokensmith.jwt.entity.jwt.header.Header;
 import net.tokensmith.jwt.exception.InvalidJWT;
-import net.tokensmith.jwt.jwe.entity.JWE;
-import net.tokensmith.jwt.jwe.factory.exception.CipherException;
-import net.tokensmith.jwt.jwe.serialization.JweDeserializer;
-import net.tokensmith.jwt.jwe.serialization.exception.KeyException;
 import net.tokensmith.jwt.serialization.HeaderDeserializer;
-import net.tokensmith.jwt.serialization.exception.DecryptException;
 import net.tokensmith.jwt.serialization.exception.JsonToJwtException;
+import net.tokensmith.otter.controller.entity.DefaultSession;
+import net.tokensmith.otter.security.config.SecurityAppFactory;
+import net.tokensmith.otter.security.crypto.CompactJwe;
+import net.tokensmith.otter.security.crypto.entity.JweContent;
+import net.tokensmith.otter.security.crypto.exception.CryptoException;
+import net.tokensmith.otter.security.crypto.exception.NotCompactException;
+import net.tokensmith.otter.security.session.codec.SessionCodecs;
 import net.tokensmith.otter.security.session.exception.InvalidSessionException;
 import net.tokensmith.otter.security.session.exception.SessionDecryptException;
 import org.slf4j.Logger;
@@ -20,23 +22,36 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.Optional;
 
 public class Decrypt<S> {
     protected static Logger LOGGER = LoggerFactory.getLogger(Decrypt.class);
+    private static SecurityAppFactory securityAppFactory = new SecurityAppFactory();
     public static final String NOT_A_JWT = "Session cookie was not a JWE: %s";
     public static final String COULD_NOT_GET_HEADER_JWE = "Session cookie did have a header member: %s";
     public static final String COULD_NOT_DESERIALIZE_JWE = "Session cookie could not be de-serialized to JSON: %s";
     public static final String COULD_NOT_DECRYPT_JWE = "Session cookie could not be decrypted: %s";
     public static final String COULD_NOT_DESERIALIZE = "decrypted payload not could be deserialized to session: %s";
+    public static final String COULD_NOT_DECODE = "decrypted payload could not be decoded to session, cty: %s, zip: %s";
 
     private JwtAppFactory jwtAppFactory;
-    private ObjectReader objectReader;
+    private CompactJwe compactJwe;
+    private SessionCodecs<S> sessionCodecs;
     private SymmetricKey preferredKey;
     private Map<String, SymmetricKey> rotationKeys;
 
     public Decrypt(JwtAppFactory jwtAppFactory, ObjectReader objectReader, SymmetricKey preferredKey, Map<String, SymmetricKey> rotationKeys) {
+        this(jwtAppFactory, securityAppFactory.compactJwe(), objectReader, preferredKey, rotationKeys);
+    }
+
+    public Decrypt(JwtAppFactory jwtAppFactory, CompactJwe compactJwe, ObjectReader objectReader, SymmetricKey preferredKey, Map<String, SymmetricKey> rotationKeys) {
+        this(jwtAppFactory, compactJwe, SessionCodecs.json(objectReader, null), preferredKey, rotationKeys);
+    }
+
+    public Decrypt(JwtAppFactory jwtAppFactory, CompactJwe compactJwe, SessionCodecs<S> sessionCodecs, SymmetricKey preferredKey, Map<String, SymmetricKey> rotationKeys) {
         this.jwtAppFactory = jwtAppFactory;
-        this.objectReader = objectReader;
+        this.compactJwe = compactJwe;
+        this.sessionCodecs = sessionCodecs;
         this.preferredKey = preferredKey;
         this.rotationKeys = rotationKeys;
     }
@@ -60,28 +75,40 @@ public class Decrypt<S> {
         SymmetricKey key = getKey(sessionHeader.getKeyId().get());
 
         // decrypt the session
-        JweDeserializer deserializer = jwtAppFactory.jweDirectDesializer();
-        JWE sessionPayload;
+        JweContent sessionContent;
         try {
-            sessionPayload = deserializer.stringToJWE(encryptedSession, key);
-        } catch (JsonToJwtException e) {
+            sessionContent = compactJwe.decryptContent(key, encryptedSession);
+        } catch (NotCompactException e) {
             String msg = String.format(COULD_NOT_DESERIALIZE_JWE, encryptedSession);
             throw new InvalidSessionException(msg, e);
-        } catch (DecryptException | CipherException | KeyException e) {
+        } catch (CryptoException e) {
             String msg = String.format(COULD_NOT_DECRYPT_JWE, encryptedSession);
             throw new SessionDecryptException(msg, e);
         }
 
-        return toSession(sessionPayload.getPayload());
+        return toSession(sessionContent.getPayload(), sessionContent.getContentType(), sessionContent.getCompressed());
     }
 
     protected S toSession(byte[] json) {
+        return toSession(json, Optional.empty(), false);
+    }
+
+    protected S toSession(byte[] encoded, Optional<String> contentType, Boolean compressed) {
         S session = null;
 
         try {
-            session = objectReader.readValue(json);
+            session = sessionCodecs.decode(encoded, contentType, compressed);
+            // the setters of a tracked session mark it dirty while it is read.
+            if (session instanceof DefaultSession) {
+                ((DefaultSession) session).setDirty(false);
+            }
         } catch (IOException e) {
-            String msg = String.format(COULD_NOT_DESERIALIZE, new String(json, StandardCharsets.UTF_8));
+            String msg;
+            if (contentType.isEmpty() && !compressed) {
+                msg = String.format(COULD_NOT_DESERIALIZE, new String(encoded, StandardCharsets.UTF_8));
+            } else {
+                msg = String.format(COULD_NOT_DECODE, contentType.orElse(""), compressed);
+            }
             LOGGER.error(msg);
             LOGGER.error(e.getMessage(), e);
         }
@@ -0,0 +1,55 @@
+package net.tokensmith.otter.security.session.util;
+
+import net.tokensmith.otter.security.exception.SessionCtorException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Objects;
+
+/**
+ * Copies sessions with their copy constructor. The constructor is looked up once as a MethodHandle, if
+ * it can not be, such as when the session class is not public, then it is called reflectively.
+ *
+ * @param <S> Session object, intended to contain user session data.
+ */
+public class SessionCopy<S> {
+    public static final String COULD_NOT_CALL_THE_SESSION_COPY_CONSTRUCTOR = "Could not call the session's copy constructor";
+    private static final MethodType COPY_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private Constructor<S> ctor;
+    private MethodHandle copyHandle;
+
+    public SessionCopy(Constructor<S> ctor) {
+        this.ctor = ctor;
+        try {
+            this.copyHandle = MethodHandles.publicLookup().unreflectConstructor(ctor).asType(COPY_TYPE);
+        } catch (IllegalAccessException e) {
+            this.copyHandle = null;
+        }
+    }
+
+    /**
+     * @param from the session to copy
+     * @return a copy of from
+     * @throws SessionCtorException when the copy constructor could not be called or it threw
+     */
+    @SuppressWarnings("unchecked")
+    public S copy(S from) throws SessionCtorException {
+        if (Objects.isNull(copyHandle)) {
+            try {
+                return ctor.newInstance(from);
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+                throw new SessionCtorException(COULD_NOT_CALL_THE_SESSION_COPY_CONSTRUCTOR, e);
+            }
+        }
+
+        try {
+            return (S) copyHandle.invokeExact((Object) from);
+        } catch (Throwable e) {
+            throw new SessionCtorException(COULD_NOT_CALL_THE_SESSION_COPY_CONSTRUCTOR, e);
+        }
+    }
+}
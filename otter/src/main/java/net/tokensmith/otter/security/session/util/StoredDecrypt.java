@@ -0,0 +1,58 @@
+package net.tokensmith.otter.security.session.util;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import net.tokensmith.otter.security.session.exception.InvalidSessionException;
+import net.tokensmith.otter.security.session.exception.SessionDecryptException;
+import net.tokensmith.otter.security.session.store.SessionIds;
+import net.tokensmith.otter.security.session.store.SessionStore;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Reads a session from a SessionStore. The session cookie is a signed session id instead of a JWE, so
+ * there is nothing to decrypt, the id is verified and its session is read from the store.
+ *
+ * @param <S> Session object
+ */
+public class StoredDecrypt<S> extends Decrypt<S> {
+    public static final String INVALID_SESSION_ID = "Session cookie was not a signed session id";
+    public static final String SESSION_NOT_STORED = "Session is not stored or it expired";
+    public static final String COULD_NOT_READ_STORED = "Stored session could not be deserialized";
+
+    private SessionIds sessionIds;
+    private SessionStore sessionStore;
+
+    public StoredDecrypt(ObjectReader objectReader, SessionIds sessionIds, SessionStore sessionStore) {
+        super(null, null, objectReader, null, null);
+        this.sessionIds = sessionIds;
+        this.sessionStore = sessionStore;
+    }
+
+    @Override
+    public S decrypt(String cookieValue) throws InvalidSessionException, SessionDecryptException {
+        Optional<String> id = sessionIds.verify(cookieValue);
+        if (id.isEmpty()) {
+            throw new InvalidSessionException(INVALID_SESSION_ID, null);
+        }
+
+        Optional<byte[]> stored = sessionStore.get(id.get());
+        if (stored.isEmpty()) {
+            throw new InvalidSessionException(SESSION_NOT_STORED, null);
+        }
+
+        S session = toSession(stored.get());
+        if (Objects.isNull(session)) {
+            throw new InvalidSessionException(COULD_NOT_READ_STORED, null);
+        }
+        return session;
+    }
+
+    public SessionIds getSessionIds() {
+        return sessionIds;
+    }
+
+    public SessionStore getSessionStore() {
+        return sessionStore;
+    }
+}
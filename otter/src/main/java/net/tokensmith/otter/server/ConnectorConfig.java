@@ -0,0 +1,237 @@
+package net.tokensmith.otter.server;
+
+
+/**
+ * Configures Jetty's thread pool and the connector that accepts http/1.1 and h2c. A value that is null keeps
+ * Jetty's default. The effective values are logged when the server is made, see ServletContainerFactory.
+ */
+public class ConnectorConfig {
+    private Integer minThreads;
+    private Integer maxThreads;
+    private Integer threadQueueSize;
+    private Integer reservedThreads;
+    private Integer acceptors;
+    private Integer selectors;
+    private Integer acceptQueueSize;
+    private Long idleTimeout;
+    private Integer outputBufferSize;
+    private Integer outputAggregationSize;
+    private Integer h2MaxConcurrentStreams;
+    private Integer h2InitialStreamRecvWindow;
+    private Integer h2InitialSessionRecvWindow;
+
+    public ConnectorConfig(Integer minThreads, Integer maxThreads, Integer threadQueueSize, Integer reservedThreads, Integer acceptors, Integer selectors, Integer acceptQueueSize, Long idleTimeout, Integer outputBufferSize, Integer outputAggregationSize, Integer h2MaxConcurrentStreams, Integer h2InitialStreamRecvWindow, Integer h2InitialSessionRecvWindow) {
+        this.minThreads = minThreads;
+        this.maxThreads = maxThreads;
+        this.threadQueueSize = threadQueueSize;
+        this.reservedThreads = reservedThreads;
+        this.acceptors = acceptors;
+        this.selectors = selectors;
+        this.acceptQueueSize = acceptQueueSize;
+        this.idleTimeout = idleTimeout;
+        this.outputBufferSize = outputBufferSize;
+        this.outputAggregationSize = outputAggregationSize;
+        this.h2MaxConcurrentStreams = h2MaxConcurrentStreams;
+        this.h2InitialStreamRecvWindow = h2InitialStreamRecvWindow;
+        this.h2InitialSessionRecvWindow = h2InitialSessionRecvWindow;
+    }
+
+    public Integer getMinThreads() {
+        return minThreads;
+    }
+
+    public void setMinThreads(Integer minThreads) {
+        this.minThreads = minThreads;
+    }
+
+    public Integer getMaxThreads() {
+        return maxThreads;
+    }
+
+    public void setMaxThreads(Integer maxThreads) {
+        this.maxThreads = maxThreads;
+    }
+
+    public Integer getThreadQueueSize() {
+        return threadQueueSize;
+    }
+
+    public void setThreadQueueSize(Integer threadQueueSize) {
+        this.threadQueueSize = threadQueueSize;
+    }
+
+    public Integer getReservedThreads() {
+        return reservedThreads;
+    }
+
+    public void setReservedThreads(Integer reservedThreads) {
+        this.reservedThreads = reservedThreads;
+    }
+
+    public Integer getAcceptors() {
+        return acceptors;
+    }
+
+    public void setAcceptors(Integer acceptors) {
+        this.acceptors = acceptors;
+    }
+
+    public Integer getSelectors() {
+        return selectors;
+    }
+
+    public void setSelectors(Integer selectors) {
+        this.selectors = selectors;
+    }
+
+    public Integer getAcceptQueueSize() {
+        return acceptQueueSize;
+    }
+
+    public void setAcceptQueueSize(Integer acceptQueueSize) {
+        this.acceptQueueSize = acceptQueueSize;
+    }
+
+    public Long getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    public void setIdleTimeout(Long idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    public Integer getOutputBufferSize() {
+        return outputBufferSize;
+    }
+
+    public void setOutputBufferSize(Integer outputBufferSize) {
+        this.outputBufferSize = outputBufferSize;
+    }
+
+    public Integer getOutputAggregationSize() {
+        return outputAggregationSize;
+    }
+
+    public void setOutputAggregationSize(Integer outputAggregationSize) {
+        this.outputAggregationSize = outputAggregationSize;
+    }
+
+    public Integer getH2MaxConcurrentStreams() {
+        return h2MaxConcurrentStreams;
+    }
+
+    public void setH2MaxConcurrentStreams(Integer h2MaxConcurrentStreams) {
+        this.h2MaxConcurrentStreams = h2MaxConcurrentStreams;
+    }
+
+    public Integer getH2InitialStreamRecvWindow() {
+        return h2InitialStreamRecvWindow;
+    }
+
+    public void setH2InitialStreamRecvWindow(Integer h2InitialStreamRecvWindow) {
+        this.h2InitialStreamRecvWindow = h2InitialStreamRecvWindow;
+    }
+
+    public Integer getH2InitialSessionRecvWindow() {
+        return h2InitialSessionRecvWindow;
+    }
+
+    public void setH2InitialSessionRecvWindow(Integer h2InitialSessionRecvWindow) {
+        this.h2InitialSessionRecvWindow = h2InitialSessionRecvWindow;
+    }
+
+    public static class Builder {
+        private Integer minThreads;
+        private Integer maxThreads;
+        private Integer threadQueueSize;
+        private Integer reservedThreads;
+        private Integer acceptors;
+        private Integer selectors;
+        private Integer acceptQueueSize;
+        private Long idleTimeout;
+        private Integer outputBufferSize;
+        private Integer outputAggregationSize;
+        private Integer h2MaxConcurrentStreams;
+        private Integer h2InitialStreamRecvWindow;
+        private Integer h2InitialSessionRecvWindow;
+
+        public Builder minThreads(Integer minThreads) {
+            this.minThreads = minThreads;
+            return this;
+        }
+
+        public Builder maxThreads(Integer maxThreads) {
+            this.maxThreads = maxThreads;
+            return this;
+        }
+
+        /**
+         * Bounds the queue of jobs that wait for a thread, by default it is not bounded.
+         *
+         * @param threadQueueSize the max number of jobs that may wait
+         * @return this
+         */
+        public Builder threadQueueSize(Integer threadQueueSize) {
+            this.threadQueueSize = threadQueueSize;
+            return this;
+        }
+
+        public Builder reservedThreads(Integer reservedThreads) {
+            this.reservedThreads = reservedThreads;
+            return this;
+        }
+
+        public Builder acceptors(Integer acceptors) {
+            this.acceptors = acceptors;
+            return this;
+        }
+
+        public Builder selectors(Integer selectors) {
+            this.selectors = selectors;
+            return this;
+        }
+
+        public Builder acceptQueueSize(Integer acceptQueueSize) {
+            this.acceptQueueSize = acceptQueueSize;
+            return this;
+        }
+
+        /**
+         * @param idleTimeout milliseconds a connection may be idle before it is closed.
+         * @return this
+         */
+        public Builder idleTimeout(Long idleTimeout) {
+            this.idleTimeout = idleTimeout;
+            return this;
+        }
+
+        public Builder outputBufferSize(Integer outputBufferSize) {
+            this.outputBufferSize = outputBufferSize;
+            return this;
+        }
+
+        public Builder outputAggregationSize(Integer outputAggregationSize) {
+            this.outputAggregationSize = outputAggregationSize;
+            return this;
+        }
+
+        public Builder h2MaxConcurrentStreams(Integer h2MaxConcurrentStreams) {
+            this.h2MaxConcurrentStreams = h2MaxConcurrentStreams;
+            return this;
+        }
+
+        public Builder h2InitialStreamRecvWindow(Integer h2InitialStreamRecvWindow) {
+            this.h2InitialStreamRecvWindow = h2InitialStreamRecvWindow;
+            return this;
+        }
+
+        public Builder h2InitialSessionRecvWindow(Integer h2InitialSessionRecvWindow) {
+            this.h2InitialSessionRecvWindow = h2InitialSessionRecvWindow;
+            return this;
+        }
+
+        public ConnectorConfig build() {
+            return new ConnectorConfig(minThreads, maxThreads, threadQueueSize, reservedThreads, acceptors, selectors, acceptQueueSize, idleTimeout, outputBufferSize, outputAggregationSize, h2MaxConcurrentStreams, h2InitialStreamRecvWindow, h2InitialSessionRecvWindow);
+        }
+    }
+}
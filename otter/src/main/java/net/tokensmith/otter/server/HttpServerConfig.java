@@ -15,8 +15,23 @@ public class HttpServerConfig {
     private List<String> gzipMimeTypes;
     private List<ErrorPage> errorPages;
     private Class<? extends Filter> filterClass;
+    private ConnectorConfig connector;
+    private TlsConfig tls;
+    private UnixSocketConfig unixSocket;
 
     public HttpServerConfig(String documentRoot, int port, String requestLog, Class clazz, List<String> gzipMimeTypes, List<ErrorPage> errorPages, Class<? extends Filter> filterClass) {
+        this(documentRoot, port, requestLog, clazz, gzipMimeTypes, errorPages, filterClass, new ConnectorConfig.Builder().build());
+    }
+
+    public HttpServerConfig(String documentRoot, int port, String requestLog, Class clazz, List<String> gzipMimeTypes, List<ErrorPage> errorPages, Class<? extends Filter> filterClass, ConnectorConfig connector) {
+        this(documentRoot, port, requestLog, clazz, gzipMimeTypes, errorPages, filterClass, connector, null);
+    }
+
+    public HttpServerConfig(String documentRoot, int port, String requestLog, Class clazz, List<String> gzipMimeTypes, List<ErrorPage> errorPages, Class<? extends Filter> filterClass, ConnectorConfig connector, TlsConfig tls) {
+        this(documentRoot, port, requestLog, clazz, gzipMimeTypes, errorPages, filterClass, connector, tls, null);
+    }
+
+    public HttpServerConfig(String documentRoot, int port, String requestLog, Class clazz, List<String> gzipMimeTypes, List<ErrorPage> errorPages, Class<? extends Filter> filterClass, ConnectorConfig connector, TlsConfig tls, UnixSocketConfig unixSocket) {
         this.documentRoot = documentRoot;
         this.port = port;
         this.requestLog = requestLog;
@@ -24,6 +39,9 @@ public class HttpServerConfig {
         this.gzipMimeTypes = gzipMimeTypes;
         this.errorPages = errorPages;
         this.filterClass = filterClass;
+        this.connector = connector;
+        this.tls = tls;
+        this.unixSocket = unixSocket;
     }
 
     public String getDocumentRoot() {
@@ -82,6 +100,30 @@ public class HttpServerConfig {
         this.filterClass = filterClass;
     }
 
+    public ConnectorConfig getConnector() {
+        return connector;
+    }
+
+    public void setConnector(ConnectorConfig connector) {
+        this.connector = connector;
+    }
+
+    public TlsConfig getTls() {
+        return tls;
+    }
+
+    public void setTls(TlsConfig tls) {
+        this.tls = tls;
+    }
+
+    public UnixSocketConfig getUnixSocket() {
+        return unixSocket;
+    }
+
+    public void setUnixSocket(UnixSocketConfig unixSocket) {
+        this.unixSocket = unixSocket;
+    }
+
     public static class Builder {
         private String documentRoot;
         private Class clazz;
@@ -90,6 +132,9 @@ public class HttpServerConfig {
         private List<String> gzipMimeTypes = new ArrayList<>();
         private List<ErrorPage> errorPages = new ArrayList<>();
         private Class<? extends Filter> filterClass = EntryFilter.class;
+        private ConnectorConfig connector = new ConnectorConfig.Builder().build();
+        private TlsConfig tls;
+        private UnixSocketConfig unixSocket;
 
         public Builder documentRoot(String documentRoot) {
             this.documentRoot = documentRoot;
@@ -126,8 +171,41 @@ public class HttpServerConfig {
             return this;
         }
 
+        /**
+         * Jetty's thread pool and connector settings, by default Jetty's defaults are used.
+         *
+         * @param connector the thread pool and connector settings
+         * @return this
+         */
+        public Builder connector(ConnectorConfig connector) {
+            this.connector = connector;
+            return this;
+        }
+
+        /**
+         * Adds a TLS connector that negotiates h2 with ALPN, by default there is only the cleartext connector.
+         *
+         * @param tls the key store, port and protocols of the TLS connector
+         * @return this
+         */
+        public Builder tls(TlsConfig tls) {
+            this.tls = tls;
+            return this;
+        }
+
+        /**
+         * Adds a connector on a unix domain socket, by default there is none.
+         *
+         * @param unixSocket the path of the socket and if the TCP connector is kept
+         * @return this
+         */
+        public Builder unixSocket(UnixSocketConfig unixSocket) {
+            this.unixSocket = unixSocket;
+            return this;
+        }
+
         public HttpServerConfig build() {
-            return new HttpServerConfig(documentRoot, port, requestLog, clazz, gzipMimeTypes, errorPages, filterClass);
+            return new HttpServerConfig(documentRoot, port, requestLog, clazz, gzipMimeTypes, errorPages, filterClass, connector, tls, unixSocket);
         }
     }
 }
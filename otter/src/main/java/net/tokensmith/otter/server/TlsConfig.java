@@ -0,0 +1,161 @@
+package net.tokensmith.otter.server;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Configures a TLS connector that negotiates h2 with ALPN and falls back to http/1.1. It is in addition to the
+ * cleartext connector on HttpServerConfig's port.
+ *
+ * Protocols and cipher suites that are empty keep Jetty's defaults, a session cache size that is null keeps the
+ * JDK's default.
+ */
+public class TlsConfig {
+    private int port;
+    private String keyStorePath;
+    private String keyStorePassword;
+    private String keyManagerPassword;
+    private String keyStoreType;
+    private List<String> protocols;
+    private List<String> cipherSuites;
+    private Integer sessionCacheSize;
+
+    public TlsConfig(int port, String keyStorePath, String keyStorePassword, String keyManagerPassword, String keyStoreType, List<String> protocols, List<String> cipherSuites, Integer sessionCacheSize) {
+        this.port = port;
+        this.keyStorePath = keyStorePath;
+        this.keyStorePassword = keyStorePassword;
+        this.keyManagerPassword = keyManagerPassword;
+        this.keyStoreType = keyStoreType;
+        this.protocols = protocols;
+        this.cipherSuites = cipherSuites;
+        this.sessionCacheSize = sessionCacheSize;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public void setPort(int port) {
+        this.port = port;
+    }
+
+    public String getKeyStorePath() {
+        return keyStorePath;
+    }
+
+    public void setKeyStorePath(String keyStorePath) {
+        this.keyStorePath = keyStorePath;
+    }
+
+    public String getKeyStorePassword() {
+        return keyStorePassword;
+    }
+
+    public void setKeyStorePassword(String keyStorePassword) {
+        this.keyStorePassword = keyStorePassword;
+    }
+
+    public String getKeyManagerPassword() {
+        return keyManagerPassword;
+    }
+
+    public void setKeyManagerPassword(String keyManagerPassword) {
+        this.keyManagerPassword = keyManagerPassword;
+    }
+
+    public String getKeyStoreType() {
+        return keyStoreType;
+    }
+
+    public void setKeyStoreType(String keyStoreType) {
+        this.keyStoreType = keyStoreType;
+    }
+
+    public List<String> getProtocols() {
+        return protocols;
+    }
+
+    public void setProtocols(List<String> protocols) {
+        this.protocols = protocols;
+    }
+
+    public List<String> getCipherSuites() {
+        return cipherSuites;
+    }
+
+    public void setCipherSuites(List<String> cipherSuites) {
+        this.cipherSuites = cipherSuites;
+    }
+
+    public Integer getSessionCacheSize() {
+        return sessionCacheSize;
+    }
+
+    public void setSessionCacheSize(Integer sessionCacheSize) {
+        this.sessionCacheSize = sessionCacheSize;
+    }
+
+    public static class Builder {
+        private int port = 8443;
+        private String keyStorePath;
+        private String keyStorePassword;
+        private String keyManagerPassword;
+        private String keyStoreType = "PKCS12";
+        private List<String> protocols = new ArrayList<>();
+        private List<String> cipherSuites = new ArrayList<>();
+        private Integer sessionCacheSize;
+
+        public Builder port(int port) {
+            this.port = port;
+            return this;
+        }
+
+        public Builder keyStorePath(String keyStorePath) {
+            this.keyStorePath = keyStorePath;
+            return this;
+        }
+
+        public Builder keyStorePassword(String keyStorePassword) {
+            this.keyStorePassword = keyStorePassword;
+            return this;
+        }
+
+        /**
+         * @param keyManagerPassword the password of the key, by default it is the key store password.
+         * @return this
+         */
+        public Builder keyManagerPassword(String keyManagerPassword) {
+            this.keyManagerPassword = keyManagerPassword;
+            return this;
+        }
+
+        /**
+         * @param keyStoreType the type of the key store, PKCS12 by default.
+         * @return this
+         */
+        public Builder keyStoreType(String keyStoreType) {
+            this.keyStoreType = keyStoreType;
+            return this;
+        }
+
+        public Builder protocol(String protocol) {
+            this.protocols.add(protocol);
+            return this;
+        }
+
+        public Builder cipherSuite(String cipherSuite) {
+            this.cipherSuites.add(cipherSuite);
+            return this;
+        }
+
+        public Builder sessionCacheSize(Integer sessionCacheSize) {
+            this.sessionCacheSize = sessionCacheSize;
+            return this;
+        }
+
+        public TlsConfig build() {
+            return new TlsConfig(port, keyStorePath, keyStorePassword, keyManagerPassword, keyStoreType, protocols, cipherSuites, sessionCacheSize);
+        }
+    }
+}
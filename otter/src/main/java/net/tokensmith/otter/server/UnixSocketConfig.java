@@ -0,0 +1,59 @@
+package net.tokensmith.otter.server;
+
+
+/**
+ * Configures a connector on a unix domain socket, for a reverse proxy on the same host. Its requests skip the TCP
+ * stack. The TCP connector on HttpServerConfig's port is kept unless tcp is false.
+ */
+public class UnixSocketConfig {
+    private String path;
+    private Boolean tcp;
+
+    public UnixSocketConfig(String path, Boolean tcp) {
+        this.path = path;
+        this.tcp = tcp;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public Boolean getTcp() {
+        return tcp;
+    }
+
+    public void setTcp(Boolean tcp) {
+        this.tcp = tcp;
+    }
+
+    public static class Builder {
+        private String path;
+        private Boolean tcp = true;
+
+        /**
+         * @param path the file of the socket, it is replaced if it exists. Jetty allows at most 107 characters.
+         * @return this
+         */
+        public Builder path(String path) {
+            this.path = path;
+            return this;
+        }
+
+        /**
+         * @param tcp false to only listen on the unix domain socket, true by default.
+         * @return this
+         */
+        public Builder tcp(Boolean tcp) {
+            this.tcp = tcp;
+            return this;
+        }
+
+        public UnixSocketConfig build() {
+            return new UnixSocketConfig(path, tcp);
+        }
+    }
+}
@@ -1,20 +1,33 @@
 package net.tokensmith.otter.server.container;
 
+import net.tokensmith.otter.server.ConnectorConfig;
 import net.tokensmith.otter.server.HttpServerConfig;
+import net.tokensmith.otter.server.TlsConfig;
+import net.tokensmith.otter.server.UnixSocketConfig;
 import net.tokensmith.otter.server.container.builder.WebAppContextBuilder;
 import net.tokensmith.otter.server.path.CompiledClassPath;
 import net.tokensmith.otter.server.path.WebAppPath;
+import org.eclipse.jetty.alpn.server.ALPNServerConnectionFactory;
 import org.eclipse.jetty.annotations.AnnotationConfiguration;
+import org.eclipse.jetty.http2.HTTP2Cipher;
+import org.eclipse.jetty.http2.server.AbstractHTTP2ServerConnectionFactory;
 import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
+import org.eclipse.jetty.http2.server.HTTP2ServerConnectionFactory;
+import org.eclipse.jetty.server.AbstractConnector;
 import org.eclipse.jetty.server.ConnectionFactory;
 import org.eclipse.jetty.server.Connector;
 import org.eclipse.jetty.server.CustomRequestLog;
 import org.eclipse.jetty.server.HttpConfiguration;
 import org.eclipse.jetty.server.HttpConnectionFactory;
+import org.eclipse.jetty.server.SecureRequestCustomizer;
 import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.server.SslConnectionFactory;
+import org.eclipse.jetty.util.BlockingArrayQueue;
 import org.eclipse.jetty.util.resource.PathResource;
 import org.eclipse.jetty.util.resource.Resource;
+import org.eclipse.jetty.util.ssl.SslContextFactory;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
 import org.eclipse.jetty.webapp.Configuration;
 import org.eclipse.jetty.webapp.WebAppContext;
 import org.eclipse.jetty.webapp.WebInfConfiguration;
@@ -27,7 +40,11 @@ import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
 
 
 /**
@@ -42,6 +59,13 @@ public class ServletContainerFactory {
     private static String JARS_TO_INCLUDE = ".*/[^/]*servlet-api-[^/]*\\.jar$|.*/javax.servlet.jsp.jstl-.*\\.jar$|.*/[^/]*taglibs.*\\.jar$";
     private static String JSP_SERVLET = "org.eclipse.jetty.jsp.JettyJspServlet";
     private static String FALSE = "false";
+    private static String CONNECTOR_SETTINGS = "Jetty threads min={}, max={}, reserved={}, queue={}; acceptors={}, selectors={}, accept queue={}, idle timeout={}ms; output buffer={}, output aggregation={}; h2 max concurrent streams={}, stream recv window={}, session recv window={}";
+    private static String TLS_SETTINGS = "Jetty tls port={}, protocols={}, cipher suites={}, session cache size={}, alpn={}";
+    private static String UNIX_SOCKET_SETTINGS = "Jetty unix socket={}, tcp={}";
+    private static String NO_UNIX_SOCKET = "A unix socket is configured but org.eclipse.jetty:jetty-unixsocket is not on the classpath";
+    private static String UNBOUNDED = "unbounded";
+    private static String H2 = "h2";
+    private static String HTTP_1_1 = "http/1.1";
     private CompiledClassPath compiledClassPath;
     private WebAppPath webAppPath;
 
@@ -75,7 +99,8 @@ public class ServletContainerFactory {
     public ServletContainer makeServletContainer(URI webApp, URI compliedClassPath, HttpServerConfig containerConfig) throws IOException {
         logger.debug("Web App location: " + webApp.toURL());
         logger.debug("Compiled Class path: " + compliedClassPath.toURL());
-        Server jetty = new Server(containerConfig.getPort());
+        ConnectorConfig connectorConfig = Objects.nonNull(containerConfig.getConnector()) ? containerConfig.getConnector() : new ConnectorConfig.Builder().build();
+        Server jetty = new Server(makeThreadPool(connectorConfig));
 
         // dependencies for, WebAppContext
         Configuration[] configurations = makeConfigurations();
@@ -92,8 +117,19 @@ public class ServletContainerFactory {
         }
         jetty.setHandler(context);
 
-        ServerConnector serverConnector = makeServerConnector(jetty, containerConfig.getPort());
-        jetty.setConnectors( new Connector[] { serverConnector } );
+        List<Connector> connectors = new ArrayList<>();
+        UnixSocketConfig unixSocketConfig = containerConfig.getUnixSocket();
+        if (Objects.isNull(unixSocketConfig) || !Boolean.FALSE.equals(unixSocketConfig.getTcp())) {
+            connectors.add(makeServerConnector(jetty, containerConfig.getPort(), connectorConfig));
+        }
+        if (Objects.nonNull(containerConfig.getTls())) {
+            connectors.add(makeTlsConnector(jetty, containerConfig.getTls(), connectorConfig));
+        }
+        if (Objects.nonNull(unixSocketConfig)) {
+            connectors.add(makeUnixSocketConnector(jetty, unixSocketConfig, connectorConfig));
+        }
+        jetty.setConnectors( connectors.toArray(new Connector[0]) );
+        logSettings(jetty, (AbstractConnector) connectors.get(0), connectorConfig);
 
         // request logs
         CustomRequestLog log = makeRequestLog(containerConfig.getRequestLog());
@@ -167,21 +203,217 @@ public class ServletContainerFactory {
         };
     }
 
+    /**
+     * @param connectorConfig the thread pool settings
+     * @return a thread pool, its queue is bounded when connectorConfig has a thread queue size.
+     */
+    protected QueuedThreadPool makeThreadPool(ConnectorConfig connectorConfig) {
+        QueuedThreadPool threadPool = new QueuedThreadPool();
+        if (Objects.nonNull(connectorConfig.getThreadQueueSize())) {
+            int queueSize = connectorConfig.getThreadQueueSize();
+            threadPool = new QueuedThreadPool(
+                threadPool.getMaxThreads(),
+                threadPool.getMinThreads(),
+                new BlockingArrayQueue<>(Math.min(queueSize, 1024), Math.min(queueSize, 1024), queueSize)
+            );
+        }
+        if (Objects.nonNull(connectorConfig.getMaxThreads())) {
+            threadPool.setMaxThreads(connectorConfig.getMaxThreads());
+        }
+        if (Objects.nonNull(connectorConfig.getMinThreads())) {
+            threadPool.setMinThreads(connectorConfig.getMinThreads());
+        }
+        if (Objects.nonNull(connectorConfig.getReservedThreads())) {
+            threadPool.setReservedThreads(connectorConfig.getReservedThreads());
+        }
+        return threadPool;
+    }
+
     protected ServerConnector makeServerConnector(Server server, int port) {
+        return makeServerConnector(server, port, new ConnectorConfig.Builder().build());
+    }
+
+    protected ServerConnector makeServerConnector(Server server, int port, ConnectorConfig connectorConfig) {
+        HttpConfiguration httpConfig = makeHttpConfiguration(connectorConfig);
+
+        ConnectionFactory httpFactory = new HttpConnectionFactory( httpConfig );
+        HTTP2CServerConnectionFactory http2Factory = new HTTP2CServerConnectionFactory( httpConfig );
+        configureH2(http2Factory, connectorConfig);
+
+        return makeConnector(server, port, connectorConfig, httpFactory, http2Factory);
+    }
+
+    /**
+     * A TLS connector whose connections negotiate h2 with ALPN, clients that do not offer h2 use http/1.1. It has
+     * the same connector and h2 settings as the cleartext connector.
+     *
+     * @param server the jetty server
+     * @param tlsConfig the key store, port and protocols
+     * @param connectorConfig the connector and h2 settings
+     * @return a TLS connector
+     */
+    protected ServerConnector makeTlsConnector(Server server, TlsConfig tlsConfig, ConnectorConfig connectorConfig) {
+        HttpConfiguration httpsConfig = makeHttpConfiguration(connectorConfig);
+        httpsConfig.setSecureScheme("https");
+        httpsConfig.setSecurePort(tlsConfig.getPort());
+        httpsConfig.addCustomizer(new SecureRequestCustomizer());
+
+        SslContextFactory.Server sslContextFactory = makeSslContextFactory(tlsConfig);
+
+        HttpConnectionFactory httpFactory = new HttpConnectionFactory( httpsConfig );
+        HTTP2ServerConnectionFactory http2Factory = new HTTP2ServerConnectionFactory( httpsConfig );
+        configureH2(http2Factory, connectorConfig);
+
+        ALPNServerConnectionFactory alpn = new ALPNServerConnectionFactory(H2, HTTP_1_1);
+        alpn.setDefaultProtocol(HTTP_1_1);
+        SslConnectionFactory sslFactory = new SslConnectionFactory(sslContextFactory, alpn.getProtocol());
+
+        ServerConnector tlsConnector = makeConnector(server, tlsConfig.getPort(), connectorConfig, sslFactory, alpn, http2Factory, httpFactory);
+
+        logger.info(
+            TLS_SETTINGS,
+            tlsConfig.getPort(),
+            Arrays.asList(sslContextFactory.getIncludeProtocols()),
+            Arrays.asList(sslContextFactory.getIncludeCipherSuites()),
+            sslContextFactory.getSslSessionCacheSize(),
+            alpn.getProtocols()
+        );
+        return tlsConnector;
+    }
+
+    /**
+     * A connector on a unix domain socket for a reverse proxy on the same host, it speaks http/1.1 and h2c like the
+     * TCP connector and has the same settings. Jetty uses one acceptor for it.
+     *
+     * It is made by UnixSocketConnectorFactory so jetty-unixsocket is only needed when a unix socket is configured.
+     *
+     * @param server the jetty server
+     * @param unixSocketConfig the path of the socket
+     * @param connectorConfig the connector and h2 settings
+     * @return a unix domain socket connector
+     */
+    protected Connector makeUnixSocketConnector(Server server, UnixSocketConfig unixSocketConfig, ConnectorConfig connectorConfig) {
+        HttpConfiguration httpConfig = makeHttpConfiguration(connectorConfig);
+
+        ConnectionFactory httpFactory = new HttpConnectionFactory( httpConfig );
+        HTTP2CServerConnectionFactory http2Factory = new HTTP2CServerConnectionFactory( httpConfig );
+        configureH2(http2Factory, connectorConfig);
+
+        Connector unixSocketConnector;
+        try {
+            unixSocketConnector = new UnixSocketConnectorFactory().make(server, unixSocketConfig, connectorConfig, httpFactory, http2Factory);
+        } catch (NoClassDefFoundError e) {
+            throw new IllegalStateException(NO_UNIX_SOCKET, e);
+        }
+
+        logger.info(UNIX_SOCKET_SETTINGS, unixSocketConfig.getPath(), !Boolean.FALSE.equals(unixSocketConfig.getTcp()));
+        return unixSocketConnector;
+    }
+
+    /**
+     * @param tlsConfig the key store and protocols
+     * @return a SslContextFactory, cipher suites that h2 allows are preferred.
+     */
+    protected SslContextFactory.Server makeSslContextFactory(TlsConfig tlsConfig) {
+        SslContextFactory.Server sslContextFactory = new SslContextFactory.Server();
+        sslContextFactory.setKeyStorePath(tlsConfig.getKeyStorePath());
+        sslContextFactory.setKeyStorePassword(tlsConfig.getKeyStorePassword());
+        if (Objects.nonNull(tlsConfig.getKeyManagerPassword())) {
+            sslContextFactory.setKeyManagerPassword(tlsConfig.getKeyManagerPassword());
+        }
+        if (Objects.nonNull(tlsConfig.getKeyStoreType())) {
+            sslContextFactory.setKeyStoreType(tlsConfig.getKeyStoreType());
+        }
+        if (Objects.nonNull(tlsConfig.getProtocols()) && !tlsConfig.getProtocols().isEmpty()) {
+            sslContextFactory.setIncludeProtocols(tlsConfig.getProtocols().toArray(new String[0]));
+        }
+        if (Objects.nonNull(tlsConfig.getCipherSuites()) && !tlsConfig.getCipherSuites().isEmpty()) {
+            sslContextFactory.setIncludeCipherSuites(tlsConfig.getCipherSuites().toArray(new String[0]));
+        }
+        if (Objects.nonNull(tlsConfig.getSessionCacheSize())) {
+            sslContextFactory.setSslSessionCacheSize(tlsConfig.getSessionCacheSize());
+        }
+        // h2 clients close the connection when the negotiated cipher suite is blacklisted.
+        sslContextFactory.setCipherComparator(HTTP2Cipher.COMPARATOR);
+        return sslContextFactory;
+    }
+
+    protected HttpConfiguration makeHttpConfiguration(ConnectorConfig connectorConfig) {
         // turn off jetty response header
         HttpConfiguration httpConfig = new HttpConfiguration();
         httpConfig.setSendServerVersion(false);
         httpConfig.setSendDateHeader(true);
+        if (Objects.nonNull(connectorConfig.getOutputBufferSize())) {
+            httpConfig.setOutputBufferSize(connectorConfig.getOutputBufferSize());
+        }
+        if (Objects.nonNull(connectorConfig.getOutputAggregationSize())) {
+            httpConfig.setOutputAggregationSize(connectorConfig.getOutputAggregationSize());
+        }
+        return httpConfig;
+    }
 
-        ConnectionFactory httpFactory = new HttpConnectionFactory( httpConfig );
-        ConnectionFactory http2Factory = new HTTP2CServerConnectionFactory( httpConfig );
+    protected void configureH2(AbstractHTTP2ServerConnectionFactory http2Factory, ConnectorConfig connectorConfig) {
+        if (Objects.nonNull(connectorConfig.getH2MaxConcurrentStreams())) {
+            http2Factory.setMaxConcurrentStreams(connectorConfig.getH2MaxConcurrentStreams());
+        }
+        if (Objects.nonNull(connectorConfig.getH2InitialStreamRecvWindow())) {
+            http2Factory.setInitialStreamRecvWindow(connectorConfig.getH2InitialStreamRecvWindow());
+        }
+        if (Objects.nonNull(connectorConfig.getH2InitialSessionRecvWindow())) {
+            http2Factory.setInitialSessionRecvWindow(connectorConfig.getH2InitialSessionRecvWindow());
+        }
+    }
 
-        ServerConnector serverConnector = new ServerConnector(server, httpFactory, http2Factory);
+    protected ServerConnector makeConnector(Server server, int port, ConnectorConfig connectorConfig, ConnectionFactory... factories) {
+        // -1 lets jetty pick from the number of cpus.
+        int acceptors = Objects.nonNull(connectorConfig.getAcceptors()) ? connectorConfig.getAcceptors() : -1;
+        int selectors = Objects.nonNull(connectorConfig.getSelectors()) ? connectorConfig.getSelectors() : -1;
+        ServerConnector serverConnector = new ServerConnector(server, acceptors, selectors, factories);
         serverConnector.setPort(port);
-
+        if (Objects.nonNull(connectorConfig.getAcceptQueueSize())) {
+            serverConnector.setAcceptQueueSize(connectorConfig.getAcceptQueueSize());
+        }
+        if (Objects.nonNull(connectorConfig.getIdleTimeout())) {
+            serverConnector.setIdleTimeout(connectorConfig.getIdleTimeout());
+        }
         return serverConnector;
     }
 
+    /**
+     * Logs the settings jetty will use, which are jetty's defaults for the ones that were not configured. The
+     * connectors share the settings so they are logged once for the first one.
+     */
+    protected void logSettings(Server server, AbstractConnector connector, ConnectorConfig connectorConfig) {
+        Integer minThreads = null;
+        Integer maxThreads = null;
+        Integer reservedThreads = null;
+        if (server.getThreadPool() instanceof QueuedThreadPool) {
+            QueuedThreadPool threadPool = (QueuedThreadPool) server.getThreadPool();
+            minThreads = threadPool.getMinThreads();
+            maxThreads = threadPool.getMaxThreads();
+            reservedThreads = threadPool.getReservedThreads();
+        }
+        Object threadQueue = Objects.nonNull(connectorConfig.getThreadQueueSize()) ? connectorConfig.getThreadQueueSize() : UNBOUNDED;
+
+        // a unix socket connector is not a ServerConnector, it has what was configured.
+        Integer selectors = connectorConfig.getSelectors();
+        Integer acceptQueueSize = connectorConfig.getAcceptQueueSize();
+        if (connector instanceof ServerConnector) {
+            selectors = ((ServerConnector) connector).getSelectorManager().getSelectorCount();
+            acceptQueueSize = ((ServerConnector) connector).getAcceptQueueSize();
+        }
+        HttpConfiguration httpConfig = connector.getConnectionFactory(HttpConnectionFactory.class).getHttpConfiguration();
+        AbstractHTTP2ServerConnectionFactory http2Factory = connector.getConnectionFactory(AbstractHTTP2ServerConnectionFactory.class);
+
+        logger.info(
+            CONNECTOR_SETTINGS,
+            minThreads, maxThreads, reservedThreads, threadQueue,
+            connector.getAcceptors(), selectors, acceptQueueSize, connector.getIdleTimeout(),
+            httpConfig.getOutputBufferSize(), httpConfig.getOutputAggregationSize(),
+            http2Factory.getMaxConcurrentStreams(), http2Factory.getInitialStreamRecvWindow(), http2Factory.getInitialSessionRecvWindow()
+        );
+    }
+
     protected CustomRequestLog makeRequestLog(String logFile) {
         CustomRequestLog requestLog = new CustomRequestLog(logFile);
         return requestLog;
@@ -0,0 +1,38 @@
+package net.tokensmith.otter.server.container;
+
+import net.tokensmith.otter.server.ConnectorConfig;
+import net.tokensmith.otter.server.UnixSocketConfig;
+import org.eclipse.jetty.server.ConnectionFactory;
+import org.eclipse.jetty.server.Connector;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.unixsocket.UnixSocketConnector;
+
+import java.util.Objects;
+
+
+/**
+ * Makes the unix domain socket connector. It is the only class that uses jetty-unixsocket, which is an optional
+ * dependency, so it is only loaded when a HttpServerConfig has a UnixSocketConfig.
+ */
+public class UnixSocketConnectorFactory {
+
+    /**
+     * @param server the jetty server
+     * @param unixSocketConfig the path of the socket
+     * @param connectorConfig the connector settings
+     * @param factories the connection factories of the connector
+     * @return a UnixSocketConnector
+     */
+    public Connector make(Server server, UnixSocketConfig unixSocketConfig, ConnectorConfig connectorConfig, ConnectionFactory... factories) {
+        int selectors = Objects.nonNull(connectorConfig.getSelectors()) ? connectorConfig.getSelectors() : -1;
+        UnixSocketConnector unixSocketConnector = new UnixSocketConnector(server, selectors, factories);
+        unixSocketConnector.setUnixSocket(unixSocketConfig.getPath());
+        if (Objects.nonNull(connectorConfig.getAcceptQueueSize())) {
+            unixSocketConnector.setAcceptQueueSize(connectorConfig.getAcceptQueueSize());
+        }
+        if (Objects.nonNull(connectorConfig.getIdleTimeout())) {
+            unixSocketConnector.setIdleTimeout(connectorConfig.getIdleTimeout());
+        }
+        return unixSocketConnector;
+    }
+}
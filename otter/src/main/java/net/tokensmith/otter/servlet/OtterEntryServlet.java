@@ -1,17 +1,24 @@
 package net.tokensmith.otter.servlet;
 
 
+import com.fasterxml.jackson.core.JsonFactory;
 import net.tokensmith.otter.config.OtterAppFactory;
 import net.tokensmith.otter.controller.entity.DefaultSession;
 import net.tokensmith.otter.controller.entity.DefaultUser;
+import net.tokensmith.otter.controller.header.Header;
 import net.tokensmith.otter.gateway.Configure;
 import net.tokensmith.otter.gateway.entity.Group;
 import net.tokensmith.otter.gateway.entity.Shape;
 import net.tokensmith.otter.gateway.entity.rest.RestGroup;
 import net.tokensmith.otter.gateway.servlet.ServletGateway;
+import net.tokensmith.otter.router.entity.Lookup;
+import net.tokensmith.otter.router.entity.MatchedLocation;
 import net.tokensmith.otter.security.exception.SessionCtorException;
+import net.tokensmith.otter.servlet.async.BodyBuffer;
 import net.tokensmith.otter.servlet.async.OtterAsyncListener;
 import net.tokensmith.otter.servlet.async.ReadListenerImpl;
+import net.tokensmith.otter.servlet.async.SegmentPool;
+import net.tokensmith.otter.translator.JsonTokenizer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -27,6 +34,8 @@ import java.io.IOException;
 import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
 
 
 /**
@@ -44,6 +53,13 @@ public abstract class OtterEntryServlet extends HttpServlet {
     // async i/o read chunk size
     protected static Integer DEFAULT_READ_CHUNK_SIZE = 1024;
     protected static Integer readChunkSize;
+    // pooled read chunks used to read request bodies.
+    protected static Integer DEFAULT_MAX_POOLED_SEGMENTS = 256;
+    protected static SegmentPool segmentPool;
+    // tokenizes json bodies for locations that parse while reading.
+    protected static JsonFactory jsonFactory;
+    // runs resources after a body was read, null to run them on the container thread.
+    protected static Executor executor;
 
     @Override
     public void init() throws ServletException {
@@ -78,6 +94,9 @@ public abstract class OtterEntryServlet extends HttpServlet {
 
         // async i/o read chunk size.
         readChunkSize = Objects.nonNull(shape.getReadChunkSize()) ? shape.getReadChunkSize() : DEFAULT_READ_CHUNK_SIZE;
+        segmentPool = new SegmentPool(readChunkSize, DEFAULT_MAX_POOLED_SEGMENTS);
+        jsonFactory = otterAppFactory.jsonFactory();
+        executor = otterAppFactory.executor(shape.getExecution()).orElse(null);
     }
 
     /**
@@ -97,12 +116,31 @@ public abstract class OtterEntryServlet extends HttpServlet {
     public abstract Configure makeConfigure();
 
     public void doAsync(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        // the request is matched once, the lookup is routed after the body is read.
+        Lookup lookup = servletGateway.lookup(request);
+        Optional<MatchedLocation> matchedLocation = lookup.getMatchedLocation();
+        Long maxBodyBytes = servletGateway.maxBodyBytes(matchedLocation);
+        Long contentLength = request.getContentLengthLong();
+        if (contentLength > maxBodyBytes) {
+            // reject it before reading the body.
+            LOGGER.debug("Content-Length, {}, is larger than the max, {}", contentLength, maxBodyBytes);
+            response.setStatus(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+            response.setHeader(Header.CONNECTION.getValue(), "close");
+            return;
+        }
+
         AsyncContext context = request.startAsync(request, response);
         AsyncListener asyncListener = new OtterAsyncListener();
         context.addListener(asyncListener);
 
         ServletInputStream input = request.getInputStream();
-        ReadListener readListener = new ReadListenerImpl(servletGateway, input, context, readChunkSize);
+        BodyBuffer bodyBuffer;
+        if (servletGateway.parseWhileReading(matchedLocation)) {
+            bodyBuffer = new BodyBuffer(segmentPool, maxBodyBytes, new JsonTokenizer(jsonFactory));
+        } else {
+            bodyBuffer = new BodyBuffer(segmentPool, contentLength, maxBodyBytes);
+        }
+        ReadListener readListener = new ReadListenerImpl(servletGateway, input, context, bodyBuffer, executor, Optional.of(lookup));
         input.setReadListener(readListener);
     }
 
@@ -0,0 +1,146 @@
+package net.tokensmith.otter.servlet.async;
+
+
+import net.tokensmith.otter.translator.JsonTokenizer;
+
+import javax.servlet.ServletInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Accumulates a request body as it is read from the container.
+ *
+ * When the request has a Content-Length of at most MAX_PRESIZE the body is read directly into one array
+ * of that size which is then used as the body, it is not copied again. Otherwise, the body is read into
+ * segments from a SegmentPool as it arrives and they are copied once into the body when it is read. A
+ * larger Content-Length is only what the client says, memory is not allocated for it before the bytes arrive.
+ *
+ * When there is a JsonTokenizer the body is tokenized as it is read into one pooled segment that is
+ * reused, the body is not kept.
+ *
+ * At most one byte more than maxBodyBytes is read, then it is over the limit and stops reading.
+ *
+ * This is not thread safe, the container will not call a ReadListener concurrently.
+ */
+public class BodyBuffer {
+    private static final byte[] EMPTY = new byte[0];
+    // largest body that is read into one array allocated from its Content-Length.
+    protected static final Long MAX_PRESIZE = 16L * 1024;
+
+    private SegmentPool segmentPool;
+    private Long maxBodyBytes;
+    private List<ByteBuffer> segments = new ArrayList<>();
+    // the first segment is not from the pool when the body was pre sized.
+    private boolean presized;
+    private long size;
+    private Optional<JsonTokenizer> tokenizer = Optional.empty();
+
+    public BodyBuffer(SegmentPool segmentPool, Long contentLength, Long maxBodyBytes) {
+        this.segmentPool = segmentPool;
+        this.maxBodyBytes = maxBodyBytes;
+        if (contentLength > 0 && contentLength <= maxBodyBytes && contentLength <= MAX_PRESIZE) {
+            segments.add(ByteBuffer.allocate(contentLength.intValue()));
+            presized = true;
+        }
+    }
+
+    public BodyBuffer(SegmentPool segmentPool, Long maxBodyBytes, JsonTokenizer tokenizer) {
+        this.segmentPool = segmentPool;
+        this.maxBodyBytes = maxBodyBytes;
+        this.tokenizer = Optional.of(tokenizer);
+    }
+
+    /**
+     * Reads from the input until it is not ready, the end of the stream was reached or it is over the limit.
+     *
+     * @param input the request's input stream
+     * @throws IOException if the input could not be read
+     */
+    public void read(ServletInputStream input) throws IOException {
+        while (input.isReady() && !input.isFinished() && !isOverLimit()) {
+            ByteBuffer segment = writable();
+            // read one byte past the limit to know it is over.
+            long left = maxBodyBytes - size;
+            int max = left < segment.remaining() ? (int) left + 1 : segment.remaining();
+            int len = input.read(segment.array(), segment.arrayOffset() + segment.position(), max);
+            if (len == -1) {
+                break;
+            }
+            size += len;
+            if (tokenizer.isPresent()) {
+                // the segment is reused for the next read.
+                tokenizer.get().feed(segment.array(), segment.arrayOffset() + segment.position(), len);
+            } else {
+                segment.position(segment.position() + len);
+            }
+        }
+    }
+
+    protected ByteBuffer writable() {
+        int last = segments.size() - 1;
+        if (last >= 0 && segments.get(last).hasRemaining()) {
+            return segments.get(last);
+        }
+        ByteBuffer segment = segmentPool.take();
+        segments.add(segment);
+        return segment;
+    }
+
+    /**
+     * Returns the body and gives the segments back to the pool. This should be called once.
+     *
+     * @return the body that was read
+     */
+    public byte[] toByteArray() {
+        byte[] body;
+        if (tokenizer.isPresent()) {
+            tokenizer.get().end();
+            body = EMPTY;
+        } else if (presized && segments.size() == 1 && !segments.get(0).hasRemaining()) {
+            body = segments.get(0).array();
+        } else if (size == 0) {
+            body = EMPTY;
+        } else {
+            body = new byte[(int) size];
+            int position = 0;
+            for (ByteBuffer segment : segments) {
+                System.arraycopy(segment.array(), segment.arrayOffset(), body, position, segment.position());
+                position += segment.position();
+            }
+        }
+        release();
+        return body;
+    }
+
+    /**
+     * Gives the segments back to the pool without making the body.
+     */
+    public void release() {
+        for (int i = presized ? 1 : 0; i < segments.size(); i++) {
+            segmentPool.give(segments.get(i));
+        }
+        segments.clear();
+        presized = false;
+    }
+
+    /**
+     * @return the tokenizer if the body was tokenized and it was not empty.
+     */
+    public Optional<JsonTokenizer> getTokenizer() {
+        if (size == 0) {
+            return Optional.empty();
+        }
+        return tokenizer;
+    }
+
+    public Boolean isOverLimit() {
+        return size > maxBodyBytes;
+    }
+
+    public long size() {
+        return size;
+    }
+}
@@ -1,8 +1,10 @@
 package net.tokensmith.otter.servlet.async;
 
 
+import net.tokensmith.otter.controller.header.Header;
 import net.tokensmith.otter.gateway.servlet.GatewayResponse;
 import net.tokensmith.otter.gateway.servlet.ServletGateway;
+import net.tokensmith.otter.router.entity.Lookup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -13,56 +15,175 @@ import javax.servlet.ServletOutputStream;
 import javax.servlet.WriteListener;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.util.Arrays;
 import java.util.Objects;
-import java.util.Queue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 
+/**
+ * Reads a request body then processes the request and starts writing its response. When there is an executor
+ * the request is processed on it instead of the container thread that read the body, see ExecutionConfig.
+ */
 public class ReadListenerImpl implements ReadListener {
     protected static Logger LOGGER = LoggerFactory.getLogger(ReadListenerImpl.class);
+    public static final String REJECTED = "Executor rejected request, responding with 503";
     private ServletGateway servletGateway;
     private ServletInputStream input = null;
     private AsyncContext ac = null;
-    private Integer readChunkSize;
-    private Queue<byte[]> queue = new LinkedBlockingQueue<byte[]>();
+    private BodyBuffer bodyBuffer;
+    private Executor executor;
+    private Optional<Lookup> lookup;
+    private Boolean tooLarge = false;
 
-    public ReadListenerImpl(ServletGateway sg, ServletInputStream in, AsyncContext ac, Integer readChunkSize) {
+    public ReadListenerImpl(ServletGateway sg, ServletInputStream in, AsyncContext ac, BodyBuffer bodyBuffer) {
+        this(sg, in, ac, bodyBuffer, null);
+    }
+
+    /**
+     * @param sg the servlet gateway
+     * @param in the input stream of the request
+     * @param ac the async context of the request
+     * @param bodyBuffer where the body is read to
+     * @param executor processes the request, null to process it on the container thread.
+     */
+    public ReadListenerImpl(ServletGateway sg, ServletInputStream in, AsyncContext ac, BodyBuffer bodyBuffer, Executor executor) {
+        this(sg, in, ac, bodyBuffer, executor, Optional.empty());
+    }
+
+    /**
+     * @param sg the servlet gateway
+     * @param in the input stream of the request
+     * @param ac the async context of the request
+     * @param bodyBuffer where the body is read to
+     * @param executor processes the request, null to process it on the container thread.
+     * @param lookup the location that was found for the request before its body was read, see ServletGateway.lookup.
+     */
+    public ReadListenerImpl(ServletGateway sg, ServletInputStream in, AsyncContext ac, BodyBuffer bodyBuffer, Executor executor, Optional<Lookup> lookup) {
         this.servletGateway = sg;
         this.input = in;
         this.ac = ac;
-        this.readChunkSize = readChunkSize;
+        this.bodyBuffer = bodyBuffer;
+        this.executor = executor;
+        this.lookup = lookup;
     }
 
     @Override
     public void onDataAvailable() throws IOException {
-
-        int len = -1;
-        byte fixedBuffer[] = new byte[readChunkSize];
-        ByteArrayOutputStream variableBuffer = new ByteArrayOutputStream();
-
-        while (input.isReady() && (len = input.read(fixedBuffer)) != -1 && !input.isFinished()) {
-            int start = variableBuffer.size();
-            variableBuffer.write(fixedBuffer, start, len);
+        if (tooLarge) {
+            return;
         }
-        queue.add(variableBuffer.toByteArray());
+        bodyBuffer.read(input);
+        if (bodyBuffer.isOverLimit()) {
+            tooLarge = true;
+            payloadTooLarge();
+        }
+    }
+
+    /**
+     * Responds with a 413 and stops reading the body.
+     */
+    protected void payloadTooLarge() {
+        HttpServletResponse response = (HttpServletResponse) ac.getResponse();
+        response.setStatus(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+        response.setHeader(Header.CONNECTION.getValue(), "close");
+        bodyBuffer.release();
+        ac.complete();
     }
 
 
     @Override
     public void onAllDataRead() throws IOException {
+        if (tooLarge) {
+            return;
+        }
+        if (Objects.isNull(executor)) {
+            respond();
+            return;
+        }
+
+        try {
+            executor.execute(this::respondOffContainer);
+        } catch (RejectedExecutionException e) {
+            LOGGER.warn(REJECTED);
+            unavailable();
+        }
+    }
+
+    /**
+     * Responds on an executor thread, there is no container to give an exception to so the response
+     * is a 500 if it was not committed.
+     */
+    protected void respondOffContainer() {
+        try {
+            respond();
+        } catch (IOException | RuntimeException e) {
+            serverError(e);
+        }
+    }
+
+    protected void serverError(Exception e) {
+        LOGGER.error(e.getMessage(), e);
+        HttpServletResponse response = (HttpServletResponse) ac.getResponse();
+        if (!response.isCommitted()) {
+            response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+        }
+        ac.complete();
+    }
+
+    /**
+     * Responds with a 503 when the executor is full or shut down.
+     */
+    protected void unavailable() {
+        HttpServletResponse response = (HttpServletResponse) ac.getResponse();
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        bodyBuffer.release();
+        ac.complete();
+    }
+
+    /**
+     * Processes the request then starts to write the response. The response of an AsyncRestResource is
+     * written by the thread that completes it.
+     *
+     * @throws IOException if the output stream could not be opened
+     */
+    protected void respond() throws IOException {
         HttpServletRequest request = (HttpServletRequest) ac.getRequest();
         HttpServletResponse response = (HttpServletResponse) ac.getResponse();
-        byte[] body = queueToByteArray(queue);
-        GatewayResponse gatewayResponse = servletGateway.processRequest(request, response, body);
+        byte[] body = bodyBuffer.toByteArray();
+        CompletableFuture<GatewayResponse> gatewayResponse = servletGateway
+                .processRequestAsync(request, response, body, bodyBuffer.getTokenizer(), lookup)
+                .toCompletableFuture();
+
+        if (gatewayResponse.isDone()) {
+            write(request, response, gatewayResponse.join());
+        } else {
+            gatewayResponse.thenAccept(completed -> {
+                try {
+                    write(request, response, completed);
+                } catch (IOException | RuntimeException e) {
+                    serverError(e);
+                }
+            });
+        }
+    }
 
+    protected void write(HttpServletRequest request, HttpServletResponse response, GatewayResponse gatewayResponse) throws IOException {
         if (gatewayResponse.getPayload().isPresent()) {
             // its an API .. json
-            Queue out = byteArrayToQueue(gatewayResponse.getPayload().get(), gatewayResponse.getWriteChunkSize());
+            byte[] payload = gatewayResponse.getPayload().get();
+            response.setContentLength(payload.length);
             ServletOutputStream output = response.getOutputStream();
-            WriteListener writeListener = new WriteListenerImpl(output, out, ac);
+            WriteListener writeListener = new WriteListenerImpl(output, payload, gatewayResponse.getWriteChunkSize(), ac);
+            output.setWriteListener(writeListener);
+        } else if (gatewayResponse.getStreamPayload().isPresent()) {
+            // its an API that streams a json array, the length is not known.
+            ServletOutputStream output = response.getOutputStream();
+            WriteListener writeListener = new StreamWriteListenerImpl(
+                output, gatewayResponse.getStreamPayload().get(), gatewayResponse.getWriteChunkSize(), ac
+            );
             output.setWriteListener(writeListener);
         } else if (gatewayResponse.getTemplate().isPresent()){
             // its a jsp.. dispatch to it.
@@ -73,34 +194,10 @@ public class ReadListenerImpl implements ReadListener {
         }
     }
 
-    public byte[] queueToByteArray(Queue<byte[]> queue) {
-        ByteArrayOutputStream to = new ByteArrayOutputStream();
-        while (Objects.nonNull(queue.peek())) {
-            try {
-                to.write(queue.poll());
-            } catch (IOException e) {
-                // TODO: #16
-            }
-        }
-        return to.toByteArray();
-    }
-
     @Override
     public void onError(Throwable t) {
         LOGGER.error(t.getMessage(), t);
+        bodyBuffer.release();
         ac.complete();
     }
-
-    public Queue byteArrayToQueue(byte[] source, int chunksize) {
-        Queue<byte[]> out = new LinkedBlockingQueue<byte[]>();
-
-        int start = 0;
-        while (start < source.length) {
-            int end = Math.min(source.length, start + chunksize);
-            out.add(Arrays.copyOfRange(source, start, end));
-            start += chunksize;
-        }
-
-        return out;
-    }
 }
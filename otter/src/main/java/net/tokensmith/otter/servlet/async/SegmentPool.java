@@ -0,0 +1,57 @@
+package net.tokensmith.otter.servlet.async;
+
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A bounded pool of fixed size heap buffers that are used to read request bodies.
+ * Buffers that are given back when the pool is full are left for the garbage collector.
+ */
+public class SegmentPool {
+    private Integer segmentSize;
+    private Integer maxPooled;
+    private Queue<ByteBuffer> segments = new ConcurrentLinkedQueue<>();
+    private AtomicInteger pooled = new AtomicInteger(0);
+
+    public SegmentPool(Integer segmentSize, Integer maxPooled) {
+        this.segmentSize = segmentSize;
+        this.maxPooled = maxPooled;
+    }
+
+    public ByteBuffer take() {
+        ByteBuffer segment = segments.poll();
+        if (Objects.isNull(segment)) {
+            return ByteBuffer.allocate(segmentSize);
+        }
+        pooled.decrementAndGet();
+        return segment;
+    }
+
+    public void give(ByteBuffer segment) {
+        if (segment.capacity() != segmentSize) {
+            return;
+        }
+        if (pooled.incrementAndGet() > maxPooled) {
+            pooled.decrementAndGet();
+            return;
+        }
+        segment.clear();
+        segments.offer(segment);
+    }
+
+    public Integer getSegmentSize() {
+        return segmentSize;
+    }
+
+    public Integer getMaxPooled() {
+        return maxPooled;
+    }
+
+    public Integer size() {
+        return pooled.get();
+    }
+}
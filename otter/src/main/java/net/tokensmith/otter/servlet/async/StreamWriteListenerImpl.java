@@ -0,0 +1,97 @@
+package net.tokensmith.otter.servlet.async;
+
+
+import net.tokensmith.otter.controller.entity.StatusCode;
+import net.tokensmith.otter.translator.JsonStream;
+import net.tokensmith.otter.translator.exception.ToJsonException;
+import org.eclipse.jetty.server.Request;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Writes a JsonStream while the output is ready. The next chunk is serialized only after
+ * the previous one was written, so the items are not serialized faster than the client reads them.
+ */
+public class StreamWriteListenerImpl implements WriteListener {
+    protected static Logger LOGGER = LoggerFactory.getLogger(StreamWriteListenerImpl.class);
+    private ServletOutputStream output = null;
+    private JsonStream jsonStream;
+    private Integer chunkSize;
+    private AsyncContext context = null;
+    // chunk that was serialized and not written yet.
+    private ByteBuffer pending;
+
+    public StreamWriteListenerImpl(ServletOutputStream sos, JsonStream jsonStream, Integer chunkSize, AsyncContext c) {
+        this.output = sos;
+        this.jsonStream = jsonStream;
+        this.chunkSize = chunkSize;
+        this.context = c;
+    }
+
+    @Override
+    public void onWritePossible() throws IOException {
+        while (output.isReady()) {
+            if (Objects.isNull(pending)) {
+                Optional<ByteBuffer> next;
+                try {
+                    next = jsonStream.next(chunkSize);
+                } catch (ToJsonException e) {
+                    LOGGER.error(e.getMessage(), e);
+                    fail(e);
+                    return;
+                }
+                if (next.isEmpty()) {
+                    context.complete();
+                    return;
+                }
+                pending = next.get();
+            }
+            if (pending.hasRemaining()) {
+                output.write(pending.array(), pending.arrayOffset() + pending.position(), pending.remaining());
+            }
+            pending = null;
+        }
+    }
+
+    /**
+     * Called when an item could not be serialized. If the response is not committed it is a 500. Otherwise the
+     * status and part of the array were sent, so the connection is aborted instead of ending the chunked body and
+     * the client can tell the body is incomplete.
+     *
+     * @param e why the item could not be serialized
+     * @throws IOException if the connection could not be aborted, the container then fails the response.
+     */
+    protected void fail(ToJsonException e) throws IOException {
+        jsonStream.close();
+        HttpServletResponse response = (HttpServletResponse) context.getResponse();
+        if (!response.isCommitted()) {
+            response.reset();
+            response.setStatus(StatusCode.SERVER_ERROR.getCode());
+            context.complete();
+            return;
+        }
+
+        Request baseRequest = Request.getBaseRequest(context.getRequest());
+        if (Objects.isNull(baseRequest)) {
+            throw new IOException(e);
+        }
+        baseRequest.getHttpChannel().abort(e);
+        context.complete();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        jsonStream.close();
+        context.complete();
+        LOGGER.error(t.getMessage(), t);
+    }
+}
@@ -8,30 +8,36 @@ import javax.servlet.AsyncContext;
 import javax.servlet.ServletOutputStream;
 import javax.servlet.WriteListener;
 import java.io.IOException;
-import java.util.Objects;
-import java.util.Queue;
-
 
+/**
+ * Writes a payload in chunks of chunkSize bytes while the output is ready. The chunks are
+ * written from offsets of the payload, it is not copied.
+ */
 public class WriteListenerImpl implements WriteListener {
     protected static Logger LOGGER = LoggerFactory.getLogger(WriteListenerImpl.class);
     private ServletOutputStream output = null;
-    private Queue queue = null;
+    private byte[] payload;
+    private Integer chunkSize;
     private AsyncContext context = null;
-
-    public WriteListenerImpl(ServletOutputStream sos, Queue q, AsyncContext c) {
-        output = sos;
-        queue = q;
-        context = c;
+    // where the next chunk starts.
+    private int position = 0;
+
+    public WriteListenerImpl(ServletOutputStream sos, byte[] payload, Integer chunkSize, AsyncContext c) {
+        this.output = sos;
+        this.payload = payload;
+        this.chunkSize = chunkSize;
+        this.context = c;
     }
 
     @Override
     public void onWritePossible() throws IOException {
 
-        while (Objects.nonNull(queue.peek()) && output.isReady()) {
-            byte[] data = (byte[]) queue.poll();
-            output.write(data, 0, data.length);
+        while (position < payload.length && output.isReady()) {
+            int len = Math.min(chunkSize, payload.length - position);
+            output.write(payload, position, len);
+            position += len;
         }
-        if (Objects.isNull(queue.peek())) {
+        if (position == payload.length) {
             context.complete();
         }
     }
@@ -41,4 +47,4 @@ public class WriteListenerImpl implements WriteListener {
         context.complete();
         LOGGER.error(t.getMessage(), t);
     }
-}
\ No newline at end of file
+}
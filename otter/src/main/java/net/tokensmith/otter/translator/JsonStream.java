@@ -0,0 +1,92 @@
+package net.tokensmith.otter.translator;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import net.tokensmith.otter.translator.exception.ToJsonException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+
+/**
+ * Serializes a stream of items to a json array one chunk at a time. Only the current chunk is
+ * in memory, the chunk's buffer is reused for the next chunk.
+ *
+ * This is not thread safe, it is expected to be used by one WriteListener.
+ */
+public class JsonStream {
+    private static final String TO_JSON_MSG = "Could not create JSON";
+
+    private ObjectWriter objectWriter;
+    private Stream<?> items;
+    private Iterator<?> iterator;
+    private Chunk chunk = new Chunk();
+    private JsonGenerator generator;
+    private Boolean ended = false;
+
+    public JsonStream(ObjectWriter objectWriter, Stream<?> items) {
+        this.objectWriter = objectWriter;
+        this.items = items;
+        this.iterator = items.iterator();
+    }
+
+    /**
+     * Serializes items until at least chunkSize bytes are ready or there are no more items.
+     * The returned buffer is only valid until the next call.
+     *
+     * @param chunkSize the number of bytes to try to fill before returning
+     * @return the next chunk of the json array or empty when all of it has been returned.
+     * @throws ToJsonException if an item could not be serialized
+     */
+    public Optional<ByteBuffer> next(Integer chunkSize) throws ToJsonException {
+        if (ended) {
+            close();
+            return Optional.empty();
+        }
+
+        chunk.reset();
+        try {
+            if (Objects.isNull(generator)) {
+                generator = objectWriter.getFactory().createGenerator(chunk);
+                generator.writeStartArray();
+            }
+            while (chunk.size() < chunkSize && iterator.hasNext()) {
+                objectWriter.writeValue(generator, iterator.next());
+                generator.flush();
+            }
+            if (!iterator.hasNext()) {
+                generator.writeEndArray();
+                generator.close();
+                ended = true;
+            } else {
+                generator.flush();
+            }
+        } catch (IOException e) {
+            close();
+            throw new ToJsonException(TO_JSON_MSG, e);
+        }
+        return Optional.of(chunk.toByteBuffer());
+    }
+
+    /**
+     * Closes the items, this should be called if the response could not be completed.
+     */
+    public void close() {
+        items.close();
+    }
+
+    public Boolean isEnded() {
+        return ended;
+    }
+
+    protected static class Chunk extends ByteArrayOutputStream {
+        public ByteBuffer toByteBuffer() {
+            return ByteBuffer.wrap(buf, 0, count);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package net.tokensmith.otter.translator;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.util.Objects;
+
+
+/**
+ * Tokenizes json as the bytes of a request body are read with a non blocking parser. The tokens
+ * are kept so the body does not need to be kept to be deserialized once it has all been read.
+ *
+ * If the json is malformed tokenizing stops and the error is thrown from parser().
+ *
+ * This is not thread safe, the container will not call a ReadListener concurrently.
+ */
+public class JsonTokenizer {
+    private JsonParser parser;
+    private ByteArrayFeeder feeder;
+    private TokenBuffer tokens;
+    private IOException failure;
+
+    public JsonTokenizer(JsonFactory jsonFactory) throws IOException {
+        this.parser = jsonFactory.createNonBlockingByteArrayParser();
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        this.tokens = new TokenBuffer(parser);
+    }
+
+    /**
+     * Tokenizes the bytes, the bytes may be reused once this returns.
+     *
+     * @param data the array that has the bytes
+     * @param offset where the bytes start in data
+     * @param len the number of bytes
+     */
+    public void feed(byte[] data, int offset, int len) {
+        if (Objects.nonNull(failure)) {
+            return;
+        }
+        try {
+            feeder.feedInput(data, offset, offset + len);
+            copyAvailable();
+        } catch (IOException e) {
+            failure = e;
+        }
+    }
+
+    /**
+     * Indicates all of the body was fed.
+     */
+    public void end() {
+        if (Objects.nonNull(failure)) {
+            return;
+        }
+        feeder.endOfInput();
+        try {
+            copyAvailable();
+        } catch (IOException e) {
+            failure = e;
+        }
+    }
+
+    protected void copyAvailable() throws IOException {
+        JsonToken token = parser.nextToken();
+        while (Objects.nonNull(token) && token != JsonToken.NOT_AVAILABLE) {
+            tokens.copyCurrentEvent(parser);
+            token = parser.nextToken();
+        }
+    }
+
+    /**
+     * @return a parser of the tokens that were read.
+     * @throws IOException if the json could not be tokenized
+     */
+    public JsonParser parser() throws IOException {
+        if (Objects.nonNull(failure)) {
+            throw failure;
+        }
+        return tokens.asParser();
+    }
+}
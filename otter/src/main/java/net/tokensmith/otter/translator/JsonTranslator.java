@@ -20,6 +20,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 
 /**
@@ -53,10 +54,25 @@ public class JsonTranslator<T> {
     }
 
     public T from(byte[] json) throws DeserializationException {
+        return from(() -> objectReader.readValue(json));
+    }
+
+    /**
+     * Translates the tokens of a body that was tokenized while it was read.
+     *
+     * @param tokens the tokens of the body
+     * @return an instance of T
+     * @throws DeserializationException if the tokens could not be translated to T
+     */
+    public T from(JsonTokenizer tokens) throws DeserializationException {
+        return from(() -> objectReader.readValue(tokens.parser()));
+    }
+
+    protected T from(Read<T> read) throws DeserializationException {
         T entity;
 
         try{
-            entity = fromWithSpecificCause(json);
+            entity = fromWithSpecificCause(read);
         } catch (DuplicateKeyException e) {
             throw new DeserializationException(DUPLICATE_KEY_GENERIC_MSG, e.getKey(), null, Reason.DUPLICATE_KEY, e);
         } catch (InvalidValueException e) {
@@ -83,10 +99,14 @@ public class JsonTranslator<T> {
      * @throws InvalidValueException key value was incorrect for it's type
      */
     public T fromWithSpecificCause(byte[] json) throws InvalidPayloadException, DuplicateKeyException, UnknownKeyException, InvalidValueException {
+        return fromWithSpecificCause(() -> objectReader.readValue(json));
+    }
+
+    protected T fromWithSpecificCause(Read<T> read) throws InvalidPayloadException, DuplicateKeyException, UnknownKeyException, InvalidValueException {
         T entity = null;
 
         try {
-            entity = objectReader.readValue(json);
+            entity = read.read();
         } catch (JsonParseException e) {
             handleJsonParseException(e);
         } catch (UnrecognizedPropertyException e) {
@@ -119,6 +139,16 @@ public class JsonTranslator<T> {
         return out;
     }
 
+    /**
+     * Make a JsonStream that serializes the items to a json array as it is written.
+     *
+     * @param items the items of the json array
+     * @return a JsonStream for the items
+     */
+    public JsonStream stream(Stream<?> items) {
+        return new JsonStream(objectWriter, items);
+    }
+
     protected void handleJsonParseException(JsonParseException jpe) throws DuplicateKeyException, InvalidPayloadException {
 
         Optional<String> duplicateKey = getJsonParseExceptionDuplicateKey(jpe);
@@ -137,4 +167,14 @@ public class JsonTranslator<T> {
         }
         return key;
     }
+
+    /**
+     * Reads json with the objectReader.
+     *
+     * @param <T> the type to be marshalled from json.
+     */
+    @FunctionalInterface
+    protected interface Read<T> {
+        T read() throws IOException;
+    }
 }
@@ -0,0 +1,58 @@
+package net.tokensmith.otter.translator;
+
+
+import net.tokensmith.otter.translator.exception.ToJsonException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A response payload that is serialized to json at most once, the first time its bytes are needed.
+ * When it is made with bytes they are used and the entity is not serialized.
+ *
+ * @param <P> the payload
+ */
+public class LazyPayload<P> {
+    protected static Logger LOGGER = LoggerFactory.getLogger(LazyPayload.class);
+
+    private Optional<P> entity;
+    private JsonTranslator<P> jsonTranslator;
+    private Optional<byte[]> bytes;
+
+    public LazyPayload(Optional<P> entity, JsonTranslator<P> jsonTranslator) {
+        this.entity = entity;
+        this.jsonTranslator = jsonTranslator;
+    }
+
+    public LazyPayload(Optional<P> entity, Optional<byte[]> bytes) {
+        this.entity = entity;
+        this.bytes = bytes;
+    }
+
+    /**
+     * @return the payload serialized to json, it is serialized on the first call.
+     */
+    public Optional<byte[]> getBytes() {
+        if (Objects.isNull(bytes)) {
+            bytes = Optional.empty();
+            if (entity.isPresent()) {
+                try {
+                    bytes = Optional.of(jsonTranslator.to(entity.get()));
+                } catch (ToJsonException e) {
+                    LOGGER.error(e.getMessage(), e);
+                }
+            }
+        }
+        return bytes;
+    }
+
+    public Optional<P> getEntity() {
+        return entity;
+    }
+
+    public Boolean isSerialized() {
+        return Objects.nonNull(bytes);
+    }
+}
@@ -0,0 +1,12 @@
+package net.tokensmith.otter.translator.config;
+
+
+/**
+ * How json serialization and deserialization is accelerated.
+ *
+ * NONE uses reflection.
+ * AFTERBURNER generates bytecode for accessors and constructors.
+ */
+public enum JsonAcceleration {
+    NONE, AFTERBURNER
+}
@@ -7,15 +7,35 @@ import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.PropertyNamingStrategy;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
 import net.tokensmith.otter.translator.JsonTranslator;
 
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Makes the json mapper, readers and writer. They are made once for each factory, factories that use the default
+ * acceleration share them.
+ */
 public class TranslatorAppFactory {
+    public static final JsonAcceleration DEFAULT_ACCELERATION = JsonAcceleration.NONE;
+    private static final Jackson DEFAULT_JACKSON = new Jackson();
 
-    private static ObjectMapper objectMapper;
-    private static ObjectReader objectReader;
-    private static ObjectWriter objectWriter;
+    private JsonAcceleration acceleration;
+    private Jackson jackson;
+
+    public TranslatorAppFactory() {
+        this(DEFAULT_ACCELERATION);
+    }
+
+    /**
+     * @param acceleration how json is accelerated, null for DEFAULT_ACCELERATION
+     */
+    public TranslatorAppFactory(JsonAcceleration acceleration) {
+        this.acceleration = Objects.nonNull(acceleration) ? acceleration : DEFAULT_ACCELERATION;
+        this.jackson = DEFAULT_ACCELERATION.equals(this.acceleration) ? DEFAULT_JACKSON : new Jackson();
+    }
 
     /**
      * Make a JsonTranslator
@@ -27,34 +47,59 @@ public class TranslatorAppFactory {
      */
     public <T> JsonTranslator<T> jsonTranslator(Class<T> clazz) {
         return new JsonTranslator<T>(
-                objectReader().forType(clazz), objectWriter(), clazz
+                objectReader(clazz), objectWriter(), clazz
         );
     }
 
+    public JsonAcceleration getAcceleration() {
+        return acceleration;
+    }
+
+    /**
+     * @param clazz Class to be deserialized
+     * @return the cached reader for the class
+     */
+    public ObjectReader objectReader(Class<?> clazz) {
+        return jackson.objectReaders.computeIfAbsent(clazz, c -> objectReader().forType(c));
+    }
+
     public ObjectReader objectReader() {
-        if (Objects.isNull(objectReader)) {
-            objectReader = objectMapper().reader();
+        if (Objects.isNull(jackson.objectReader)) {
+            jackson.objectReader = objectMapper().reader();
         }
-        return objectReader;
+        return jackson.objectReader;
     }
 
     public ObjectWriter objectWriter() {
-        if (Objects.isNull(objectWriter)) {
-            objectWriter = objectMapper().writer();
+        if (Objects.isNull(jackson.objectWriter)) {
+            jackson.objectWriter = objectMapper().writer();
         }
-        return objectWriter;
+        return jackson.objectWriter;
     }
 
     public ObjectMapper objectMapper() {
-        if (Objects.isNull(objectMapper)) {
-            objectMapper = new ObjectMapper()
+        if (Objects.isNull(jackson.objectMapper)) {
+            ObjectMapper mapper = new ObjectMapper()
                     .setPropertyNamingStrategy(
                             PropertyNamingStrategy.SNAKE_CASE
                     )
                     .configure(JsonParser.Feature.STRICT_DUPLICATE_DETECTION, true)
                     .registerModule(new Jdk8Module())
                     .registerModule(new JavaTimeModule());
+
+            if (JsonAcceleration.AFTERBURNER.equals(acceleration)) {
+                mapper.registerModule(new AfterburnerModule());
+            }
+            jackson.objectMapper = mapper;
         }
-        return objectMapper;
+        return jackson.objectMapper;
+    }
+
+    protected static class Jackson {
+        private ObjectMapper objectMapper;
+        private ObjectReader objectReader;
+        private ObjectWriter objectWriter;
+        // readers for a payload class, shared by every translator of the class.
+        private Map<Class<?>, ObjectReader> objectReaders = new ConcurrentHashMap<>();
     }
 }
@@ -282,6 +282,7 @@ public class FixtureFactory {
             .authority("tokensmith.net")
             .port(443)
             .pathWithParams("")
+            .normalizedPath("")
             .contentType(html)
             .accept(html)
             .headers(new HashMap<>())
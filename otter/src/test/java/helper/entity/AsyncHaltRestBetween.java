@@ -0,0 +1,21 @@
+package helper.entity;
+
+import helper.entity.model.DummySession;
+import helper.entity.model.DummyUser;
+import net.tokensmith.otter.controller.entity.StatusCode;
+import net.tokensmith.otter.dispatch.entity.RestBtwnRequest;
+import net.tokensmith.otter.dispatch.entity.RestBtwnResponse;
+import net.tokensmith.otter.router.entity.Method;
+import net.tokensmith.otter.router.entity.between.AsyncRestBetween;
+import net.tokensmith.otter.router.exception.HaltException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+public class AsyncHaltRestBetween implements AsyncRestBetween<DummySession, DummyUser> {
+    @Override
+    public CompletionStage<Void> processAsync(Method method, RestBtwnRequest<DummySession, DummyUser> request, RestBtwnResponse response) {
+        response.setStatusCode(StatusCode.UNAUTHORIZED);
+        return CompletableFuture.failedFuture(new HaltException("Test Halt"));
+    }
+}
@@ -0,0 +1,41 @@
+package helper.entity;
+
+import helper.entity.model.DummyPayload;
+import helper.entity.model.DummyUser;
+import net.tokensmith.otter.controller.AsyncRestResource;
+import net.tokensmith.otter.controller.entity.StatusCode;
+import net.tokensmith.otter.controller.entity.request.RestRequest;
+import net.tokensmith.otter.controller.entity.response.RestResponse;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Its get completes when release is called, its post fails when release is called.
+ */
+public class AsyncOkRestResource extends AsyncRestResource<DummyUser, DummyPayload> {
+    private CompletableFuture<Void> gate = new CompletableFuture<>();
+
+    public void release() {
+        gate.complete(null);
+    }
+
+    @Override
+    public CompletionStage<RestResponse<DummyPayload>> getAsync(RestRequest<DummyUser, DummyPayload> request, RestResponse<DummyPayload> response) {
+        return gate.thenApply(released -> {
+            DummyPayload payload = new DummyPayload();
+            payload.setInteger(123);
+            response.setStatusCode(StatusCode.OK);
+            response.setPayload(Optional.of(payload));
+            return response;
+        });
+    }
+
+    @Override
+    public CompletionStage<RestResponse<DummyPayload>> postAsync(RestRequest<DummyUser, DummyPayload> request, RestResponse<DummyPayload> response) {
+        return gate.thenApply(released -> {
+            throw new RuntimeException("backend failed");
+        });
+    }
+}
@@ -0,0 +1,29 @@
+package helper.entity.model;
+
+
+import net.tokensmith.otter.controller.entity.DefaultSession;
+
+public class DummyTrackedSession extends DefaultSession {
+    private String accessToken;
+
+    public DummyTrackedSession() {
+    }
+
+    public DummyTrackedSession(DummyTrackedSession from) {
+        this.accessToken = from.accessToken;
+    }
+
+    @Override
+    public Boolean isTracked() {
+        return true;
+    }
+
+    public String getAccessToken() {
+        return accessToken;
+    }
+
+    public void setAccessToken(String accessToken) {
+        this.accessToken = accessToken;
+        markDirty();
+    }
+}
@@ -0,0 +1,58 @@
+package helper.fake;
+
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+
+/**
+ * Serves data in reads of at most maxRead bytes. It is not ready once readable bytes have been
+ * read, use readable to let more bytes be read like the container would before onDataAvailable.
+ */
+public class FakeServletInputStream extends ServletInputStream {
+    private byte[] data;
+    private int maxRead;
+    private int position = 0;
+    private int readable;
+
+    public FakeServletInputStream(byte[] data, int maxRead) {
+        this.data = data;
+        this.maxRead = maxRead;
+        this.readable = data.length;
+    }
+
+    public void readable(int readable) {
+        this.readable = Math.min(readable, data.length);
+    }
+
+    @Override
+    public boolean isFinished() {
+        return position == data.length;
+    }
+
+    @Override
+    public boolean isReady() {
+        return position < readable || isFinished();
+    }
+
+    @Override
+    public void setReadListener(ReadListener readListener) {
+    }
+
+    @Override
+    public int read() {
+        if (isFinished()) {
+            return -1;
+        }
+        return data[position++];
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+        if (isFinished()) {
+            return -1;
+        }
+        int n = Math.min(Math.min(len, maxRead), readable - position);
+        System.arraycopy(data, position, b, off, n);
+        position += n;
+        return n;
+    }
+}
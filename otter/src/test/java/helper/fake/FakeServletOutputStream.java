@@ -0,0 +1,57 @@
+package helper.fake;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records what is written. It is ready for readyWrites writes, use ready to allow more
+ * like the container would before onWritePossible.
+ */
+public class FakeServletOutputStream extends ServletOutputStream {
+    private ByteArrayOutputStream written = new ByteArrayOutputStream();
+    private List<Integer> writes = new ArrayList<>();
+    private int readyWrites;
+
+    public FakeServletOutputStream(int readyWrites) {
+        this.readyWrites = readyWrites;
+    }
+
+    public void ready(int readyWrites) {
+        this.readyWrites = readyWrites;
+    }
+
+    @Override
+    public boolean isReady() {
+        return readyWrites > 0;
+    }
+
+    @Override
+    public void setWriteListener(WriteListener writeListener) {
+    }
+
+    @Override
+    public void write(int b) {
+        write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        if (readyWrites <= 0) {
+            throw new IllegalStateException("not ready");
+        }
+        readyWrites--;
+        written.write(b, off, len);
+        writes.add(len);
+    }
+
+    public byte[] getWritten() {
+        return written.toByteArray();
+    }
+
+    public List<Integer> getWrites() {
+        return writes;
+    }
+}
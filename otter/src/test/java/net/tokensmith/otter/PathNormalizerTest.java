@@ -0,0 +1,82 @@
+package net.tokensmith.otter;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+
+public class PathNormalizerTest {
+
+    private PathNormalizer subject;
+
+    @Before
+    public void setUp() {
+        subject = new PathNormalizer();
+    }
+
+    @Test
+    public void runWhenNoPrefixAndNoQueryShouldBeSame() {
+        String requestUri = "/foo/bar";
+
+        String actual = subject.run(requestUri, null);
+
+        assertThat(actual, is("/foo/bar"));
+    }
+
+    @Test
+    public void runWhenPrefixShouldRemovePrefix() {
+        String actual = subject.run("/app/foo/bar", null);
+
+        assertThat(actual, is("/foo/bar"));
+    }
+
+    @Test
+    public void runWhenOnlyPrefixShouldBeEmpty() {
+        String actual = subject.run("/app", null);
+
+        assertThat(actual, is(""));
+    }
+
+    @Test
+    public void runWhenPrefixIsNotFirstSegmentShouldKeepIt() {
+        assertThat(subject.run("/apple", null), is("/apple"));
+        assertThat(subject.run("/foo/app/bar", null), is("/foo/app/bar"));
+    }
+
+    @Test
+    public void runWhenQueryStringShouldAppendIt() {
+        String actual = subject.run("/app/foo", "redirect=/app/bar&baz=%7E");
+
+        assertThat(actual, is("/foo?redirect=/app/bar&baz=%7E"));
+    }
+
+    @Test
+    public void runWhenEmptyQueryStringShouldAppendDelimiter() {
+        String actual = subject.run("/foo", "");
+
+        assertThat(actual, is("/foo?"));
+    }
+
+    @Test
+    public void runWhenPercentEncodedUnreservedShouldDecode() {
+        String actual = subject.run("/app/%7Euser/%66oo%2d%5F%2E", null);
+
+        assertThat(actual, is("/~user/foo-_."));
+    }
+
+    @Test
+    public void runWhenPercentEncodedReservedShouldNotDecode() {
+        String actual = subject.run("/foo%2Fbar/%20baz%3F", null);
+
+        assertThat(actual, is("/foo%2Fbar/%20baz%3F"));
+    }
+
+    @Test
+    public void runWhenPercentEncodingIsInvalidShouldNotDecode() {
+        assertThat(subject.run("/foo%zz", null), is("/foo%zz"));
+        assertThat(subject.run("/foo%7", null), is("/foo%7"));
+        assertThat(subject.run("/foo%", null), is("/foo%"));
+    }
+}
@@ -0,0 +1,127 @@
+package net.tokensmith.otter.controller.entity;
+
+import helper.FixtureFactory;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class CookieJarTest {
+
+    public Map<String, Cookie> requestCookies() {
+        Map<String, Cookie> cookies = new HashMap<>();
+        cookies.put("session", FixtureFactory.makeCookie("session"));
+        cookies.put("csrf", FixtureFactory.makeCookie("csrf"));
+        return cookies;
+    }
+
+    @Test
+    public void isChangedWhenNotTouchedShouldBeFalse() {
+        CookieJar subject = new CookieJar(requestCookies());
+
+        assertThat(subject.size(), is(2));
+        assertThat(subject.isChanged("session"), is(false));
+        assertThat(subject.isRemoved("session"), is(false));
+        assertThat(subject.getTouched().size(), is(0));
+    }
+
+    @Test
+    public void isChangedWhenSameCookiePutShouldBeFalse() {
+        CookieJar subject = new CookieJar(requestCookies());
+
+        subject.put("session", subject.get("session"));
+
+        assertThat(subject.isChanged("session"), is(false));
+    }
+
+    @Test
+    public void isChangedWhenOtherCookiePutShouldBeTrue() {
+        Map<String, Cookie> cookies = requestCookies();
+        Cookie original = cookies.get("session");
+        CookieJar subject = new CookieJar(cookies);
+
+        Cookie replacement = FixtureFactory.makeCookie("session");
+        subject.put("session", replacement);
+
+        assertThat(subject.isChanged("session"), is(true));
+        assertThat(subject.isRemoved("session"), is(false));
+        assertThat(subject.getOriginal("session"), is(sameInstance(original)));
+        assertThat(cookies.get("session"), is(sameInstance(replacement)));
+    }
+
+    @Test
+    public void isChangedWhenSetterCalledShouldBeTrue() {
+        CookieJar subject = new CookieJar(requestCookies());
+
+        subject.get("session").setMaxAge(0);
+
+        assertThat(subject.isChanged("session"), is(true));
+        assertThat(subject.isMutated("session"), is(true));
+        assertThat(subject.isRemoved("session"), is(false));
+        assertThat(subject.isChanged("csrf"), is(false));
+        assertThat(subject.getTouched().size(), is(0));
+        assertThat(subject.getChanged().size(), is(1));
+        assertThat(subject.getChanged().contains("session"), is(true));
+    }
+
+    @Test
+    public void isChangedWhenSetterCalledWithSameValueShouldBeFalse() {
+        CookieJar subject = new CookieJar(requestCookies());
+        Cookie session = subject.get("session");
+
+        session.setValue(session.getValue());
+        session.setSecure(session.isSecure());
+
+        assertThat(subject.isChanged("session"), is(false));
+        assertThat(subject.getChanged().size(), is(0));
+    }
+
+    @Test
+    public void isChangedWhenAddedShouldBeTrue() {
+        CookieJar subject = new CookieJar(requestCookies());
+
+        subject.put("new", FixtureFactory.makeCookie("new"));
+
+        assertThat(subject.isChanged("new"), is(true));
+        assertThat(subject.isRemoved("new"), is(false));
+        assertThat(subject.getOriginal("new"), is(nullValue()));
+    }
+
+    @Test
+    public void isRemovedWhenRemovedShouldBeTrue() {
+        CookieJar subject = new CookieJar(requestCookies());
+
+        subject.remove("csrf");
+
+        assertThat(subject.isChanged("csrf"), is(true));
+        assertThat(subject.isRemoved("csrf"), is(true));
+        assertThat(subject.containsKey("csrf"), is(false));
+    }
+
+    @Test
+    public void isRemovedWhenAddedThenRemovedShouldBeFalse() {
+        CookieJar subject = new CookieJar(requestCookies());
+
+        subject.put("new", FixtureFactory.makeCookie("new"));
+        subject.remove("new");
+
+        assertThat(subject.isChanged("new"), is(false));
+        assertThat(subject.isRemoved("new"), is(false));
+    }
+
+    @Test
+    public void clearShouldRemoveAll() {
+        CookieJar subject = new CookieJar(requestCookies());
+
+        subject.clear();
+
+        assertThat(subject.isEmpty(), is(true));
+        assertThat(subject.isRemoved("session"), is(true));
+        assertThat(subject.isRemoved("csrf"), is(true));
+    }
+}
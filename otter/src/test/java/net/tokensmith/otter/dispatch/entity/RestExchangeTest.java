@@ -0,0 +1,88 @@
+package net.tokensmith.otter.dispatch.entity;
+
+import helper.FixtureFactory;
+import helper.entity.model.DummyPayload;
+import helper.entity.model.DummySession;
+import helper.entity.model.DummyUser;
+import net.tokensmith.otter.controller.entity.StatusCode;
+import net.tokensmith.otter.controller.entity.response.RestResponse;
+import net.tokensmith.otter.router.entity.io.Answer;
+import net.tokensmith.otter.router.entity.io.Ask;
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class RestExchangeTest {
+
+    @Test
+    public void viewsShouldBeMadeOnce() {
+        RestExchange<DummySession, DummyUser, DummyPayload> subject = new RestExchange<>(FixtureFactory.makeAsk(), FixtureFactory.makeAnswer());
+
+        assertThat(subject.getBtwnRequest(), is(sameInstance(subject.getBtwnRequest())));
+        assertThat(subject.getRequest(), is(sameInstance(subject.getRequest())));
+        assertThat(subject.getBtwnResponse(), is(sameInstance(subject.getBtwnResponse())));
+        assertThat(subject.getResponse(), is(sameInstance(subject.getResponse())));
+    }
+
+    @Test
+    public void requestViewsShouldShareState() {
+        Ask ask = FixtureFactory.makeAsk();
+        RestExchange<DummySession, DummyUser, DummyPayload> subject = new RestExchange<>(ask, FixtureFactory.makeAnswer());
+        Optional<DummyUser> user = Optional.of(new DummyUser());
+        Optional<DummyPayload> payload = Optional.of(new DummyPayload());
+
+        subject.getBtwnRequest().setUser(user);
+        subject.setPayload(payload);
+
+        assertThat(subject.getRequest().getUser(), is(sameInstance(user)));
+        assertThat(subject.getRequest().getPayload(), is(sameInstance(payload)));
+        assertThat(subject.getRequest().getMethod(), is(ask.getMethod()));
+        assertThat(subject.getRequest().getHeaders(), is(sameInstance(ask.getHeaders())));
+        assertThat(subject.getBtwnRequest().getCookies(), is(sameInstance(ask.getCookies())));
+    }
+
+    @Test
+    public void responseViewsShouldWriteToAnswer() {
+        Answer answer = FixtureFactory.makeAnswer();
+        RestExchange<DummySession, DummyUser, DummyPayload> subject = new RestExchange<>(FixtureFactory.makeAsk(), answer);
+
+        subject.getBtwnResponse().getHeaders().put("X-Before", "before");
+        subject.getResponse().setStatusCode(StatusCode.CREATED);
+
+        assertThat(answer.getStatusCode(), is(StatusCode.CREATED));
+        assertThat(subject.getBtwnResponse().getStatusCode(), is(StatusCode.CREATED));
+        assertThat(subject.getResponse().getHeaders().get("X-Before"), is("before"));
+    }
+
+    @Test
+    public void mergeWhenSameResponseShouldReturnIt() {
+        RestExchange<DummySession, DummyUser, DummyPayload> subject = new RestExchange<>(FixtureFactory.makeAsk(), FixtureFactory.makeAnswer());
+        RestResponse<DummyPayload> response = subject.getResponse();
+
+        RestResponse<DummyPayload> actual = subject.merge(response);
+
+        assertThat(actual, is(sameInstance(response)));
+    }
+
+    @Test
+    public void mergeWhenOtherResponseShouldCopyIt() {
+        Answer answer = FixtureFactory.makeAnswer();
+        RestExchange<DummySession, DummyUser, DummyPayload> subject = new RestExchange<>(FixtureFactory.makeAsk(), answer);
+        RestResponse<DummyPayload> from = FixtureFactory.makeRestResponse();
+        from.setStatusCode(StatusCode.ACCEPTED);
+        Optional<DummyPayload> payload = Optional.of(new DummyPayload());
+        from.setPayload(payload);
+
+        RestResponse<DummyPayload> actual = subject.merge(from);
+
+        assertThat(actual, is(sameInstance(subject.getResponse())));
+        assertThat(actual.getStatusCode(), is(StatusCode.ACCEPTED));
+        assertThat(actual.getHeaders(), is(sameInstance(from.getHeaders())));
+        assertThat(actual.getPayload(), is(sameInstance(payload)));
+        assertThat(answer.getStatusCode(), is(StatusCode.ACCEPTED));
+    }
+}
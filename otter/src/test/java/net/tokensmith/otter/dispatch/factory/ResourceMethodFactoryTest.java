@@ -0,0 +1,145 @@
+package net.tokensmith.otter.dispatch.factory;
+
+import helper.FixtureFactory;
+import helper.entity.model.DummyPayload;
+import helper.entity.model.DummySession;
+import helper.entity.model.DummyUser;
+import net.tokensmith.otter.controller.AsyncRestResource;
+import net.tokensmith.otter.controller.Resource;
+import net.tokensmith.otter.controller.RestResource;
+import net.tokensmith.otter.controller.entity.StatusCode;
+import net.tokensmith.otter.controller.entity.request.Request;
+import net.tokensmith.otter.controller.entity.request.RestRequest;
+import net.tokensmith.otter.controller.entity.response.Response;
+import net.tokensmith.otter.controller.entity.response.RestResponse;
+import net.tokensmith.otter.dispatch.AsyncRestResourceMethod;
+import net.tokensmith.otter.dispatch.ResourceMethod;
+import net.tokensmith.otter.dispatch.RestResourceMethod;
+import net.tokensmith.otter.router.entity.Method;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ResourceMethodFactoryTest {
+    private ResourceMethodFactory subject;
+
+    @Before
+    public void setUp() {
+        subject = new ResourceMethodFactory();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void makeWhenPostShouldBindPost() {
+        Resource<DummySession, DummyUser> resource = mock(Resource.class);
+        Request<DummySession, DummyUser> request = FixtureFactory.makeRequest();
+        // bound to post so the request's method is not used.
+        request.setMethod(Method.GET);
+        Response<DummySession> response = FixtureFactory.makeResponse();
+        when(resource.post(request, response)).thenReturn(response);
+
+        ResourceMethod<DummySession, DummyUser> actual = subject.make(resource, Method.POST);
+        Response<DummySession> actualResponse = actual.invoke(request, response);
+
+        assertThat(actualResponse, is(response));
+        verify(resource).post(request, response);
+        verify(resource, never()).get(request, response);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void makeWhenNoMethodShouldUseRequestMethod() {
+        Resource<DummySession, DummyUser> resource = mock(Resource.class);
+        Request<DummySession, DummyUser> request = FixtureFactory.makeRequest();
+        request.setMethod(Method.DELETE);
+        Response<DummySession> response = FixtureFactory.makeResponse();
+        when(resource.delete(request, response)).thenReturn(response);
+
+        ResourceMethod<DummySession, DummyUser> actual = subject.make(resource);
+        Response<DummySession> actualResponse = actual.invoke(request, response);
+
+        assertThat(actualResponse, is(response));
+        verify(resource).delete(request, response);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void makeErrorResourcesShouldBindEach() {
+        Resource<DummySession, DummyUser> resource = mock(Resource.class);
+        Map<StatusCode, Resource<DummySession, DummyUser>> errorResources = new HashMap<>();
+        errorResources.put(StatusCode.SERVER_ERROR, resource);
+
+        Map<StatusCode, ResourceMethod<DummySession, DummyUser>> actual = subject.make(errorResources, Method.PUT);
+
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(StatusCode.SERVER_ERROR), is(notNullValue()));
+        assertThat(actual.get(StatusCode.NOT_FOUND), is(nullValue()));
+
+        Request<DummySession, DummyUser> request = FixtureFactory.makeRequest();
+        Response<DummySession> response = FixtureFactory.makeResponse();
+        actual.get(StatusCode.SERVER_ERROR).invoke(request, response);
+        verify(resource).put(request, response);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void makeRestWhenPatchShouldBindPatch() {
+        RestResource<DummyUser, DummyPayload> resource = mock(RestResource.class);
+        RestRequest<DummyUser, DummyPayload> request = FixtureFactory.makeRestRequest();
+        request.setMethod(Method.GET);
+        RestResponse<DummyPayload> response = FixtureFactory.makeRestResponse();
+        when(resource.patch(request, response)).thenReturn(response);
+
+        RestResourceMethod<DummyUser, DummyPayload> actual = subject.makeRest(resource, Method.PATCH);
+        RestResponse<DummyPayload> actualResponse = actual.invoke(request, response);
+
+        assertThat(actualResponse, is(response));
+        verify(resource).patch(request, response);
+        verify(resource, never()).get(request, response);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void makeRestWhenNoMethodShouldUseRequestMethod() {
+        RestResource<DummyUser, DummyPayload> resource = mock(RestResource.class);
+        RestRequest<DummyUser, DummyPayload> request = FixtureFactory.makeRestRequest();
+        request.setMethod(Method.HEAD);
+        RestResponse<DummyPayload> response = FixtureFactory.makeRestResponse();
+        when(resource.head(request, response)).thenReturn(response);
+
+        RestResourceMethod<DummyUser, DummyPayload> actual = subject.makeRest(resource, null);
+        RestResponse<DummyPayload> actualResponse = actual.invoke(request, response);
+
+        assertThat(actualResponse, is(response));
+        verify(resource).head(request, response);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void makeAsyncRestWhenNoMethodShouldUseRequestMethod() {
+        AsyncRestResource<DummyUser, DummyPayload> resource = mock(AsyncRestResource.class);
+        RestRequest<DummyUser, DummyPayload> request = FixtureFactory.makeRestRequest();
+        request.setMethod(Method.PUT);
+        RestResponse<DummyPayload> response = FixtureFactory.makeRestResponse();
+        when(resource.putAsync(request, response)).thenReturn(CompletableFuture.completedFuture(response));
+
+        AsyncRestResourceMethod<DummyUser, DummyPayload> actual = subject.makeAsyncRest(resource);
+        RestResponse<DummyPayload> actualResponse = actual.invoke(request, response).toCompletableFuture().join();
+
+        assertThat(actualResponse, is(response));
+        verify(resource).putAsync(request, response);
+        verify(resource, never()).getAsync(request, response);
+    }
+}
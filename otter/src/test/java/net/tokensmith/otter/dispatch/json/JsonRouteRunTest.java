@@ -1,6 +1,8 @@
 package net.tokensmith.otter.dispatch.json;
 
 import helper.FixtureFactory;
+import helper.entity.AsyncHaltRestBetween;
+import helper.entity.AsyncOkRestResource;
 import helper.entity.HaltRestBetween;
 import helper.entity.RawPayloadRestResource;
 import helper.entity.model.AlternatePayload;
@@ -11,9 +13,9 @@ import net.tokensmith.otter.config.OtterAppFactory;
 import net.tokensmith.otter.controller.entity.ClientError;
 import net.tokensmith.otter.controller.entity.StatusCode;
 import net.tokensmith.otter.controller.entity.request.Request;
+import net.tokensmith.otter.controller.entity.response.RestResponse;
 import net.tokensmith.otter.controller.error.rest.BadRequestRestResource;
 import net.tokensmith.otter.dispatch.translator.RestErrorHandler;
-import net.tokensmith.otter.dispatch.translator.rest.RestBtwnRequestTranslator;
 import net.tokensmith.otter.dispatch.translator.rest.RestBtwnResponseTranslator;
 import net.tokensmith.otter.dispatch.translator.rest.RestErrorRequestTranslator;
 import net.tokensmith.otter.dispatch.translator.rest.RestErrorResponseTranslator;
@@ -24,7 +26,9 @@ import net.tokensmith.otter.router.entity.RestRoute;
 import net.tokensmith.otter.router.entity.io.Answer;
 import net.tokensmith.otter.router.entity.io.Ask;
 import net.tokensmith.otter.router.exception.HaltException;
+import net.tokensmith.otter.translator.JsonTokenizer;
 import net.tokensmith.otter.translator.JsonTranslator;
+import net.tokensmith.otter.translator.LazyPayload;
 import net.tokensmith.otter.translator.config.TranslatorAppFactory;
 import org.junit.Test;
 
@@ -32,7 +36,11 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.junit.Assert.assertThat;
@@ -55,8 +63,6 @@ public class JsonRouteRunTest {
 
     public JsonRouteRun<DummySession, DummyUser, DummyPayload> subject(RestRoute<DummySession, DummyUser, DummyPayload> route) {
         RestResponseTranslator<DummyPayload> restResponseTranslator = new RestResponseTranslator<>();
-        RestRequestTranslator<DummySession, DummyUser, DummyPayload> restRequestTranslator = new RestRequestTranslator<>();
-        RestBtwnRequestTranslator<DummySession, DummyUser, DummyPayload> restBtwnRequestTranslator = new RestBtwnRequestTranslator<>();
         RestBtwnResponseTranslator<DummyPayload> restBtwnResponseTranslator = new RestBtwnResponseTranslator<>();
         JsonTranslator<DummyPayload> jsonTranslator = appFactory.jsonTranslator(DummyPayload.class);
 
@@ -72,8 +78,6 @@ public class JsonRouteRunTest {
         JsonRouteRun<DummySession, DummyUser, DummyPayload> subject = new JsonRouteRun<>(
                 route,
                 restResponseTranslator,
-                restRequestTranslator,
-                restBtwnRequestTranslator,
                 restBtwnResponseTranslator,
                 jsonTranslator,
                 new OtterAppFactory().restValidate(),
@@ -307,4 +311,188 @@ public class JsonRouteRunTest {
         Optional<byte[]> actual = subject.payloadToBytes(Optional.empty());
         assertThat(actual.isPresent(), is(false));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void setResponsePayloadWhenNotDirtyShouldUseResourcePayload() throws Exception {
+        RestRoute<DummySession, DummyUser, DummyPayload> route = okRestRoute();
+        JsonRouteRun<DummySession, DummyUser, DummyPayload> subject = subject(route);
+
+        DummyPayload dummyPayload = new DummyPayload();
+        dummyPayload.setInteger(123);
+        LazyPayload<DummyPayload> payload = new LazyPayload<>(Optional.of(dummyPayload), appFactory.jsonTranslator(DummyPayload.class));
+        RestResponse<DummyPayload> response = FixtureFactory.makeRestResponse();
+
+        subject.setResponsePayload(payload, payload, response);
+
+        assertThat(response.getPayload().get(), is(dummyPayload));
+        assertThat(response.getLazyPayload(), is(payload));
+        // nothing read the payload so it has not been serialized.
+        assertThat(payload.isSerialized(), is(false));
+    }
+
+    @Test
+    public void setResponsePayloadWhenDirtyShouldUseAfterPayload() throws Exception {
+        RestRoute<DummySession, DummyUser, DummyPayload> route = okRestRoute();
+        JsonRouteRun<DummySession, DummyUser, DummyPayload> subject = subject(route);
+
+        DummyPayload dummyPayload = new DummyPayload();
+        dummyPayload.setInteger(123);
+        LazyPayload<DummyPayload> payload = new LazyPayload<>(Optional.of(dummyPayload), appFactory.jsonTranslator(DummyPayload.class));
+        byte[] afterBytes = "{\"integer\":456}".getBytes();
+        LazyPayload<DummyPayload> afterPayload = new LazyPayload<>(Optional.empty(), Optional.of(afterBytes));
+        RestResponse<DummyPayload> response = FixtureFactory.makeRestResponse();
+
+        subject.setResponsePayload(payload, afterPayload, response);
+
+        assertThat(response.getPayload().get().getInteger(), is(456));
+        assertThat(response.getLazyPayload().getBytes().get(), is(afterBytes));
+        assertThat(payload.isSerialized(), is(false));
+    }
+
+    @Test
+    public void isPayloadDirtyWhenAfterPayloadEmptyShouldBeFalse() {
+        RestRoute<DummySession, DummyUser, DummyPayload> route = okRestRoute();
+        JsonRouteRun<DummySession, DummyUser, DummyPayload> subject = subject(route);
+
+        DummyPayload dummyPayload = new DummyPayload();
+        LazyPayload<DummyPayload> payload = new LazyPayload<>(Optional.of(dummyPayload), appFactory.jsonTranslator(DummyPayload.class));
+        LazyPayload<DummyPayload> afterPayload = new LazyPayload<>(Optional.empty(), Optional.empty());
+
+        assertThat(subject.isPayloadDirty(payload, afterPayload), is(false));
+    }
+
+    @Test
+    public void whenPostAndBodyTokensShouldReturnOk() throws Exception {
+        RestRoute<DummySession, DummyUser, DummyPayload> route = okRestRoute();
+        JsonRouteRun<DummySession, DummyUser, DummyPayload> subject = subject(route);
+
+        byte[] body = "{\"integer\": 123}".getBytes();
+        JsonTokenizer tokens = new JsonTokenizer(appFactory.objectMapper().getFactory());
+        tokens.feed(body, 0, body.length);
+        tokens.end();
+
+        Ask ask = FixtureFactory.makeAsk();
+        ask.setMethod(Method.POST);
+        ask.setBodyTokens(Optional.of(tokens));
+
+        Answer actual = subject.run(ask, FixtureFactory.makeAnswer());
+
+        assertThat(actual.getStatusCode(), is(StatusCode.CREATED));
+    }
+
+    @Test
+    public void whenPostAndBodyTokensMalformedShouldReturnBadRequest() throws Exception {
+        RestRoute<DummySession, DummyUser, DummyPayload> route = okRestRoute();
+        JsonRouteRun<DummySession, DummyUser, DummyPayload> subject = subject(route);
+
+        byte[] body = "{\"integer\": ".getBytes();
+        JsonTokenizer tokens = new JsonTokenizer(appFactory.objectMapper().getFactory());
+        tokens.feed(body, 0, body.length);
+        tokens.end();
+
+        Ask ask = FixtureFactory.makeAsk();
+        ask.setMethod(Method.POST);
+        ask.setBodyTokens(Optional.of(tokens));
+
+        Answer actual = subject.run(ask, FixtureFactory.makeAnswer());
+
+        assertThat(actual.getStatusCode(), is(StatusCode.BAD_REQUEST));
+    }
+
+    @Test
+    public void runAsyncWhenAsyncResourceShouldCompleteWhenResourceCompletes() throws Exception {
+        AsyncOkRestResource resource = new AsyncOkRestResource();
+        RestRoute<DummySession, DummyUser, DummyPayload> route = new RestRoute<>(resource, new ArrayList<>(), new ArrayList<>());
+        JsonRouteRun<DummySession, DummyUser, DummyPayload> subject = subject(route);
+
+        Ask ask = FixtureFactory.makeAsk();
+        ask.setMethod(Method.GET);
+
+        CompletableFuture<Answer> actual = subject.runAsync(ask, FixtureFactory.makeAnswer()).toCompletableFuture();
+
+        assertThat(actual.isDone(), is(false));
+
+        resource.release();
+
+        assertThat(actual.isDone(), is(true));
+        assertThat(actual.get().getStatusCode(), is(StatusCode.OK));
+        assertThat(new String(actual.get().getPayload().get()), containsString("\"integer\":123"));
+    }
+
+    @Test
+    public void runWhenAsyncResourceShouldWait() throws Exception {
+        AsyncOkRestResource resource = new AsyncOkRestResource();
+        resource.release();
+        RestRoute<DummySession, DummyUser, DummyPayload> route = new RestRoute<>(resource, new ArrayList<>(), new ArrayList<>());
+        JsonRouteRun<DummySession, DummyUser, DummyPayload> subject = subject(route);
+
+        Ask ask = FixtureFactory.makeAsk();
+        ask.setMethod(Method.GET);
+
+        Answer actual = subject.run(ask, FixtureFactory.makeAnswer());
+
+        assertThat(actual.getStatusCode(), is(StatusCode.OK));
+    }
+
+    @Test
+    public void runAsyncWhenAsyncResourceFailsShouldCompleteWithHalt() throws Exception {
+        AsyncOkRestResource resource = new AsyncOkRestResource();
+        RestRoute<DummySession, DummyUser, DummyPayload> route = new RestRoute<>(resource, new ArrayList<>(), new ArrayList<>());
+        JsonRouteRun<DummySession, DummyUser, DummyPayload> subject = subject(route);
+
+        byte[] body = "{\"integer\": 123}".getBytes();
+        Ask ask = FixtureFactory.makeAsk();
+        ask.setMethod(Method.POST);
+        ask.setBody(Optional.of(body));
+
+        CompletableFuture<Answer> actual = subject.runAsync(ask, FixtureFactory.makeAnswer()).toCompletableFuture();
+        resource.release();
+
+        // there is no server error handler.
+        Throwable cause = null;
+        try {
+            actual.join();
+        } catch (CompletionException e) {
+            cause = e.getCause();
+        }
+        assertThat(cause, instanceOf(HaltException.class));
+    }
+
+    @Test
+    public void runAsyncWhenAsyncBetweenHaltsShouldNotRunResource() throws Exception {
+        AsyncOkRestResource resource = new AsyncOkRestResource();
+        resource.release();
+        RestRoute<DummySession, DummyUser, DummyPayload> route = new RestRoute<>(resource, new ArrayList<>(), new ArrayList<>());
+        route.getBefore().add(new AsyncHaltRestBetween());
+        JsonRouteRun<DummySession, DummyUser, DummyPayload> subject = subject(route);
+
+        Ask ask = FixtureFactory.makeAsk();
+        ask.setMethod(Method.GET);
+        Answer answer = FixtureFactory.makeAnswer();
+
+        CompletableFuture<Answer> actual = subject.runAsync(ask, answer).toCompletableFuture();
+
+        Throwable cause = null;
+        try {
+            actual.join();
+        } catch (CompletionException e) {
+            cause = e.getCause();
+        }
+        assertThat(cause, instanceOf(HaltException.class));
+        assertThat(answer.getStatusCode(), is(StatusCode.UNAUTHORIZED));
+    }
+
+    @Test
+    public void runAsyncWhenRestResourceShouldBeComplete() throws Exception {
+        RestRoute<DummySession, DummyUser, DummyPayload> route = okRestRoute();
+        JsonRouteRun<DummySession, DummyUser, DummyPayload> subject = subject(route);
+
+        Ask ask = FixtureFactory.makeAsk();
+        ask.setMethod(Method.GET);
+
+        CompletableFuture<Answer> actual = subject.runAsync(ask, FixtureFactory.makeAnswer()).toCompletableFuture();
+
+        assertThat(actual.isDone(), is(true));
+        assertThat(actual.get().getStatusCode(), is(StatusCode.OK));
+    }
+}
@@ -5,6 +5,7 @@ import helper.entity.model.DummyPayload;
 import net.tokensmith.otter.controller.entity.response.RestResponse;
 import net.tokensmith.otter.dispatch.entity.RestBtwnResponse;
 import net.tokensmith.otter.router.entity.io.Answer;
+import net.tokensmith.otter.translator.LazyPayload;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -41,7 +42,7 @@ public class RestBtwnResponseTranslatorTest {
     public void toWhenFromIsRestResponse() {
         RestResponse<DummyPayload> from = FixtureFactory.makeRestResponse();
 
-        RestBtwnResponse actual = subject.to(from, Optional.empty());
+        RestBtwnResponse actual = subject.to(from, new LazyPayload<>(Optional.empty(), Optional.empty()));
 
         assertThat(actual, is(notNullValue()));
         assertThat(actual.getStatusCode(), is(from.getStatusCode()));
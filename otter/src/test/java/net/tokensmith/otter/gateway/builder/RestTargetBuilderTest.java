@@ -23,6 +23,7 @@ import java.util.ArrayList;
 
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.core.IsNull.notNullValue;
+import static org.hamcrest.core.IsNull.nullValue;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -45,6 +46,26 @@ public class RestTargetBuilderTest {
         assertTrue(actual.getLabels().contains(Label.AUTH_OPTIONAL));
         assertThat(actual.getBefore().size(), is(0));
         assertThat(actual.getAfter().size(), is(0));
+        assertThat(actual.getMaxBodyBytes(), is(nullValue()));
+        assertThat(actual.getParseWhileReading(), is(false));
+    }
+
+    @Test
+    public void buildWhenMaxBodyBytesShouldBeOk() {
+        RestTarget<DummySession, DummyUser, DummyPayload> actual = subject()
+                .maxBodyBytes(2048L)
+                .build();
+
+        assertThat(actual.getMaxBodyBytes(), is(2048L));
+    }
+
+    @Test
+    public void buildWhenParseWhileReadingShouldBeOk() {
+        RestTarget<DummySession, DummyUser, DummyPayload> actual = subject()
+                .parseWhileReading()
+                .build();
+
+        assertThat(actual.getParseWhileReading(), is(true));
     }
 
     @Test
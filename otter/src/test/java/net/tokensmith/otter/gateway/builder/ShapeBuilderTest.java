@@ -3,7 +3,10 @@ package net.tokensmith.otter.gateway.builder;
 import helper.FixtureFactory;
 import net.tokensmith.jwt.entity.jwk.SymmetricKey;
 import net.tokensmith.otter.config.CookieConfig;
+import net.tokensmith.otter.config.ExecutionConfig;
+import net.tokensmith.otter.config.ExecutionMode;
 import net.tokensmith.otter.gateway.entity.Shape;
+import net.tokensmith.otter.translator.config.JsonAcceleration;
 import org.junit.Test;
 
 import java.util.Map;
@@ -27,6 +30,9 @@ public class ShapeBuilderTest {
                 .rotationSignKeys(rotationSignKeys)
                 .writeChunkSize(1024)
                 .readChunkSize(1024)
+                .maxBodyBytes(2048L)
+                .jsonAcceleration(JsonAcceleration.AFTERBURNER)
+                .execution(new ExecutionConfig(8, 16))
                 .build();
 
         assertThat(actual.getEncKey(), is(encKey));
@@ -35,6 +41,11 @@ public class ShapeBuilderTest {
         assertThat(actual.getRotationSignKeys(), is(rotationSignKeys));
         assertThat(actual.getWriteChunkSize(), is(1024));
         assertThat(actual.getReadChunkSize(), is(1024));
+        assertThat(actual.getMaxBodyBytes(), is(2048L));
+        assertThat(actual.getJsonAcceleration(), is(JsonAcceleration.AFTERBURNER));
+        assertThat(actual.getExecution().getMode(), is(ExecutionMode.POOL));
+        assertThat(actual.getExecution().getThreads(), is(8));
+        assertThat(actual.getExecution().getQueueSize(), is(16));
     }
 
     @Test
@@ -18,6 +18,7 @@ import org.junit.Test;
 
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -41,6 +42,16 @@ public class TargetBuilderTest {
         assertThat(actual.getLabels().size(), is(2));
         assertTrue(actual.getLabels().contains(Label.SESSION_OPTIONAL));
         assertTrue(actual.getLabels().contains(Label.AUTH_OPTIONAL));
+        assertThat(actual.getMaxBodyBytes(), is(nullValue()));
+    }
+
+    @Test
+    public void buildWhenMaxBodyBytesShouldBeOk() {
+        Target<DummySession, DummyUser> actual = subject()
+                .maxBodyBytes(2048L)
+                .build();
+
+        assertThat(actual.getMaxBodyBytes(), is(2048L));
     }
 
     @Test
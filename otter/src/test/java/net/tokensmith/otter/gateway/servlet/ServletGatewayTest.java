@@ -1,6 +1,7 @@
 package net.tokensmith.otter.gateway.servlet;
 
 import helper.FixtureFactory;
+import net.tokensmith.otter.PathNormalizer;
 import net.tokensmith.otter.config.OtterAppFactory;
 import net.tokensmith.otter.controller.entity.DefaultSession;
 import net.tokensmith.otter.controller.entity.DefaultUser;
@@ -11,6 +12,9 @@ import net.tokensmith.otter.gateway.translator.LocationTranslator;
 import net.tokensmith.otter.gateway.translator.RestLocationTranslator;
 import net.tokensmith.otter.router.Dispatcher;
 import net.tokensmith.otter.router.Engine;
+import net.tokensmith.otter.router.entity.Lookup;
+import net.tokensmith.otter.router.entity.MatchedLocation;
+import net.tokensmith.otter.router.entity.Method;
 import net.tokensmith.otter.router.entity.io.Answer;
 import net.tokensmith.otter.router.entity.io.Ask;
 import org.junit.Before;
@@ -23,6 +27,8 @@ import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.core.Is.is;
@@ -31,6 +37,7 @@ import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -67,7 +74,9 @@ public class ServletGatewayTest {
                 mockEngine,
                 locationTranslators,
                 restLocationTranslators,
-                OtterAppFactory.WRITE_CHUNK_SIZE
+                new PathNormalizer(),
+                OtterAppFactory.WRITE_CHUNK_SIZE,
+                OtterAppFactory.MAX_BODY_BYTES
         );
     }
 
@@ -129,4 +138,140 @@ public class ServletGatewayTest {
 
         verify(mockContainerResponse).setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void processRequestAsyncWhenResourceCompletesShouldMerge() throws Exception {
+        HttpServletRequest mockContainerRequest = mock(HttpServletRequest.class);
+        HttpServletResponse mockContainerResponse = mock(HttpServletResponse.class);
+        byte[] containerBody = null;
+
+        Ask ask = new Ask();
+        when(mockHttpServletRequestTranslator.from(mockContainerRequest, containerBody)).thenReturn(ask);
+
+        Answer resourceAnswer = FixtureFactory.makeAnswer();
+        CompletableFuture<Answer> routed = new CompletableFuture<>();
+        when(mockEngine.routeAsync(eq(ask), any())).thenReturn(routed);
+
+        CompletableFuture<GatewayResponse> actual = subject
+                .processRequestAsync(mockContainerRequest, mockContainerResponse, containerBody, Optional.empty())
+                .toCompletableFuture();
+
+        assertThat(actual.isDone(), is(false));
+        verify(mockHttpServletResponseMerger, never()).merge(any(), any(), any());
+
+        routed.complete(resourceAnswer);
+
+        assertThat(actual.isDone(), is(true));
+        verify(mockHttpServletResponseMerger).merge(mockContainerResponse, null, resourceAnswer);
+        verify(mockHttpServletRequestMerger).merge(mockContainerRequest, resourceAnswer);
+    }
+
+    @Test
+    public void processRequestAsyncWhenResourceFailsShouldReturnServerError() throws Exception {
+        HttpServletRequest mockContainerRequest = mock(HttpServletRequest.class);
+        HttpServletResponse mockContainerResponse = mock(HttpServletResponse.class);
+        byte[] containerBody = null;
+
+        Ask ask = new Ask();
+        when(mockHttpServletRequestTranslator.from(mockContainerRequest, containerBody)).thenReturn(ask);
+        when(mockEngine.routeAsync(eq(ask), any())).thenReturn(CompletableFuture.failedFuture(new RuntimeException()));
+
+        GatewayResponse actual = subject
+                .processRequestAsync(mockContainerRequest, mockContainerResponse, containerBody, Optional.empty())
+                .toCompletableFuture()
+                .join();
+
+        assertThat(actual.getPayload().isPresent(), is(false));
+        verify(mockContainerResponse).setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+    }
+
+    @Test
+    public void processRequestAsyncWhenLookupShouldNotMatchAgain() throws Exception {
+        HttpServletRequest mockContainerRequest = mock(HttpServletRequest.class);
+        HttpServletResponse mockContainerResponse = mock(HttpServletResponse.class);
+        when(mockContainerRequest.getMethod()).thenReturn("POST");
+        when(mockContainerRequest.getRequestURI()).thenReturn("/app/foo");
+        byte[] containerBody = null;
+
+        Optional<MatchedLocation> match = FixtureFactory.makeMatch("/foo");
+        when(mockDispatcher.find(Method.POST, "/foo")).thenReturn(match);
+        Lookup lookup = subject.lookup(mockContainerRequest);
+
+        Ask ask = new Ask();
+        when(mockHttpServletRequestTranslator.from(mockContainerRequest, containerBody, Method.POST, "/foo")).thenReturn(ask);
+        Answer resourceAnswer = FixtureFactory.makeAnswer();
+        when(mockEngine.routeAsync(eq(ask), any(), eq(match))).thenReturn(CompletableFuture.completedFuture(resourceAnswer));
+
+        GatewayResponse actual = subject
+                .processRequestAsync(mockContainerRequest, mockContainerResponse, containerBody, Optional.empty(), Optional.of(lookup))
+                .toCompletableFuture()
+                .join();
+
+        assertThat(actual, is(notNullValue()));
+        // only the lookup matched the request.
+        verify(mockDispatcher).find(Method.POST, "/foo");
+        verify(mockHttpServletRequestTranslator, never()).from(mockContainerRequest, containerBody);
+        verify(mockHttpServletResponseMerger).merge(mockContainerResponse, null, resourceAnswer);
+    }
+
+    @Test
+    public void processRequestWhenLookupShouldRouteToIt() throws Exception {
+        HttpServletRequest mockContainerRequest = mock(HttpServletRequest.class);
+        HttpServletResponse mockContainerResponse = mock(HttpServletResponse.class);
+        byte[] containerBody = null;
+
+        Optional<MatchedLocation> match = FixtureFactory.makeMatch("/foo");
+        Lookup lookup = new Lookup(Method.GET, "/foo", match);
+
+        Ask ask = new Ask();
+        when(mockHttpServletRequestTranslator.from(mockContainerRequest, containerBody, Method.GET, "/foo")).thenReturn(ask);
+        Answer resourceAnswer = FixtureFactory.makeAnswer();
+        when(mockEngine.route(eq(ask), any(), eq(match))).thenReturn(resourceAnswer);
+
+        subject.processRequest(mockContainerRequest, mockContainerResponse, containerBody, Optional.empty(), Optional.of(lookup));
+
+        verify(mockEngine, never()).route(any(), any());
+        verify(mockHttpServletResponseMerger).merge(mockContainerResponse, null, resourceAnswer);
+    }
+
+    @Test
+    public void maxBodyBytesWhenLocationHasMaxShouldUseIt() {
+        HttpServletRequest mockContainerRequest = mock(HttpServletRequest.class);
+        when(mockContainerRequest.getMethod()).thenReturn("POST");
+        when(mockContainerRequest.getRequestURI()).thenReturn("/app/foo");
+
+        Optional<MatchedLocation> match = FixtureFactory.makeMatch("/foo");
+        match.get().getLocation().setMaxBodyBytes(64L);
+        when(mockDispatcher.find(Method.POST, "/foo")).thenReturn(match);
+
+        Long actual = subject.maxBodyBytes(mockContainerRequest);
+
+        assertThat(actual, is(64L));
+    }
+
+    @Test
+    public void maxBodyBytesWhenLocationHasNoMaxShouldUseDefault() {
+        HttpServletRequest mockContainerRequest = mock(HttpServletRequest.class);
+        when(mockContainerRequest.getMethod()).thenReturn("POST");
+        when(mockContainerRequest.getRequestURI()).thenReturn("/app/foo");
+
+        Optional<MatchedLocation> match = FixtureFactory.makeMatch("/foo");
+        when(mockDispatcher.find(Method.POST, "/foo")).thenReturn(match);
+
+        Long actual = subject.maxBodyBytes(mockContainerRequest);
+
+        assertThat(actual, is(OtterAppFactory.MAX_BODY_BYTES));
+    }
+
+    @Test
+    public void maxBodyBytesWhenNotFoundShouldUseDefault() {
+        HttpServletRequest mockContainerRequest = mock(HttpServletRequest.class);
+        when(mockContainerRequest.getMethod()).thenReturn("POST");
+        when(mockContainerRequest.getRequestURI()).thenReturn("/app/foo");
+        when(mockDispatcher.find(Method.POST, "/foo")).thenReturn(Optional.empty());
+
+        Long actual = subject.maxBodyBytes(mockContainerRequest);
+
+        assertThat(actual, is(OtterAppFactory.MAX_BODY_BYTES));
+    }
+}
@@ -1,6 +1,7 @@
 package net.tokensmith.otter.gateway.servlet.merger;
 
 import helper.FixtureFactory;
+import net.tokensmith.otter.controller.entity.CookieJar;
 import net.tokensmith.otter.gateway.servlet.translator.HttpServletRequestCookieTranslator;
 import net.tokensmith.otter.router.entity.io.Answer;
 import org.junit.Before;
@@ -11,8 +12,10 @@ import org.mockito.MockitoAnnotations;
 import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletResponse;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -108,4 +111,117 @@ public class HttpServletResponseMergerTest {
         verify(mockHttpServletRequestCookieTranslator).to(eq(answer.getCookies().get(cookieName)));
         verify(mockContainerResponse).addCookie(mockContainerCookieToCreate);
     }
-}
\ No newline at end of file
+
+    public Answer makeAnswer(CookieJar cookieJar) {
+        Answer answer = FixtureFactory.makeAnswer();
+        answer.setCookies(cookieJar);
+        return answer;
+    }
+
+    @Test
+    public void mergeWhenCookieJarAndNoChangesShouldNotAddCookies() throws Exception {
+        String cookieName = "untouched";
+
+        HttpServletResponse mockContainerResponse = mock(HttpServletResponse.class);
+        Cookie[] containerCookies = new Cookie[] { new Cookie(cookieName, "test-value") };
+
+        CookieJar cookieJar = new CookieJar();
+        cookieJar.put(cookieName, FixtureFactory.makeCookie(cookieName));
+        Answer answer = makeAnswer(new CookieJar(cookieJar));
+
+        subject.merge(mockContainerResponse, containerCookies, answer);
+
+        verify(mockHttpServletRequestCookieTranslator, never()).to(any());
+        verify(mockContainerResponse, never()).addCookie(any());
+    }
+
+    @Test
+    public void mergeWhenCookieJarAndRemovedShouldDeleteCookie() throws Exception {
+        String cookieName = "removed";
+
+        HttpServletResponse mockContainerResponse = mock(HttpServletResponse.class);
+        Cookie containerCookie = mock(Cookie.class);
+        when(containerCookie.getName()).thenReturn(cookieName);
+        Cookie untouchedContainerCookie = mock(Cookie.class);
+        when(untouchedContainerCookie.getName()).thenReturn("untouched");
+        Cookie[] containerCookies = new Cookie[] { untouchedContainerCookie, containerCookie };
+
+        CookieJar cookieJar = new CookieJar();
+        cookieJar.put(cookieName, FixtureFactory.makeCookie(cookieName));
+        cookieJar.put("untouched", FixtureFactory.makeCookie("untouched"));
+        Answer answer = makeAnswer(new CookieJar(cookieJar));
+
+        answer.getCookies().remove(cookieName);
+
+        subject.merge(mockContainerResponse, containerCookies, answer);
+
+        verify(containerCookie).setMaxAge(0);
+        verify(containerCookie).setValue("");
+        verify(mockContainerResponse).addCookie(containerCookie);
+        verify(untouchedContainerCookie, never()).setMaxAge(0);
+        verify(mockContainerResponse, never()).addCookie(untouchedContainerCookie);
+    }
+
+    @Test
+    public void mergeWhenCookieJarAndReplacedShouldAddCookie() throws Exception {
+        String cookieName = "replaced";
+
+        HttpServletResponse mockContainerResponse = mock(HttpServletResponse.class);
+        Cookie[] containerCookies = new Cookie[] { new Cookie(cookieName, "test-value") };
+
+        CookieJar cookieJar = new CookieJar();
+        cookieJar.put(cookieName, FixtureFactory.makeCookie(cookieName));
+        Answer answer = makeAnswer(new CookieJar(cookieJar));
+
+        net.tokensmith.otter.controller.entity.Cookie replacement = FixtureFactory.makeCookie(cookieName);
+        answer.getCookies().put(cookieName, replacement);
+
+        Cookie containerReplacement = new Cookie(cookieName, "test-value");
+        when(mockHttpServletRequestCookieTranslator.to(replacement)).thenReturn(containerReplacement);
+
+        subject.merge(mockContainerResponse, containerCookies, answer);
+
+        verify(mockContainerResponse).addCookie(containerReplacement);
+    }
+
+    @Test
+    public void mergeWhenCookieJarAndSetterCalledShouldAddCookie() throws Exception {
+        String cookieName = "mutated";
+
+        HttpServletResponse mockContainerResponse = mock(HttpServletResponse.class);
+        Cookie[] containerCookies = new Cookie[] { new Cookie(cookieName, "test-value") };
+
+        CookieJar cookieJar = new CookieJar();
+        cookieJar.put(cookieName, FixtureFactory.makeCookie(cookieName));
+        Answer answer = makeAnswer(new CookieJar(cookieJar));
+
+        net.tokensmith.otter.controller.entity.Cookie mutated = answer.getCookies().get(cookieName);
+        mutated.setValue("changed");
+
+        Cookie containerCookie = new Cookie(cookieName, "changed");
+        when(mockHttpServletRequestCookieTranslator.to(mutated)).thenReturn(containerCookie);
+
+        subject.merge(mockContainerResponse, containerCookies, answer);
+
+        verify(mockContainerResponse).addCookie(containerCookie);
+    }
+
+    @Test
+    public void mergeWhenCookieJarAndAddedShouldAddCookie() throws Exception {
+        String cookieName = "added";
+
+        HttpServletResponse mockContainerResponse = mock(HttpServletResponse.class);
+        Cookie[] containerCookies = new Cookie[0];
+
+        Answer answer = makeAnswer(new CookieJar());
+        net.tokensmith.otter.controller.entity.Cookie added = FixtureFactory.makeCookie(cookieName);
+        answer.getCookies().put(cookieName, added);
+
+        Cookie containerCookie = new Cookie(cookieName, "test-value");
+        when(mockHttpServletRequestCookieTranslator.to(added)).thenReturn(containerCookie);
+
+        subject.merge(mockContainerResponse, containerCookies, answer);
+
+        verify(mockContainerResponse).addCookie(containerCookie);
+    }
+}
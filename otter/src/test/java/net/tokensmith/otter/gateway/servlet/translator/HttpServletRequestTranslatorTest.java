@@ -1,6 +1,7 @@
 package net.tokensmith.otter.gateway.servlet.translator;
 
 import helper.FixtureFactory;
+import net.tokensmith.otter.PathNormalizer;
 import net.tokensmith.otter.QueryStringToMap;
 import net.tokensmith.otter.controller.builder.MimeTypeBuilder;
 import net.tokensmith.otter.controller.entity.mime.MimeType;
@@ -52,6 +53,7 @@ public class HttpServletRequestTranslatorTest {
                 mockHttpServletCookieTranslator,
                 mockHttpServletRequestHeaderTranslator,
                 mockQueryStringToMap,
+                new PathNormalizer(),
                 mockMimeTypeTranslator,
                 shape.getCookieConfigs()
         );
@@ -105,6 +107,7 @@ public class HttpServletRequestTranslatorTest {
         assertThat(actual.getCookies(), is(notNullValue()));
         assertThat(actual.getCookies().size(), is(0));
         assertThat(actual.getPathWithParams(), is("/foo?bar=bar-value"));
+        assertThat(actual.getNormalizedPath(), is("/foo?bar=bar-value"));
         assertThat(actual.getMatcher(), is(notNullValue()));
         assertThat(actual.getMatcher().isPresent(), is(false));
         assertThat(actual.getFormData(), is(notNullValue()));
@@ -164,6 +167,7 @@ public class HttpServletRequestTranslatorTest {
         assertThat(actual.getCookies(), is(notNullValue()));
         assertThat(actual.getCookies().size(), is(0));
         assertThat(actual.getPathWithParams(), is("/foo?bar=bar-value"));
+        assertThat(actual.getNormalizedPath(), is("/foo?bar=bar-value"));
         assertThat(actual.getMatcher(), is(notNullValue()));
         assertThat(actual.getMatcher().isPresent(), is(false));
         assertThat(actual.getIpAddress(), is(notNullValue()));
@@ -225,6 +229,7 @@ public class HttpServletRequestTranslatorTest {
         assertThat(actual.getCookies(), is(notNullValue()));
         assertThat(actual.getCookies().size(), is(0));
         assertThat(actual.getPathWithParams(), is("/foo?bar=bar-value"));
+        assertThat(actual.getNormalizedPath(), is("/foo?bar=bar-value"));
         assertThat(actual.getMatcher(), is(notNullValue()));
         assertThat(actual.getMatcher().isPresent(), is(false));
         assertThat(actual.getFormData(), is(notNullValue()));
@@ -282,6 +287,7 @@ public class HttpServletRequestTranslatorTest {
         assertThat(actual.getCookies(), is(notNullValue()));
         assertThat(actual.getCookies().size(), is(0));
         assertThat(actual.getPathWithParams(), is("/foo?bar=bar-value"));
+        assertThat(actual.getNormalizedPath(), is("/foo?bar=bar-value"));
         assertThat(actual.getMatcher(), is(notNullValue()));
         assertThat(actual.getMatcher().isPresent(), is(false));
         assertThat(actual.getFormData(), is(notNullValue()));
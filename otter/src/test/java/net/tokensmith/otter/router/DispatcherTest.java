@@ -4,6 +4,8 @@ import helper.FixtureFactory;
 import net.tokensmith.otter.router.entity.Location;
 import net.tokensmith.otter.router.entity.MatchedLocation;
 import net.tokensmith.otter.router.entity.Method;
+import net.tokensmith.otter.router.entity.Regex;
+import net.tokensmith.otter.router.index.RouteIndex;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -97,4 +99,43 @@ public class DispatcherTest {
         assertThat(actual.isPresent(), is(false));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void findWhenAddedShouldReturnMatch() {
+        Location location = FixtureFactory.makeLocation("/get/v2/" + Regex.UUID.getRegex() + "/bar");
+        subject.add(Method.GET, location);
+        UUID id = UUID.randomUUID();
+        String url = "/get/v2/" + id.toString() + "/bar";
+
+        Optional<MatchedLocation> actual = subject.find(Method.GET, url);
+
+        assertThat(actual.isPresent(), is(true));
+        assertThat(actual.get().getLocation(), is(location));
+        assertThat(actual.get().getMatcher().group(1), is(id.toString()));
+        assertThat(subject.getGet().size(), is(3));
+    }
+
+    @Test
+    public void findWhenAddedToListShouldReturnMatch() {
+        Location location = FixtureFactory.makeLocation("/get/v3/foo");
+        subject.getGet().add(location);
+
+        Optional<MatchedLocation> actual = subject.find(Method.GET, "/get/v3/foo");
+
+        assertThat(actual.isPresent(), is(true));
+        assertThat(actual.get().getLocation(), is(location));
+    }
+
+    @Test
+    public void addToListShouldPublishIndexBeforeFind() {
+        RouteIndex before = subject.index(Method.GET);
+        Location location = FixtureFactory.makeLocation("/get/v3/foo");
+
+        subject.getGet().add(location);
+
+        RouteIndex actual = subject.index(Method.GET);
+        assertThat(actual == before, is(false));
+        assertThat(actual.size(), is(3));
+        assertThat(before.size(), is(2));
+        assertThat(actual.getLocations().get(2), is(location));
+    }
+}
@@ -21,11 +21,16 @@ import org.mockito.MockitoAnnotations;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 
@@ -47,6 +52,7 @@ public class EngineTest {
         Ask ask = FixtureFactory.makeAsk();
         ask.setMethod(method);
         ask.setPathWithParams(url);
+        ask.setNormalizedPath(url);
         ask.setContentType(contentType);
         ask.setAccept(accept);
         ask.setPossibleContentTypes(new ArrayList<>()); // empty list to make sure it gets assigned.
@@ -94,6 +100,25 @@ public class EngineTest {
         assertThat(ask.getMatcher(), is(notNullValue()));
     }
 
+    @Test
+    public void routeWhenMatchedLocationShouldNotFind() throws Exception {
+        String url = "foo";
+        Optional<MatchedLocation> match = FixtureFactory.makeMatch(url);
+        MimeType json = new MimeTypeBuilder().json().build();
+        Ask ask = askForEngineTests(Method.GET, url, json, json);
+        Answer answer = FixtureFactory.makeAnswer();
+
+        RouteRunner mockRouteRunner = mock(RouteRunner.class);
+        when(mockRouteRunner.run(ask, answer)).thenReturn(answer);
+        match.get().getLocation().setRouteRunner(mockRouteRunner);
+
+        Answer actual = subject.route(ask, answer, match);
+
+        assertThat(actual, is(answer));
+        assertThat(ask.getMatcher().get(), is(match.get().getMatcher()));
+        verify(mockDispatcher, never()).find(any(), any());
+    }
+
     @Test
     public void routeWhenMethodIsGetShouldMatch() throws Exception {
         routeWhenMethodIsXShouldMatch(Method.GET);
@@ -183,6 +208,76 @@ public class EngineTest {
         assertThat(ask.getMatcher().isPresent(), is(true));
     }
 
+    @Test
+    public void routeAsyncWhenMatchShouldRunAsync() throws Exception {
+        Method method = Method.GET;
+        String url = "foo";
+        MimeType json = new MimeTypeBuilder().json().build();
+        Ask ask = askForEngineTests(method, url, json, json);
+        Answer answer = FixtureFactory.makeAnswer();
+
+        Optional<MatchedLocation> match = matchedLocation(url, json);
+        RouteRunner mockRouteRunner = mock(RouteRunner.class);
+        CompletableFuture<Answer> stage = new CompletableFuture<>();
+        when(mockRouteRunner.runAsync(ask, answer)).thenReturn(stage);
+        match.get().getLocation().setRouteRunner(mockRouteRunner);
+        when(mockDispatcher.find(method, url)).thenReturn(match);
+
+        CompletionStage<Answer> actual = subject.routeAsync(ask, answer);
+
+        assertThat(actual, is(stage));
+        assertThat(ask.getPossibleContentTypes().size(), is(1));
+        assertThat(ask.getPossibleAccepts().size(), is(1));
+        assertThat(ask.getMatcher().isPresent(), is(true));
+    }
+
+    @Test
+    public void routeAsyncWhenNoMatchedRouteShouldUseNotFound() throws Exception {
+        Method method = Method.GET;
+        String url = "foo";
+        MimeType json = new MimeTypeBuilder().json().build();
+        Ask ask = askForEngineTests(method, url, json, json);
+        Answer answer = FixtureFactory.makeAnswer();
+
+        when(mockDispatcher.find(method, url)).thenReturn(Optional.empty());
+
+        Optional<MatchedLocation> notFoundMatchedLocation = matchedLocation(url, json);
+        RouteRunner mockRouteRunner = mock(RouteRunner.class);
+        CompletableFuture<Answer> stage = CompletableFuture.completedFuture(answer);
+        when(mockRouteRunner.runAsync(ask, answer)).thenReturn(stage);
+        notFoundMatchedLocation.get().getLocation().setRouteRunner(mockRouteRunner);
+        when(mockNotFoundDispatcher.find(method, url)).thenReturn(notFoundMatchedLocation);
+
+        CompletionStage<Answer> actual = subject.routeAsync(ask, answer);
+
+        assertThat(actual, is(stage));
+        assertThat(ask.getPossibleContentTypes().get(0), is(json));
+        assertThat(ask.getMatcher().isPresent(), is(true));
+    }
+
+    @Test
+    public void selectWhenUnsupportedMediaTypeShouldBeErrorRouteRunner() {
+        String url = "foo";
+        Optional<MatchedLocation> match = FixtureFactory.makeMatch(url);
+
+        List<MimeType> contentTypes = new ArrayList<>();
+        MimeType html = new MimeTypeBuilder().html().build();
+        contentTypes.add(html);
+        match.get().getLocation().setContentTypes(contentTypes);
+
+        RouteRunner mockErrorRunner = mock(RouteRunner.class);
+        match.get().getLocation().getErrorRouteRunners().put(StatusCode.UNSUPPORTED_MEDIA_TYPE, mockErrorRunner);
+
+        MimeType form = new MimeTypeBuilder().form().build();
+        Ask ask = askForEngineTests(Method.GET, url, form, form);
+
+        RouteRunner actual = subject.select(ask, match);
+
+        assertThat(actual, is(mockErrorRunner));
+        assertThat(ask.getMatcher().isPresent(), is(false));
+        assertThat(ask.getPossibleContentTypes(), is(contentTypes));
+    }
+
     @Test
     public void toShouldBeOK() {
         String url = "foo";
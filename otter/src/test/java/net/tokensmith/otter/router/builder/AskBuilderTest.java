@@ -60,6 +60,15 @@ public class AskBuilderTest {
         assertThat(actual.getPathWithParams(), is(contextPath));
     }
 
+    @Test
+    public void buildWhenNormalizedPathShouldBeOk() {
+        String normalizedPath = "/normalizedPath";
+        Ask actual = subject.normalizedPath(normalizedPath).build();
+
+        assertThat(actual, is(notNullValue()));
+        assertThat(actual.getNormalizedPath(), is(normalizedPath));
+    }
+
     @Test
     public void buildWhenMethodShouldBeOk() {
         Ask actual = subject.method(Method.GET).build();
@@ -0,0 +1,143 @@
+package net.tokensmith.otter.router.index;
+
+import net.tokensmith.otter.router.entity.Regex;
+import net.tokensmith.otter.router.entity.Segment;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+
+public class PatternSegmenterTest {
+    private PatternSegmenter subject;
+
+    @Before
+    public void setUp() {
+        subject = new PatternSegmenter();
+    }
+
+    @Test
+    public void runWhenLiteralShouldBeLiteralSegments() {
+        Optional<List<Segment>> actual = subject.run("/api/v1/hello");
+
+        assertThat(actual.isPresent(), is(true));
+        assertThat(actual.get().size(), is(4));
+        assertThat(actual.get().get(0).getValue(), is(""));
+        assertThat(actual.get().get(1).getValue(), is("api"));
+        assertThat(actual.get().get(2).getValue(), is("v1"));
+        assertThat(actual.get().get(3).getValue(), is("hello"));
+        for (Segment segment: actual.get()) {
+            assertThat(segment.isLiteral(), is(true));
+        }
+    }
+
+    @Test
+    public void runWhenUUIDShouldBeCaptureSegment() {
+        Optional<List<Segment>> actual = subject.run("/foo/" + Regex.UUID.getRegex() + "/bar");
+
+        assertThat(actual.isPresent(), is(true));
+        assertThat(actual.get().size(), is(4));
+        assertThat(actual.get().get(1).getValue(), is("foo"));
+        assertThat(actual.get().get(1).isLiteral(), is(true));
+        assertThat(actual.get().get(2).getValue(), is(Regex.UUID.getRegex()));
+        assertThat(actual.get().get(2).isLiteral(), is(false));
+        assertThat(actual.get().get(3).getValue(), is("bar"));
+        assertThat(actual.get().get(3).isLiteral(), is(true));
+    }
+
+    @Test
+    public void runWhenEscapedShouldUnescapeLiteral() {
+        Optional<List<Segment>> actual = subject.run("/index\\.html");
+
+        assertThat(actual.isPresent(), is(true));
+        assertThat(actual.get().get(1).getValue(), is("index.html"));
+        assertThat(actual.get().get(1).isLiteral(), is(true));
+    }
+
+    @Test
+    public void runWhenAnchorsShouldIgnoreThem() {
+        Optional<List<Segment>> actual = subject.run("^/foo$");
+
+        assertThat(actual.isPresent(), is(true));
+        assertThat(actual.get().size(), is(2));
+        assertThat(actual.get().get(1).getValue(), is("foo"));
+        assertThat(actual.get().get(1).isLiteral(), is(true));
+    }
+
+    @Test
+    public void runWhenNamedGroupShouldBeCaptureSegment() {
+        Optional<List<Segment>> actual = subject.run("/foo/(?<id>\\d+)");
+
+        assertThat(actual.isPresent(), is(true));
+        assertThat(actual.get().get(2).isLiteral(), is(false));
+    }
+
+    @Test
+    public void runWhenDotShouldBeEmpty() {
+        Optional<List<Segment>> actual = subject.run("/rest/v2/(.*)");
+
+        assertThat(actual.isPresent(), is(false));
+    }
+
+    @Test
+    public void runWhenSlashInGroupShouldBeEmpty() {
+        Optional<List<Segment>> actual = subject.run("/foo(/bar)?");
+
+        assertThat(actual.isPresent(), is(false));
+    }
+
+    @Test
+    public void runWhenQuantifiedSlashShouldBeEmpty() {
+        Optional<List<Segment>> actual = subject.run("/foo/?");
+
+        assertThat(actual.isPresent(), is(false));
+    }
+
+    @Test
+    public void runWhenAlternationShouldBeEmpty() {
+        Optional<List<Segment>> actual = subject.run("/foo|/bar");
+
+        assertThat(actual.isPresent(), is(false));
+    }
+
+    @Test
+    public void runWhenAlternationInGroupShouldBeCaptureSegment() {
+        Optional<List<Segment>> actual = subject.run("/(foo|bar)/baz");
+
+        assertThat(actual.isPresent(), is(true));
+        assertThat(actual.get().get(1).isLiteral(), is(false));
+        assertThat(actual.get().get(2).getValue(), is("baz"));
+    }
+
+    @Test
+    public void runWhenNegatedClassShouldBeEmpty() {
+        Optional<List<Segment>> actual = subject.run("/foo/([^a]+)");
+
+        assertThat(actual.isPresent(), is(false));
+    }
+
+    @Test
+    public void runWhenClassRangeIncludesSlashShouldBeEmpty() {
+        Optional<List<Segment>> actual = subject.run("/foo/([!-z]+)");
+
+        assertThat(actual.isPresent(), is(false));
+    }
+
+    @Test
+    public void runWhenNonWordEscapeShouldBeEmpty() {
+        Optional<List<Segment>> actual = subject.run("/foo/\\W+");
+
+        assertThat(actual.isPresent(), is(false));
+    }
+
+    @Test
+    public void runWhenLookAheadShouldBeEmpty() {
+        Optional<List<Segment>> actual = subject.run("/foo/(?=bar)bar");
+
+        assertThat(actual.isPresent(), is(false));
+    }
+}
@@ -0,0 +1,121 @@
+package net.tokensmith.otter.router.index;
+
+import helper.FixtureFactory;
+import net.tokensmith.otter.router.entity.Location;
+import net.tokensmith.otter.router.entity.MatchedLocation;
+import net.tokensmith.otter.router.entity.Regex;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+
+public class RouteIndexTest {
+    private RouteIndex subject;
+
+    @Before
+    public void setUp() {
+        subject = new RouteIndex(new PatternSegmenter());
+    }
+
+    @Test
+    public void findWhenLiteralShouldMatch() {
+        Location foo = FixtureFactory.makeLocation("/foo");
+        Location bar = FixtureFactory.makeLocation("/bar");
+        subject.add(foo);
+        subject.add(bar);
+
+        Optional<MatchedLocation> actual = subject.find("/bar");
+
+        assertThat(actual.isPresent(), is(true));
+        assertThat(actual.get().getLocation(), is(bar));
+        assertThat(actual.get().getMatcher().group(0), is("/bar"));
+    }
+
+    @Test
+    public void findWhenCaptureShouldMatchWithGroups() {
+        Location location = FixtureFactory.makeLocation("/foo/" + Regex.UUID.getRegex() + "/bar");
+        subject.add(FixtureFactory.makeLocation("/foo/" + Regex.UUID.getRegex()));
+        subject.add(location);
+        UUID id = UUID.randomUUID();
+
+        Optional<MatchedLocation> actual = subject.find("/foo/" + id.toString() + "/bar");
+
+        assertThat(actual.isPresent(), is(true));
+        assertThat(actual.get().getLocation(), is(location));
+        assertThat(actual.get().getMatcher().group(1), is(id.toString()));
+    }
+
+    @Test
+    public void findWhenCaptureDoesNotMatchRegexShouldBeEmpty() {
+        subject.add(FixtureFactory.makeLocation("/foo/" + Regex.UUID.getRegex()));
+
+        Optional<MatchedLocation> actual = subject.find("/foo/not-a-uuid");
+
+        assertThat(actual.isPresent(), is(false));
+    }
+
+    @Test
+    public void findWhenDepthDiffersShouldBeEmpty() {
+        subject.add(FixtureFactory.makeLocation("/foo/bar"));
+
+        assertThat(subject.find("/foo").isPresent(), is(false));
+        assertThat(subject.find("/foo/bar/baz").isPresent(), is(false));
+        assertThat(subject.find("/foo/bar/").isPresent(), is(false));
+    }
+
+    @Test
+    public void findWhenLiteralAndCaptureMatchShouldReturnFirstAdded() {
+        Location capture = FixtureFactory.makeLocation("/foo/(\\w+)");
+        Location literal = FixtureFactory.makeLocation("/foo/bar");
+        subject.add(capture);
+        subject.add(literal);
+
+        Optional<MatchedLocation> actual = subject.find("/foo/bar");
+
+        assertThat(actual.isPresent(), is(true));
+        assertThat(actual.get().getLocation(), is(capture));
+    }
+
+    @Test
+    public void findWhenUnsegmentedAddedFirstShouldReturnIt() {
+        Location catchAll = FixtureFactory.makeLocation("(.*)");
+        Location literal = FixtureFactory.makeLocation("/foo");
+        subject.add(catchAll);
+        subject.add(literal);
+
+        Optional<MatchedLocation> actual = subject.find("/foo");
+
+        assertThat(actual.isPresent(), is(true));
+        assertThat(actual.get().getLocation(), is(catchAll));
+    }
+
+    @Test
+    public void findWhenUnsegmentedAddedLastShouldReturnLiteral() {
+        Location literal = FixtureFactory.makeLocation("/foo");
+        Location catchAll = FixtureFactory.makeLocation("(.*)");
+        subject.add(literal);
+        subject.add(catchAll);
+
+        assertThat(subject.find("/foo").get().getLocation(), is(literal));
+        assertThat(subject.find("/baz").get().getLocation(), is(catchAll));
+    }
+
+    @Test
+    public void findWhenQueryStringShouldUseRegex() {
+        Location literal = FixtureFactory.makeLocation("/foo");
+        Location withQuery = FixtureFactory.makeLocation("/foo\\?bar=(\\w+)");
+        subject.add(literal);
+        subject.add(withQuery);
+
+        Optional<MatchedLocation> actual = subject.find("/foo?bar=baz");
+
+        assertThat(actual.isPresent(), is(true));
+        assertThat(actual.get().getLocation(), is(withQuery));
+        assertThat(actual.get().getMatcher().group(1), is("baz"));
+    }
+}
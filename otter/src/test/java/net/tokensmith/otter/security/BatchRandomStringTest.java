@@ -0,0 +1,78 @@
+package net.tokensmith.otter.security;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class BatchRandomStringTest {
+
+    @Test
+    public void runShouldBeUrlSafeBase64() {
+        BatchRandomString subject = new BatchRandomString();
+
+        String actual = subject.run();
+
+        assertThat(actual.length(), is(24));
+        assertThat(actual.matches("[A-Za-z0-9_-]+"), is(true));
+        assertThat(Base64.getUrlDecoder().decode(actual).length, is(BatchRandomString.TOKEN_BYTES));
+    }
+
+    @Test
+    public void runWhenNotMultipleOfThreeShouldNotPad() {
+        BatchRandomString one = new BatchRandomString(16, 4);
+        BatchRandomString two = new BatchRandomString(17, 4);
+
+        assertThat(one.run().length(), is(22));
+        assertThat(two.run().length(), is(23));
+        assertThat(Base64.getUrlDecoder().decode(one.run()).length, is(16));
+        assertThat(Base64.getUrlDecoder().decode(two.run()).length, is(17));
+    }
+
+    @Test
+    public void runWhenManyBatchesShouldBeUnique() {
+        BatchRandomString subject = new BatchRandomString(18, 8);
+
+        Set<String> actual = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            actual.add(subject.run());
+        }
+
+        assertThat(actual.size(), is(1000));
+    }
+
+    @Test
+    public void runWhenManyThreadsShouldBeUnique() throws Exception {
+        BatchRandomString subject = new BatchRandomString();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        List<Callable<List<String>>> tasks = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            tasks.add(() -> {
+                List<String> tokens = new ArrayList<>();
+                for (int j = 0; j < 500; j++) {
+                    tokens.add(subject.run());
+                }
+                return tokens;
+            });
+        }
+
+        Set<String> actual = new HashSet<>();
+        for (Future<List<String>> tokens : executor.invokeAll(tasks)) {
+            actual.addAll(tokens.get());
+        }
+        executor.shutdown();
+
+        assertThat(actual.size(), is(4000));
+    }
+}
@@ -0,0 +1,101 @@
+package net.tokensmith.otter.security;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class PooledTest {
+
+    public <T> Pooled<T> virtual(Integer maxPooled, List<T> discarded) {
+        return new Pooled<>(maxPooled, discarded::add) {
+            @Override
+            protected Boolean isVirtual() {
+                return true;
+            }
+        };
+    }
+
+    @Test
+    public void takeWhenPlatformThreadShouldReuseGiven() {
+        Pooled<StringBuilder> subject = new Pooled<>();
+
+        StringBuilder first = subject.take();
+        assertThat(first, is(nullValue()));
+
+        first = new StringBuilder();
+        subject.give(first);
+        StringBuilder second = subject.take();
+
+        assertThat(second, is(sameInstance(first)));
+        // a platform thread keeps its own.
+        assertThat(subject.size(), is(0));
+    }
+
+    @Test
+    public void takeWhenOtherPlatformThreadShouldBeNull() throws Exception {
+        Pooled<StringBuilder> subject = new Pooled<>();
+        subject.give(new StringBuilder());
+
+        AtomicReference<StringBuilder> other = new AtomicReference<>(new StringBuilder());
+        Thread thread = new Thread(() -> other.set(subject.take()));
+        thread.start();
+        thread.join();
+
+        assertThat(other.get(), is(nullValue()));
+    }
+
+    @Test
+    public void giveWhenPlatformThreadHasOneShouldDiscard() {
+        List<StringBuilder> discarded = new ArrayList<>();
+        Pooled<StringBuilder> subject = new Pooled<>(4, discarded::add);
+        StringBuilder kept = new StringBuilder();
+        StringBuilder other = new StringBuilder();
+
+        subject.give(kept);
+        subject.give(other);
+
+        assertThat(subject.take(), is(sameInstance(kept)));
+        assertThat(discarded.size(), is(1));
+        assertThat(discarded.get(0), is(sameInstance(other)));
+    }
+
+    @Test
+    public void takeWhenVirtualThreadsShouldShare() throws Exception {
+        Pooled<StringBuilder> subject = virtual(4, new ArrayList<>());
+        StringBuilder first = new StringBuilder();
+        subject.give(first);
+        assertThat(subject.size(), is(1));
+
+        AtomicReference<StringBuilder> other = new AtomicReference<>();
+        Thread thread = new Thread(() -> other.set(subject.take()));
+        thread.start();
+        thread.join();
+
+        assertThat(other.get(), is(notNullValue()));
+        assertThat(other.get(), is(sameInstance(first)));
+        assertThat(subject.size(), is(0));
+    }
+
+    @Test
+    public void giveWhenVirtualAndFullShouldDiscard() {
+        List<StringBuilder> discarded = new ArrayList<>();
+        Pooled<StringBuilder> subject = virtual(2, discarded);
+
+        subject.give(new StringBuilder());
+        subject.give(new StringBuilder());
+        StringBuilder third = new StringBuilder();
+        subject.give(third);
+
+        assertThat(subject.size(), is(2));
+        assertThat(discarded.size(), is(1));
+        assertThat(discarded.get(0), is(sameInstance(third)));
+    }
+}
@@ -0,0 +1,112 @@
+package net.tokensmith.otter.security.crypto;
+
+import helper.FixtureFactory;
+import net.tokensmith.jwt.config.JwtAppFactory;
+import net.tokensmith.jwt.entity.jwk.SymmetricKey;
+import net.tokensmith.jwt.jwe.entity.JWE;
+import net.tokensmith.otter.security.crypto.entity.JweContent;
+import net.tokensmith.otter.security.crypto.exception.CryptoException;
+import net.tokensmith.otter.security.crypto.exception.NotCompactException;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.junit.Assert.assertThat;
+
+public class CompactJweTest {
+    private static String ENCRYPTED_SESSION = new StringBuilder()
+            .append("eyJhbGciOiJkaXIiLCJraWQiOiIxMjM0IiwiZW5jIjoiQTI1NkdDTSJ9.")
+            .append(".")
+            .append("AkRUVwJboJnzM5Pt0uqK-Ju15_YSn8x0DCrxDcKUszdQei2Fa7hYxENHJytWK1iMfl4lmcMb-fVTCnUC_bBa1abfeJ1NWWzRNwPEc-zhXvFV2-255lJe8EZYSSwE7cDf.")
+            .append("pvvpZcAtxSFpzjqmgJEjh6oJLAoRAWv9WAQJ6BY08TDLpqZATSP4f4RPLMc8g7ArdMIJQI2coRBDjSg.")
+            .append("Z4eCgEJ-RIfWX1jKYeP5Bw")
+            .toString();
+
+    private CompactJwe subject;
+
+    @Before
+    public void setUp() {
+        subject = new CompactJwe(new CryptoPool());
+    }
+
+    @Test
+    public void encryptShouldBeDecryptedByJwt() throws Exception {
+        SymmetricKey key = FixtureFactory.encKey("1234");
+        byte[] payload = "{\"access_token\":\"123456789\"}".getBytes(StandardCharsets.UTF_8);
+
+        ByteArrayOutputStream actual = subject.encrypt(key, payload);
+
+        JWE jwe = new JwtAppFactory().jweDirectDesializer().stringToJWE(actual.toString(), key);
+        assertThat(jwe, is(notNullValue()));
+        assertThat(jwe.getHeader().getKeyId().get(), is("1234"));
+        assertThat(new String(jwe.getPayload(), StandardCharsets.UTF_8), is("{\"access_token\":\"123456789\"}"));
+    }
+
+    @Test
+    public void decryptWhenEncryptedShouldBePayload() throws Exception {
+        SymmetricKey key = FixtureFactory.encKey("1234");
+        byte[] payload = "{\"access_token\":\"123456789\"}".getBytes(StandardCharsets.UTF_8);
+
+        String compactJwe = subject.encrypt(key, payload).toString();
+        byte[] actual = subject.decrypt(key, compactJwe);
+
+        assertThat(actual, is(payload));
+    }
+
+    @Test
+    public void decryptWhenEncryptedByJwtShouldBePayload() throws Exception {
+        SymmetricKey key = FixtureFactory.encKey("1234");
+
+        byte[] actual = subject.decrypt(key, ENCRYPTED_SESSION);
+
+        assertThat(new String(actual, StandardCharsets.UTF_8), containsString("123456789"));
+    }
+
+    @Test(expected = CryptoException.class)
+    public void decryptWhenBadKeyShouldThrowCryptoException() throws Exception {
+        SymmetricKey key = FixtureFactory.encKey("1234");
+        key.setKey("MMNj8rE5m7NIDhwKYDmHSnlU1wfKuVvW6G--1234567");
+
+        subject.decrypt(key, ENCRYPTED_SESSION);
+    }
+
+    @Test(expected = NotCompactException.class)
+    public void decryptWhenNotJweShouldThrowNotCompactException() throws Exception {
+        SymmetricKey key = FixtureFactory.encKey("1234");
+
+        subject.decrypt(key, "foo.foo.foo");
+    }
+
+    @Test
+    public void encryptWhenContentTypeAndCompressedShouldBeInHeader() throws Exception {
+        SymmetricKey key = FixtureFactory.encKey("1234");
+        byte[] payload = "{\"access_token\":\"123456789\"}".getBytes(StandardCharsets.UTF_8);
+
+        String compactJwe = subject.encrypt(key, payload, Optional.of("smile"), true).toString();
+
+        String header = new String(Base64.getUrlDecoder().decode(compactJwe.substring(0, compactJwe.indexOf('.'))), StandardCharsets.UTF_8);
+        assertThat(header, is("{\"alg\":\"dir\",\"kid\":\"1234\",\"enc\":\"A256GCM\",\"cty\":\"smile\",\"zip\":\"DEF\"}"));
+
+        JweContent actual = subject.decryptContent(key, compactJwe);
+        assertThat(actual.getPayload(), is(payload));
+        assertThat(actual.getContentType().get(), is("smile"));
+        assertThat(actual.getCompressed(), is(true));
+    }
+
+    @Test
+    public void decryptContentWhenEncryptedByJwtShouldNotHaveContentType() throws Exception {
+        SymmetricKey key = FixtureFactory.encKey("1234");
+
+        JweContent actual = subject.decryptContent(key, ENCRYPTED_SESSION);
+
+        assertThat(actual.getContentType().isPresent(), is(false));
+        assertThat(actual.getCompressed(), is(false));
+    }
+}
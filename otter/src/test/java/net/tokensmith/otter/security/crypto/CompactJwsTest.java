@@ -0,0 +1,82 @@
+package net.tokensmith.otter.security.crypto;
+
+import helper.FixtureFactory;
+import net.tokensmith.jwt.config.JwtAppFactory;
+import net.tokensmith.jwt.entity.jwk.SymmetricKey;
+import net.tokensmith.jwt.entity.jwt.JsonWebToken;
+import net.tokensmith.jwt.entity.jwt.header.Algorithm;
+import net.tokensmith.otter.security.crypto.exception.CryptoException;
+import net.tokensmith.otter.security.csrf.CsrfClaims;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.junit.Assert.assertThat;
+
+public class CompactJwsTest {
+    private CompactJws subject;
+
+    @Before
+    public void setUp() {
+        subject = new CompactJws(new CryptoPool());
+    }
+
+    @Test
+    public void signShouldBeVerifiedByJwt() throws Exception {
+        SymmetricKey key = FixtureFactory.signKey("5678");
+        CsrfClaims claims = new CsrfClaims();
+        claims.setChallengeToken("challenge-token");
+        claims.setNoise("noise");
+        claims.setIssuedAt(Optional.of(1L));
+
+        ByteArrayOutputStream actual = subject.sign(key, claims);
+
+        JsonWebToken<CsrfClaims> jwt = FixtureFactory.csrfJwt(actual.toString());
+        assertThat(jwt, is(notNullValue()));
+        assertThat(jwt.getHeader().getAlgorithm(), is(Algorithm.HS256));
+        assertThat(jwt.getHeader().getKeyId().get(), is("5678"));
+        assertThat(jwt.getClaims().getChallengeToken(), is("challenge-token"));
+        assertThat(jwt.getClaims().getNoise(), is("noise"));
+        assertThat(jwt.getClaims().getIssuedAt().get(), is(1L));
+
+        Boolean verified = new JwtAppFactory().verifySignature(Algorithm.HS256, key).run(jwt);
+        assertThat(verified, is(true));
+    }
+
+    @Test
+    public void verifyWhenSignedByJwtShouldBeTrue() throws Exception {
+        SymmetricKey key = FixtureFactory.signKey("5678");
+        String compactJwt = FixtureFactory.compactJwtForCSRF(key, "challenge-token");
+        JsonWebToken<CsrfClaims> jwt = FixtureFactory.csrfJwt(compactJwt);
+
+        Boolean actual = subject.verify(key, jwt);
+
+        assertThat(actual, is(true));
+    }
+
+    @Test
+    public void verifyWhenOtherKeyShouldBeFalse() throws Exception {
+        SymmetricKey key = FixtureFactory.signKey("5678");
+        String compactJwt = FixtureFactory.compactJwtForCSRF(key, "challenge-token");
+        JsonWebToken<CsrfClaims> jwt = FixtureFactory.csrfJwt(compactJwt);
+
+        SymmetricKey otherKey = FixtureFactory.signKey("5678");
+        otherKey.setKey("MMNj8rE5m7NIDhwKYDmHSnlU1wfKuVvW6G--GKPYkRA");
+
+        Boolean actual = subject.verify(otherKey, jwt);
+
+        assertThat(actual, is(false));
+    }
+
+    @Test(expected = CryptoException.class)
+    public void verifyWhenNoKeyShouldThrowCryptoException() throws Exception {
+        String compactJwt = FixtureFactory.compactJwtForCSRF(FixtureFactory.signKey("5678"), "challenge-token");
+        JsonWebToken<CsrfClaims> jwt = FixtureFactory.csrfJwt(compactJwt);
+
+        subject.verify(null, jwt);
+    }
+}
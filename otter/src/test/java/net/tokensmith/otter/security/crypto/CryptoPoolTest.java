@@ -0,0 +1,100 @@
+package net.tokensmith.otter.security.crypto;
+
+import helper.FixtureFactory;
+import net.tokensmith.jwt.entity.jwk.SymmetricKey;
+import org.junit.Test;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class CryptoPoolTest {
+
+    @Test
+    public void macWhenSameKeyShouldReuseMac() throws Exception {
+        CryptoPool subject = new CryptoPool();
+        SymmetricKey key = FixtureFactory.signKey("5678");
+
+        Mac first = subject.mac(key);
+        subject.give(key, first);
+        Mac second = subject.mac(FixtureFactory.signKey("5678"));
+
+        assertThat(first, is(notNullValue()));
+        assertThat(second, is(sameInstance(first)));
+    }
+
+    @Test
+    public void macWhenOtherKeyIdShouldMakeMac() throws Exception {
+        CryptoPool subject = new CryptoPool();
+
+        Mac first = subject.mac(FixtureFactory.signKey("5678"));
+        Mac second = subject.mac(FixtureFactory.signKey("9012"));
+
+        assertThat(second, is(not(sameInstance(first))));
+    }
+
+    @Test
+    public void macWhenKeyReplacedShouldMakeMac() throws Exception {
+        CryptoPool subject = new CryptoPool();
+        SymmetricKey key = FixtureFactory.signKey("5678");
+
+        Mac first = subject.mac(key);
+        subject.give(key, first);
+        key.setKey("MMNj8rE5m7NIDhwKYDmHSnlU1wfKuVvW6G--GKPYkRA");
+        Mac second = subject.mac(key);
+
+        assertThat(second, is(not(sameInstance(first))));
+    }
+
+    @Test
+    public void macWhenOtherThreadShouldMakeMac() throws Exception {
+        CryptoPool subject = new CryptoPool();
+        SymmetricKey key = FixtureFactory.signKey("5678");
+
+        Mac first = subject.mac(key);
+        subject.give(key, first);
+
+        AtomicReference<Mac> other = new AtomicReference<>();
+        Thread thread = new Thread(() -> {
+            try {
+                other.set(subject.mac(key));
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        thread.start();
+        thread.join();
+
+        assertThat(other.get(), is(notNullValue()));
+        assertThat(other.get(), is(not(sameInstance(first))));
+    }
+
+    @Test
+    public void cipherShouldReuseCipher() throws Exception {
+        CryptoPool subject = new CryptoPool();
+        SymmetricKey key = FixtureFactory.encKey("1234");
+
+        Cipher first = subject.cipher(Cipher.ENCRYPT_MODE, key, subject.iv());
+        subject.give(first);
+        Cipher second = subject.cipher(Cipher.ENCRYPT_MODE, key, subject.iv());
+
+        assertThat(second, is(sameInstance(first)));
+    }
+
+    @Test
+    public void ivShouldBeRandom() {
+        CryptoPool subject = new CryptoPool();
+
+        byte[] first = subject.iv();
+        byte[] second = subject.iv();
+
+        assertThat(first.length, is(CryptoPool.IV_LENGTH));
+        assertThat(first, is(not(second)));
+    }
+}
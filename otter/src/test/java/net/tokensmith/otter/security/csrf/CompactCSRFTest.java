@@ -0,0 +1,160 @@
+package net.tokensmith.otter.security.csrf;
+
+import helper.FixtureFactory;
+import net.tokensmith.jwt.entity.jwk.SymmetricKey;
+import net.tokensmith.jwt.entity.jwt.JsonWebToken;
+import net.tokensmith.otter.controller.entity.Cookie;
+import net.tokensmith.otter.security.config.SecurityAppFactory;
+import net.tokensmith.otter.security.csrf.exception.CsrfException;
+import net.tokensmith.otter.security.entity.ChallengeToken;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.hamcrest.core.IsNull.notNullValue;
+import static org.junit.Assert.assertThat;
+
+
+public class CompactCSRFTest {
+    private SecurityAppFactory appFactory = new SecurityAppFactory();
+    private Map<String, SymmetricKey> rotationSignKeys;
+    private CompactCSRF subject;
+
+    @Before
+    public void setUp() {
+        rotationSignKeys = new HashMap<>();
+        rotationSignKeys.put("rotation-key-1", FixtureFactory.signKey("rotation-key-1"));
+
+        DoubleSubmitCSRF csrf = appFactory.doubleSubmitCSRF(CsrfFormat.COMPACT, FixtureFactory.signKey("preferred-key"), rotationSignKeys);
+        assertThat(csrf, instanceOf(CompactCSRF.class));
+        subject = (CompactCSRF) csrf;
+    }
+
+    @Test
+    public void doTokensMatchShouldBeOk() throws Exception {
+        Cookie cookie = subject.makeCsrfCookie("CSRF", new ChallengeToken("challenge-token", "cookie-noise"), true, -1, true);
+        String formValue = subject.toJwt(new ChallengeToken("challenge-token", "form-noise")).toString();
+
+        assertThat(cookie.getValue().indexOf('.'), is(-1));
+        assertThat(subject.doTokensMatch(cookie.getValue(), formValue), is(true));
+        // the second time the cookie claims are cached.
+        assertThat(subject.doTokensMatch(cookie.getValue(), formValue), is(true));
+    }
+
+    @Test
+    public void doTokensMatchWhenTokensAreDifferentShouldBeFalse() throws Exception {
+        String cookieValue = subject.toJwt(new ChallengeToken("challenge-token", "cookie-noise")).toString();
+        String formValue = subject.toJwt(new ChallengeToken("other-token", "form-noise")).toString();
+
+        assertThat(subject.doTokensMatch(cookieValue, formValue), is(false));
+    }
+
+    @Test
+    public void doTokensMatchWhenNoiseIsSameShouldBeFalse() throws Exception {
+        String cookieValue = subject.toJwt(new ChallengeToken("challenge-token", "noise")).toString();
+        String formValue = subject.toJwt(new ChallengeToken("challenge-token", "noise")).toString();
+
+        assertThat(subject.doTokensMatch(cookieValue, formValue), is(false));
+    }
+
+    @Test
+    public void doTokensMatchWhenTamperedShouldBeFalse() throws Exception {
+        String cookieValue = subject.toJwt(new ChallengeToken("challenge-token", "cookie-noise")).toString();
+        String formValue = subject.toJwt(new ChallengeToken("challenge-token", "form-noise")).toString();
+
+        byte[] bytes = Base64.getUrlDecoder().decode(formValue);
+        bytes[bytes.length - 1] ^= 1;
+        String tampered = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        assertThat(subject.doTokensMatch(cookieValue, tampered), is(false));
+    }
+
+    @Test
+    public void doTokensMatchWhenSignedWithRotationKeyShouldBeOk() throws Exception {
+        CompactCSRF rotated = new CompactCSRF(null, null, appFactory.cryptoPool(), appFactory.randomString(), FixtureFactory.signKey("rotation-key-1"), null);
+        String cookieValue = rotated.toJwt(new ChallengeToken("challenge-token", "cookie-noise")).toString();
+        String formValue = subject.toJwt(new ChallengeToken("challenge-token", "form-noise")).toString();
+
+        assertThat(subject.doTokensMatch(cookieValue, formValue), is(true));
+    }
+
+    @Test
+    public void doTokensMatchWhenUnknownKeyShouldBeFalse() throws Exception {
+        CompactCSRF other = new CompactCSRF(null, null, appFactory.cryptoPool(), appFactory.randomString(), FixtureFactory.signKey("unknown-key"), null);
+        String cookieValue = other.toJwt(new ChallengeToken("challenge-token", "cookie-noise")).toString();
+        String formValue = subject.toJwt(new ChallengeToken("challenge-token", "form-noise")).toString();
+
+        assertThat(subject.doTokensMatch(cookieValue, formValue), is(false));
+    }
+
+    @Test
+    public void doTokensMatchWhenJwtCookieShouldBeOk() throws Exception {
+        DoubleSubmitCSRF jwt = appFactory.doubleSubmitCSRF(FixtureFactory.signKey("preferred-key"), rotationSignKeys);
+        String cookieValue = jwt.toJwt(new ChallengeToken("challenge-token", "cookie-noise")).toString();
+        String formValue = subject.toJwt(new ChallengeToken("challenge-token", "form-noise")).toString();
+
+        assertThat(subject.doTokensMatch(cookieValue, formValue), is(true));
+    }
+
+    @Test
+    public void doTokensMatchWhenNotCompactShouldBeFalse() throws Exception {
+        String cookieValue = subject.toJwt(new ChallengeToken("challenge-token", "cookie-noise")).toString();
+
+        assertThat(subject.doTokensMatch(cookieValue, "AQID"), is(false));
+        assertThat(subject.doTokensMatch(cookieValue, "not base64!"), is(false));
+    }
+
+    @Test
+    public void csrfToJwtShouldHaveClaims() throws Exception {
+        String cookieValue = subject.toJwt(new ChallengeToken("challenge-token", "cookie-noise")).toString();
+
+        JsonWebToken<CsrfClaims> actual = subject.csrfToJwt(cookieValue);
+
+        assertThat(actual.getClaims().getChallengeToken(), is("challenge-token"));
+        assertThat(actual.getClaims().getNoise(), is("cookie-noise"));
+        assertThat(actual.getClaims().getIssuedAt().isPresent(), is(true));
+    }
+
+    @Test
+    public void csrfToJwtWhenUnknownKeyShouldHaveClaims() throws Exception {
+        DoubleSubmitCSRF other = appFactory.doubleSubmitCSRF(CsrfFormat.COMPACT, FixtureFactory.signKey("unknown-key"), new HashMap<>());
+        String cookieValue = other.toJwt(new ChallengeToken("challenge-token", "cookie-noise")).toString();
+
+        JsonWebToken<CsrfClaims> actual = subject.csrfToJwt(cookieValue);
+
+        assertThat(actual.getClaims().getChallengeToken(), is("challenge-token"));
+    }
+
+    @Test(expected = CsrfException.class)
+    public void csrfToJwtWhenNotCompactShouldThrowCsrfException() throws Exception {
+        subject.csrfToJwt("not-a-compact-csrf-token");
+    }
+
+    @Test
+    public void cookieClaimsShouldBeCached() throws Exception {
+        String cookieValue = subject.toJwt(new ChallengeToken("challenge-token", "cookie-noise")).toString();
+
+        CsrfClaims first = subject.cookieClaims(cookieValue);
+        CsrfClaims second = subject.cookieClaims(cookieValue);
+
+        assertThat(second == first, is(true));
+    }
+
+    @Test
+    public void cookieClaimsWhenNotCompactShouldThrowCsrfException() throws Exception {
+        CsrfException actual = null;
+        try {
+            subject.cookieClaims("AQID");
+        } catch (CsrfException e) {
+            actual = e;
+        }
+
+        assertThat(actual, is(notNullValue()));
+        assertThat(actual.getMessage(), is(CompactCSRF.NOT_COMPACT));
+    }
+}
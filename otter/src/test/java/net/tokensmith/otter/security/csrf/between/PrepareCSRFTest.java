@@ -9,7 +9,9 @@ import net.tokensmith.otter.controller.entity.Cookie;
 import net.tokensmith.otter.controller.entity.request.Request;
 import net.tokensmith.otter.controller.entity.response.Response;
 import net.tokensmith.otter.router.entity.Method;
+import net.tokensmith.otter.security.config.SecurityAppFactory;
 import net.tokensmith.otter.security.csrf.CsrfClaims;
+import net.tokensmith.otter.security.csrf.CsrfFormat;
 import net.tokensmith.otter.security.csrf.DoubleSubmitCSRF;
 import net.tokensmith.otter.security.csrf.between.html.PrepareCSRF;
 import net.tokensmith.otter.security.csrf.exception.CsrfException;
@@ -21,7 +23,9 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.io.ByteArrayOutputStream;
+import java.util.HashMap;
 
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.core.Is.is;
@@ -133,4 +137,44 @@ public class PrepareCSRFTest {
         verify(mockDoubleSubmitCSRF, times(3)).makeChallengeToken();
         verify(mockDoubleSubmitCSRF).makeCsrfCookie(eq(COOKIE_NAME), any(), eq(false), eq(-1), eq(true));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void processWhenCompactCookieInvalidShouldSetNewCookie() throws Exception {
+        DoubleSubmitCSRF csrf = new SecurityAppFactory().doubleSubmitCSRF(CsrfFormat.COMPACT, FixtureFactory.signKey("preferred-key"), new HashMap<>());
+        PrepareCSRF<DummySession, DummyUser> subject = new PrepareCSRF<>(new CookieConfig(COOKIE_NAME, false, -1, true), csrf);
+
+        Cookie invalid = FixtureFactory.makeCookie(COOKIE_NAME);
+        invalid.setValue("not-a-compact-csrf-token");
+
+        Request<DummySession, DummyUser> request = FixtureFactory.makeRequest();
+        Response<DummySession> response = FixtureFactory.makeResponse();
+        response.getCookies().put(COOKIE_NAME, invalid);
+
+        subject.process(Method.GET, request, response);
+
+        Cookie actual = response.getCookies().get(COOKIE_NAME);
+        assertThat(actual, is(notNullValue()));
+        assertThat(actual.getValue(), is(not("not-a-compact-csrf-token")));
+        assertThat(request.getCsrfChallenge().isPresent(), is(true));
+        assertThat(csrf.doTokensMatch(actual.getValue(), request.getCsrfChallenge().get()), is(true));
+    }
+
+    @Test
+    public void processWhenCompactCookieSignedWithOtherKeyShouldReadIt() throws Exception {
+        DoubleSubmitCSRF other = new SecurityAppFactory().doubleSubmitCSRF(CsrfFormat.COMPACT, FixtureFactory.signKey("rotated-out-key"), new HashMap<>());
+        Cookie cookie = other.makeCsrfCookie(COOKIE_NAME, new ChallengeToken("challenge-token", "cookie-noise"), false, -1, true);
+
+        DoubleSubmitCSRF csrf = new SecurityAppFactory().doubleSubmitCSRF(CsrfFormat.COMPACT, FixtureFactory.signKey("preferred-key"), new HashMap<>());
+        PrepareCSRF<DummySession, DummyUser> subject = new PrepareCSRF<>(new CookieConfig(COOKIE_NAME, false, -1, true), csrf);
+
+        Request<DummySession, DummyUser> request = FixtureFactory.makeRequest();
+        Response<DummySession> response = FixtureFactory.makeResponse();
+        response.getCookies().put(COOKIE_NAME, cookie);
+
+        subject.process(Method.GET, request, response);
+
+        // reading the cookie does not depend on the sign key, it is verified by CheckCSRF.
+        assertThat(response.getCookies().get(COOKIE_NAME), is(cookie));
+        assertThat(request.getCsrfChallenge().isPresent(), is(true));
+    }
+}
@@ -2,6 +2,7 @@ package net.tokensmith.otter.security.session.between.html;
 
 import helper.FixtureFactory;
 import helper.entity.model.DummySession;
+import helper.entity.model.DummyTrackedSession;
 import helper.entity.model.DummyUser;
 import net.tokensmith.otter.config.OtterAppFactory;
 import net.tokensmith.otter.controller.entity.Cookie;
@@ -17,6 +18,7 @@ import net.tokensmith.otter.security.Halt;
 import net.tokensmith.otter.security.builder.entity.Betweens;
 import net.tokensmith.otter.security.exception.SessionCtorException;
 import net.tokensmith.otter.security.session.exception.InvalidSessionException;
+import net.tokensmith.otter.security.session.util.Decrypt;
 import org.junit.Test;
 
 import java.util.ArrayList;
@@ -28,8 +30,12 @@ import java.util.function.BiFunction;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class DecryptSessionTest {
     private static OtterAppFactory otterAppFactory = new OtterAppFactory();
@@ -173,4 +179,62 @@ public class DecryptSessionTest {
         subject.process(Method.GET, request, response);
         assertThat(request.getSession().isPresent(), is(false));
     }
-}
\ No newline at end of file
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void processWhenTrackedShouldShareSession() throws Exception {
+        DummyTrackedSession session = new DummyTrackedSession();
+        session.setAccessToken("123456789");
+        session.setDirty(false);
+
+        Decrypt<DummyTrackedSession> decrypt = mock(Decrypt.class);
+        when(decrypt.decrypt("encrypted-session")).thenReturn(session);
+
+        BiFunction<Response<DummyTrackedSession>, HaltException, Response<DummyTrackedSession>> onHalt = (response, e) -> response;
+        DecryptSession<DummyTrackedSession, DummyUser> subject = new DecryptSession<>(
+                DummyTrackedSession.class.getConstructor(DummyTrackedSession.class), "session", onHalt, true, decrypt
+        );
+
+        Cookie sessionCookie = FixtureFactory.makeCookie("session");
+        sessionCookie.setValue("encrypted-session");
+
+        Request<DummyTrackedSession, DummyUser> request = new Request<>();
+        request.setCookies(new HashMap<>());
+        request.getCookies().put("session", sessionCookie);
+        Response<DummyTrackedSession> response = new Response<>();
+
+        subject.process(Method.GET, request, response);
+
+        assertThat(request.getSession().get(), is(sameInstance(session)));
+        assertThat(response.getSession().get(), is(sameInstance(session)));
+        assertThat(response.getDecryptedSession().get(), is(sameInstance(session)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void processWhenNotTrackedShouldCopySession() throws Exception {
+        DummySession session = new DummySession("123456789", "101112131415");
+
+        Decrypt<DummySession> decrypt = mock(Decrypt.class);
+        when(decrypt.decrypt("encrypted-session")).thenReturn(session);
+
+        BiFunction<Response<DummySession>, HaltException, Response<DummySession>> onHalt = (response, e) -> response;
+        DecryptSession<DummySession, DummyUser> subject = new DecryptSession<>(
+                DummySession.class.getConstructor(DummySession.class), "session", onHalt, true, decrypt
+        );
+
+        Cookie sessionCookie = FixtureFactory.makeCookie("session");
+        sessionCookie.setValue("encrypted-session");
+
+        Request<DummySession, DummyUser> request = FixtureFactory.makeRequest();
+        request.getCookies().put("session", sessionCookie);
+        Response<DummySession> response = FixtureFactory.makeResponse();
+
+        subject.process(Method.GET, request, response);
+
+        assertThat(request.getSession().get(), is(sameInstance(session)));
+        assertThat(response.getSession().get(), is(not(sameInstance(session))));
+        assertThat(response.getSession().get(), is(session));
+        assertThat(response.getDecryptedSession().get(), is(sameInstance(response.getSession().get())));
+    }
+}
@@ -3,6 +3,7 @@ package net.tokensmith.otter.security.session.between.html;
 
 import helper.FixtureFactory;
 import helper.entity.model.DummySession;
+import helper.entity.model.DummyTrackedSession;
 import helper.entity.model.DummyUser;
 import net.tokensmith.jwt.entity.jwk.SymmetricKey;
 import net.tokensmith.otter.config.CookieConfig;
@@ -11,12 +12,18 @@ import net.tokensmith.otter.controller.entity.request.Request;
 import net.tokensmith.otter.controller.entity.response.Response;
 import net.tokensmith.otter.router.entity.Method;
 import net.tokensmith.otter.router.exception.HaltException;
+import net.tokensmith.otter.security.config.SecurityAppFactory;
+import net.tokensmith.otter.security.session.codec.JacksonSessionCodec;
+import net.tokensmith.otter.security.session.codec.SessionCodec;
+import net.tokensmith.otter.security.session.codec.SessionCodecs;
 import net.tokensmith.otter.security.session.exception.EncryptSessionException;
+import net.tokensmith.otter.security.session.util.Decrypt;
 import net.tokensmith.otter.translator.config.TranslatorAppFactory;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.io.ByteArrayOutputStream;
+import java.util.List;
 import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
@@ -120,6 +127,33 @@ public class EncryptSessionTest {
         assertThat(actual.toString().split("\\.").length, is(5));
     }
 
+    @Test
+    public void encryptWhenDeflatedShouldBeDecrypted() throws Exception {
+        SecurityAppFactory securityAppFactory = new SecurityAppFactory();
+        SessionCodec<DummySession> json = new JacksonSessionCodec<>(
+                JacksonSessionCodec.JSON,
+                appFactory.objectReader().forType(DummySession.class),
+                appFactory.objectWriter()
+        );
+        SessionCodecs<DummySession> sessionCodecs = new SessionCodecs<>(json, List.of(json), 64);
+
+        EncryptSession<DummySession, DummyUser> subject = new EncryptSession<DummySession, DummyUser>(
+                new CookieConfig("session", true, -1, true),
+                FixtureFactory.encKey("1234"),
+                sessionCodecs,
+                securityAppFactory.compactJwe()
+        );
+
+        DummySession session = new DummySession("1".repeat(512), "101112131415");
+        String actual = subject.encrypt(session).toString();
+
+        Decrypt<DummySession> decrypt = securityAppFactory.decrypt(sessionCodecs, FixtureFactory.encKey("1234"), null, null, null);
+        DummySession decrypted = decrypt.decrypt(actual);
+
+        assertThat(decrypted.getAccessToken(), is("1".repeat(512)));
+        assertThat(decrypted.getRefreshToken(), is("101112131415"));
+    }
+
     @Test
     public void shouldEncryptWhenSessionsDiffShouldReturnTrue() {
         DummySession requestSession = new DummySession();
@@ -224,4 +258,71 @@ public class EncryptSessionTest {
         CookieConfig actual = subject.getCookieConfig();
         assertThat(actual, is(sessionCookieConfig));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldEncryptWhenTrackedAndNotDirtyShouldReturnFalse() {
+        EncryptSession<DummyTrackedSession, DummyUser> subject = new EncryptSession<>(
+                new CookieConfig("session", true, -1, true),
+                FixtureFactory.encKey("1234"),
+                appFactory.objectWriter()
+        );
+
+        DummyTrackedSession session = new DummyTrackedSession();
+        session.setAccessToken("123456789");
+        session.setDirty(false);
+
+        Request<DummyTrackedSession, DummyUser> request = new Request<>();
+        request.setSession(Optional.of(session));
+        Response<DummyTrackedSession> response = new Response<>();
+        response.setSession(Optional.of(session));
+
+        Boolean actual = subject.shouldEncrypt(request, response);
+
+        assertThat(actual, is(false));
+    }
+
+    @Test
+    public void shouldEncryptWhenTrackedAndDirtyShouldReturnTrue() {
+        EncryptSession<DummyTrackedSession, DummyUser> subject = new EncryptSession<>(
+                new CookieConfig("session", true, -1, true),
+                FixtureFactory.encKey("1234"),
+                appFactory.objectWriter()
+        );
+
+        DummyTrackedSession session = new DummyTrackedSession();
+        session.setDirty(false);
+
+        Request<DummyTrackedSession, DummyUser> request = new Request<>();
+        request.setSession(Optional.of(session));
+        Response<DummyTrackedSession> response = new Response<>();
+        response.setSession(Optional.of(session));
+
+        // the resource changed the session.
+        session.setAccessToken("1617181920");
+
+        Boolean actual = subject.shouldEncrypt(request, response);
+
+        assertThat(actual, is(true));
+    }
+
+    @Test
+    public void shouldEncryptWhenTrackedAndReplacedShouldReturnTrue() {
+        EncryptSession<DummyTrackedSession, DummyUser> subject = new EncryptSession<>(
+                new CookieConfig("session", true, -1, true),
+                FixtureFactory.encKey("1234"),
+                appFactory.objectWriter()
+        );
+
+        DummyTrackedSession session = new DummyTrackedSession();
+        session.setDirty(false);
+
+        Request<DummyTrackedSession, DummyUser> request = new Request<>();
+        request.setSession(Optional.of(session));
+        Response<DummyTrackedSession> response = new Response<>();
+        response.setSession(Optional.of(new DummyTrackedSession()));
+
+        Boolean actual = subject.shouldEncrypt(request, response);
+
+        assertThat(actual, is(true));
+    }
+}
@@ -0,0 +1,286 @@
+package net.tokensmith.otter.security.session.between.html;
+
+
+import helper.FixtureFactory;
+import helper.entity.model.DummySession;
+import helper.entity.model.DummyTrackedSession;
+import helper.entity.model.DummyUser;
+import net.tokensmith.otter.config.CookieConfig;
+import net.tokensmith.otter.controller.entity.Cookie;
+import net.tokensmith.otter.controller.entity.StatusCode;
+import net.tokensmith.otter.controller.entity.request.Request;
+import net.tokensmith.otter.controller.entity.response.Response;
+import net.tokensmith.otter.router.entity.Method;
+import net.tokensmith.otter.router.exception.HaltException;
+import net.tokensmith.otter.security.crypto.CryptoPool;
+import net.tokensmith.otter.security.session.store.OffHeapSessionStore;
+import net.tokensmith.otter.security.session.store.SessionIds;
+import net.tokensmith.otter.security.session.util.StoredDecrypt;
+import net.tokensmith.otter.translator.config.TranslatorAppFactory;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class StoreSessionTest {
+    private TranslatorAppFactory appFactory = new TranslatorAppFactory();
+    private SessionIds sessionIds;
+    private OffHeapSessionStore sessionStore;
+    private StoreSession<DummySession, DummyUser> subject;
+
+    @Before
+    public void setUp() {
+        CookieConfig cookieConfig = new CookieConfig("session", true, -1, true);
+        sessionIds = new SessionIds(new CryptoPool(), FixtureFactory.signKey("5678"), new HashMap<>());
+        sessionStore = new OffHeapSessionStore(64, 16, 60L, 1);
+        subject = new StoreSession<>(cookieConfig, appFactory.objectWriter(), sessionIds, sessionStore);
+    }
+
+    @Test
+    public void processWhenNewSessionShouldStoreAndSetCookie() throws Exception {
+        Request<DummySession, DummyUser> request = FixtureFactory.makeRequest();
+        request.setSession(Optional.empty());
+
+        Response<DummySession> response = FixtureFactory.makeResponse();
+        response.setSession(Optional.of(new DummySession("123456789", "101112131415")));
+
+        subject.process(Method.POST, request, response);
+
+        Cookie actual = response.getCookies().get("session");
+        assertThat(actual, is(notNullValue()));
+        assertThat(actual.getMaxAge(), is(-1));
+        assertThat(actual.isSecure(), is(true));
+
+        Optional<String> id = sessionIds.verify(actual.getValue());
+        assertThat(id.isPresent(), is(true));
+
+        String stored = new String(sessionStore.get(id.get()).get(), StandardCharsets.UTF_8);
+        assertThat(stored, containsString("\"access_token\":\"123456789\""));
+    }
+
+    @Test
+    public void processWhenSessionChangedShouldStoreWithSameId() throws Exception {
+        CookieConfig cookieConfig = new CookieConfig("session", true, -1, true);
+        StoreSession<DummyTrackedSession, DummyUser> subject = new StoreSession<>(cookieConfig, appFactory.objectWriter(), sessionIds, sessionStore);
+
+        String id = sessionIds.make();
+        String cookieValue = sessionIds.sign(id);
+        sessionStore.put(id, "{\"access_token\":\"123456789\"}".getBytes(StandardCharsets.UTF_8));
+
+        Request<DummyTrackedSession, DummyUser> request = new Request<>();
+        request.setCookies(new HashMap<>());
+        request.getCookies().put("session", new Cookie.Builder().name("session").value(cookieValue).build());
+        DummyTrackedSession session = new DummyTrackedSession();
+        request.setSession(Optional.of(session));
+
+        Response<DummyTrackedSession> response = new Response<>();
+        response.setCookies(new HashMap<>());
+        response.setSession(Optional.of(session));
+        session.setAccessToken("1617181920");
+
+        subject.process(Method.POST, request, response);
+
+        // the cookie did not change so it is not written again.
+        assertThat(response.getCookies().get("session"), is(nullValue()));
+        String stored = new String(sessionStore.get(id).get(), StandardCharsets.UTF_8);
+        assertThat(stored, containsString("\"access_token\":\"1617181920\""));
+    }
+
+    @Test
+    public void processWhenSessionReplacedShouldRotateId() throws Exception {
+        String id = sessionIds.make();
+        String cookieValue = sessionIds.sign(id);
+        sessionStore.put(id, "{\"access_token\":null}".getBytes(StandardCharsets.UTF_8));
+
+        // such as a login, the resource gives the response a new session.
+        Request<DummySession, DummyUser> request = FixtureFactory.makeRequest();
+        request.getCookies().put("session", new Cookie.Builder().name("session").value(cookieValue).build());
+        request.setSession(Optional.of(new DummySession(null, null)));
+
+        Response<DummySession> response = FixtureFactory.makeResponse();
+        response.setSession(Optional.of(new DummySession("1617181920", null)));
+
+        subject.process(Method.POST, request, response);
+
+        Cookie actual = response.getCookies().get("session");
+        assertThat(actual, is(notNullValue()));
+        assertThat(actual.getValue(), is(not(cookieValue)));
+
+        Optional<String> newId = sessionIds.verify(actual.getValue());
+        assertThat(newId.isPresent(), is(true));
+        assertThat(newId.get(), is(not(id)));
+
+        String stored = new String(sessionStore.get(newId.get()).get(), StandardCharsets.UTF_8);
+        assertThat(stored, containsString("\"access_token\":\"1617181920\""));
+
+        // requests already sent with the old id can still read the session it had.
+        String old = new String(sessionStore.get(id).get(), StandardCharsets.UTF_8);
+        assertThat(old, is("{\"access_token\":null}"));
+    }
+
+    @Test
+    public void processWhenCopiedSessionChangedShouldStoreWithSameId() throws Exception {
+        String id = sessionIds.make();
+        String cookieValue = sessionIds.sign(id);
+        sessionStore.put(id, "{\"access_token\":\"123456789\"}".getBytes(StandardCharsets.UTF_8));
+
+        // DecryptSession gives the response a copy of a session that is not tracked.
+        Request<DummySession, DummyUser> request = FixtureFactory.makeRequest();
+        request.getCookies().put("session", new Cookie.Builder().name("session").value(cookieValue).build());
+        DummySession requestSession = new DummySession("123456789", null);
+        request.setSession(Optional.of(requestSession));
+
+        Response<DummySession> response = FixtureFactory.makeResponse();
+        DummySession copy = new DummySession(requestSession);
+        response.setSession(Optional.of(copy));
+        response.setDecryptedSession(Optional.of(copy));
+        copy.setAccessToken("1617181920");
+
+        subject.process(Method.POST, request, response);
+
+        assertThat(response.getCookies().get("session"), is(nullValue()));
+        String stored = new String(sessionStore.get(id).get(), StandardCharsets.UTF_8);
+        assertThat(stored, containsString("\"access_token\":\"1617181920\""));
+    }
+
+    @Test
+    public void processWhenTwoRequestsWithSameCookieShouldKeepSession() throws Exception {
+        StoredDecrypt<DummySession> decrypt = new StoredDecrypt<>(appFactory.objectReader().forType(DummySession.class), sessionIds, sessionStore);
+        String id = sessionIds.make();
+        String cookieValue = sessionIds.sign(id);
+        sessionStore.put(id, "{\"access_token\":\"123456789\"}".getBytes(StandardCharsets.UTF_8));
+
+        // such as a second tab, both requests are sent with the same cookie.
+        Request<DummySession, DummyUser> first = FixtureFactory.makeRequest();
+        first.getCookies().put("session", new Cookie.Builder().name("session").value(cookieValue).build());
+        first.setSession(Optional.of(decrypt.decrypt(cookieValue)));
+        Request<DummySession, DummyUser> second = FixtureFactory.makeRequest();
+        second.getCookies().put("session", new Cookie.Builder().name("session").value(cookieValue).build());
+        second.setSession(Optional.of(decrypt.decrypt(cookieValue)));
+
+        // the first changes the session.
+        Response<DummySession> firstResponse = FixtureFactory.makeResponse();
+        DummySession copy = new DummySession(first.getSession().get());
+        firstResponse.setSession(Optional.of(copy));
+        firstResponse.setDecryptedSession(Optional.of(copy));
+        copy.setAccessToken("1617181920");
+        subject.process(Method.POST, first, firstResponse);
+
+        assertThat(firstResponse.getCookies().get("session"), is(nullValue()));
+
+        // the second still has a session.
+        DummySession actual = decrypt.decrypt(cookieValue);
+        assertThat(actual.getAccessToken(), is("1617181920"));
+
+        Response<DummySession> secondResponse = FixtureFactory.makeResponse();
+        DummySession secondCopy = new DummySession(second.getSession().get());
+        secondResponse.setSession(Optional.of(secondCopy));
+        secondResponse.setDecryptedSession(Optional.of(secondCopy));
+        subject.process(Method.GET, second, secondResponse);
+
+        assertThat(secondResponse.getCookies().get("session"), is(nullValue()));
+        assertThat(sessionStore.get(id).isPresent(), is(true));
+    }
+
+    @Test
+    public void processWhenIdNotStoredShouldRotateId() throws Exception {
+        CookieConfig cookieConfig = new CookieConfig("session", true, -1, true);
+        StoreSession<DummyTrackedSession, DummyUser> subject = new StoreSession<>(cookieConfig, appFactory.objectWriter(), sessionIds, sessionStore);
+
+        // the id was signed by the server but it is not in the store.
+        String id = sessionIds.make();
+        String cookieValue = sessionIds.sign(id);
+
+        Request<DummyTrackedSession, DummyUser> request = new Request<>();
+        request.setCookies(new HashMap<>());
+        request.getCookies().put("session", new Cookie.Builder().name("session").value(cookieValue).build());
+        DummyTrackedSession session = new DummyTrackedSession();
+        request.setSession(Optional.of(session));
+
+        Response<DummyTrackedSession> response = new Response<>();
+        response.setCookies(new HashMap<>());
+        response.setSession(Optional.of(session));
+        session.setAccessToken("1617181920");
+
+        subject.process(Method.POST, request, response);
+
+        Cookie actual = response.getCookies().get("session");
+        assertThat(actual, is(notNullValue()));
+        Optional<String> newId = sessionIds.verify(actual.getValue());
+        assertThat(newId.get(), is(not(id)));
+        assertThat(sessionStore.get(id).isPresent(), is(false));
+        assertThat(sessionStore.get(newId.get()).isPresent(), is(true));
+    }
+
+    @Test
+    public void processWhenSessionNotChangedShouldNotStore() throws Exception {
+        String id = sessionIds.make();
+        sessionStore.put(id, "{}".getBytes(StandardCharsets.UTF_8));
+
+        Request<DummySession, DummyUser> request = FixtureFactory.makeRequest();
+        request.getCookies().put("session", new Cookie.Builder().name("session").value(sessionIds.sign(id)).build());
+        DummySession requestSession = new DummySession("123456789", null);
+        request.setSession(Optional.of(requestSession));
+
+        Response<DummySession> response = FixtureFactory.makeResponse();
+        response.setSession(Optional.of(new DummySession(requestSession)));
+
+        subject.process(Method.GET, request, response);
+
+        assertThat(new String(sessionStore.get(id).get(), StandardCharsets.UTF_8), is("{}"));
+    }
+
+    @Test
+    public void processWhenSessionRemovedShouldRemoveStoredSession() throws Exception {
+        String id = sessionIds.make();
+        sessionStore.put(id, "{}".getBytes(StandardCharsets.UTF_8));
+        Cookie sessionCookie = new Cookie.Builder().name("session").value(sessionIds.sign(id)).build();
+
+        Request<DummySession, DummyUser> request = FixtureFactory.makeRequest();
+        request.getCookies().put("session", sessionCookie);
+        request.setSession(Optional.of(new DummySession("123456789", null)));
+
+        Response<DummySession> response = FixtureFactory.makeResponse();
+        response.getCookies().put("session", sessionCookie);
+        response.setSession(Optional.empty());
+
+        subject.process(Method.POST, request, response);
+
+        assertThat(sessionStore.get(id).isPresent(), is(false));
+        assertThat(response.getCookies().get("session"), is(nullValue()));
+    }
+
+    @Test
+    public void processWhenSessionTooLargeShouldHalt() throws Exception {
+        CookieConfig cookieConfig = new CookieConfig("session", true, -1, true);
+        OffHeapSessionStore tinyStore = new OffHeapSessionStore(4, 1, 60L, 1);
+        StoreSession<DummySession, DummyUser> subject = new StoreSession<>(cookieConfig, appFactory.objectWriter(), sessionIds, tinyStore);
+
+        Request<DummySession, DummyUser> request = FixtureFactory.makeRequest();
+        request.setSession(Optional.empty());
+
+        Response<DummySession> response = FixtureFactory.makeResponse();
+        response.setSession(Optional.of(new DummySession("123456789", "101112131415")));
+
+        HaltException actual = null;
+        try {
+            subject.process(Method.POST, request, response);
+        } catch (HaltException e) {
+            actual = e;
+        }
+
+        assertThat(actual, is(notNullValue()));
+        assertThat(actual.getMessage(), is(StoreSession.COULD_NOT_STORE_SESSION));
+        assertThat(response.getStatusCode(), is(StatusCode.SERVER_ERROR));
+        assertThat(response.getCookies().get("session"), is(nullValue()));
+    }
+}
@@ -0,0 +1,113 @@
+package net.tokensmith.otter.security.session.cache;
+
+import helper.entity.model.DummySession;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class SessionCacheTest {
+    private AtomicLong now;
+
+    @Before
+    public void setUp() {
+        now = new AtomicLong(0);
+    }
+
+    public SessionCache<DummySession> subject(Integer maxEntries, Long maxBytes) {
+        return new SessionCache<>(maxEntries, maxBytes, 60L, 1, new SessionCacheStats(), now::get);
+    }
+
+    @Test
+    public void getWhenPutShouldHit() {
+        SessionCache<DummySession> subject = subject(10, 1000L);
+        DummySession session = new DummySession();
+
+        subject.put(subject.key("cookie-value"), session);
+        Optional<DummySession> actual = subject.get(subject.key("cookie-value"));
+
+        assertThat(actual.isPresent(), is(true));
+        assertThat(actual.get(), is(sameInstance(session)));
+        assertThat(subject.getStats().getHits(), is(1L));
+        assertThat(subject.getStats().getMisses(), is(0L));
+    }
+
+    @Test
+    public void getWhenOtherCookieShouldMiss() {
+        SessionCache<DummySession> subject = subject(10, 1000L);
+        subject.put(subject.key("cookie-value"), new DummySession());
+
+        Optional<DummySession> actual = subject.get(subject.key("other-cookie-value"));
+
+        assertThat(actual.isPresent(), is(false));
+        assertThat(subject.getStats().getHits(), is(0L));
+        assertThat(subject.getStats().getMisses(), is(1L));
+    }
+
+    @Test
+    public void getWhenExpiredShouldMiss() {
+        SessionCache<DummySession> subject = subject(10, 1000L);
+        subject.put(subject.key("cookie-value"), new DummySession());
+
+        now.set(60_000_000_000L);
+        Optional<DummySession> actual = subject.get(subject.key("cookie-value"));
+
+        assertThat(actual.isPresent(), is(false));
+        assertThat(subject.size(), is(0));
+    }
+
+    @Test
+    public void putWhenMaxEntriesShouldEvictLeastRecentlyUsed() {
+        SessionCache<DummySession> subject = subject(2, 1000L);
+        subject.put(subject.key("cookie-1"), new DummySession());
+        subject.put(subject.key("cookie-2"), new DummySession());
+        // cookie-1 is now the most recently used.
+        subject.get(subject.key("cookie-1"));
+
+        subject.put(subject.key("cookie-3"), new DummySession());
+
+        assertThat(subject.size(), is(2));
+        assertThat(subject.get(subject.key("cookie-1")).isPresent(), is(true));
+        assertThat(subject.get(subject.key("cookie-2")).isPresent(), is(false));
+        assertThat(subject.get(subject.key("cookie-3")).isPresent(), is(true));
+        assertThat(subject.getStats().getEvictions(), is(1L));
+    }
+
+    @Test
+    public void putWhenMaxBytesShouldEvict() {
+        // each cookie is 8 bytes.
+        SessionCache<DummySession> subject = subject(10, 20L);
+        subject.put(subject.key("cookie-1"), new DummySession());
+        subject.put(subject.key("cookie-2"), new DummySession());
+        subject.put(subject.key("cookie-3"), new DummySession());
+
+        assertThat(subject.size(), is(2));
+        assertThat(subject.get(subject.key("cookie-1")).isPresent(), is(false));
+        assertThat(subject.getStats().getEvictions(), is(1L));
+    }
+
+    @Test
+    public void putWhenLargerThanMaxBytesShouldNotCache() {
+        SessionCache<DummySession> subject = subject(10, 4L);
+
+        subject.put(subject.key("cookie-1"), new DummySession());
+
+        assertThat(subject.size(), is(0));
+    }
+
+    @Test
+    public void invalidateAllShouldClear() {
+        SessionCache<DummySession> subject = new SessionCache<>(10, 1000L, 60L, 4, new SessionCacheStats());
+        subject.put(subject.key("cookie-1"), new DummySession());
+        subject.put(subject.key("cookie-2"), new DummySession());
+
+        subject.invalidateAll();
+
+        assertThat(subject.size(), is(0));
+    }
+}
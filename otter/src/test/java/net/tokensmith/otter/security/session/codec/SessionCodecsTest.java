@@ -0,0 +1,135 @@
+package net.tokensmith.otter.security.session.codec;
+
+import helper.entity.model.DummySession;
+import net.tokensmith.otter.translator.config.TranslatorAppFactory;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.junit.Assert.assertThat;
+
+public class SessionCodecsTest {
+    private TranslatorAppFactory appFactory = new TranslatorAppFactory();
+
+    public JacksonSessionCodec<DummySession> json() {
+        return new JacksonSessionCodec<>(
+            JacksonSessionCodec.JSON,
+            appFactory.objectReader().forType(DummySession.class),
+            appFactory.objectWriter()
+        );
+    }
+
+    public DummySession session(int tokenLength) {
+        return new DummySession("a".repeat(tokenLength), "101112131415");
+    }
+
+    @Test
+    public void encodeWhenJsonShouldNotHaveContentType() throws Exception {
+        SessionCodecs<DummySession> subject = SessionCodecs.json(
+            appFactory.objectReader().forType(DummySession.class), appFactory.objectWriter()
+        );
+
+        SessionCodecs.Encoded actual = subject.encode(session(10));
+
+        assertThat(actual.getContentType().isPresent(), is(false));
+        assertThat(actual.getCompressed(), is(false));
+
+        DummySession decoded = subject.decode(actual.getBytes(), actual.getContentType(), actual.getCompressed());
+        assertThat(decoded.getAccessToken(), is("aaaaaaaaaa"));
+        assertThat(decoded.getRefreshToken(), is("101112131415"));
+    }
+
+    @Test
+    public void encodeWhenLargerThanThresholdShouldDeflate() throws Exception {
+        SessionCodec<DummySession> json = json();
+        SessionCodecs<DummySession> subject = new SessionCodecs<>(json, List.of(json), 64);
+
+        byte[] plain = json.encode(session(1000));
+        SessionCodecs.Encoded actual = subject.encode(session(1000));
+
+        assertThat(actual.getCompressed(), is(true));
+        assertThat(actual.getBytes().length < plain.length, is(true));
+
+        DummySession decoded = subject.decode(actual.getBytes(), actual.getContentType(), actual.getCompressed());
+        assertThat(decoded.getAccessToken(), is("a".repeat(1000)));
+    }
+
+    @Test
+    public void encodeWhenSmallerThanThresholdShouldNotDeflate() throws Exception {
+        SessionCodec<DummySession> json = json();
+        SessionCodecs<DummySession> subject = new SessionCodecs<>(json, List.of(json), 1024);
+
+        SessionCodecs.Encoded actual = subject.encode(session(10));
+
+        assertThat(actual.getCompressed(), is(false));
+    }
+
+    @Test
+    public void encodeWhenNotJsonShouldHaveContentType() throws Exception {
+        SessionCodec<DummySession> json = json();
+        SessionCodec<DummySession> other = new JacksonSessionCodec<>(
+            "other",
+            appFactory.objectReader().forType(DummySession.class),
+            appFactory.objectWriter()
+        );
+        SessionCodecs<DummySession> subject = new SessionCodecs<>(other, List.of(json), null);
+
+        SessionCodecs.Encoded actual = subject.encode(session(10));
+
+        assertThat(actual.getContentType().get(), is("other"));
+
+        // json sessions can still be decoded.
+        DummySession decoded = subject.decode(json.encode(session(10)), Optional.empty(), false);
+        assertThat(decoded, is(notNullValue()));
+        assertThat(decoded.getAccessToken(), is("aaaaaaaaaa"));
+    }
+
+    @Test
+    public void decodeWhenUnknownCodecShouldThrowIOException() throws Exception {
+        SessionCodecs<DummySession> subject = new SessionCodecs<>(json(), List.of(), null);
+
+        IOException actual = null;
+        try {
+            subject.decode(new byte[] {1, 2, 3}, Optional.of("unknown"), false);
+        } catch (IOException e) {
+            actual = e;
+        }
+
+        assertThat(actual, is(notNullValue()));
+        assertThat(actual.getMessage(), is("Unknown session codec: unknown"));
+    }
+
+    @Test
+    public void decodeWhenNotDeflatedShouldThrowIOException() throws Exception {
+        SessionCodecs<DummySession> subject = new SessionCodecs<>(json(), List.of(), null);
+
+        IOException actual = null;
+        try {
+            subject.decode("{\"access_token\":\"1\"}".getBytes(), Optional.empty(), true);
+        } catch (IOException e) {
+            actual = e;
+        }
+
+        assertThat(actual, is(notNullValue()));
+    }
+
+    @Test
+    public void inflateWhenTooLargeShouldThrowIOException() throws Exception {
+        SessionCodecs<DummySession> subject = new SessionCodecs<>(json(), List.of(), null);
+        byte[] bomb = subject.deflate(new byte[SessionCodecs.MAX_INFLATED_BYTES + 1]);
+
+        IOException actual = null;
+        try {
+            subject.inflate(bomb);
+        } catch (IOException e) {
+            actual = e;
+        }
+
+        assertThat(actual, is(notNullValue()));
+        assertThat(actual.getMessage(), is("Inflated session is larger than 262144 bytes"));
+    }
+}
@@ -0,0 +1,201 @@
+package net.tokensmith.otter.security.session.store;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class OffHeapSessionStoreTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private AtomicLong now;
+
+    @Before
+    public void setUp() {
+        now = new AtomicLong(0);
+    }
+
+    public OffHeapSessionStore subject(Integer slotBytes, Integer slots) {
+        return new OffHeapSessionStore(slotBytes, slots, 60L, 1, now::get);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void getWhenPutShouldBeSession() {
+        OffHeapSessionStore subject = subject(16, 8);
+
+        Boolean put = subject.put("id-1", bytes("{\"accessToken\":\"123456789\"}"));
+        Optional<byte[]> actual = subject.get("id-1");
+
+        assertThat(put, is(true));
+        assertThat(actual.isPresent(), is(true));
+        assertThat(new String(actual.get(), StandardCharsets.UTF_8), is("{\"accessToken\":\"123456789\"}"));
+    }
+
+    @Test
+    public void getWhenNotPutShouldBeEmpty() {
+        OffHeapSessionStore subject = subject(16, 8);
+
+        Optional<byte[]> actual = subject.get("id-1");
+
+        assertThat(actual.isPresent(), is(false));
+    }
+
+    @Test
+    public void putWhenReplacedShouldBeNewSession() {
+        OffHeapSessionStore subject = subject(16, 4);
+        subject.put("id-1", bytes("a much longer first session"));
+
+        subject.put("id-1", bytes("second"));
+        Optional<byte[]> actual = subject.get("id-1");
+
+        assertThat(new String(actual.get(), StandardCharsets.UTF_8), is("second"));
+        assertThat(subject.size(), is(1));
+    }
+
+    @Test
+    public void putWhenLargerThanStoreShouldBeFalse() {
+        OffHeapSessionStore subject = subject(4, 2);
+
+        Boolean actual = subject.put("id-1", bytes("123456789"));
+
+        assertThat(actual, is(false));
+        assertThat(subject.size(), is(0));
+    }
+
+    @Test
+    public void putWhenFullShouldEvictLeastRecentlyUsed() {
+        OffHeapSessionStore subject = subject(4, 4);
+        subject.put("id-1", bytes("1111"));
+        subject.put("id-2", bytes("22222222"));
+        subject.put("id-3", bytes("3333"));
+        // id-1 is now the most recently used.
+        subject.get("id-1");
+
+        subject.put("id-4", bytes("44444444"));
+
+        assertThat(subject.get("id-1").isPresent(), is(true));
+        assertThat(subject.get("id-2").isPresent(), is(false));
+        assertThat(subject.get("id-3").isPresent(), is(true));
+        assertThat(new String(subject.get("id-4").get(), StandardCharsets.UTF_8), is("44444444"));
+    }
+
+    @Test
+    public void getWhenExpiredShouldBeEmpty() {
+        OffHeapSessionStore subject = subject(16, 8);
+        subject.put("id-1", bytes("session"));
+
+        now.set(60_000_000_000L);
+        Optional<byte[]> actual = subject.get("id-1");
+
+        assertThat(actual.isPresent(), is(false));
+        assertThat(subject.size(), is(0));
+    }
+
+    @Test
+    public void getShouldExtendExpiry() {
+        OffHeapSessionStore subject = subject(16, 8);
+        subject.put("id-1", bytes("session"));
+
+        now.set(50_000_000_000L);
+        subject.get("id-1");
+        now.set(100_000_000_000L);
+        Optional<byte[]> actual = subject.get("id-1");
+
+        assertThat(actual.isPresent(), is(true));
+    }
+
+    @Test
+    public void expireShouldNotBeExtendedByGet() {
+        OffHeapSessionStore subject = subject(16, 8);
+        subject.put("id-1", bytes("session"));
+
+        subject.expire("id-1", 30L);
+        now.set(20_000_000_000L);
+        assertThat(subject.get("id-1").isPresent(), is(true));
+
+        now.set(30_000_000_000L);
+        assertThat(subject.get("id-1").isPresent(), is(false));
+    }
+
+    @Test
+    public void expireWhenPutShouldNotBeExtended() {
+        OffHeapSessionStore subject = subject(16, 8);
+        subject.put("id-1", bytes("session"));
+        subject.expire("id-1", 30L);
+
+        subject.put("id-1", bytes("changed"));
+        now.set(30_000_000_000L);
+
+        assertThat(subject.get("id-1").isPresent(), is(false));
+    }
+
+    @Test
+    public void expireWhenNotPutShouldNotPut() {
+        OffHeapSessionStore subject = subject(16, 8);
+
+        subject.expire("id-1", 30L);
+
+        assertThat(subject.get("id-1").isPresent(), is(false));
+        assertThat(subject.size(), is(0));
+    }
+
+    @Test
+    public void removeShouldFreeSlots() {
+        OffHeapSessionStore subject = subject(4, 2);
+        subject.put("id-1", bytes("11111111"));
+
+        subject.remove("id-1");
+        Boolean actual = subject.put("id-2", bytes("22222222"));
+
+        assertThat(actual, is(true));
+        assertThat(subject.get("id-1").isPresent(), is(false));
+        assertThat(subject.size(), is(1));
+    }
+
+    @Test
+    public void restoreWhenSnapshotShouldHaveSessions() throws Exception {
+        Path file = folder.getRoot().toPath().resolve("sessions.snapshot");
+        OffHeapSessionStore subject = subject(4, 8);
+        subject.put("id-1", bytes("first session"));
+        subject.put("id-2", bytes("second"));
+
+        now.set(10_000_000_000L);
+        int written = subject.snapshot(file);
+
+        OffHeapSessionStore restored = subject(4, 8);
+        now.set(0);
+        int read = restored.restore(file);
+
+        assertThat(written, is(2));
+        assertThat(read, is(2));
+        assertThat(new String(restored.get("id-1").get(), StandardCharsets.UTF_8), is("first session"));
+
+        // the restored sessions kept the ttl they had left, reading id-1 extended its ttl.
+        now.set(50_000_000_000L);
+        assertThat(restored.get("id-1").isPresent(), is(true));
+        assertThat(restored.get("id-2").isPresent(), is(false));
+    }
+
+    @Test
+    public void restoreWhenNoSnapshotShouldBeZero() throws Exception {
+        Path file = folder.getRoot().toPath().resolve("missing.snapshot");
+        OffHeapSessionStore subject = subject(16, 8);
+
+        int actual = subject.restore(file);
+
+        assertThat(actual, is(0));
+    }
+}
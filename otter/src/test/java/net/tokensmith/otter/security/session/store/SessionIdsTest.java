@@ -0,0 +1,91 @@
+package net.tokensmith.otter.security.session.store;
+
+import helper.FixtureFactory;
+import net.tokensmith.jwt.entity.jwk.SymmetricKey;
+import net.tokensmith.otter.security.crypto.CryptoPool;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.junit.Assert.assertThat;
+
+public class SessionIdsTest {
+    private CryptoPool cryptoPool = new CryptoPool();
+    private SessionIds subject;
+
+    @Before
+    public void setUp() {
+        subject = new SessionIds(cryptoPool, FixtureFactory.signKey("5678"), new HashMap<>());
+    }
+
+    @Test
+    public void makeShouldBeRandom() {
+        String first = subject.make();
+        String second = subject.make();
+
+        assertThat(first.length(), is(43));
+        assertThat(first, is(not(second)));
+    }
+
+    @Test
+    public void verifyWhenSignedShouldBeId() throws Exception {
+        String id = subject.make();
+
+        String cookieValue = subject.sign(id);
+        Optional<String> actual = subject.verify(cookieValue);
+
+        assertThat(cookieValue, startsWith("5678." + id + "."));
+        assertThat(actual.isPresent(), is(true));
+        assertThat(actual.get(), is(id));
+    }
+
+    @Test
+    public void verifyWhenSignedByRotationKeyShouldBeId() throws Exception {
+        SessionIds rotated = new SessionIds(cryptoPool, FixtureFactory.signKey("1111"), new HashMap<>());
+        String id = rotated.make();
+        String cookieValue = rotated.sign(id);
+
+        Map<String, SymmetricKey> rotationKeys = new HashMap<>();
+        rotationKeys.put("1111", FixtureFactory.signKey("1111"));
+        SessionIds subject = new SessionIds(cryptoPool, FixtureFactory.signKey("5678"), rotationKeys);
+
+        Optional<String> actual = subject.verify(cookieValue);
+
+        assertThat(actual.isPresent(), is(true));
+        assertThat(actual.get(), is(id));
+    }
+
+    @Test
+    public void verifyWhenIdChangedShouldBeEmpty() throws Exception {
+        String cookieValue = subject.sign(subject.make());
+        String[] parts = cookieValue.split("\\.");
+        String forged = parts[0] + "." + subject.make() + "." + parts[2];
+
+        Optional<String> actual = subject.verify(forged);
+
+        assertThat(actual.isPresent(), is(false));
+    }
+
+    @Test
+    public void verifyWhenUnknownKeyShouldBeEmpty() throws Exception {
+        SessionIds other = new SessionIds(cryptoPool, FixtureFactory.signKey("9999"), new HashMap<>());
+        String cookieValue = other.sign(other.make());
+
+        Optional<String> actual = subject.verify(cookieValue);
+
+        assertThat(actual.isPresent(), is(false));
+    }
+
+    @Test
+    public void verifyWhenNotSignedShouldBeEmpty() {
+        assertThat(subject.verify("not-a-session-id").isPresent(), is(false));
+        assertThat(subject.verify("5678.id.%%%").isPresent(), is(false));
+        assertThat(subject.verify("").isPresent(), is(false));
+    }
+}
@@ -0,0 +1,91 @@
+package net.tokensmith.otter.security.session.util;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import helper.FixtureFactory;
+import helper.entity.model.DummySession;
+import net.tokensmith.jwt.config.JwtAppFactory;
+import net.tokensmith.otter.gateway.entity.Shape;
+import net.tokensmith.otter.security.session.cache.SessionCache;
+import net.tokensmith.otter.security.session.cache.SessionCacheStats;
+import net.tokensmith.otter.security.session.exception.InvalidSessionException;
+import net.tokensmith.otter.translator.config.TranslatorAppFactory;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class CachedDecryptTest {
+    private static String ENCRYPTED_SESSION = new StringBuilder()
+            .append("eyJhbGciOiJkaXIiLCJraWQiOiIxMjM0IiwiZW5jIjoiQTI1NkdDTSJ9.")
+            .append(".")
+            .append("AkRUVwJboJnzM5Pt0uqK-Ju15_YSn8x0DCrxDcKUszdQei2Fa7hYxENHJytWK1iMfl4lmcMb-fVTCnUC_bBa1abfeJ1NWWzRNwPEc-zhXvFV2-255lJe8EZYSSwE7cDf.")
+            .append("pvvpZcAtxSFpzjqmgJEjh6oJLAoRAWv9WAQJ6BY08TDLpqZATSP4f4RPLMc8g7ArdMIJQI2coRBDjSg.")
+            .append("Z4eCgEJ-RIfWX1jKYeP5Bw")
+            .toString();
+
+    public CachedDecrypt<DummySession> subject() throws Exception {
+        Shape shape = FixtureFactory.makeShape("1234", "5678");
+        ObjectReader sessionObjectReader = new TranslatorAppFactory().objectReader().forType(DummySession.class);
+        SessionCache<DummySession> sessionCache = new SessionCache<>(10, 10000L, 60L, 2, new SessionCacheStats());
+        return new CachedDecrypt<>(new JwtAppFactory(), sessionObjectReader, shape.getEncKey(), shape.getRotationEncKeys(), sessionCache, new SessionCopy<>(DummySession.class.getConstructor(DummySession.class)));
+    }
+
+    @Test
+    public void decryptWhenCalledTwiceShouldDecryptOnce() throws Exception {
+        CachedDecrypt<DummySession> subject = subject();
+
+        DummySession first = subject.decrypt(ENCRYPTED_SESSION);
+        DummySession second = subject.decrypt(ENCRYPTED_SESSION);
+
+        assertThat(first, is(notNullValue()));
+        assertThat(first.getAccessToken(), is("123456789"));
+        assertThat(second, is(not(sameInstance(first))));
+        assertThat(second.getAccessToken(), is("123456789"));
+        assertThat(subject.getSessionCache().getStats().getMisses(), is(1L));
+        assertThat(subject.getSessionCache().getStats().getHits(), is(1L));
+    }
+
+    @Test
+    public void decryptWhenModifiedShouldNotChangeNextHit() throws Exception {
+        CachedDecrypt<DummySession> subject = subject();
+
+        DummySession first = subject.decrypt(ENCRYPTED_SESSION);
+        first.setAccessToken("changed");
+        DummySession second = subject.decrypt(ENCRYPTED_SESSION);
+        second.setRefreshToken("changed");
+        DummySession third = subject.decrypt(ENCRYPTED_SESSION);
+
+        assertThat(second.getAccessToken(), is("123456789"));
+        assertThat(third.getAccessToken(), is("123456789"));
+        assertThat(third.getRefreshToken(), is(not("changed")));
+        assertThat(subject.getSessionCache().getStats().getHits(), is(2L));
+    }
+
+    @Test
+    public void decryptWhenInvalidShouldNotCache() throws Exception {
+        CachedDecrypt<DummySession> subject = subject();
+
+        InvalidSessionException actual = null;
+        try {
+            subject.decrypt("notAJWE");
+        } catch (InvalidSessionException e) {
+            actual = e;
+        }
+
+        assertThat(actual, is(notNullValue()));
+        assertThat(subject.getSessionCache().size(), is(0));
+    }
+
+    @Test
+    public void setPreferredKeyShouldInvalidate() throws Exception {
+        CachedDecrypt<DummySession> subject = subject();
+        subject.decrypt(ENCRYPTED_SESSION);
+
+        subject.setPreferredKey(FixtureFactory.encKey("1234"));
+
+        assertThat(subject.getSessionCache().size(), is(0));
+    }
+}
@@ -0,0 +1,42 @@
+package net.tokensmith.otter.security.session.util;
+
+import helper.entity.model.DummySession;
+import net.tokensmith.otter.security.exception.SessionCtorException;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class SessionCopyTest {
+
+    @Test
+    public void copyShouldBeEqual() throws Exception {
+        SessionCopy<DummySession> subject = new SessionCopy<>(DummySession.class.getConstructor(DummySession.class));
+        DummySession from = new DummySession("123456789", "101112131415");
+
+        DummySession actual = subject.copy(from);
+
+        assertThat(actual, is(notNullValue()));
+        assertThat(actual, is(not(sameInstance(from))));
+        assertThat(actual, is(from));
+    }
+
+    @Test
+    public void copyWhenCtorThrowsShouldThrowSessionCtorException() throws Exception {
+        SessionCopy<DummySession> subject = new SessionCopy<>(DummySession.class.getConstructor(DummySession.class));
+
+        SessionCtorException actual = null;
+        try {
+            subject.copy(null);
+        } catch (SessionCtorException e) {
+            actual = e;
+        }
+
+        assertThat(actual, is(notNullValue()));
+        assertThat(actual.getCause(), is(instanceOf(NullPointerException.class)));
+    }
+}
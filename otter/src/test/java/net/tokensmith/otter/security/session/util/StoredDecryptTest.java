@@ -0,0 +1,88 @@
+package net.tokensmith.otter.security.session.util;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import helper.FixtureFactory;
+import helper.entity.model.DummySession;
+import net.tokensmith.otter.security.crypto.CryptoPool;
+import net.tokensmith.otter.security.session.exception.InvalidSessionException;
+import net.tokensmith.otter.security.session.store.OffHeapSessionStore;
+import net.tokensmith.otter.security.session.store.SessionIds;
+import net.tokensmith.otter.translator.config.TranslatorAppFactory;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.junit.Assert.assertThat;
+
+public class StoredDecryptTest {
+    private SessionIds sessionIds;
+    private OffHeapSessionStore sessionStore;
+    private StoredDecrypt<DummySession> subject;
+
+    @Before
+    public void setUp() {
+        ObjectReader sessionObjectReader = new TranslatorAppFactory().objectReader().forType(DummySession.class);
+        sessionIds = new SessionIds(new CryptoPool(), FixtureFactory.signKey("5678"), new HashMap<>());
+        sessionStore = new OffHeapSessionStore(64, 16, 60L, 1);
+        subject = new StoredDecrypt<>(sessionObjectReader, sessionIds, sessionStore);
+    }
+
+    @Test
+    public void decryptShouldBeStoredSession() throws Exception {
+        String id = sessionIds.make();
+        sessionStore.put(id, "{\"access_token\":\"123456789\",\"refresh_token\":\"101112131415\"}".getBytes(StandardCharsets.UTF_8));
+
+        DummySession actual = subject.decrypt(sessionIds.sign(id));
+
+        assertThat(actual, is(notNullValue()));
+        assertThat(actual.getAccessToken(), is("123456789"));
+        assertThat(actual.getRefreshToken(), is("101112131415"));
+        assertThat(actual.isDirty(), is(false));
+    }
+
+    @Test
+    public void decryptWhenNotSignedShouldThrowInvalidSessionException() throws Exception {
+        InvalidSessionException actual = null;
+        try {
+            subject.decrypt("notASessionId");
+        } catch (InvalidSessionException e) {
+            actual = e;
+        }
+
+        assertThat(actual, is(notNullValue()));
+        assertThat(actual.getMessage(), is(StoredDecrypt.INVALID_SESSION_ID));
+    }
+
+    @Test
+    public void decryptWhenNotStoredShouldThrowInvalidSessionException() throws Exception {
+        InvalidSessionException actual = null;
+        try {
+            subject.decrypt(sessionIds.sign(sessionIds.make()));
+        } catch (InvalidSessionException e) {
+            actual = e;
+        }
+
+        assertThat(actual, is(notNullValue()));
+        assertThat(actual.getMessage(), is(StoredDecrypt.SESSION_NOT_STORED));
+    }
+
+    @Test
+    public void decryptWhenNotJsonShouldThrowInvalidSessionException() throws Exception {
+        String id = sessionIds.make();
+        sessionStore.put(id, "not json".getBytes(StandardCharsets.UTF_8));
+
+        InvalidSessionException actual = null;
+        try {
+            subject.decrypt(sessionIds.sign(id));
+        } catch (InvalidSessionException e) {
+            actual = e;
+        }
+
+        assertThat(actual, is(notNullValue()));
+        assertThat(actual.getMessage(), is(StoredDecrypt.COULD_NOT_READ_STORED));
+    }
+}
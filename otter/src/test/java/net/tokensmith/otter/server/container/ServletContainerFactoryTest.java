@@ -0,0 +1,302 @@
+package net.tokensmith.otter.server.container;
+
+import jnr.unixsocket.UnixSocketAddress;
+import jnr.unixsocket.UnixSocketChannel;
+import net.tokensmith.otter.server.ConnectorConfig;
+import net.tokensmith.otter.server.TlsConfig;
+import net.tokensmith.otter.server.UnixSocketConfig;
+import net.tokensmith.otter.server.path.CompiledClassPath;
+import net.tokensmith.otter.server.path.WebAppPath;
+import org.eclipse.jetty.alpn.server.ALPNServerConnectionFactory;
+import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
+import org.eclipse.jetty.http2.server.HTTP2ServerConnectionFactory;
+import org.eclipse.jetty.server.AbstractConnector;
+import org.eclipse.jetty.server.Connector;
+import org.eclipse.jetty.server.HttpConfiguration;
+import org.eclipse.jetty.server.HttpConnectionFactory;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.server.SslConnectionFactory;
+import org.eclipse.jetty.server.handler.AbstractHandler;
+import org.eclipse.jetty.unixsocket.UnixSocketConnector;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManagerFactory;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.security.KeyStore;
+import java.util.Arrays;
+
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.StringStartsWith.startsWith;
+import static org.hamcrest.core.IsNull.notNullValue;
+import static org.junit.Assert.assertThat;
+
+
+public class ServletContainerFactoryTest {
+    private static String PASSWORD = "password";
+    private ServletContainerFactory subject;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Before
+    public void setUp() {
+        subject = new ServletContainerFactory(new CompiledClassPath(), new WebAppPath());
+    }
+
+    @Test
+    public void makeThreadPoolShouldUseConfig() {
+        ConnectorConfig connectorConfig = new ConnectorConfig.Builder()
+                .minThreads(4)
+                .maxThreads(32)
+                .reservedThreads(2)
+                .threadQueueSize(64)
+                .build();
+
+        QueuedThreadPool actual = subject.makeThreadPool(connectorConfig);
+
+        assertThat(actual.getMinThreads(), is(4));
+        assertThat(actual.getMaxThreads(), is(32));
+        assertThat(actual.getReservedThreads(), is(2));
+    }
+
+    @Test
+    public void makeServerConnectorShouldUseConfig() {
+        ConnectorConfig connectorConfig = new ConnectorConfig.Builder()
+                .acceptors(1)
+                .selectors(2)
+                .acceptQueueSize(128)
+                .idleTimeout(15000L)
+                .outputBufferSize(16384)
+                .outputAggregationSize(4096)
+                .h2MaxConcurrentStreams(256)
+                .h2InitialStreamRecvWindow(1024 * 1024)
+                .h2InitialSessionRecvWindow(2 * 1024 * 1024)
+                .build();
+        Server server = new Server(subject.makeThreadPool(connectorConfig));
+
+        ServerConnector actual = subject.makeServerConnector(server, 8080, connectorConfig);
+
+        assertThat(actual.getPort(), is(8080));
+        assertThat(actual.getAcceptors(), is(1));
+        assertThat(actual.getSelectorManager().getSelectorCount(), is(2));
+        assertThat(actual.getAcceptQueueSize(), is(128));
+        assertThat(actual.getIdleTimeout(), is(15000L));
+
+        HttpConnectionFactory http = actual.getConnectionFactory(HttpConnectionFactory.class);
+        assertThat(http.getHttpConfiguration().getOutputBufferSize(), is(16384));
+        assertThat(http.getHttpConfiguration().getOutputAggregationSize(), is(4096));
+        assertThat(http.getHttpConfiguration().getSendServerVersion(), is(false));
+
+        HTTP2CServerConnectionFactory h2c = actual.getConnectionFactory(HTTP2CServerConnectionFactory.class);
+        assertThat(h2c.getMaxConcurrentStreams(), is(256));
+        assertThat(h2c.getInitialStreamRecvWindow(), is(1024 * 1024));
+        assertThat(h2c.getInitialSessionRecvWindow(), is(2 * 1024 * 1024));
+    }
+
+    @Test
+    public void makeServerConnectorWhenNoConfigShouldUseJettyDefaults() {
+        Server server = new Server(subject.makeThreadPool(new ConnectorConfig.Builder().build()));
+
+        ServerConnector actual = subject.makeServerConnector(server, 8080);
+
+        HTTP2CServerConnectionFactory h2c = actual.getConnectionFactory(HTTP2CServerConnectionFactory.class);
+        assertThat(h2c.getMaxConcurrentStreams(), is(new HTTP2CServerConnectionFactory(new HttpConfiguration()).getMaxConcurrentStreams()));
+        assertThat(actual.getIdleTimeout(), is(30000L));
+    }
+
+    @Test
+    public void makeTlsConnectorShouldNegotiateH2WithAlpn() throws Exception {
+        TlsConfig tlsConfig = tlsConfig(selfSignedKeyStore(), 8443);
+        Server server = new Server(subject.makeThreadPool(new ConnectorConfig.Builder().build()));
+
+        ServerConnector actual = subject.makeTlsConnector(server, tlsConfig, new ConnectorConfig.Builder().h2MaxConcurrentStreams(256).build());
+
+        assertThat(actual.getPort(), is(8443));
+        assertThat(actual.getDefaultProtocol(), is("SSL"));
+        assertThat(actual.getProtocols(), is(Arrays.asList("ssl", "alpn", "h2", "http/1.1")));
+
+        SslConnectionFactory ssl = actual.getConnectionFactory(SslConnectionFactory.class);
+        assertThat(ssl.getNextProtocol(), is("alpn"));
+        assertThat(ssl.getSslContextFactory().getIncludeProtocols(), is(new String[] {"TLSv1.3", "TLSv1.2"}));
+        assertThat(ssl.getSslContextFactory().getSslSessionCacheSize(), is(512));
+
+        ALPNServerConnectionFactory alpn = actual.getConnectionFactory(ALPNServerConnectionFactory.class);
+        assertThat(alpn.getDefaultProtocol(), is("http/1.1"));
+
+        HTTP2ServerConnectionFactory h2 = actual.getConnectionFactory(HTTP2ServerConnectionFactory.class);
+        assertThat(h2.getMaxConcurrentStreams(), is(256));
+
+        HttpConnectionFactory http = actual.getConnectionFactory(HttpConnectionFactory.class);
+        assertThat(http.getHttpConfiguration().getSecurePort(), is(8443));
+        assertThat(http.getHttpConfiguration().getSendServerVersion(), is(false));
+    }
+
+    @Test
+    public void makeTlsConnectorWhenStartedShouldServeH2() throws Exception {
+        File keyStore = selfSignedKeyStore();
+        Server server = new Server(subject.makeThreadPool(new ConnectorConfig.Builder().build()));
+        ServerConnector tlsConnector = subject.makeTlsConnector(server, tlsConfig(keyStore, 0), new ConnectorConfig.Builder().build());
+        server.addConnector(tlsConnector);
+        server.setHandler(new AbstractHandler() {
+            @Override
+            public void handle(String target, Request baseRequest, HttpServletRequest request, HttpServletResponse response) {
+                response.setStatus(200);
+                baseRequest.setHandled(true);
+            }
+        });
+
+        server.start();
+        try {
+            HttpClient client = HttpClient.newBuilder()
+                    .sslContext(trusting(keyStore))
+                    .version(HttpClient.Version.HTTP_2)
+                    .build();
+            HttpRequest request = HttpRequest.newBuilder(URI.create("https://localhost:" + tlsConnector.getLocalPort() + "/")).build();
+
+            HttpResponse<Void> actual = client.send(request, HttpResponse.BodyHandlers.discarding());
+
+            assertThat(actual.statusCode(), is(200));
+            assertThat(actual.version(), is(HttpClient.Version.HTTP_2));
+            assertThat(actual.sslSession().isPresent(), is(true));
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    public void makeUnixSocketConnectorShouldUseConfig() {
+        UnixSocketConfig unixSocketConfig = new UnixSocketConfig.Builder()
+                .path(new File(folder.getRoot(), "otter.sock").getAbsolutePath())
+                .tcp(false)
+                .build();
+        ConnectorConfig connectorConfig = new ConnectorConfig.Builder()
+                .selectors(2)
+                .acceptQueueSize(128)
+                .idleTimeout(15000L)
+                .h2MaxConcurrentStreams(256)
+                .build();
+        Server server = new Server(subject.makeThreadPool(connectorConfig));
+
+        UnixSocketConnector actual = (UnixSocketConnector) subject.makeUnixSocketConnector(server, unixSocketConfig, connectorConfig);
+
+        assertThat(actual.getUnixSocket(), is(unixSocketConfig.getPath()));
+        assertThat(actual.getSelectorManager().getSelectorCount(), is(2));
+        assertThat(actual.getAcceptQueueSize(), is(128));
+        assertThat(actual.getIdleTimeout(), is(15000L));
+        assertThat(actual.getProtocols(), is(Arrays.asList("http/1.1", "h2c")));
+
+        HTTP2CServerConnectionFactory h2c = actual.getConnectionFactory(HTTP2CServerConnectionFactory.class);
+        assertThat(h2c.getMaxConcurrentStreams(), is(256));
+    }
+
+    @Test
+    public void logSettingsWhenOnlyUnixSocketShouldLog() {
+        UnixSocketConfig unixSocketConfig = new UnixSocketConfig.Builder()
+                .path(new File(folder.getRoot(), "otter.sock").getAbsolutePath())
+                .tcp(false)
+                .build();
+        ConnectorConfig connectorConfig = new ConnectorConfig.Builder().build();
+        Server server = new Server(subject.makeThreadPool(connectorConfig));
+
+        Connector connector = subject.makeUnixSocketConnector(server, unixSocketConfig, connectorConfig);
+
+        // a unix socket connector is not a ServerConnector.
+        subject.logSettings(server, (AbstractConnector) connector, connectorConfig);
+    }
+
+    @Test
+    public void makeUnixSocketConnectorWhenStartedShouldServeHttp() throws Exception {
+        String path = new File(folder.getRoot(), "otter.sock").getAbsolutePath();
+        UnixSocketConfig unixSocketConfig = new UnixSocketConfig.Builder().path(path).build();
+        Server server = new Server(subject.makeThreadPool(new ConnectorConfig.Builder().build()));
+        server.addConnector(subject.makeUnixSocketConnector(server, unixSocketConfig, new ConnectorConfig.Builder().build()));
+        server.setHandler(new AbstractHandler() {
+            @Override
+            public void handle(String target, Request baseRequest, HttpServletRequest request, HttpServletResponse response) {
+                response.setStatus(200);
+                baseRequest.setHandled(true);
+            }
+        });
+
+        server.start();
+        try (UnixSocketChannel channel = UnixSocketChannel.open(new UnixSocketAddress(new File(path)))) {
+            channel.write(ByteBuffer.wrap("GET / HTTP/1.1\r\nHost: localhost\r\nConnection: close\r\n\r\n".getBytes(StandardCharsets.US_ASCII)));
+
+            ByteBuffer response = ByteBuffer.allocate(1024);
+            while (channel.read(response) > 0);
+            String actual = new String(response.array(), 0, response.position(), StandardCharsets.US_ASCII);
+
+            assertThat(actual, startsWith("HTTP/1.1 200"));
+        } finally {
+            server.stop();
+        }
+    }
+
+    protected TlsConfig tlsConfig(File keyStore, int port) {
+        return new TlsConfig.Builder()
+                .port(port)
+                .keyStorePath(keyStore.getAbsolutePath())
+                .keyStorePassword(PASSWORD)
+                .protocol("TLSv1.3")
+                .protocol("TLSv1.2")
+                .sessionCacheSize(512)
+                .build();
+    }
+
+    /**
+     * Generates a self signed key store with the keytool of the jdk that runs the tests.
+     */
+    protected File selfSignedKeyStore() throws Exception {
+        File keyStore = new File(folder.getRoot(), "keystore.p12");
+        String keytool = Paths.get(System.getProperty("java.home"), "bin", "keytool").toString();
+        Process process = new ProcessBuilder(
+                keytool, "-genkeypair",
+                "-alias", "otter",
+                "-keyalg", "EC",
+                "-groupname", "secp256r1",
+                "-dname", "CN=localhost",
+                "-ext", "SAN=dns:localhost",
+                "-validity", "1",
+                "-storetype", "PKCS12",
+                "-keystore", keyStore.getAbsolutePath(),
+                "-storepass", PASSWORD)
+                .redirectErrorStream(true)
+                .start();
+
+        assertThat(process.waitFor(), is(0));
+        assertThat(keyStore.exists(), is(true));
+        return keyStore;
+    }
+
+    protected SSLContext trusting(File keyStore) throws Exception {
+        KeyStore trustStore = KeyStore.getInstance("PKCS12");
+        try (InputStream in = new FileInputStream(keyStore)) {
+            trustStore.load(in, PASSWORD.toCharArray());
+        }
+        assertThat(trustStore.getCertificate("otter"), is(notNullValue()));
+
+        TrustManagerFactory trustManagerFactory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+        trustManagerFactory.init(trustStore);
+        SSLContext sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(null, trustManagerFactory.getTrustManagers(), null);
+        return sslContext;
+    }
+}
@@ -0,0 +1,180 @@
+package net.tokensmith.otter.servlet.async;
+
+import helper.fake.FakeServletInputStream;
+import net.tokensmith.otter.translator.JsonTokenizer;
+import net.tokensmith.otter.translator.config.TranslatorAppFactory;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+
+public class BodyBufferTest {
+    private static Long MAX_BODY_BYTES = 1024L;
+    private static String BODY = "{\"integer\": 5, \"string\": \"a body that is longer than one segment\"}";
+    private SegmentPool segmentPool;
+
+    @Before
+    public void setUp() {
+        segmentPool = new SegmentPool(8, 16);
+    }
+
+    @Test
+    public void toByteArrayWhenContentLengthShouldNotCopy() throws Exception {
+        byte[] data = BODY.getBytes(StandardCharsets.UTF_8);
+        FakeServletInputStream input = new FakeServletInputStream(data, 5);
+        BodyBuffer subject = new BodyBuffer(segmentPool, (long) data.length, MAX_BODY_BYTES);
+
+        subject.read(input);
+        byte[] actual = subject.toByteArray();
+
+        assertThat(new String(actual, StandardCharsets.UTF_8), is(BODY));
+        assertThat(subject.size(), is((long) data.length));
+        // no segments were needed.
+        assertThat(segmentPool.size(), is(0));
+    }
+
+    @Test
+    public void toByteArrayWhenNoContentLengthShouldUseSegments() throws Exception {
+        byte[] data = BODY.getBytes(StandardCharsets.UTF_8);
+        FakeServletInputStream input = new FakeServletInputStream(data, 5);
+        BodyBuffer subject = new BodyBuffer(segmentPool, -1L, MAX_BODY_BYTES);
+
+        subject.read(input);
+        byte[] actual = subject.toByteArray();
+
+        assertThat(new String(actual, StandardCharsets.UTF_8), is(BODY));
+        // segments are given back.
+        assertThat(segmentPool.size(), is((data.length / 8) + 1));
+    }
+
+    @Test
+    public void toByteArrayWhenManyCallbacksShouldReadAll() throws Exception {
+        byte[] data = BODY.getBytes(StandardCharsets.UTF_8);
+        FakeServletInputStream input = new FakeServletInputStream(data, 3);
+        BodyBuffer subject = new BodyBuffer(segmentPool, -1L, MAX_BODY_BYTES);
+
+        input.readable(7);
+        subject.read(input);
+        input.readable(30);
+        subject.read(input);
+        input.readable(data.length);
+        subject.read(input);
+        byte[] actual = subject.toByteArray();
+
+        assertThat(new String(actual, StandardCharsets.UTF_8), is(BODY));
+    }
+
+    @Test
+    public void toByteArrayWhenMoreThanContentLengthShouldReadAll() throws Exception {
+        byte[] data = BODY.getBytes(StandardCharsets.UTF_8);
+        FakeServletInputStream input = new FakeServletInputStream(data, 5);
+        BodyBuffer subject = new BodyBuffer(segmentPool, 10L, MAX_BODY_BYTES);
+
+        subject.read(input);
+        byte[] actual = subject.toByteArray();
+
+        assertThat(new String(actual, StandardCharsets.UTF_8), is(BODY));
+    }
+
+    @Test
+    public void toByteArrayWhenContentLengthOverPresizeShouldUseSegments() throws Exception {
+        byte[] data = BODY.getBytes(StandardCharsets.UTF_8);
+        FakeServletInputStream input = new FakeServletInputStream(data, 5);
+        // the client says the body is larger than it is.
+        BodyBuffer subject = new BodyBuffer(segmentPool, BodyBuffer.MAX_PRESIZE + 1, BodyBuffer.MAX_PRESIZE * 2);
+
+        // nothing is allocated before bytes arrive.
+        assertThat(subject.writable().capacity(), is(8));
+
+        subject.read(input);
+        byte[] actual = subject.toByteArray();
+
+        assertThat(new String(actual, StandardCharsets.UTF_8), is(BODY));
+        assertThat(segmentPool.size(), is((data.length + 7) / 8));
+    }
+
+    @Test
+    public void toByteArrayWhenLessThanContentLengthShouldBeSize() throws Exception {
+        byte[] data = BODY.getBytes(StandardCharsets.UTF_8);
+        FakeServletInputStream input = new FakeServletInputStream(data, 5);
+        BodyBuffer subject = new BodyBuffer(segmentPool, (long) data.length + 10, MAX_BODY_BYTES);
+
+        subject.read(input);
+        byte[] actual = subject.toByteArray();
+
+        assertThat(actual.length, is(data.length));
+        assertThat(new String(actual, StandardCharsets.UTF_8), is(BODY));
+    }
+
+    @Test
+    public void toByteArrayWhenEmptyShouldBeEmpty() throws Exception {
+        FakeServletInputStream input = new FakeServletInputStream(new byte[0], 5);
+        BodyBuffer subject = new BodyBuffer(segmentPool, -1L, MAX_BODY_BYTES);
+
+        subject.read(input);
+        byte[] actual = subject.toByteArray();
+
+        assertThat(actual.length, is(0));
+        assertThat(segmentPool.size(), is(0));
+    }
+
+    @Test
+    public void readWhenOverLimitShouldStop() throws Exception {
+        byte[] data = BODY.getBytes(StandardCharsets.UTF_8);
+        FakeServletInputStream input = new FakeServletInputStream(data, 5);
+        BodyBuffer subject = new BodyBuffer(segmentPool, -1L, 20L);
+
+        subject.read(input);
+
+        assertThat(subject.isOverLimit(), is(true));
+        // reads one byte past the limit.
+        assertThat(subject.size(), is(21L));
+        assertThat(input.isFinished(), is(false));
+    }
+
+    @Test
+    public void readWhenAtLimitShouldNotBeOverLimit() throws Exception {
+        byte[] data = BODY.getBytes(StandardCharsets.UTF_8);
+        FakeServletInputStream input = new FakeServletInputStream(data, 5);
+        BodyBuffer subject = new BodyBuffer(segmentPool, (long) data.length, (long) data.length);
+
+        subject.read(input);
+        byte[] actual = subject.toByteArray();
+
+        assertThat(subject.isOverLimit(), is(false));
+        assertThat(new String(actual, StandardCharsets.UTF_8), is(BODY));
+    }
+
+    @Test
+    public void readWhenTokenizerShouldReuseOneSegment() throws Exception {
+        byte[] data = BODY.getBytes(StandardCharsets.UTF_8);
+        FakeServletInputStream input = new FakeServletInputStream(data, 5);
+        JsonTokenizer tokenizer = new JsonTokenizer(new TranslatorAppFactory().objectMapper().getFactory());
+        BodyBuffer subject = new BodyBuffer(segmentPool, MAX_BODY_BYTES, tokenizer);
+
+        subject.read(input);
+        byte[] actual = subject.toByteArray();
+
+        assertThat(actual.length, is(0));
+        assertThat(subject.size(), is((long) data.length));
+        assertThat(subject.getTokenizer().isPresent(), is(true));
+        // one segment was used for all the reads.
+        assertThat(segmentPool.size(), is(1));
+    }
+
+    @Test
+    public void getTokenizerWhenEmptyShouldBeEmpty() throws Exception {
+        FakeServletInputStream input = new FakeServletInputStream(new byte[0], 5);
+        JsonTokenizer tokenizer = new JsonTokenizer(new TranslatorAppFactory().objectMapper().getFactory());
+        BodyBuffer subject = new BodyBuffer(segmentPool, MAX_BODY_BYTES, tokenizer);
+
+        subject.read(input);
+        subject.toByteArray();
+
+        assertThat(subject.getTokenizer().isPresent(), is(false));
+    }
+}
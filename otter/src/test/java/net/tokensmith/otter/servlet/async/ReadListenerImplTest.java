@@ -0,0 +1,168 @@
+package net.tokensmith.otter.servlet.async;
+
+import helper.fake.FakeServletInputStream;
+import helper.fake.FakeServletOutputStream;
+import net.tokensmith.otter.gateway.servlet.GatewayResponse;
+import net.tokensmith.otter.gateway.servlet.ServletGateway;
+import net.tokensmith.otter.router.entity.Lookup;
+import net.tokensmith.otter.router.entity.Method;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+
+public class ReadListenerImplTest {
+    private static String BODY = "{\"integer\": 5}";
+    private static String PAYLOAD = "{\"integer\": 6}";
+    private ServletGateway mockServletGateway;
+    private AsyncContext mockContext;
+    private HttpServletRequest mockRequest;
+    private HttpServletResponse mockResponse;
+    private FakeServletOutputStream output;
+    private BodyBuffer bodyBuffer;
+
+    @Before
+    public void setUp() throws Exception {
+        mockServletGateway = mock(ServletGateway.class);
+        mockContext = mock(AsyncContext.class);
+        mockRequest = mock(HttpServletRequest.class);
+        mockResponse = mock(HttpServletResponse.class);
+        output = new FakeServletOutputStream(100);
+
+        when(mockContext.getRequest()).thenReturn(mockRequest);
+        when(mockContext.getResponse()).thenReturn(mockResponse);
+        when(mockResponse.getOutputStream()).thenReturn(output);
+
+        byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+        bodyBuffer = new BodyBuffer(new SegmentPool(8, 16), (long) body.length, 1024L);
+        bodyBuffer.read(new FakeServletInputStream(body, body.length));
+    }
+
+    public GatewayResponse payload() {
+        GatewayResponse gatewayResponse = new GatewayResponse();
+        gatewayResponse.setPayload(Optional.of(PAYLOAD.getBytes(StandardCharsets.UTF_8)));
+        gatewayResponse.setWriteChunkSize(1024);
+        return gatewayResponse;
+    }
+
+    @Test
+    public void onAllDataReadWhenNoExecutorShouldProcessOnCallerThread() throws Exception {
+        Thread caller = Thread.currentThread();
+        List<Thread> processedOn = new ArrayList<>();
+        when(mockServletGateway.processRequestAsync(eq(mockRequest), eq(mockResponse), any(byte[].class), any(), any())).then(invocation -> {
+            processedOn.add(Thread.currentThread());
+            return CompletableFuture.completedFuture(payload());
+        });
+        ReadListenerImpl subject = new ReadListenerImpl(mockServletGateway, null, mockContext, bodyBuffer);
+
+        subject.onAllDataRead();
+
+        assertThat(processedOn.get(0), is(caller));
+        verify(mockResponse).setContentLength(PAYLOAD.length());
+    }
+
+    @Test
+    public void onAllDataReadWhenLookupShouldPassIt() throws Exception {
+        Lookup lookup = new Lookup(Method.POST, "/foo", Optional.empty());
+        when(mockServletGateway.processRequestAsync(eq(mockRequest), eq(mockResponse), any(byte[].class), any(), eq(Optional.of(lookup)))).thenReturn(CompletableFuture.completedFuture(payload()));
+        ReadListenerImpl subject = new ReadListenerImpl(mockServletGateway, null, mockContext, bodyBuffer, null, Optional.of(lookup));
+
+        subject.onAllDataRead();
+
+        verify(mockServletGateway).processRequestAsync(eq(mockRequest), eq(mockResponse), any(byte[].class), any(), eq(Optional.of(lookup)));
+        verify(mockResponse).setContentLength(PAYLOAD.length());
+    }
+
+    @Test
+    public void onAllDataReadWhenExecutorShouldProcessOnExecutor() throws Exception {
+        when(mockServletGateway.processRequestAsync(eq(mockRequest), eq(mockResponse), any(byte[].class), any(), any())).thenReturn(CompletableFuture.completedFuture(payload()));
+        List<Runnable> submitted = new ArrayList<>();
+        Executor executor = submitted::add;
+        ReadListenerImpl subject = new ReadListenerImpl(mockServletGateway, null, mockContext, bodyBuffer, executor);
+
+        subject.onAllDataRead();
+
+        // nothing is processed until the executor runs it.
+        assertThat(submitted.size(), is(1));
+        verify(mockServletGateway, never()).processRequestAsync(any(), any(), any(), any(), any());
+
+        submitted.get(0).run();
+
+        verify(mockServletGateway).processRequestAsync(eq(mockRequest), eq(mockResponse), any(byte[].class), any(), any());
+        verify(mockResponse).setContentLength(PAYLOAD.length());
+    }
+
+    @Test
+    public void onAllDataReadWhenExecutorRejectsShouldRespond503() throws Exception {
+        Executor executor = runnable -> {
+            throw new RejectedExecutionException();
+        };
+        ReadListenerImpl subject = new ReadListenerImpl(mockServletGateway, null, mockContext, bodyBuffer, executor);
+
+        subject.onAllDataRead();
+
+        verify(mockServletGateway, never()).processRequestAsync(any(), any(), any(), any(), any());
+        verify(mockResponse).setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        verify(mockContext).complete();
+    }
+
+    @Test
+    public void onAllDataReadWhenExecutorAndProcessFailsShouldRespond500() throws Exception {
+        when(mockServletGateway.processRequestAsync(eq(mockRequest), eq(mockResponse), any(byte[].class), any(), any())).thenThrow(new RuntimeException("failed"));
+        Executor executor = Runnable::run;
+        ReadListenerImpl subject = new ReadListenerImpl(mockServletGateway, null, mockContext, bodyBuffer, executor);
+
+        subject.onAllDataRead();
+
+        verify(mockResponse).setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+        verify(mockContext).complete();
+    }
+
+    @Test
+    public void onAllDataReadWhenExecutorAndProcessFailsAfterCommitShouldNotSetStatus() throws Exception {
+        when(mockServletGateway.processRequestAsync(eq(mockRequest), eq(mockResponse), any(byte[].class), any(), any())).thenThrow(new RuntimeException("failed"));
+        when(mockResponse.isCommitted()).thenReturn(true);
+        Executor executor = Runnable::run;
+        ReadListenerImpl subject = new ReadListenerImpl(mockServletGateway, null, mockContext, bodyBuffer, executor);
+
+        subject.onAllDataRead();
+
+        verify(mockResponse, never()).setStatus(anyInt());
+        verify(mockContext).complete();
+    }
+
+    @Test
+    public void onAllDataReadWhenStageNotCompleteShouldWriteWhenCompleted() throws Exception {
+        CompletableFuture<GatewayResponse> stage = new CompletableFuture<>();
+        when(mockServletGateway.processRequestAsync(eq(mockRequest), eq(mockResponse), any(byte[].class), any(), any())).thenReturn(stage);
+        ReadListenerImpl subject = new ReadListenerImpl(mockServletGateway, null, mockContext, bodyBuffer);
+
+        subject.onAllDataRead();
+
+        verify(mockResponse, never()).setContentLength(anyInt());
+
+        stage.complete(payload());
+
+        verify(mockResponse).setContentLength(PAYLOAD.length());
+    }
+}
@@ -0,0 +1,149 @@
+package net.tokensmith.otter.servlet.async;
+
+import helper.entity.model.DummyPayload;
+import helper.fake.FakeServletOutputStream;
+import net.tokensmith.otter.translator.JsonStream;
+import net.tokensmith.otter.translator.JsonTranslator;
+import net.tokensmith.otter.translator.config.TranslatorAppFactory;
+import net.tokensmith.otter.translator.exception.ToJsonException;
+import org.eclipse.jetty.server.HttpChannel;
+import org.eclipse.jetty.server.Request;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+
+public class StreamWriteListenerImplTest {
+    private JsonTranslator<DummyPayload> jsonTranslator;
+
+    @Before
+    public void setUp() {
+        TranslatorAppFactory factory = new TranslatorAppFactory();
+        jsonTranslator = factory.jsonTranslator(DummyPayload.class);
+    }
+
+    public DummyPayload makeDummy(Integer integer) {
+        DummyPayload dummy = new DummyPayload();
+        dummy.setInteger(integer);
+        return dummy;
+    }
+
+    @Test
+    public void onWritePossibleWhenReadyShouldWriteArrayAndComplete() throws Exception {
+        JsonStream jsonStream = jsonTranslator.stream(IntStream.range(0, 3).mapToObj(this::makeDummy));
+        FakeServletOutputStream output = new FakeServletOutputStream(100);
+        AsyncContext mockContext = mock(AsyncContext.class);
+        StreamWriteListenerImpl subject = new StreamWriteListenerImpl(output, jsonStream, 1, mockContext);
+
+        subject.onWritePossible();
+
+        String actual = new String(output.getWritten(), StandardCharsets.UTF_8);
+        assertThat(actual.startsWith("[{\"integer\":0"), is(true));
+        assertThat(actual.endsWith("}]"), is(true));
+        assertThat(output.getWrites().size(), is(3));
+        verify(mockContext).complete();
+    }
+
+    @Test
+    public void onWritePossibleWhenNotReadyShouldContinueLater() throws Exception {
+        JsonStream jsonStream = jsonTranslator.stream(IntStream.range(0, 3).mapToObj(this::makeDummy));
+        FakeServletOutputStream output = new FakeServletOutputStream(1);
+        AsyncContext mockContext = mock(AsyncContext.class);
+        StreamWriteListenerImpl subject = new StreamWriteListenerImpl(output, jsonStream, 1, mockContext);
+
+        subject.onWritePossible();
+
+        assertThat(output.getWrites().size(), is(1));
+        assertThat(jsonStream.isEnded(), is(false));
+        verify(mockContext, never()).complete();
+
+        output.ready(100);
+        subject.onWritePossible();
+
+        String actual = new String(output.getWritten(), StandardCharsets.UTF_8);
+        assertThat(actual.endsWith("}]"), is(true));
+        verify(mockContext).complete();
+    }
+
+    public DummyPayload makeFailing() {
+        return new DummyPayload() {
+            @Override
+            public Integer getInteger() {
+                throw new IllegalStateException("could not read integer");
+            }
+        };
+    }
+
+    @Test
+    public void onWritePossibleWhenItemFailsAndNotCommittedShouldBeServerError() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean(false);
+        JsonStream jsonStream = jsonTranslator.stream(
+                Stream.of(makeDummy(0), makeFailing(), makeDummy(2)).onClose(() -> closed.set(true))
+        );
+        FakeServletOutputStream output = new FakeServletOutputStream(100);
+        HttpServletResponse mockResponse = mock(HttpServletResponse.class);
+        when(mockResponse.isCommitted()).thenReturn(false);
+        AsyncContext mockContext = mock(AsyncContext.class);
+        when(mockContext.getResponse()).thenReturn(mockResponse);
+        StreamWriteListenerImpl subject = new StreamWriteListenerImpl(output, jsonStream, 1, mockContext);
+
+        subject.onWritePossible();
+
+        assertThat(closed.get(), is(true));
+        verify(mockResponse).reset();
+        verify(mockResponse).setStatus(500);
+        verify(mockContext).complete();
+    }
+
+    @Test
+    public void onWritePossibleWhenItemFailsAndCommittedShouldAbort() throws Exception {
+        JsonStream jsonStream = jsonTranslator.stream(Stream.of(makeDummy(0), makeFailing(), makeDummy(2)));
+        FakeServletOutputStream output = new FakeServletOutputStream(100);
+        HttpServletResponse mockResponse = mock(HttpServletResponse.class);
+        when(mockResponse.isCommitted()).thenReturn(true);
+        HttpChannel mockChannel = mock(HttpChannel.class);
+        Request mockRequest = mock(Request.class);
+        when(mockRequest.getHttpChannel()).thenReturn(mockChannel);
+        AsyncContext mockContext = mock(AsyncContext.class);
+        when(mockContext.getResponse()).thenReturn(mockResponse);
+        when(mockContext.getRequest()).thenReturn(mockRequest);
+        StreamWriteListenerImpl subject = new StreamWriteListenerImpl(output, jsonStream, 1, mockContext);
+
+        subject.onWritePossible();
+
+        // the first item was written, the array is not ended.
+        String actual = new String(output.getWritten(), StandardCharsets.UTF_8);
+        assertThat(actual.startsWith("[{\"integer\":0"), is(true));
+        assertThat(actual.endsWith("]"), is(false));
+        verify(mockChannel).abort(any(ToJsonException.class));
+        verify(mockResponse, never()).reset();
+    }
+
+    @Test
+    public void onErrorShouldCloseStream() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean(false);
+        JsonStream jsonStream = jsonTranslator.stream(Stream.of(makeDummy(1)).onClose(() -> closed.set(true)));
+        FakeServletOutputStream output = new FakeServletOutputStream(0);
+        AsyncContext mockContext = mock(AsyncContext.class);
+        StreamWriteListenerImpl subject = new StreamWriteListenerImpl(output, jsonStream, 1, mockContext);
+
+        subject.onError(new RuntimeException("client went away"));
+
+        assertThat(closed.get(), is(true));
+        verify(mockContext).complete();
+    }
+}
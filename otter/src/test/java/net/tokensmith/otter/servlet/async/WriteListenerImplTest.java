@@ -0,0 +1,66 @@
+package net.tokensmith.otter.servlet.async;
+
+import helper.fake.FakeServletOutputStream;
+import org.junit.Test;
+
+import javax.servlet.AsyncContext;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+
+public class WriteListenerImplTest {
+    private static String PAYLOAD = "{\"integer\": 5, \"string\": \"a payload\"}";
+
+    @Test
+    public void onWritePossibleWhenReadyShouldWriteChunksAndComplete() throws Exception {
+        byte[] payload = PAYLOAD.getBytes(StandardCharsets.UTF_8);
+        FakeServletOutputStream output = new FakeServletOutputStream(100);
+        AsyncContext mockContext = mock(AsyncContext.class);
+        WriteListenerImpl subject = new WriteListenerImpl(output, payload, 16, mockContext);
+
+        subject.onWritePossible();
+
+        assertThat(output.getWritten(), is(payload));
+        assertThat(output.getWrites(), is(Arrays.asList(16, 16, payload.length - 32)));
+        verify(mockContext).complete();
+    }
+
+    @Test
+    public void onWritePossibleWhenPayloadFitsChunkShouldWriteOnce() throws Exception {
+        byte[] payload = PAYLOAD.getBytes(StandardCharsets.UTF_8);
+        FakeServletOutputStream output = new FakeServletOutputStream(1);
+        AsyncContext mockContext = mock(AsyncContext.class);
+        WriteListenerImpl subject = new WriteListenerImpl(output, payload, 1024, mockContext);
+
+        subject.onWritePossible();
+
+        assertThat(output.getWritten(), is(payload));
+        assertThat(output.getWrites().size(), is(1));
+        verify(mockContext).complete();
+    }
+
+    @Test
+    public void onWritePossibleWhenNotReadyShouldContinueLater() throws Exception {
+        byte[] payload = PAYLOAD.getBytes(StandardCharsets.UTF_8);
+        FakeServletOutputStream output = new FakeServletOutputStream(1);
+        AsyncContext mockContext = mock(AsyncContext.class);
+        WriteListenerImpl subject = new WriteListenerImpl(output, payload, 16, mockContext);
+
+        subject.onWritePossible();
+
+        assertThat(output.getWrites().size(), is(1));
+        verify(mockContext, never()).complete();
+
+        output.ready(100);
+        subject.onWritePossible();
+
+        assertThat(output.getWritten(), is(payload));
+        verify(mockContext).complete();
+    }
+}
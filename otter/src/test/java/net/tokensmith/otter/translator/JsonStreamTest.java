@@ -0,0 +1,106 @@
+package net.tokensmith.otter.translator;
+
+import helper.entity.model.DummyPayload;
+import net.tokensmith.otter.translator.config.TranslatorAppFactory;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+
+public class JsonStreamTest {
+    private static String DUMMY_JSON = "{\"integer\":%s,\"string\":\"string\",\"local_date\":\"2017-05-20\",\"integer_optional\":null}";
+    private JsonTranslator<DummyPayload> jsonTranslator;
+
+    @Before
+    public void setUp() {
+        TranslatorAppFactory factory = new TranslatorAppFactory();
+        jsonTranslator = factory.jsonTranslator(DummyPayload.class);
+    }
+
+    public DummyPayload makeDummy(Integer integer) {
+        DummyPayload dummy = new DummyPayload();
+        dummy.setInteger(integer);
+        dummy.setString("string");
+        dummy.setLocalDate(LocalDate.of(2017, 05, 20));
+        dummy.setIntegerOptional(Optional.empty());
+        return dummy;
+    }
+
+    public Integer readAll(JsonStream subject, Integer chunkSize, ByteArrayOutputStream chunks) throws Exception {
+        int calls = 0;
+        Optional<ByteBuffer> next = subject.next(chunkSize);
+        while (next.isPresent()) {
+            calls++;
+            ByteBuffer chunk = next.get();
+            chunks.write(chunk.array(), chunk.arrayOffset() + chunk.position(), chunk.remaining());
+            next = subject.next(chunkSize);
+        }
+        return calls;
+    }
+
+    @Test
+    public void nextShouldBeJsonArray() throws Exception {
+        JsonStream subject = jsonTranslator.stream(Stream.of(makeDummy(1), makeDummy(2)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        Integer calls = readAll(subject, 4096, out);
+
+        String expected = "[" + String.format(DUMMY_JSON, 1) + "," + String.format(DUMMY_JSON, 2) + "]";
+        assertThat(out.toString("UTF-8"), is(expected));
+        assertThat(calls, is(1));
+        assertThat(subject.isEnded(), is(true));
+    }
+
+    @Test
+    public void nextWhenSmallChunkSizeShouldBeManyChunks() throws Exception {
+        JsonStream subject = jsonTranslator.stream(IntStream.range(0, 10).mapToObj(this::makeDummy));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        Integer calls = readAll(subject, 1, out);
+
+        StringBuilder expected = new StringBuilder("[");
+        for (int i = 0; i < 10; i++) {
+            if (i > 0) {
+                expected.append(",");
+            }
+            expected.append(String.format(DUMMY_JSON, i));
+        }
+        expected.append("]");
+        assertThat(out.toString("UTF-8"), is(expected.toString()));
+        // one item per chunk.
+        assertThat(calls, is(10));
+    }
+
+    @Test
+    public void nextWhenEmptyShouldBeEmptyArray() throws Exception {
+        JsonStream subject = jsonTranslator.stream(Stream.empty());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        readAll(subject, 4096, out);
+
+        assertThat(out.toString("UTF-8"), is("[]"));
+    }
+
+    @Test
+    public void nextWhenEndedShouldCloseItems() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean(false);
+        JsonStream subject = jsonTranslator.stream(Stream.of(makeDummy(1)).onClose(() -> closed.set(true)));
+
+        subject.next(4096);
+        assertThat(closed.get(), is(false));
+
+        Optional<ByteBuffer> actual = subject.next(4096);
+        assertThat(actual.isPresent(), is(false));
+        assertThat(closed.get(), is(true));
+    }
+}
@@ -0,0 +1,99 @@
+package net.tokensmith.otter.translator;
+
+import helper.entity.model.DummyPayload;
+import net.tokensmith.otter.translator.config.TranslatorAppFactory;
+import net.tokensmith.otter.translator.exception.DeserializationException;
+import net.tokensmith.otter.translator.exception.Reason;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+
+public class JsonTokenizerTest {
+    private TranslatorAppFactory appFactory;
+    private JsonTranslator<DummyPayload> jsonTranslator;
+
+    @Before
+    public void setUp() {
+        appFactory = new TranslatorAppFactory();
+        jsonTranslator = appFactory.jsonTranslator(DummyPayload.class);
+    }
+
+    public JsonTokenizer tokenize(String json, int pieceSize) throws Exception {
+        JsonTokenizer subject = new JsonTokenizer(appFactory.objectMapper().getFactory());
+        byte[] data = json.getBytes(StandardCharsets.UTF_8);
+        byte[] piece = new byte[pieceSize];
+        for (int i = 0; i < data.length; i += pieceSize) {
+            int len = Math.min(pieceSize, data.length - i);
+            // the same array is reused like a pooled segment.
+            System.arraycopy(data, i, piece, 0, len);
+            subject.feed(piece, 0, len);
+        }
+        subject.end();
+        return subject;
+    }
+
+    @Test
+    public void fromWhenFedInPiecesShouldBeOk() throws Exception {
+        String json = "{\"integer\": 5, \"string\": \"a string that spans pieces\", \"local_date\": \"2019-01-01\"}";
+
+        DummyPayload actual = jsonTranslator.from(tokenize(json, 3));
+
+        assertThat(actual, is(notNullValue()));
+        assertThat(actual.getInteger(), is(5));
+        assertThat(actual.getString(), is("a string that spans pieces"));
+        assertThat(actual.getLocalDate(), is(LocalDate.of(2019, 01, 01)));
+    }
+
+    @Test
+    public void fromWhenMalformedShouldThrowDeserializationException() throws Exception {
+        String json = "{\"integer\": 5, \"string\": }";
+
+        DeserializationException actual = null;
+        try {
+            jsonTranslator.from(tokenize(json, 4));
+        } catch (DeserializationException e) {
+            actual = e;
+        }
+
+        assertThat(actual, is(notNullValue()));
+        assertThat(actual.getReason(), is(Reason.INVALID_PAYLOAD));
+    }
+
+    @Test
+    public void fromWhenDuplicateKeyShouldThrowDeserializationException() throws Exception {
+        String json = "{\"integer\": 5, \"integer\": 4}";
+
+        DeserializationException actual = null;
+        try {
+            jsonTranslator.from(tokenize(json, 4));
+        } catch (DeserializationException e) {
+            actual = e;
+        }
+
+        assertThat(actual, is(notNullValue()));
+        assertThat(actual.getReason(), is(Reason.DUPLICATE_KEY));
+        assertThat(actual.getKey().get(), is("integer"));
+    }
+
+    @Test
+    public void fromWhenUnknownKeyShouldThrowDeserializationException() throws Exception {
+        String json = "{\"integer\": 5, \"unknown_key\": 4}";
+
+        DeserializationException actual = null;
+        try {
+            jsonTranslator.from(tokenize(json, 4));
+        } catch (DeserializationException e) {
+            actual = e;
+        }
+
+        assertThat(actual, is(notNullValue()));
+        assertThat(actual.getReason(), is(Reason.UNKNOWN_KEY));
+    }
+}
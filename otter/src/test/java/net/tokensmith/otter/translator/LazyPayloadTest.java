@@ -0,0 +1,54 @@
+package net.tokensmith.otter.translator;
+
+import helper.entity.model.DummyPayload;
+import net.tokensmith.otter.translator.config.TranslatorAppFactory;
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+
+public class LazyPayloadTest {
+    private static TranslatorAppFactory appFactory = new TranslatorAppFactory();
+
+    @Test
+    public void getBytesShouldSerializeOnce() throws Exception {
+        JsonTranslator<DummyPayload> jsonTranslator = spy(appFactory.jsonTranslator(DummyPayload.class));
+        DummyPayload dummy = new DummyPayload();
+        dummy.setInteger(5);
+        LazyPayload<DummyPayload> subject = new LazyPayload<>(Optional.of(dummy), jsonTranslator);
+
+        assertThat(subject.isSerialized(), is(false));
+
+        byte[] first = subject.getBytes().get();
+        byte[] second = subject.getBytes().get();
+
+        assertThat(subject.isSerialized(), is(true));
+        assertThat(first == second, is(true));
+        verify(jsonTranslator, times(1)).to(any());
+    }
+
+    @Test
+    public void getBytesWhenEntityEmptyShouldBeEmpty() throws Exception {
+        JsonTranslator<DummyPayload> jsonTranslator = spy(appFactory.jsonTranslator(DummyPayload.class));
+        LazyPayload<DummyPayload> subject = new LazyPayload<>(Optional.empty(), jsonTranslator);
+
+        assertThat(subject.getBytes().isPresent(), is(false));
+        verify(jsonTranslator, times(0)).to(any());
+    }
+
+    @Test
+    public void getBytesWhenMadeWithBytesShouldNotSerialize() throws Exception {
+        byte[] bytes = "{\"integer\":5}".getBytes();
+        LazyPayload<DummyPayload> subject = new LazyPayload<>(Optional.empty(), Optional.of(bytes));
+
+        assertThat(subject.isSerialized(), is(true));
+        assertThat(subject.getBytes().get(), is(bytes));
+    }
+}
@@ -0,0 +1,68 @@
+package net.tokensmith.otter.translator.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import helper.entity.model.DummyPayload;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+
+public class TranslatorAppFactoryTest {
+    private static String AFTERBURNER_ID = "com.fasterxml.jackson.module.afterburner.AfterburnerModule";
+
+    @Test
+    public void objectReaderShouldBeCached() {
+        TranslatorAppFactory subject = new TranslatorAppFactory();
+
+        ObjectReader first = subject.objectReader(DummyPayload.class);
+        ObjectReader second = new TranslatorAppFactory().objectReader(DummyPayload.class);
+
+        assertThat(first, is(sameInstance(second)));
+    }
+
+    @Test
+    public void objectMapperWhenNoneShouldNotRegisterAfterburner() {
+        TranslatorAppFactory subject = new TranslatorAppFactory(JsonAcceleration.NONE);
+
+        ObjectMapper actual = subject.objectMapper();
+
+        assertThat(actual.getRegisteredModuleIds().contains(AFTERBURNER_ID), is(false));
+    }
+
+    @Test
+    public void objectMapperWhenNullShouldBeDefault() {
+        TranslatorAppFactory subject = new TranslatorAppFactory(null);
+
+        assertThat(subject.getAcceleration(), is(TranslatorAppFactory.DEFAULT_ACCELERATION));
+        assertThat(subject.objectMapper(), is(sameInstance(new TranslatorAppFactory().objectMapper())));
+    }
+
+    @Test
+    public void objectMapperWhenAfterburnerShouldRegisterModule() {
+        TranslatorAppFactory subject = new TranslatorAppFactory(JsonAcceleration.AFTERBURNER);
+
+        ObjectMapper actual = subject.objectMapper();
+
+        assertThat(subject.getAcceleration(), is(JsonAcceleration.AFTERBURNER));
+        assertThat(actual.getRegisteredModuleIds().contains(AFTERBURNER_ID), is(true));
+    }
+
+    @Test
+    public void objectMapperWhenOtherFactoryIsDefaultShouldKeepAfterburner() {
+        TranslatorAppFactory subject = new TranslatorAppFactory(JsonAcceleration.AFTERBURNER);
+        ObjectMapper mapper = subject.objectMapper();
+        ObjectReader reader = subject.objectReader(DummyPayload.class);
+
+        // such as a second gateway whose Shape does not set it.
+        TranslatorAppFactory other = new TranslatorAppFactory();
+
+        assertThat(other.objectMapper(), is(not(sameInstance(mapper))));
+        assertThat(other.objectMapper().getRegisteredModuleIds().contains(AFTERBURNER_ID), is(false));
+        assertThat(subject.objectMapper(), is(sameInstance(mapper)));
+        assertThat(subject.objectReader(DummyPayload.class), is(sameInstance(reader)));
+    }
+}